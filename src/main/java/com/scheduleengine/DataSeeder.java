@@ -11,6 +11,7 @@ import com.scheduleengine.game.domain.Game;
 import com.scheduleengine.game.service.GameService;
 import com.scheduleengine.league.domain.League;
 import com.scheduleengine.league.service.LeagueService;
+import com.scheduleengine.payment.domain.Money;
 import com.scheduleengine.payment.domain.Transaction;
 import com.scheduleengine.payment.service.TransactionService;
 import com.scheduleengine.player.domain.Player;
@@ -502,7 +503,7 @@ public class DataSeeder implements CommandLineRunner {
       pending1.setPartyId(1L); // Thunder United
       pending1.setCategory(Transaction.Category.INVOICE);
       pending1.setDate(LocalDate.now().minusDays(5));
-      pending1.setAmount(250.00);
+      pending1.setAmount(Money.ofCents(25000));
       pending1.setStatus(Transaction.Status.PENDING);
       pending1.setNotes("League registration fee - Winter 2026");
       transactionService.save(pending1);
@@ -512,7 +513,7 @@ public class DataSeeder implements CommandLineRunner {
       pending2.setPartyId(2L); // Lightning FC
       pending2.setCategory(Transaction.Category.INVOICE);
       pending2.setDate(LocalDate.now().minusDays(3));
-      pending2.setAmount(200.00);
+      pending2.setAmount(Money.ofCents(20000));
       pending2.setStatus(Transaction.Status.PENDING);
       pending2.setNotes("Tournament entry fee - Open Spring Classic");
       transactionService.save(pending2);
@@ -522,7 +523,7 @@ public class DataSeeder implements CommandLineRunner {
       pending3.setPartyId(3L); // Storm Strikers
       pending3.setCategory(Transaction.Category.INVOICE);
       pending3.setDate(LocalDate.now().minusDays(7));
-      pending3.setAmount(175.00);
+      pending3.setAmount(Money.ofCents(17500));
       pending3.setStatus(Transaction.Status.PENDING);
       pending3.setNotes("Facility rental fee - Spring season");
       transactionService.save(pending3);
@@ -533,7 +534,7 @@ public class DataSeeder implements CommandLineRunner {
       playerPending.setPartyId(players.get(0).getId());
       playerPending.setCategory(Transaction.Category.INVOICE);
       playerPending.setDate(LocalDate.now().minusDays(10));
-      playerPending.setAmount(50.00);
+      playerPending.setAmount(Money.ofCents(5000));
       playerPending.setStatus(Transaction.Status.PENDING);
       playerPending.setNotes("Player registration fee");
       transactionService.save(playerPending);
@@ -545,7 +546,7 @@ public class DataSeeder implements CommandLineRunner {
       paid1.setPartyId(4L); // Phoenix Rising
       paid1.setCategory(Transaction.Category.PAYMENT);
       paid1.setDate(LocalDate.now().minusDays(30));
-      paid1.setAmount(250.00);
+      paid1.setAmount(Money.ofCents(25000));
       paid1.setStatus(Transaction.Status.PAID);
       paid1.setNotes("League registration fee - Winter 2026 PAID");
       transactionService.save(paid1);
@@ -555,7 +556,7 @@ public class DataSeeder implements CommandLineRunner {
       paid2.setPartyId(5L); // Dragon Warriors
       paid2.setCategory(Transaction.Category.PAYMENT);
       paid2.setDate(LocalDate.now().minusDays(20));
-      paid2.setAmount(150.00);
+      paid2.setAmount(Money.ofCents(15000));
       paid2.setStatus(Transaction.Status.PAID);
       paid2.setNotes("Equipment fee - PAID");
       transactionService.save(paid2);
@@ -565,7 +566,7 @@ public class DataSeeder implements CommandLineRunner {
       paid3.setPartyId(6L); // Eagle Knights
       paid3.setCategory(Transaction.Category.PAYMENT);
       paid3.setDate(LocalDate.now().minusDays(15));
-      paid3.setAmount(200.00);
+      paid3.setAmount(Money.ofCents(20000));
       paid3.setStatus(Transaction.Status.PAID);
       paid3.setNotes("Tournament entry fee - Premier Cup PAID");
       transactionService.save(paid3);
@@ -575,7 +576,7 @@ public class DataSeeder implements CommandLineRunner {
       paid4.setPartyId(1L); // Thunder United
       paid4.setCategory(Transaction.Category.PAYMENT);
       paid4.setDate(LocalDate.now().minusDays(10));
-      paid4.setAmount(100.00);
+      paid4.setAmount(Money.ofCents(10000));
       paid4.setStatus(Transaction.Status.PAID);
       paid4.setNotes("Partial payment for Spring season - PAID");
       transactionService.save(paid4);
@@ -586,7 +587,7 @@ public class DataSeeder implements CommandLineRunner {
       playerPaid.setPartyId(players.get(1).getId());
       playerPaid.setCategory(Transaction.Category.PAYMENT);
       playerPaid.setDate(LocalDate.now().minusDays(40));
-      playerPaid.setAmount(75.00);
+      playerPaid.setAmount(Money.ofCents(7500));
       playerPaid.setStatus(Transaction.Status.PAID);
       playerPaid.setNotes("Player uniform fee - PAID");
       transactionService.save(playerPaid);
@@ -597,7 +598,7 @@ public class DataSeeder implements CommandLineRunner {
       overdue1.setPartyId(2L); // Lightning FC
       overdue1.setCategory(Transaction.Category.INVOICE);
       overdue1.setDate(LocalDate.now().minusDays(60)); // 2 months old
-      overdue1.setAmount(300.00);
+      overdue1.setAmount(Money.ofCents(30000));
       overdue1.setStatus(Transaction.Status.OVERDUE);
       overdue1.setNotes("Fall 2025 season fee - OVERDUE");
       transactionService.save(overdue1);
@@ -607,7 +608,7 @@ public class DataSeeder implements CommandLineRunner {
       overdue2.setPartyId(4L); // Phoenix Rising
       overdue2.setCategory(Transaction.Category.INVOICE);
       overdue2.setDate(LocalDate.now().minusDays(45)); // 1.5 months old
-      overdue2.setAmount(225.00);
+      overdue2.setAmount(Money.ofCents(22500));
       overdue2.setStatus(Transaction.Status.OVERDUE);
       overdue2.setNotes("Winter training facility fee - OVERDUE");
       transactionService.save(overdue2);
@@ -617,7 +618,7 @@ public class DataSeeder implements CommandLineRunner {
       overdue3.setPartyId(5L); // Dragon Warriors
       overdue3.setCategory(Transaction.Category.INVOICE);
       overdue3.setDate(LocalDate.now().minusDays(90)); // 3 months old
-      overdue3.setAmount(175.00);
+      overdue3.setAmount(Money.ofCents(17500));
       overdue3.setStatus(Transaction.Status.OVERDUE);
       overdue3.setNotes("Fall 2025 tournament entry - OVERDUE");
       transactionService.save(overdue3);
@@ -628,7 +629,7 @@ public class DataSeeder implements CommandLineRunner {
       playerOverdue.setPartyId(players.get(2).getId());
       playerOverdue.setCategory(Transaction.Category.INVOICE);
       playerOverdue.setDate(LocalDate.now().minusDays(50));
-      playerOverdue.setAmount(60.00);
+      playerOverdue.setAmount(Money.ofCents(6000));
       playerOverdue.setStatus(Transaction.Status.OVERDUE);
       playerOverdue.setNotes("Player fine - OVERDUE");
       transactionService.save(playerOverdue);
@@ -3,13 +3,20 @@ package com.scheduleengine;
 import com.scheduleengine.common.UIScaleControlPanel;
 import com.scheduleengine.common.UIScaleUtil;
 import com.scheduleengine.common.WindowPreferencesUtil;
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.common.service.ScheduleGeneratorService;
+import com.scheduleengine.diagnostics.DiagnosticsView;
+import com.scheduleengine.diagnostics.event.ViewNavigatedEvent;
+import com.scheduleengine.diagnostics.service.DiagnosticsService;
 import com.scheduleengine.field.FieldView;
 import com.scheduleengine.field.service.FieldAvailabilityService;
+import com.scheduleengine.field.service.FieldExceptionService;
 import com.scheduleengine.field.service.FieldService;
 import com.scheduleengine.field.service.FieldUsageBlockService;
 import com.scheduleengine.game.GameDetailView;
 import com.scheduleengine.game.GameView;
+import com.scheduleengine.game.service.FieldCalendarResolver;
+import com.scheduleengine.game.service.FreeSlotService;
 import com.scheduleengine.game.service.GameService;
 import com.scheduleengine.league.LeagueDetailView;
 import com.scheduleengine.league.LeagueView;
@@ -18,10 +25,23 @@ import com.scheduleengine.league.service.LeagueService;
 import com.scheduleengine.navigation.BreadcrumbBar;
 import com.scheduleengine.navigation.DrillDownCard;
 import com.scheduleengine.navigation.NavigationContext;
+import com.scheduleengine.navigation.NavigationHistory;
+import com.scheduleengine.navigation.NavigationPrefetcher;
 import com.scheduleengine.payment.PaymentsView;
+import com.scheduleengine.payment.service.BillingService;
+import com.scheduleengine.payment.service.TransactionReportService;
 import com.scheduleengine.payment.service.TransactionService;
 import com.scheduleengine.player.RosterView;
+import com.scheduleengine.payment.domain.Transaction;
 import com.scheduleengine.player.service.PlayerService;
+import com.scheduleengine.publish.service.SchedulePublishingService;
+import com.scheduleengine.blackout.service.BlackoutService;
+import com.scheduleengine.referee.RefereeView;
+import com.scheduleengine.referee.service.RefereeAssignmentService;
+import com.scheduleengine.referee.service.RefereeService;
+import com.scheduleengine.search.GlobalSearchField;
+import com.scheduleengine.search.domain.SearchDocument;
+import com.scheduleengine.search.service.SearchService;
 import com.scheduleengine.season.SeasonView;
 import com.scheduleengine.season.domain.Season;
 import com.scheduleengine.season.service.SeasonService;
@@ -51,6 +71,8 @@ public class MainView {
   private final FieldService fieldService;
   private final FieldAvailabilityService fieldAvailabilityService;
   private final FieldUsageBlockService fieldUsageBlockService;
+  private final FieldExceptionService fieldExceptionService;
+  private final FieldCalendarResolver fieldCalendarResolver;
   private final SeasonService seasonService;
   private final GameService gameService;
   private final ScheduleGeneratorService scheduleGeneratorService;
@@ -58,6 +80,16 @@ public class MainView {
   private final TournamentService tournamentService;
   private final TournamentRegistrationService tournamentRegistrationService;
   private final TransactionService transactionService;
+  private final TransactionReportService transactionReportService;
+  private final BillingService billingService;
+  private final DiagnosticsService diagnosticsService;
+  private final SearchService searchService;
+  private final CascadeDeleteService cascadeDeleteService;
+  private final FreeSlotService freeSlotService;
+  private final SchedulePublishingService publishingService;
+  private final BlackoutService blackoutService;
+  private final RefereeService refereeService;
+  private final RefereeAssignmentService refereeAssignmentService;
   private final java.util.Map<String, Button> navButtons = new java.util.HashMap<>();
   // Navigation history: tracks the last navigation context per top-level view
   // e.g., "leagues" -> last breadcrumb when viewing leagues
@@ -71,13 +103,17 @@ public class MainView {
   private com.scheduleengine.field.FieldDetailView fieldDetailView;
   private SeasonView seasonView;
   private com.scheduleengine.season.SeasonDetailView seasonDetailView;
+  private com.scheduleengine.game.ScheduleCalendarView scheduleCalendarView;
   private GameView gameView;
   private RosterView rosterView;
   private com.scheduleengine.player.PlayerDetailView playerDetailView;
   private TournamentView tournamentView;
   private PaymentsView paymentsView;
+  private RefereeView refereeView;
   private NavigationContext currentNavigationContext;
   private BreadcrumbBar breadcrumbBar;
+  private final NavigationHistory backForwardHistory = new NavigationHistory();
+  private NavigationPrefetcher prefetcher;
   private StackPane contentArea;
   private String currentView = "leagues";
   // UI Scale Control Panel reference for updating scene after creation
@@ -90,7 +126,19 @@ public class MainView {
                   TournamentRegistrationService tournamentRegistrationService,
                   FieldAvailabilityService fieldAvailabilityService,
                   FieldUsageBlockService fieldUsageBlockService,
-                  TransactionService transactionService) {
+                  TransactionService transactionService,
+                  TransactionReportService transactionReportService,
+                  BillingService billingService,
+                  DiagnosticsService diagnosticsService,
+                  SearchService searchService,
+                  CascadeDeleteService cascadeDeleteService,
+                  FreeSlotService freeSlotService,
+                  FieldExceptionService fieldExceptionService,
+                  FieldCalendarResolver fieldCalendarResolver,
+                  SchedulePublishingService publishingService,
+                  BlackoutService blackoutService,
+                  RefereeService refereeService,
+                  RefereeAssignmentService refereeAssignmentService) {
     this.leagueService = leagueService;
     this.teamService = teamService;
     this.fieldService = fieldService;
@@ -102,7 +150,19 @@ public class MainView {
     this.tournamentRegistrationService = tournamentRegistrationService;
     this.fieldAvailabilityService = fieldAvailabilityService;
     this.fieldUsageBlockService = fieldUsageBlockService;
+    this.fieldExceptionService = fieldExceptionService;
+    this.fieldCalendarResolver = fieldCalendarResolver;
     this.transactionService = transactionService;
+    this.transactionReportService = transactionReportService;
+    this.billingService = billingService;
+    this.diagnosticsService = diagnosticsService;
+    this.searchService = searchService;
+    this.cascadeDeleteService = cascadeDeleteService;
+    this.freeSlotService = freeSlotService;
+    this.publishingService = publishingService;
+    this.blackoutService = blackoutService;
+    this.refereeService = refereeService;
+    this.refereeAssignmentService = refereeAssignmentService;
   }
 
   public void start(Stage primaryStage) {
@@ -111,6 +171,10 @@ public class MainView {
     // Restore window state from preferences before showing
     WindowPreferencesUtil.restoreWindowState(primaryStage);
 
+    // Watch for FX stalls from startup so the Diagnostics view covers the whole session; frame timing
+    // is recorded only while that view is open
+    diagnosticsService.startFxMonitoring();
+
     // Initialize navigation context
     currentNavigationContext = new NavigationContext();
 
@@ -118,30 +182,37 @@ public class MainView {
     BorderPane root = new BorderPane();
 
     // Create views
-    leagueView = new LeagueView(leagueService);
+    leagueView = new LeagueView(leagueService, cascadeDeleteService);
     leagueView.setNavigationHandler(this::navigate);
-    leagueDetailView = new LeagueDetailView(leagueService, this::navigate);
+    leagueDetailView = new LeagueDetailView(leagueService, this::navigate, cascadeDeleteService, publishingService,
+      blackoutService);
     teamView = new TeamView(teamService, leagueService);
     teamView.setNavigationHandler(this::navigate);
-    teamDetailView = new com.scheduleengine.team.TeamDetailView(teamService, leagueService, this::navigate);
+    teamDetailView = new com.scheduleengine.team.TeamDetailView(teamService, leagueService, this::navigate, cascadeDeleteService,
+      publishingService, blackoutService);
     fieldView = new FieldView(fieldService, fieldAvailabilityService, fieldUsageBlockService, gameService);
     fieldView.setNavigationHandler(this::navigate);
-    fieldDetailView = new com.scheduleengine.field.FieldDetailView(fieldService, fieldAvailabilityService, fieldUsageBlockService, gameService);
+    fieldDetailView = new com.scheduleengine.field.FieldDetailView(fieldService, fieldAvailabilityService, fieldUsageBlockService,
+      fieldExceptionService, fieldCalendarResolver, gameService, cascadeDeleteService, publishingService, blackoutService);
     fieldDetailView.setNavigationHandler(this::navigate);
-    gameView = new GameView(gameService, teamService, fieldService, seasonService, leagueService);
+    gameView = new GameView(gameService, teamService, fieldService, seasonService, leagueService, freeSlotService);
     gameView.setNavigationHandler(this::navigate);
     seasonView = new SeasonView(seasonService, leagueService, scheduleGeneratorService, gameView, gameService);
     seasonView.setNavigationHandler(this::navigate);
-    seasonDetailView = new com.scheduleengine.season.SeasonDetailView(seasonService, leagueService, this::navigate, scheduleGeneratorService, gameService);
+    seasonDetailView = new com.scheduleengine.season.SeasonDetailView(seasonService, leagueService, this::navigate, scheduleGeneratorService, gameService, cascadeDeleteService, blackoutService, refereeAssignmentService);
+    scheduleCalendarView = new com.scheduleengine.game.ScheduleCalendarView(gameService, fieldService, freeSlotService);
+    scheduleCalendarView.setNavigationHandler(this::navigate);
     rosterView = new RosterView(playerService, teamService, this::navigate);
     playerDetailView = new com.scheduleengine.player.PlayerDetailView(playerService, teamService, this::navigate);
     tournamentView = new TournamentView(tournamentService, tournamentRegistrationService, leagueService, teamService);
     tournamentView.setNavigationHandler(this::navigate);
-    paymentsView = new PaymentsView(transactionService, teamService, playerService, leagueService, tournamentService, tournamentRegistrationService);
+    refereeView = new RefereeView(refereeService, refereeAssignmentService, blackoutService);
+    paymentsView = new PaymentsView(transactionService, transactionReportService, billingService, teamService, playerService, leagueService, tournamentService, tournamentRegistrationService);
     paymentsView.setNavigationHandler(this::navigate);
 
     // Create breadcrumb bar
-    breadcrumbBar = new BreadcrumbBar(this::navigate);
+    breadcrumbBar = new BreadcrumbBar(this::navigate, backForwardHistory);
+    prefetcher = new NavigationPrefetcher(teamService, seasonService, playerService);
 
     // Create content container with breadcrumb
     VBox contentContainer = new VBox();
@@ -161,6 +232,26 @@ public class MainView {
 
     Scene scene = new Scene(root, 1200, 750);
 
+    // Alt+Left/Right and the mouse back/forward buttons step through navigation history
+    scene.addEventFilter(javafx.scene.input.KeyEvent.KEY_PRESSED, e -> {
+      if (e.isAltDown() && e.getCode() == javafx.scene.input.KeyCode.LEFT) {
+        backForwardHistory.back().ifPresent(this::navigate);
+        e.consume();
+      } else if (e.isAltDown() && e.getCode() == javafx.scene.input.KeyCode.RIGHT) {
+        backForwardHistory.forward().ifPresent(this::navigate);
+        e.consume();
+      }
+    });
+    scene.addEventFilter(javafx.scene.input.MouseEvent.MOUSE_PRESSED, e -> {
+      if (e.getButton() == javafx.scene.input.MouseButton.BACK) {
+        backForwardHistory.back().ifPresent(this::navigate);
+        e.consume();
+      } else if (e.getButton() == javafx.scene.input.MouseButton.FORWARD) {
+        backForwardHistory.forward().ifPresent(this::navigate);
+        e.consume();
+      }
+    });
+
     // Apply global stylesheet that respects UI scale
     applyGlobalScaling(scene);
 
@@ -237,7 +328,8 @@ public class MainView {
     appTitle.setStyle("-fx-font-size: 20px; -fx-font-weight: bold; -fx-text-fill: white;");
     Label appSubtitle = new Label("Sports Management");
     appSubtitle.setStyle("-fx-font-size: 12px; -fx-text-fill: #95a5a6;");
-    header.getChildren().addAll(appTitle, appSubtitle);
+    GlobalSearchField searchField = new GlobalSearchField(searchService, this::openSearchResult);
+    header.getChildren().addAll(appTitle, appSubtitle, searchField);
 
     // Navigation items
     VBox navItems = new VBox(2);
@@ -251,9 +343,11 @@ public class MainView {
       createNavButton(FontAwesomeIcon.CALENDAR, "Seasons", "seasons"),
       createNavButton(FontAwesomeIcon.CERTIFICATE, "Tournaments", "tournaments"),
       createNavButton(FontAwesomeIcon.FUTBOL_ALT, "Games", "games"),
+      createNavButton(FontAwesomeIcon.FLAG, "Referees", "referees"),
       createNavButton(FontAwesomeIcon.CLIPBOARD, "Team Registration", "registration"),
       createNavButton(FontAwesomeIcon.CREDIT_CARD, "Payments", "payments"),
-      createNavButton(FontAwesomeIcon.BAR_CHART, "Game Operations", "operations")
+      createNavButton(FontAwesomeIcon.BAR_CHART, "Game Operations", "operations"),
+      createNavButton(FontAwesomeIcon.TACHOMETER, "Diagnostics", "diagnostics")
     );
 
     // Spacer
@@ -368,9 +462,27 @@ public class MainView {
   }
 
   /**
-   * Navigate to a view with the given navigation context
+   * Navigate to a view with the given navigation context. The time to build the view is recorded as a
+   * flight recorder event.
    */
   private void navigate(NavigationContext context) {
+    ViewNavigatedEvent event = new ViewNavigatedEvent();
+    event.begin();
+    String fromView = currentNavigationContext == null ? null : currentNavigationContext.getCurrentViewId();
+    backForwardHistory.visit(context);
+    try {
+      showContext(context);
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.fromView = fromView;
+        event.toView = context.getCurrentViewId();
+        event.commit();
+      }
+    }
+  }
+
+  private void showContext(NavigationContext context) {
     this.currentNavigationContext = context;
     breadcrumbBar.updateContext(context);
 
@@ -519,6 +631,12 @@ public class MainView {
           contentArea.getChildren().add(createSeasonStandingsView(seasonForStandings));
         }
         break;
+      case "season-calendar":
+        Season seasonForCalendar = context.getContextData("season-calendar", Season.class);
+        if (seasonForCalendar != null) {
+          contentArea.getChildren().add(scheduleCalendarView.getView(seasonForCalendar, context));
+        }
+        break;
 
       // Game-related views
       case "games":
@@ -535,6 +653,11 @@ public class MainView {
         break;
       }
 
+      case "referees":
+        refereeView.refresh();
+        contentArea.getChildren().add(refereeView.getView());
+        break;
+
       // Tournament-related views
       case "tournaments":
         tournamentView.refresh();
@@ -556,6 +679,11 @@ public class MainView {
       case "payments":
         contentArea.getChildren().add(paymentsView.getView());
         paymentsView.refresh();
+        Transaction transactionForPayments = context.getContextData("payments", Transaction.class);
+        if (transactionForPayments != null) {
+          paymentsView.filterByNotes(transactionForPayments.getNotes());
+          break;
+        }
         // Team-filtered navigation
         Team teamForPayments = context.getContextData("payments", Team.class);
         if (teamForPayments != null) {
@@ -573,6 +701,9 @@ public class MainView {
       case "operations":
         contentArea.getChildren().add(createOperationsView());
         break;
+      case "diagnostics":
+        contentArea.getChildren().add(new DiagnosticsView(diagnosticsService).getView());
+        break;
 
       // Exit
       case "exit":
@@ -592,6 +723,33 @@ public class MainView {
     // This allows restoring previous state when clicking sidebar buttons
     String topLevelViewId = getTopLevelViewId(viewId);
     navigationHistory.put(topLevelViewId, context);
+
+    // Start loading the likely next views while this one is on screen
+    prefetcher.prefetch(context);
+  }
+
+  /**
+   * Open the detail view for a global search result. The entity is reloaded so the detail view
+   * shows its current state; a result deleted since it was indexed is ignored.
+   */
+  private void openSearchResult(SearchDocument result) {
+    NavigationContext root = new NavigationContext();
+    switch (result.type()) {
+      case PLAYER -> playerService.findById(result.id()).ifPresent(p ->
+        navigate(root.navigateTo("rosters", "Rosters").navigateTo("player-detail", p.getFullName(), p)));
+      case TEAM -> teamService.findById(result.id()).ifPresent(t ->
+        navigate(root.navigateTo("teams", "Teams").navigateTo("team-detail", t.getName(), t)));
+      case FIELD -> fieldService.findById(result.id()).ifPresent(f ->
+        navigate(root.navigateTo("fields", "Fields").navigateTo("field-detail", f.getName(), f)));
+      case LEAGUE -> leagueService.findById(result.id()).ifPresent(l ->
+        navigate(root.navigateTo("leagues", "Leagues").navigateTo("league-detail", l.getName(), l)));
+      case SEASON -> seasonService.findById(result.id()).ifPresent(s ->
+        navigate(root.navigateTo("seasons", "Seasons").navigateTo("season-detail", s.getName(), s)));
+      case TOURNAMENT -> tournamentService.findById(result.id()).ifPresent(t ->
+        navigate(root.navigateTo("tournaments", "Tournaments").navigateTo("tournament-detail", t.getName(), t)));
+      case TRANSACTION -> transactionService.findById(result.id()).ifPresent(tx ->
+        navigate(root.navigateTo("payments", "Payments", tx)));
+    }
   }
 
   /**
@@ -648,6 +806,7 @@ public class MainView {
       case "season-games":
       case "season-teams":
       case "season-standings":
+      case "season-calendar":
         return "seasons";
 
       // Game-related views -> highlight Games
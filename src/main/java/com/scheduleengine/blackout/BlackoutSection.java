@@ -0,0 +1,155 @@
+package com.scheduleengine.blackout;
+
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.service.BlackoutService;
+import com.scheduleengine.common.DialogUtil;
+import com.scheduleengine.common.TablePreferencesUtil;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.geometry.Insets;
+import javafx.scene.control.*;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detail view section listing the blackout days of one league, season, team, field or referee,
+ * with actions to add and delete them
+ */
+public final class BlackoutSection {
+
+  private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("EEE MMM d, yyyy");
+
+  private BlackoutSection() {
+  }
+
+  /**
+   * @param subject what the days are blacked out for, e.g. "games in this league"
+   */
+  public static VBox build(BlackoutService blackoutService, Blackout.Scope scope, Long scopeId, String subject) {
+    VBox container = new VBox(10);
+    container.setPadding(new Insets(12));
+    container.setStyle("-fx-background-color: white; -fx-border-color: #e0e0e0; -fx-border-width: 1;");
+
+    Label title = new Label("Blackouts");
+    title.setStyle("-fx-font-size: 16px; -fx-font-weight: bold;");
+    Label hint = new Label("Days with no " + subject);
+    hint.setStyle("-fx-font-size: 12px; -fx-text-fill: #7f8c8d;");
+
+    TableView<Blackout> table = new TableView<>();
+    table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+    table.setPlaceholder(new Label("No blackouts"));
+    table.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+    table.setPrefHeight(180);
+
+    TableColumn<Blackout, String> startCol = new TableColumn<>("From");
+    startCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(DATE_FORMAT.format(c.getValue().getStartDate())));
+    startCol.setMinWidth(140);
+
+    TableColumn<Blackout, String> endCol = new TableColumn<>("To");
+    endCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(DATE_FORMAT.format(c.getValue().getEndDate())));
+    endCol.setMinWidth(140);
+
+    TableColumn<Blackout, String> reasonCol = new TableColumn<>("Reason");
+    reasonCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(c.getValue().getReason()));
+    reasonCol.setMinWidth(120);
+
+    table.getColumns().setAll(startCol, endCol, reasonCol);
+    VBox.setVgrow(table, Priority.ALWAYS);
+    TablePreferencesUtil.setupTableColumnPersistence(table, "blackouts." + scope.name().toLowerCase());
+    table.setItems(FXCollections.observableArrayList(blackoutService.findFor(scope, scopeId)));
+
+    Button addBtn = new Button("+ Add Blackout");
+    addBtn.setWrapText(true);
+    addBtn.setStyle("-fx-padding: 8 16; -fx-background-color: #667eea; -fx-text-fill: white;");
+    addBtn.setOnAction(e -> showAddDialog(blackoutService, scope, scopeId, table));
+
+    Button deleteBtn = new Button("Delete Selected");
+    deleteBtn.setWrapText(true);
+    deleteBtn.setStyle("-fx-padding: 8 16; -fx-background-color: #dc3545; -fx-text-fill: white;");
+    deleteBtn.setOnAction(e -> {
+      List<Blackout> selected = new ArrayList<>(table.getSelectionModel().getSelectedItems());
+      if (selected.isEmpty()) {
+        showError("No Selection", "Please select at least one blackout to delete.");
+        return;
+      }
+      for (Blackout blackout : selected) {
+        blackoutService.delete(blackout.getId());
+        table.getItems().remove(blackout);
+      }
+    });
+
+    HBox buttonBox = new HBox(10);
+    buttonBox.setPadding(new Insets(10, 0, 0, 0));
+    buttonBox.getChildren().addAll(addBtn, deleteBtn);
+
+    container.getChildren().setAll(title, hint, table, buttonBox);
+    return container;
+  }
+
+  private static void showAddDialog(BlackoutService blackoutService, Blackout.Scope scope, Long scopeId,
+                                    TableView<Blackout> table) {
+    Dialog<Blackout> dialog = new Dialog<>();
+    dialog.setTitle("Add Blackout");
+
+    ButtonType saveButtonType = new ButtonType("Save", ButtonBar.ButtonData.OK_DONE);
+    dialog.getDialogPane().getButtonTypes().addAll(saveButtonType, ButtonType.CANCEL);
+
+    GridPane grid = new GridPane();
+    grid.setHgap(10);
+    grid.setVgap(10);
+    grid.setPadding(new Insets(20, 150, 10, 10));
+
+    DatePicker startPicker = new DatePicker(LocalDate.now());
+    DatePicker endPicker = new DatePicker(LocalDate.now());
+    // A single day unless the end is moved
+    startPicker.valueProperty().addListener((obs, old, start) -> {
+      if (start != null && (endPicker.getValue() == null || endPicker.getValue().isBefore(start))) {
+        endPicker.setValue(start);
+      }
+    });
+    TextField reasonField = new TextField();
+    reasonField.setPromptText("e.g. Holiday weekend");
+
+    grid.add(new Label("From:"), 0, 0);
+    grid.add(startPicker, 1, 0);
+    grid.add(new Label("To:"), 0, 1);
+    grid.add(endPicker, 1, 1);
+    grid.add(new Label("Reason:"), 0, 2);
+    grid.add(reasonField, 1, 2);
+
+    dialog.getDialogPane().setContent(grid);
+    dialog.getDialogPane().getScene().getWindow().setOnShown(e ->
+      DialogUtil.makeResizable(dialog, "blackout.add", 500, 300));
+
+    dialog.setResultConverter(dialogButton -> {
+      if (dialogButton == saveButtonType) {
+        String reason = reasonField.getText() == null || reasonField.getText().isBlank() ? null : reasonField.getText().trim();
+        try {
+          return blackoutService.save(new Blackout(scope, scopeId, startPicker.getValue(), endPicker.getValue(), reason));
+        } catch (Exception ex) {
+          showError("Error", "Failed to save blackout: " + ex.getMessage());
+          return null;
+        }
+      }
+      return null;
+    });
+
+    dialog.showAndWait().ifPresent(saved ->
+      table.setItems(FXCollections.observableArrayList(blackoutService.findFor(scope, scopeId))));
+  }
+
+  private static void showError(String title, String msg) {
+    Alert a = new Alert(Alert.AlertType.ERROR);
+    a.setTitle(title);
+    a.setHeaderText(null);
+    a.setContentText(msg);
+    a.showAndWait();
+  }
+}
@@ -0,0 +1,100 @@
+package com.scheduleengine.blackout.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * Whole days on which no games may be played by a league, season, team or on a field, e.g. a
+ * holiday weekend or field maintenance, or on which a referee cannot work. The owner is kept as
+ * scope and id rather than a foreign key, so one compact table serves all kinds.
+ */
+@Entity
+@Table(name = "blackouts")
+public class Blackout {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "scope", nullable = false)
+  private Scope scope;
+
+  @Column(name = "scope_id", nullable = false)
+  private Long scopeId;
+
+  @Column(name = "start_date", nullable = false)
+  private LocalDate startDate;
+
+  /** Last blacked out day, inclusive */
+  @Column(name = "end_date", nullable = false)
+  private LocalDate endDate;
+
+  @Column(name = "reason")
+  private String reason;
+
+  public Blackout() {
+  }
+
+  public Blackout(Scope scope, Long scopeId, LocalDate startDate, LocalDate endDate, String reason) {
+    this.scope = scope;
+    this.scopeId = scopeId;
+    this.startDate = startDate;
+    this.endDate = endDate;
+    this.reason = reason;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Scope getScope() {
+    return scope;
+  }
+
+  public void setScope(Scope scope) {
+    this.scope = scope;
+  }
+
+  public Long getScopeId() {
+    return scopeId;
+  }
+
+  public void setScopeId(Long scopeId) {
+    this.scopeId = scopeId;
+  }
+
+  public LocalDate getStartDate() {
+    return startDate;
+  }
+
+  public void setStartDate(LocalDate startDate) {
+    this.startDate = startDate;
+  }
+
+  public LocalDate getEndDate() {
+    return endDate;
+  }
+
+  public void setEndDate(LocalDate endDate) {
+    this.endDate = endDate;
+  }
+
+  public String getReason() {
+    return reason;
+  }
+
+  public void setReason(String reason) {
+    this.reason = reason;
+  }
+
+  public boolean covers(LocalDate date) {
+    return !date.isBefore(startDate) && !date.isAfter(endDate);
+  }
+
+  public enum Scope {LEAGUE, SEASON, TEAM, FIELD, REFEREE}
+}
@@ -0,0 +1,71 @@
+package com.scheduleengine.blackout.domain;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Blackouts compiled into one bitmap of days per league, season, team and field, bit 0 being the
+ * earliest blacked out day of all. Whether a date is blacked out for an owner is a map lookup and
+ * a bit test. A calendar is immutable and can be shared between threads.
+ */
+public final class BlackoutCalendar {
+  public static final BlackoutCalendar EMPTY = compile(List.of());
+
+  private record Key(Blackout.Scope scope, Long id) {
+  }
+
+  private final long origin;
+  private final Map<Key, BitSet> days;
+  /** The blackouts behind each bitmap, only read to explain a hit */
+  private final Map<Key, List<Blackout>> blackouts;
+
+  private BlackoutCalendar(long origin, Map<Key, BitSet> days, Map<Key, List<Blackout>> blackouts) {
+    this.origin = origin;
+    this.days = days;
+    this.blackouts = blackouts;
+  }
+
+  public static BlackoutCalendar compile(Collection<Blackout> all) {
+    long origin = all.stream().mapToLong(b -> b.getStartDate().toEpochDay()).min().orElse(0);
+    Map<Key, BitSet> days = new HashMap<>();
+    Map<Key, List<Blackout>> blackouts = new HashMap<>();
+    for (Blackout blackout : all) {
+      Key key = new Key(blackout.getScope(), blackout.getScopeId());
+      int from = (int) (blackout.getStartDate().toEpochDay() - origin);
+      int to = (int) (blackout.getEndDate().toEpochDay() - origin);
+      if (to < from) continue;
+      days.computeIfAbsent(key, k -> new BitSet()).set(from, to + 1);
+      blackouts.computeIfAbsent(key, k -> new ArrayList<>()).add(blackout);
+    }
+    return new BlackoutCalendar(origin, days, blackouts);
+  }
+
+  /**
+   * Whether the owner is blacked out on the date; always false for a null id
+   */
+  public boolean isBlackedOut(Blackout.Scope scope, Long id, LocalDate date) {
+    if (id == null) return false;
+    BitSet bits = days.get(new Key(scope, id));
+    if (bits == null) return false;
+    long day = date.toEpochDay() - origin;
+    return day >= 0 && day < bits.length() && bits.get((int) day);
+  }
+
+  /**
+   * The blackout covering the date for the owner, e.g. to show its reason
+   */
+  public Optional<Blackout> find(Blackout.Scope scope, Long id, LocalDate date) {
+    if (!isBlackedOut(scope, id, date)) return Optional.empty();
+    return blackouts.get(new Key(scope, id)).stream().filter(b -> b.covers(date)).findFirst();
+  }
+
+  public boolean isEmpty() {
+    return days.isEmpty();
+  }
+}
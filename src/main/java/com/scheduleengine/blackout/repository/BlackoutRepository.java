@@ -0,0 +1,12 @@
+package com.scheduleengine.blackout.repository;
+
+import com.scheduleengine.blackout.domain.Blackout;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BlackoutRepository extends JpaRepository<Blackout, Long> {
+  List<Blackout> findByScopeAndScopeIdOrderByStartDate(Blackout.Scope scope, Long scopeId);
+}
@@ -0,0 +1,92 @@
+package com.scheduleengine.blackout.service;
+
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.domain.BlackoutCalendar;
+import com.scheduleengine.blackout.repository.BlackoutRepository;
+import com.scheduleengine.diagnostics.MetricsConfig;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Stores blackouts and serves them compiled into a {@link BlackoutCalendar}. The calendar is
+ * compiled on first use and again after blackouts change, once the change has committed.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class BlackoutService {
+  private final BlackoutRepository repo;
+  private volatile BlackoutCalendar calendar;
+
+  public BlackoutService(BlackoutRepository repo) {
+    this.repo = repo;
+  }
+
+  public List<Blackout> findAll() {
+    return repo.findAll();
+  }
+
+  public List<Blackout> findFor(Blackout.Scope scope, Long scopeId) {
+    return repo.findByScopeAndScopeIdOrderByStartDate(scope, scopeId);
+  }
+
+  @Transactional
+  public Blackout save(Blackout blackout) {
+    if (blackout.getScope() == null || blackout.getScopeId() == null) {
+      throw new IllegalArgumentException("A blackout needs a league, season, team, field or referee");
+    }
+    if (blackout.getStartDate() == null || blackout.getEndDate() == null) {
+      throw new IllegalArgumentException("start and end date required");
+    }
+    if (blackout.getEndDate().isBefore(blackout.getStartDate())) {
+      throw new IllegalArgumentException("The blackout ends before it starts");
+    }
+    invalidateAfterCommit();
+    return repo.save(blackout);
+  }
+
+  @Transactional
+  public void delete(Long id) {
+    invalidateAfterCommit();
+    repo.deleteById(id);
+  }
+
+  /**
+   * The compiled calendar of all blackouts
+   */
+  public BlackoutCalendar calendar() {
+    BlackoutCalendar c = calendar;
+    if (c != null) return c;
+    synchronized (this) {
+      if (calendar == null) {
+        calendar = BlackoutCalendar.compile(repo.findAll());
+      }
+      return calendar;
+    }
+  }
+
+  /**
+   * Recompile the calendar once the current transaction commits, e.g. after blackouts of a deleted
+   * owner were removed in bulk
+   */
+  public void invalidateAfterCommit() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      invalidate();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        invalidate();
+      }
+    });
+  }
+
+  private synchronized void invalidate() {
+    calendar = null;
+  }
+}
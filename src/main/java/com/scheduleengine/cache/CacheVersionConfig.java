@@ -0,0 +1,25 @@
+package com.scheduleengine.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Replaces Spring Boot's JPA transaction manager with one that clears the caches after another
+ * process has written to the shared H2 file.
+ */
+@Configuration
+public class CacheVersionConfig {
+
+  @Bean
+  public CacheVersionTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                           CacheManager cacheManager,
+                                                           ObjectProvider<TransactionManagerCustomizers> customizers) {
+    CacheVersionTransactionManager transactionManager = new CacheVersionTransactionManager(entityManagerFactory, cacheManager);
+    customizers.ifAvailable(c -> c.customize(transactionManager));
+    return transactionManager;
+  }
+}
@@ -0,0 +1,148 @@
+package com.scheduleengine.cache;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps this process's caches in step with writes made by other processes attached to the same H2
+ * file through AUTO_SERVER. Those writes never reach this JVM's second-level, query or report
+ * caches, so every read-write transaction bumps the {@code cache_version} row just before it
+ * commits, and every transaction reads the row as it begins. When the version has moved further
+ * than this process's own commits account for, all caches are cleared before the transaction
+ * reads anything. Reading the row costs one primary-key lookup per transaction.
+ */
+public class CacheVersionTransactionManager extends JpaTransactionManager {
+  private static final Logger log = LoggerFactory.getLogger(CacheVersionTransactionManager.class);
+  private static final String READ = "select version from cache_version where id = 1";
+  private static final String BUMP = "update cache_version set version = version + 1 where id = 1";
+
+  private final CacheManager cacheManager;
+  // The version up to which every write is known to be reflected in this process's caches
+  private final AtomicLong seen = new AtomicLong(Long.MIN_VALUE);
+  private final AtomicLong clearings = new AtomicLong();
+
+  public CacheVersionTransactionManager(EntityManagerFactory entityManagerFactory, CacheManager cacheManager) {
+    super(entityManagerFactory);
+    this.cacheManager = cacheManager;
+  }
+
+  /**
+   * The version this process has caught up with
+   */
+  public long getSeenVersion() {
+    return seen.get();
+  }
+
+  /**
+   * Runs once the new transaction is open. Reads made by a transaction that outlives a clearing may
+   * still reach the caches afterwards, so they are cleared again when it completes.
+   */
+  @Override
+  protected void prepareSynchronization(DefaultTransactionStatus status, TransactionDefinition definition) {
+    super.prepareSynchronization(status, definition);
+    if (!status.isNewTransaction() || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+    try {
+      catchUp(entityManager().unwrap(Session.class).doReturningWork(CacheVersionTransactionManager::read));
+    } catch (RuntimeException e) {
+      // The transaction is already open; whatever was missed, nothing stale gets served
+      log.debug("Reading the cache version failed", e);
+      evictAll();
+    }
+    long clearedAtStart = clearings.get();
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int completionStatus) {
+        if (clearings.get() != clearedAtStart) clearCaches();
+      }
+    });
+  }
+
+  @Override
+  protected void doCommit(DefaultTransactionStatus status) {
+    long version = status.isReadOnly() ? 0 : bump();
+    super.doCommit(status);
+    if (version != 0) committed(version);
+  }
+
+  /**
+   * Flushes first so the version row stays locked only for the commit itself
+   */
+  private long bump() {
+    EntityManager entityManager = entityManager();
+    entityManager.flush();
+    return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+      try (PreparedStatement update = connection.prepareStatement(BUMP)) {
+        update.executeUpdate();
+      }
+      return read(connection);
+    });
+  }
+
+  private static long read(Connection connection) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(READ); ResultSet rs = statement.executeQuery()) {
+      rs.next();
+      return rs.getLong(1);
+    }
+  }
+
+  /**
+   * A version read at the start of a transaction. Older values come from a snapshot copy of the
+   * database and say nothing about the live one.
+   */
+  private void catchUp(long version) {
+    long current = seen.get();
+    while (version > current) {
+      if (seen.compareAndSet(current, version)) {
+        log.debug("Database changed by another process (version {} to {}), clearing caches", current, version);
+        evictAll();
+        return;
+      }
+      current = seen.get();
+    }
+  }
+
+  /**
+   * A version this process committed. Only the step right after the last one seen is its own write
+   * alone; any gap means another process, or a concurrent transaction here, committed in between.
+   */
+  private void committed(long version) {
+    if (seen.compareAndSet(version - 1, version)) return;
+    catchUp(version);
+  }
+
+  private void evictAll() {
+    clearings.incrementAndGet();
+    clearCaches();
+  }
+
+  private void clearCaches() {
+    obtainEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictAllRegions();
+    for (String name : cacheManager.getCacheNames()) {
+      Cache cache = cacheManager.getCache(name);
+      if (cache != null) cache.clear();
+    }
+  }
+
+  private EntityManager entityManager() {
+    EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+    return holder.getEntityManager();
+  }
+}
@@ -0,0 +1,97 @@
+package com.scheduleengine.common;
+
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Searchable list of every FontAwesome glyph, built once and shared by all icon pickers. Each icon
+ * is indexed by the words of its name plus a few everyday keywords, so "soccer" finds the football
+ * icons and "money" the currency ones.
+ */
+public final class IconIndex {
+  private static final Map<String, List<String>> KEYWORDS = Map.ofEntries(
+    Map.entry("FUTBOL", List.of("soccer", "football", "ball", "sport")),
+    Map.entry("TROPHY", List.of("award", "cup", "winner", "champion")),
+    Map.entry("USERS", List.of("team", "people", "group", "club")),
+    Map.entry("USER", List.of("person", "player", "member")),
+    Map.entry("MAP", List.of("field", "location", "place", "venue")),
+    Map.entry("FLAG", List.of("goal", "finish")),
+    Map.entry("CALENDAR", List.of("date", "schedule", "season")),
+    Map.entry("CLOCK", List.of("time")),
+    Map.entry("MONEY", List.of("payment", "cash", "fee")),
+    Map.entry("DOLLAR", List.of("payment", "money", "fee")),
+    Map.entry("STAR", List.of("favourite", "favorite", "rating")),
+    Map.entry("SHIELD", List.of("badge", "crest", "defense")),
+    Map.entry("BOLT", List.of("lightning", "energy", "fast")),
+    Map.entry("FIRE", List.of("flame", "hot")),
+    Map.entry("HEART", List.of("love", "like")),
+    Map.entry("BICYCLE", List.of("cycling", "bike")),
+    Map.entry("HOME", List.of("house")),
+    Map.entry("GRADUATION", List.of("school", "education")));
+
+  private static final List<FontAwesomeIcon> ALL = List.of(FontAwesomeIcon.values());
+  private static final String[][] WORDS = new String[ALL.size()][];
+
+  static {
+    for (FontAwesomeIcon icon : ALL) {
+      Set<String> words = new LinkedHashSet<>();
+      for (String part : icon.name().split("_")) {
+        words.add(part.toLowerCase(Locale.ROOT));
+        words.addAll(KEYWORDS.getOrDefault(part, List.of()));
+      }
+      WORDS[icon.ordinal()] = words.toArray(String[]::new);
+    }
+  }
+
+  // Results of recent queries; typing usually extends or repeats the previous one
+  private static final Map<String, List<FontAwesomeIcon>> RESULTS = new HashMap<>();
+  private static final int MAX_CACHED_QUERIES = 64;
+
+  private IconIndex() {
+  }
+
+  /**
+   * Every icon, in declaration order
+   */
+  public static List<FontAwesomeIcon> all() {
+    return ALL;
+  }
+
+  /**
+   * Icons matching every word of the query, where a word matches when it starts a word of the icon's
+   * name or keywords, or occurs in the full name; a blank query matches everything
+   */
+  public static synchronized List<FontAwesomeIcon> search(String query) {
+    String q = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+    if (q.isEmpty()) return ALL;
+    List<FontAwesomeIcon> cached = RESULTS.get(q);
+    if (cached != null) return cached;
+
+    String[] terms = q.split("[\\s_-]+");
+    List<FontAwesomeIcon> matches = new ArrayList<>();
+    for (FontAwesomeIcon icon : ALL) {
+      if (Arrays.stream(terms).allMatch(term -> matches(icon, term))) {
+        matches.add(icon);
+      }
+    }
+    if (RESULTS.size() >= MAX_CACHED_QUERIES) RESULTS.clear();
+    List<FontAwesomeIcon> result = List.copyOf(matches);
+    RESULTS.put(q, result);
+    return result;
+  }
+
+  private static boolean matches(FontAwesomeIcon icon, String term) {
+    for (String word : WORDS[icon.ordinal()]) {
+      if (word.startsWith(term)) return true;
+    }
+    return icon.name().toLowerCase(Locale.ROOT).contains(term);
+  }
+}
@@ -2,24 +2,36 @@ package com.scheduleengine.common;
 
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.ColorPicker;
 import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextField;
+import javafx.scene.control.Tooltip;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.TilePane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
+import org.controlsfx.control.GridCell;
+import org.controlsfx.control.GridView;
 
 import java.util.function.Consumer;
 
+/**
+ * Icon, background and glyph colour chooser for edit dialogs. The icon grid is virtualized: only
+ * the visible rows have cells, which are reused while scrolling, and search runs against the
+ * shared {@link IconIndex}.
+ */
 public class IconPicker extends VBox {
+  private static final String CELL_STYLE = "-fx-background-color: #f7f7f7; -fx-background-radius: 8px; -fx-border-radius: 8px; -fx-border-color: ";
+
   private final TextField iconSearch = new TextField();
-  private final TilePane iconGrid = new TilePane();
-  private final ScrollPane iconScroll = new ScrollPane(iconGrid);
+  private final GridView<FontAwesomeIcon> iconGrid = new GridView<>(FXCollections.observableArrayList(IconIndex.all()));
+  private final ObjectProperty<FontAwesomeIcon> selected = new SimpleObjectProperty<>();
   private final ColorPicker bgPicker;
   private final ColorPicker glyphPicker;
   private final FontAwesomeIconView previewIcon;
@@ -45,15 +57,17 @@ public class IconPicker extends VBox {
     setPadding(new Insets(0));
     iconSearch.setPromptText("Search icons (e.g., USERS, TROPHY)...");
 
-    iconGrid.setHgap(10);
-    iconGrid.setVgap(10);
-    iconGrid.setPrefColumns(8);
-
-    iconScroll.setFitToWidth(true);
-    iconScroll.setPrefViewportHeight(220);
-    iconScroll.setStyle("-fx-background-color: transparent;");
+    iconGrid.setHorizontalCellSpacing(5);
+    iconGrid.setVerticalCellSpacing(5);
+    iconGrid.setCellWidth(68);
+    iconGrid.setCellHeight(68);
+    iconGrid.setPrefHeight(220);
+    iconGrid.setPrefWidth(8 * 78);
+    iconGrid.setStyle("-fx-background-color: transparent;");
+    iconGrid.setCellFactory(grid -> new IconCell());
 
     selectedIcon = initialIcon != null ? initialIcon : FontAwesomeIcon.USERS.name();
+    selected.set(FontAwesomeIcon.valueOf(selectedIcon));
 
     previewIcon = new FontAwesomeIconView(FontAwesomeIcon.valueOf(selectedIcon));
     previewIcon.setGlyphSize(48);
@@ -64,13 +78,11 @@ public class IconPicker extends VBox {
     Node previewBadge = IconBadge.build(selectedIcon, toHex(bgPicker.getValue()), toHex(glyphPicker.getValue()), 96);
     previewBox = new HBox(10, new Label("Preview:"), previewBadge);
 
-    pickerBox = new VBox(8, iconSearch, iconScroll);
+    pickerBox = new VBox(8, iconSearch, iconGrid);
 
     getChildren().addAll(pickerBox, new Label("Icon Background:"), bgPicker, new Label("Icon Glyph Color:"), glyphPicker, previewBox);
 
-    rebuildGrid();
-
-    iconSearch.textProperty().addListener((obs, o, n) -> rebuildGrid());
+    iconSearch.textProperty().addListener((obs, o, n) -> iconGrid.getItems().setAll(IconIndex.search(n)));
     bgPicker.valueProperty().addListener((obs, o, n) -> {
       updatePreview();
       if (onChange != null) onChange.accept(currentSelection());
@@ -81,27 +93,47 @@ public class IconPicker extends VBox {
     });
   }
 
-  private void rebuildGrid() {
-    String q = iconSearch.getText() == null ? "" : iconSearch.getText().trim().toUpperCase();
-    iconGrid.getChildren().clear();
-    for (FontAwesomeIcon icon : FontAwesomeIcon.values()) {
-      if (!q.isEmpty() && !icon.name().contains(q)) continue;
-      FontAwesomeIconView iv = new FontAwesomeIconView(icon);
-      iv.setGlyphSize(36);
-      VBox cell = new VBox(iv);
-      cell.setPadding(new Insets(16));
-      cell.setStyle("-fx-background-color: #f7f7f7; -fx-background-radius: 8px; -fx-border-color: #ccc; -fx-border-radius: 8px;");
-      if (icon.name().equals(selectedIcon)) {
-        cell.setStyle(cell.getStyle() + " -fx-border-color: #667eea;");
-      }
-      cell.addEventHandler(MouseEvent.MOUSE_CLICKED, e -> {
-        selectedIcon = icon.name();
-        previewIcon.setIcon(icon);
-        iconGrid.getChildren().forEach(n -> n.setStyle("-fx-background-color: #f7f7f7; -fx-background-radius: 8px; -fx-border-color: #ccc; -fx-border-radius: 8px;"));
-        cell.setStyle("-fx-background-color: #f7f7f7; -fx-background-radius: 8px; -fx-border-color: #667eea; -fx-border-radius: 8px;");
-        updatePreview();
+  private void select(FontAwesomeIcon icon) {
+    selectedIcon = icon.name();
+    selected.set(icon);
+    previewIcon.setIcon(icon);
+    updatePreview();
+  }
+
+  /**
+   * A reusable grid cell; its border follows the selection instead of being restyled by the picker
+   */
+  private class IconCell extends GridCell<FontAwesomeIcon> {
+    private final FontAwesomeIconView view = new FontAwesomeIconView();
+    private final Tooltip tooltip = new Tooltip();
+
+    IconCell() {
+      view.setGlyphSize(36);
+      setAlignment(Pos.CENTER);
+      selected.addListener((obs, o, n) -> updateStyle());
+      addEventHandler(MouseEvent.MOUSE_CLICKED, e -> {
+        if (getItem() != null) select(getItem());
       });
-      iconGrid.getChildren().add(cell);
+    }
+
+    @Override
+    protected void updateItem(FontAwesomeIcon icon, boolean empty) {
+      super.updateItem(icon, empty);
+      if (empty || icon == null) {
+        setGraphic(null);
+        setTooltip(null);
+      } else {
+        view.setIcon(icon);
+        tooltip.setText(icon.name());
+        setGraphic(view);
+        setTooltip(tooltip);
+      }
+      updateStyle();
+    }
+
+    private void updateStyle() {
+      FontAwesomeIcon icon = getItem();
+      setStyle(icon == null || isEmpty() ? "" : CELL_STYLE + (icon == selected.get() ? "#667eea;" : "#ccc;"));
     }
   }
 
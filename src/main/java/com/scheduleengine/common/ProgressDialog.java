@@ -0,0 +1,42 @@
+package com.scheduleengine.common;
+
+import javafx.concurrent.Task;
+import javafx.concurrent.WorkerStateEvent;
+import javafx.scene.Node;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+
+/**
+ * Utility class for running a task on a background thread behind a progress dialog.
+ */
+public class ProgressDialog {
+
+  /**
+   * Starts the task on a daemon thread and shows a dialog until it finishes. The dialog closes
+   * before the task's own succeeded or failed handler runs, so the handler can show its result.
+   *
+   * @param task       The task to run
+   * @param threadName Name of the worker thread
+   * @param title      Dialog title
+   * @param headerText Dialog header, or null for none
+   * @param content    What the dialog shows while the task runs, e.g. a label and a progress indicator
+   */
+  public static void run(Task<?> task, String threadName, String title, String headerText, Node content) {
+    Dialog<Void> dialog = new Dialog<>();
+    dialog.setTitle(title);
+    dialog.setHeaderText(headerText);
+    dialog.getDialogPane().setContent(content);
+    // A dialog without a cancel-type button cannot be closed; keep it disabled while the task runs
+    dialog.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+    dialog.getDialogPane().lookupButton(ButtonType.CLOSE).disableProperty().bind(task.runningProperty());
+    // Handlers added here run before the task's onSucceeded and onFailed properties
+    task.addEventHandler(WorkerStateEvent.WORKER_STATE_SUCCEEDED, e -> dialog.close());
+    task.addEventHandler(WorkerStateEvent.WORKER_STATE_FAILED, e -> dialog.close());
+    task.addEventHandler(WorkerStateEvent.WORKER_STATE_CANCELLED, e -> dialog.close());
+
+    Thread worker = new Thread(task, threadName);
+    worker.setDaemon(true);
+    worker.start();
+    dialog.show();
+  }
+}
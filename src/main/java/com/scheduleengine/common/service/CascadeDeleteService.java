@@ -0,0 +1,183 @@
+package com.scheduleengine.common.service;
+
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.service.BlackoutService;
+import com.scheduleengine.diagnostics.MetricsConfig;
+import com.scheduleengine.game.service.FreeSlotService;
+import com.scheduleengine.navigation.JpaContextResolver;
+import com.scheduleengine.payment.service.TransactionReportService;
+import com.scheduleengine.search.domain.SearchDocument;
+import com.scheduleengine.search.service.SearchService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Deletes seasons, teams, fields and leagues together with the rows that depend on them. Every
+ * dependent table is cleared with a single bulk statement, so memory use does not grow with the
+ * number of games; only the ids of removed players, teams and seasons are read, to drop them from
+ * the search index once the transaction commits. Removing teams and players changes the payments
+ * report rollups, so those deletes evict the report cache.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class CascadeDeleteService {
+  private static final Logger log = LoggerFactory.getLogger(CascadeDeleteService.class);
+
+  private static final String LEAGUE_TEAMS = "(select t.id from Team t where t.league.id = :id)";
+  private static final String LEAGUE_SEASONS = "(select s.id from Season s where s.league.id = :id)";
+
+  private final EntityManager entityManager;
+  private final SearchService searchService;
+  private final FreeSlotService freeSlotService;
+  private final BlackoutService blackoutService;
+  private final JpaContextResolver contextResolver;
+
+  public CascadeDeleteService(EntityManager entityManager, SearchService searchService,
+                              FreeSlotService freeSlotService, BlackoutService blackoutService,
+                              JpaContextResolver contextResolver) {
+    this.entityManager = entityManager;
+    this.searchService = searchService;
+    this.freeSlotService = freeSlotService;
+    this.blackoutService = blackoutService;
+    this.contextResolver = contextResolver;
+  }
+
+  /**
+   * Rows removed per table, in the order they were deleted
+   */
+  public record DeletionResult(Map<String, Integer> counts) {
+    public int count(String table) {
+      return counts.getOrDefault(table, 0);
+    }
+
+    public int total() {
+      return counts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Non-zero counts for display, e.g. {@code "1,200 games, 1 season"}
+     */
+    public String describe() {
+      return counts.entrySet().stream()
+        .filter(e -> e.getValue() > 0)
+        .map(e -> String.format("%,d %s", e.getValue(), e.getValue() == 1 ? singular(e.getKey()) : e.getKey()))
+        .collect(Collectors.joining(", "));
+    }
+
+    private static String singular(String table) {
+      return table.endsWith("ies") ? table.substring(0, table.length() - 3) + "y"
+        : table.substring(0, table.length() - 1);
+    }
+  }
+
+  @Transactional
+  public DeletionResult deleteSeason(Long seasonId) {
+    Map<String, Integer> counts = new LinkedHashMap<>();
+    counts.put("games", delete("delete from Game g where g.season.id = :id", seasonId));
+    counts.put("blackouts", deleteBlackouts(Blackout.Scope.SEASON, "(:id)", seasonId));
+    counts.put("seasons", delete("delete from Season s where s.id = :id", seasonId));
+    searchService.removeAfterCommit(SearchDocument.Type.SEASON, List.of(seasonId));
+    return finish("season", seasonId, counts);
+  }
+
+  @Transactional
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
+  public DeletionResult deleteTeam(Long teamId) {
+    List<Long> playerIds = ids("select p.id from Player p where p.team.id = :id", teamId);
+    Map<String, Integer> counts = new LinkedHashMap<>();
+    counts.put("games", delete("delete from Game g where g.homeTeam.id = :id or g.awayTeam.id = :id", teamId));
+    counts.put("registrations", delete("delete from TournamentRegistration r where r.team.id = :id", teamId));
+    counts.put("players", delete("delete from Player p where p.team.id = :id", teamId));
+    counts.put("blackouts", deleteBlackouts(Blackout.Scope.TEAM, "(:id)", teamId));
+    counts.put("teams", delete("delete from Team t where t.id = :id", teamId));
+    searchService.removeAfterCommit(SearchDocument.Type.PLAYER, playerIds);
+    searchService.removeAfterCommit(SearchDocument.Type.TEAM, List.of(teamId));
+    return finish("team", teamId, counts);
+  }
+
+  @Transactional
+  public DeletionResult deleteField(Long fieldId) {
+    Map<String, Integer> counts = new LinkedHashMap<>();
+    counts.put("games", delete("delete from Game g where g.field.id = :id", fieldId));
+    counts.put("availability windows", delete("delete from FieldAvailability a where a.field.id = :id", fieldId));
+    counts.put("usage blocks", delete("delete from FieldUsageBlock b where b.field.id = :id", fieldId));
+    counts.put("date exceptions", delete("delete from FieldException x where x.field.id = :id", fieldId));
+    counts.put("blackouts", deleteBlackouts(Blackout.Scope.FIELD, "(:id)", fieldId));
+    counts.put("fields", delete("delete from Field f where f.id = :id", fieldId));
+    searchService.removeAfterCommit(SearchDocument.Type.FIELD, List.of(fieldId));
+    return finish("field", fieldId, counts);
+  }
+
+  /**
+   * Delete a league with its seasons, teams and everything that depends on them
+   *
+   * @throws IllegalStateException if tournaments still belong to the league
+   */
+  @Transactional
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
+  public DeletionResult deleteLeague(Long leagueId) {
+    long tournaments = entityManager.createQuery("select count(t) from Tournament t where t.league.id = :id", Long.class)
+      .setParameter("id", leagueId).getSingleResult();
+    if (tournaments > 0) {
+      throw new IllegalStateException("The league still has " + tournaments
+        + (tournaments == 1 ? " tournament" : " tournaments") + "; delete them first.");
+    }
+    List<Long> playerIds = ids("select p.id from Player p where p.team.id in " + LEAGUE_TEAMS, leagueId);
+    List<Long> teamIds = ids("select t.id from Team t where t.league.id = :id", leagueId);
+    List<Long> seasonIds = ids("select s.id from Season s where s.league.id = :id", leagueId);
+
+    Map<String, Integer> counts = new LinkedHashMap<>();
+    counts.put("games", delete("delete from Game g where g.season.id in " + LEAGUE_SEASONS
+      + " or g.homeTeam.id in " + LEAGUE_TEAMS + " or g.awayTeam.id in " + LEAGUE_TEAMS, leagueId));
+    counts.put("registrations", delete("delete from TournamentRegistration r where r.team.id in " + LEAGUE_TEAMS, leagueId));
+    counts.put("players", delete("delete from Player p where p.team.id in " + LEAGUE_TEAMS, leagueId));
+    counts.put("blackouts", deleteBlackouts(Blackout.Scope.TEAM, LEAGUE_TEAMS, leagueId)
+      + deleteBlackouts(Blackout.Scope.SEASON, LEAGUE_SEASONS, leagueId)
+      + deleteBlackouts(Blackout.Scope.LEAGUE, "(:id)", leagueId));
+    counts.put("teams", delete("delete from Team t where t.league.id = :id", leagueId));
+    counts.put("seasons", delete("delete from Season s where s.league.id = :id", leagueId));
+    counts.put("leagues", delete("delete from League l where l.id = :id", leagueId));
+    searchService.removeAfterCommit(SearchDocument.Type.PLAYER, playerIds);
+    searchService.removeAfterCommit(SearchDocument.Type.TEAM, teamIds);
+    searchService.removeAfterCommit(SearchDocument.Type.SEASON, seasonIds);
+    searchService.removeAfterCommit(SearchDocument.Type.LEAGUE, List.of(leagueId));
+    return finish("league", leagueId, counts);
+  }
+
+  private int delete(String jpql, Long id) {
+    return entityManager.createQuery(jpql).setParameter("id", id).executeUpdate();
+  }
+
+  /**
+   * Blackouts have no foreign key to their owner; delete those of the owners selected by {@code ids}
+   */
+  private int deleteBlackouts(Blackout.Scope scope, String ids, Long id) {
+    return entityManager.createQuery("delete from Blackout b where b.scope = :scope and b.scopeId in " + ids)
+      .setParameter("scope", scope).setParameter("id", id).executeUpdate();
+  }
+
+  private List<Long> ids(String jpql, Long id) {
+    return entityManager.createQuery(jpql, Long.class).setParameter("id", id).getResultList();
+  }
+
+  private DeletionResult finish(String root, Long id, Map<String, Integer> counts) {
+    // Bulk statements bypass the persistence context; drop anything it still holds for these rows
+    entityManager.clear();
+    freeSlotService.invalidateAfterCommit();
+    blackoutService.invalidateAfterCommit();
+    contextResolver.deletedAfterCommit();
+    DeletionResult result = new DeletionResult(counts);
+    log.info("Deleted {} {}: {}", root, id, result.describe());
+    return result;
+  }
+}
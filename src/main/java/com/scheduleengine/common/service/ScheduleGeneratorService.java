@@ -1,27 +1,40 @@
 package com.scheduleengine.common.service;
 
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.domain.BlackoutCalendar;
+import com.scheduleengine.blackout.service.BlackoutService;
+import com.scheduleengine.diagnostics.MetricsConfig;
+import com.scheduleengine.diagnostics.event.ScheduleGeneratedEvent;
 import com.scheduleengine.game.domain.Game;
 import com.scheduleengine.game.service.GameService;
 import com.scheduleengine.league.domain.League;
 import com.scheduleengine.season.domain.Season;
 import com.scheduleengine.team.domain.Team;
 import com.scheduleengine.team.service.TeamService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class ScheduleGeneratorService {
+  /** How many blacked out days in a row a round may be pushed back by */
+  static final int MAX_BLACKED_OUT_DAYS = 366;
 
   private final TeamService teamService;
   private final GameService gameService;
+  private final BlackoutService blackoutService;
 
-  public ScheduleGeneratorService(TeamService teamService, GameService gameService) {
+  public ScheduleGeneratorService(TeamService teamService, GameService gameService, BlackoutService blackoutService) {
     this.teamService = teamService;
     this.gameService = gameService;
+    this.blackoutService = blackoutService;
   }
 
   /**
@@ -30,6 +43,14 @@ public class ScheduleGeneratorService {
    * No Game entities are created; this only returns pairings by round.
    */
   public List<Round> generateRoundRobin(League league, Season season) {
+    ScheduleGeneratedEvent event = new ScheduleGeneratedEvent();
+    event.begin();
+    List<Round> rounds = roundRobin(league);
+    commit(event, league, season, rounds, false);
+    return rounds;
+  }
+
+  private List<Round> roundRobin(League league) {
     if (league == null) throw new IllegalArgumentException("league is required");
     List<Team> teams = new ArrayList<>(teamService.findByLeagueId(league.getId()));
     List<Round> rounds = new ArrayList<>();
@@ -77,17 +98,24 @@ public class ScheduleGeneratorService {
 
   /**
    * Persist a generated schedule as Game rows for the given season. If overwrite is true, existing season games are deleted first.
-   * Dates are assigned sequentially starting today at 6pm, one round per day.
+   * Dates are assigned sequentially starting today at 6pm, one round per day, skipping days blacked
+   * out for the league, the season or any team playing in the round.
+   *
+   * @throws IllegalStateException if a round finds no free day within a year
    */
   public List<Game> generateAndPersist(League league, Season season, boolean overwrite) {
+    ScheduleGeneratedEvent event = new ScheduleGeneratedEvent();
+    event.begin();
     if (overwrite) {
       gameService.deleteBySeasonId(season.getId());
     }
-    List<Round> rounds = generateRoundRobin(league, season);
+    List<Round> rounds = roundRobin(league);
     List<Game> created = new ArrayList<>();
-    LocalDateTime base = LocalDateTime.now().withHour(18).withMinute(0).withSecond(0).withNano(0);
+    BlackoutCalendar blackouts = blackoutService.calendar();
+    LocalDateTime roundDate = LocalDateTime.now().withHour(18).withMinute(0).withSecond(0).withNano(0);
     for (Round r : rounds) {
-      LocalDateTime roundDate = base.plusDays(r.roundNumber() - 1);
+      if (r.roundNumber() > 1) roundDate = roundDate.plusDays(1);
+      roundDate = firstFreeDay(blackouts, league, season, r, roundDate);
       for (Match m : r.matches()) {
         Game g = new Game();
         g.setSeason(season);
@@ -98,9 +126,49 @@ public class ScheduleGeneratorService {
         created.add(gameService.save(g));
       }
     }
+    commit(event, league, season, rounds, true);
     return created;
   }
 
+  private static LocalDateTime firstFreeDay(BlackoutCalendar blackouts, League league, Season season, Round round,
+                                            LocalDateTime from) {
+    if (blackouts.isEmpty()) return from;
+    for (int skipped = 0; skipped <= MAX_BLACKED_OUT_DAYS; skipped++) {
+      LocalDateTime candidate = from.plusDays(skipped);
+      if (!isBlackedOut(blackouts, league, season, round, candidate.toLocalDate())) return candidate;
+    }
+    throw new IllegalStateException("Round " + round.roundNumber() + " has no day free of blackouts within a year of "
+      + from.toLocalDate());
+  }
+
+  private static boolean isBlackedOut(BlackoutCalendar blackouts, League league, Season season, Round round,
+                                      LocalDate date) {
+    if (blackouts.isBlackedOut(Blackout.Scope.LEAGUE, league.getId(), date)) return true;
+    if (season != null && blackouts.isBlackedOut(Blackout.Scope.SEASON, season.getId(), date)) return true;
+    for (Match m : round.matches()) {
+      if (blackouts.isBlackedOut(Blackout.Scope.TEAM, m.home().getId(), date)
+        || blackouts.isBlackedOut(Blackout.Scope.TEAM, m.away().getId(), date)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void commit(ScheduleGeneratedEvent event, League league, Season season, List<Round> rounds,
+                             boolean persisted) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.leagueId = league.getId() == null ? 0 : league.getId();
+      event.seasonId = season == null || season.getId() == null ? 0 : season.getId();
+      event.teamCount = (int) rounds.stream().flatMap(r -> r.matches().stream())
+        .flatMap(m -> Stream.of(m.home(), m.away())).distinct().count();
+      event.rounds = rounds.size();
+      event.matches = rounds.stream().mapToInt(r -> r.matches().size()).sum();
+      event.persisted = persisted;
+      event.commit();
+    }
+  }
+
   public record Match(Team home, Team away) {
   }
 
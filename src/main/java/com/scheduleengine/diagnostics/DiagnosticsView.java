@@ -0,0 +1,227 @@
+package com.scheduleengine.diagnostics;
+
+import com.scheduleengine.diagnostics.domain.FxStall;
+import com.scheduleengine.diagnostics.domain.QueryTiming;
+import com.scheduleengine.diagnostics.domain.ServiceTiming;
+import com.scheduleengine.diagnostics.domain.Stat;
+import com.scheduleengine.diagnostics.service.DiagnosticsService;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.*;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
+
+import java.io.File;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Shows where time goes inside the running app: service method timings, Hibernate query and cache
+ * statistics, connection pool state, JavaFX frame timing and FX thread stalls. Values are read when the view opens
+ * and on Refresh; they can be exported to a file, or captured as a flight recording, to attach to a
+ * bug report.
+ */
+public class DiagnosticsView {
+  private static final DateTimeFormatter STALL_TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+  private final DiagnosticsService diagnosticsService;
+  private final ObservableList<ServiceTiming> services = FXCollections.observableArrayList();
+  private final ObservableList<QueryTiming> queries = FXCollections.observableArrayList();
+  private final ObservableList<Stat> slowQueries = FXCollections.observableArrayList();
+  private final ObservableList<Stat> hibernate = FXCollections.observableArrayList();
+  private final ObservableList<Stat> pool = FXCollections.observableArrayList();
+  private final ObservableList<Stat> frames = FXCollections.observableArrayList();
+  private final ObservableList<FxStall> stalls = FXCollections.observableArrayList();
+
+  public DiagnosticsView(DiagnosticsService diagnosticsService) {
+    this.diagnosticsService = diagnosticsService;
+  }
+
+  public VBox getView() {
+    VBox container = new VBox(10);
+    container.setPadding(new Insets(15));
+
+    Label title = new Label("Diagnostics");
+    title.setStyle("-fx-font-size: 18px; -fx-font-weight: bold;");
+
+    Button refreshBtn = new Button("Refresh");
+    refreshBtn.setOnAction(e -> refresh());
+    Button exportJsonBtn = new Button("Export JSON");
+    exportJsonBtn.setOnAction(e -> export(DiagnosticsService.ExportFormat.JSON));
+    Button exportPrometheusBtn = new Button("Export Prometheus");
+    exportPrometheusBtn.setOnAction(e -> export(DiagnosticsService.ExportFormat.PROMETHEUS));
+    Button recordingBtn = new Button();
+    updateRecordingButton(recordingBtn);
+    recordingBtn.setOnAction(e -> toggleRecording(recordingBtn));
+    HBox controls = new HBox(10, refreshBtn, exportJsonBtn, exportPrometheusBtn, recordingBtn);
+    controls.setAlignment(Pos.CENTER_LEFT);
+
+    TableView<ServiceTiming> serviceTable = new TableView<>(services);
+    serviceTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+    serviceTable.setPlaceholder(new Label("No service calls recorded yet"));
+    serviceTable.getColumns().setAll(
+      column("Service", ServiceTiming::service),
+      column("Method", ServiceTiming::method),
+      numberColumn("Calls", ServiceTiming::calls),
+      numberColumn("Failures", ServiceTiming::failures),
+      numberColumn("Total ms", t -> round(t.totalMs())),
+      numberColumn("Mean ms", t -> round(t.meanMs())),
+      numberColumn("Max ms", t -> round(t.maxMs())));
+
+    TableView<QueryTiming> queryTable = new TableView<>(queries);
+    queryTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+    queryTable.setPlaceholder(new Label("No queries recorded yet"));
+    TableColumn<QueryTiming, String> queryCol = column("Query", QueryTiming::query);
+    queryCol.setPrefWidth(600);
+    queryTable.getColumns().setAll(
+      queryCol,
+      numberColumn("Executions", QueryTiming::executions),
+      numberColumn("Rows", QueryTiming::rows),
+      numberColumn("Mean ms", t -> round(t.meanMs())),
+      numberColumn("Max ms", QueryTiming::maxMs),
+      numberColumn("Total ms", QueryTiming::totalMs));
+
+    TabPane tabs = new TabPane(
+      new Tab("Services", serviceTable),
+      new Tab("Queries", queryTable),
+      new Tab("Slow Queries", statTable(slowQueries, "Query", "Slowest")),
+      new Tab("Hibernate", statTable(hibernate, "Statistic", "Value")),
+      new Tab("Connection Pool", statTable(pool, "Statistic", "Value")),
+      new Tab("FX Frames", statTable(frames, "Statistic", "Value")),
+      new Tab("FX Stalls", createStallPane()));
+    tabs.setTabClosingPolicy(TabPane.TabClosingPolicy.UNAVAILABLE);
+    VBox.setVgrow(tabs, Priority.ALWAYS);
+
+    container.getChildren().addAll(title, controls, tabs);
+    // Record frame timing only while the view is on screen
+    container.sceneProperty().addListener((obs, oldScene, newScene) -> {
+      if (newScene != null) {
+        diagnosticsService.startFrameRecording();
+      } else {
+        diagnosticsService.stopFrameRecording();
+      }
+    });
+    refresh();
+    return container;
+  }
+
+  public void refresh() {
+    services.setAll(diagnosticsService.serviceTimings());
+    queries.setAll(diagnosticsService.queryTimings());
+    slowQueries.setAll(diagnosticsService.slowQueries());
+    hibernate.setAll(diagnosticsService.hibernateStats());
+    pool.setAll(diagnosticsService.poolStats());
+    frames.setAll(diagnosticsService.frameStats());
+    stalls.setAll(diagnosticsService.fxStalls());
+  }
+
+  /**
+   * Stall list with the captured stack of the selected stall, and a button to copy the whole log
+   */
+  private VBox createStallPane() {
+    TableView<FxStall> stallTable = new TableView<>(stalls);
+    stallTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+    stallTable.setPlaceholder(new Label("No stalls recorded"));
+    stallTable.getColumns().setAll(
+      column("Started", s -> STALL_TIME.format(s.startedAt())),
+      numberColumn("Duration ms", FxStall::durationMs),
+      column("View", s -> s.view() == null ? "" : s.view()),
+      column("Service", s -> s.serviceMethod() == null ? "" : s.serviceMethod()));
+
+    TextArea stackArea = new TextArea();
+    stackArea.setEditable(false);
+    stackArea.setPrefRowCount(10);
+    stackArea.setStyle("-fx-font-family: monospace;");
+    stallTable.getSelectionModel().selectedItemProperty().addListener((obs, old, stall) ->
+      stackArea.setText(stall == null ? "" : String.join("\n", stall.stack())));
+
+    Button copyBtn = new Button("Copy Stall Log");
+    copyBtn.setOnAction(e -> {
+      ClipboardContent content = new ClipboardContent();
+      content.putString(diagnosticsService.fxStallLog());
+      Clipboard.getSystemClipboard().setContent(content);
+    });
+
+    VBox.setVgrow(stallTable, Priority.ALWAYS);
+    VBox pane = new VBox(8, copyBtn, stallTable, stackArea);
+    pane.setPadding(new Insets(8, 0, 0, 0));
+    return pane;
+  }
+
+  private void export(DiagnosticsService.ExportFormat format) {
+    FileChooser chooser = new FileChooser();
+    chooser.setTitle("Export Diagnostics");
+    chooser.setInitialFileName("schedule-engine-diagnostics." + format.getExtension());
+    File file = chooser.showSaveDialog(null);
+    if (file == null) return;
+    try {
+      diagnosticsService.export(file.toPath(), format);
+    } catch (Exception ex) {
+      Alert alert = new Alert(Alert.AlertType.ERROR, "Export failed: " + ex.getMessage());
+      alert.showAndWait();
+    }
+  }
+
+  /**
+   * Start a flight recording, or stop the running one and save it where the user chooses
+   */
+  private void toggleRecording(Button recordingBtn) {
+    try {
+      if (!diagnosticsService.isRecording()) {
+        diagnosticsService.startRecording();
+      } else {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Save Flight Recording");
+        chooser.setInitialFileName("schedule-engine.jfr");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Flight Recording", "*.jfr"));
+        File file = chooser.showSaveDialog(null);
+        if (file == null) return; // keep recording
+        diagnosticsService.stopRecording(file.toPath());
+      }
+    } catch (Exception ex) {
+      Alert alert = new Alert(Alert.AlertType.ERROR, "Flight recording failed: " + ex.getMessage());
+      alert.showAndWait();
+    }
+    updateRecordingButton(recordingBtn);
+  }
+
+  private void updateRecordingButton(Button recordingBtn) {
+    boolean recording = diagnosticsService.isRecording();
+    recordingBtn.setText(recording ? "Stop Recording..." : "Start Flight Recording");
+    recordingBtn.setStyle(recording ? "-fx-background-color: #e74c3c; -fx-text-fill: white;" : "");
+  }
+
+  private TableView<Stat> statTable(ObservableList<Stat> rows, String nameHeader, String valueHeader) {
+    TableView<Stat> table = new TableView<>(rows);
+    table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+    table.setPlaceholder(new Label("Nothing recorded"));
+    table.getColumns().setAll(List.of(column(nameHeader, Stat::name), column(valueHeader, Stat::value)));
+    return table;
+  }
+
+  private static <S> TableColumn<S, String> column(String header, Function<S, String> value) {
+    TableColumn<S, String> col = new TableColumn<>(header);
+    col.setCellValueFactory(c -> new ReadOnlyStringWrapper(value.apply(c.getValue())));
+    return col;
+  }
+
+  private static <S, T extends Number> TableColumn<S, T> numberColumn(String header, Function<S, T> value) {
+    TableColumn<S, T> col = new TableColumn<>(header);
+    col.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(value.apply(c.getValue())));
+    col.setStyle("-fx-alignment: CENTER-RIGHT;");
+    return col;
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 10) / 10.0;
+  }
+}
@@ -0,0 +1,20 @@
+package com.scheduleengine.diagnostics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@code @Timed} on service classes. Every public method of an annotated service records a
+ * timer tagged with its class, method and any exception thrown, which the diagnostics view reads back.
+ */
+@Configuration
+public class MetricsConfig {
+  public static final String SERVICE_TIMER = "scheduleengine.service";
+
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry registry) {
+    return new TimedAspect(registry);
+  }
+}
@@ -0,0 +1,60 @@
+package com.scheduleengine.diagnostics;
+
+import com.scheduleengine.diagnostics.event.RepositoryQueryEvent;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Emits a {@link RepositoryQueryEvent} for every repository call while a flight recording is running.
+ * Outside a recording the event is disabled and the call goes straight through.
+ */
+@Aspect
+@Component
+public class RepositoryQueryEventAspect {
+
+  @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+  public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+    RepositoryQueryEvent event = new RepositoryQueryEvent();
+    if (!event.isEnabled()) {
+      return joinPoint.proceed();
+    }
+    event.begin();
+    Object result = null;
+    try {
+      result = joinPoint.proceed();
+      return result;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.method = repositoryName(joinPoint.getTarget()) + "." + joinPoint.getSignature().getName();
+        event.rowCount = rowCount(result);
+        event.commit();
+      }
+    }
+  }
+
+  private static String repositoryName(Object target) {
+    for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(target)) {
+      if (type.getName().startsWith("com.scheduleengine.")) {
+        return type.getSimpleName();
+      }
+    }
+    return target.getClass().getSimpleName();
+  }
+
+  private static int rowCount(Object result) {
+    if (result instanceof Collection<?> c) return c.size();
+    if (result instanceof Slice<?> s) return s.getNumberOfElements();
+    if (result instanceof Window<?> w) return w.size();
+    if (result instanceof Optional<?> o) return o.isPresent() ? 1 : 0;
+    return -1;
+  }
+}
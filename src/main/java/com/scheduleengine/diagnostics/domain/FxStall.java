@@ -0,0 +1,14 @@
+package com.scheduleengine.diagnostics.domain;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A period during which the JavaFX application thread did not process events
+ *
+ * @param view          the view class and method on the FX thread's stack when the stall was sampled
+ * @param serviceMethod the service method that view called, if any
+ * @param stack         the FX thread's stack when the stall was first detected
+ */
+public record FxStall(Instant startedAt, long durationMs, String view, String serviceMethod, List<String> stack) {
+}
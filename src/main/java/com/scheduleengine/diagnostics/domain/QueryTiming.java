@@ -0,0 +1,7 @@
+package com.scheduleengine.diagnostics.domain;
+
+/**
+ * Hibernate statistics for one HQL/JPQL query string
+ */
+public record QueryTiming(String query, long executions, long rows, double meanMs, long maxMs, long totalMs) {
+}
@@ -0,0 +1,10 @@
+package com.scheduleengine.diagnostics.domain;
+
+/**
+ * Accumulated timings of one service method since startup
+ *
+ * @param failures calls that ended in an exception
+ */
+public record ServiceTiming(String service, String method, long calls, long failures,
+                            double totalMs, double meanMs, double maxMs) {
+}
@@ -0,0 +1,15 @@
+package com.scheduleengine.diagnostics.domain;
+
+/**
+ * A named, already formatted value shown in the diagnostics view
+ */
+public record Stat(String name, String value) {
+
+  public static Stat of(String name, long value) {
+    return new Stat(name, String.valueOf(value));
+  }
+
+  public static Stat ofMillis(String name, double value) {
+    return new Stat(name, String.format("%.1f ms", value));
+  }
+}
@@ -0,0 +1,48 @@
+package com.scheduleengine.diagnostics.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A chunk of rows read and saved by a CSV import
+ */
+@Name("com.scheduleengine.CsvImportChunk")
+@Label("CSV Import Chunk")
+@Category({"Schedule Engine", "Import"})
+@Description("Rows parsed and saved by a CSV import")
+@StackTrace(false)
+public class CsvImportChunkEvent extends jdk.jfr.Event {
+  @Label("Source")
+  public String source;
+
+  @Label("Chunk")
+  public int chunk;
+
+  @Label("Rows")
+  public int rows;
+
+  /**
+   * Begin timing the next chunk of an import
+   */
+  public static CsvImportChunkEvent start(String source, int chunk) {
+    CsvImportChunkEvent event = new CsvImportChunkEvent();
+    event.source = source;
+    event.chunk = chunk;
+    event.begin();
+    return event;
+  }
+
+  /**
+   * End the chunk and record it with the number of rows it held
+   */
+  public void finish(int rows) {
+    end();
+    if (shouldCommit()) {
+      this.rows = rows;
+      commit();
+    }
+  }
+}
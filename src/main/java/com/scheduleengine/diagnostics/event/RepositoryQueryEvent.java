@@ -0,0 +1,22 @@
+package com.scheduleengine.diagnostics.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One call to a Spring Data repository method. The stack trace shows which view or service issued it.
+ */
+@Name("com.scheduleengine.RepositoryQuery")
+@Label("Repository Query")
+@Category({"Schedule Engine", "Persistence"})
+@Description("Spring Data repository call with the number of rows returned")
+public class RepositoryQueryEvent extends jdk.jfr.Event {
+  @Label("Method")
+  public String method;
+
+  @Label("Rows")
+  @Description("Rows returned, or -1 when the result is not a row set")
+  public int rowCount;
+}
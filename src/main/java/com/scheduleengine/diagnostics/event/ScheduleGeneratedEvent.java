@@ -0,0 +1,34 @@
+package com.scheduleengine.diagnostics.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A round-robin schedule was generated, and optionally persisted as games. The event duration is the
+ * time taken, including the database writes when persisted.
+ */
+@Name("com.scheduleengine.ScheduleGenerated")
+@Label("Schedule Generated")
+@Category({"Schedule Engine", "Scheduling"})
+@Description("Round-robin schedule generation")
+public class ScheduleGeneratedEvent extends jdk.jfr.Event {
+  @Label("League Id")
+  public long leagueId;
+
+  @Label("Season Id")
+  public long seasonId;
+
+  @Label("Teams")
+  public int teamCount;
+
+  @Label("Rounds")
+  public int rounds;
+
+  @Label("Matches")
+  public int matches;
+
+  @Label("Persisted")
+  public boolean persisted;
+}
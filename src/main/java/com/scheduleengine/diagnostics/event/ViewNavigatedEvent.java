@@ -0,0 +1,24 @@
+package com.scheduleengine.diagnostics.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Navigation between views; the event duration is the time spent building and loading the new view
+ * on the FX thread.
+ */
+@Name("com.scheduleengine.ViewNavigated")
+@Label("View Navigated")
+@Category({"Schedule Engine", "UI"})
+@Description("Time to build and show a view")
+@StackTrace(false)
+public class ViewNavigatedEvent extends jdk.jfr.Event {
+  @Label("From View")
+  public String fromView;
+
+  @Label("To View")
+  public String toView;
+}
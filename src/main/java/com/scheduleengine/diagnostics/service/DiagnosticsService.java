@@ -0,0 +1,366 @@
+package com.scheduleengine.diagnostics.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scheduleengine.diagnostics.MetricsConfig;
+import com.scheduleengine.diagnostics.domain.FxStall;
+import com.scheduleengine.diagnostics.domain.QueryTiming;
+import com.scheduleengine.diagnostics.domain.ServiceTiming;
+import com.scheduleengine.diagnostics.domain.Stat;
+import com.scheduleengine.diagnostics.event.CsvImportChunkEvent;
+import com.scheduleengine.diagnostics.event.RepositoryQueryEvent;
+import com.scheduleengine.diagnostics.event.ScheduleGeneratedEvent;
+import com.scheduleengine.diagnostics.event.ViewNavigatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import javafx.application.Platform;
+import jakarta.persistence.EntityManagerFactory;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads back the application's hot-path metrics: service method timers, Hibernate statistics,
+ * connection pool meters, JavaFX frame timing and FX thread stalls, and exports them for bug reports. Also starts and
+ * stops Java Flight Recorder recordings so a slow episode can be captured and analyzed offline.
+ */
+@Service
+public class DiagnosticsService {
+  static final int MAX_QUERIES = 50;
+  static final List<Class<? extends Event>> APPLICATION_EVENTS = List.of(
+    ScheduleGeneratedEvent.class, ViewNavigatedEvent.class, RepositoryQueryEvent.class, CsvImportChunkEvent.class);
+
+  public enum ExportFormat {
+    JSON("json"),
+    PROMETHEUS("prom");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+      this.extension = extension;
+    }
+
+    public String getExtension() {
+      return extension;
+    }
+  }
+
+  private final MeterRegistry registry;
+  private final EntityManagerFactory entityManagerFactory;
+  private final ObjectProvider<PrometheusMeterRegistry> prometheusRegistry;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Duration stallThreshold;
+  private FxPulseMonitor pulseMonitor;
+  private FxStallWatchdog stallWatchdog;
+  private Recording recording;
+
+  public DiagnosticsService(MeterRegistry registry,
+                            EntityManagerFactory entityManagerFactory,
+                            ObjectProvider<PrometheusMeterRegistry> prometheusRegistry,
+                            @Value("${diagnostics.fx-stall-threshold:250ms}") Duration stallThreshold) {
+    this.registry = registry;
+    this.entityManagerFactory = entityManagerFactory;
+    this.prometheusRegistry = prometheusRegistry;
+    this.stallThreshold = stallThreshold;
+  }
+
+  /**
+   * Start watching the FX thread for stalls. Must be called on the JavaFX application thread.
+   */
+  public void startFxMonitoring() {
+    if (stallWatchdog == null) {
+      stallWatchdog = new FxStallWatchdog(Thread.currentThread(), Platform::runLater, stallThreshold, registry);
+      stallWatchdog.start();
+    }
+  }
+
+  /**
+   * Start recording FX pulse intervals, e.g. while the Diagnostics view is shown. Must be called on
+   * the JavaFX application thread.
+   */
+  public void startFrameRecording() {
+    if (pulseMonitor == null) pulseMonitor = new FxPulseMonitor(registry);
+    pulseMonitor.start();
+  }
+
+  /**
+   * Stop recording FX pulse intervals, so an idle scene no longer pulses every frame. Must be called
+   * on the JavaFX application thread.
+   */
+  public void stopFrameRecording() {
+    if (pulseMonitor != null) pulseMonitor.stop();
+  }
+
+  /**
+   * FX thread stalls longer than the threshold, most recent first
+   */
+  public List<FxStall> fxStalls() {
+    if (stallWatchdog == null) return List.of();
+    List<FxStall> stalls = new ArrayList<>(stallWatchdog.stalls());
+    Collections.reverse(stalls);
+    return stalls;
+  }
+
+  /**
+   * The stall log as plain text with full stack traces, for pasting into a bug report
+   */
+  public String fxStallLog() {
+    StringBuilder sb = new StringBuilder();
+    for (FxStall stall : fxStalls()) {
+      sb.append(stall.startedAt()).append("  ").append(stall.durationMs()).append(" ms")
+        .append("  view=").append(stall.view() == null ? "?" : stall.view())
+        .append("  service=").append(stall.serviceMethod() == null ? "-" : stall.serviceMethod())
+        .append('\n');
+      stall.stack().forEach(frame -> sb.append("    at ").append(frame).append('\n'));
+      sb.append('\n');
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Start a flight recording using the JDK "profile" settings plus the application's own events.
+   * Does nothing if a recording is already running.
+   */
+  public synchronized void startRecording() throws IOException, ParseException {
+    if (recording != null) return;
+    Recording started = new Recording(Configuration.getConfiguration("profile"));
+    started.setName("schedule-engine");
+    started.setToDisk(true);
+    for (Class<? extends Event> event : APPLICATION_EVENTS) {
+      started.enable(event);
+    }
+    started.start();
+    recording = started;
+  }
+
+  public synchronized boolean isRecording() {
+    return recording != null;
+  }
+
+  /**
+   * Stop the running recording and write it to the given .jfr file
+   *
+   * @throws IllegalStateException if no recording is running
+   */
+  public synchronized void stopRecording(Path file) throws IOException {
+    if (recording == null) throw new IllegalStateException("No recording in progress");
+    try {
+      recording.stop();
+      recording.dump(file);
+    } finally {
+      recording.close();
+      recording = null;
+    }
+  }
+
+  @PreDestroy
+  synchronized void close() {
+    if (recording != null) {
+      recording.close();
+      recording = null;
+    }
+    if (stallWatchdog != null) {
+      stallWatchdog.stop();
+    }
+  }
+
+  /**
+   * Timings of every {@code @Timed} service method called so far, slowest in total first
+   */
+  public List<ServiceTiming> serviceTimings() {
+    Map<String, List<Timer>> byMethod = new LinkedHashMap<>();
+    for (Timer timer : registry.find(MetricsConfig.SERVICE_TIMER).timers()) {
+      String key = timer.getId().getTag("class") + "#" + timer.getId().getTag("method");
+      byMethod.computeIfAbsent(key, k -> new ArrayList<>()).add(timer);
+    }
+
+    List<ServiceTiming> timings = new ArrayList<>();
+    byMethod.values().forEach(timers -> {
+      Timer first = timers.get(0);
+      long calls = 0;
+      long failures = 0;
+      double totalMs = 0;
+      double maxMs = 0;
+      for (Timer timer : timers) {
+        calls += timer.count();
+        String exception = timer.getId().getTag("exception");
+        if (exception != null && !"none".equals(exception)) {
+          failures += timer.count();
+        }
+        totalMs += timer.totalTime(TimeUnit.MILLISECONDS);
+        maxMs = Math.max(maxMs, timer.max(TimeUnit.MILLISECONDS));
+      }
+      timings.add(new ServiceTiming(simpleName(first.getId().getTag("class")), first.getId().getTag("method"),
+        calls, failures, totalMs, calls == 0 ? 0 : totalMs / calls, maxMs));
+    });
+    timings.sort(Comparator.comparingDouble(ServiceTiming::totalMs).reversed());
+    return timings;
+  }
+
+  /**
+   * Query counts, loads and cache hit ratios collected by Hibernate
+   */
+  public List<Stat> hibernateStats() {
+    Statistics stats = statistics();
+    if (!stats.isStatisticsEnabled()) {
+      return List.of(new Stat("Statistics", "disabled (hibernate.generate_statistics)"));
+    }
+    return List.of(
+      Stat.of("Queries executed", stats.getQueryExecutionCount()),
+      new Stat("Slowest query", stats.getQueryExecutionMaxTime() + " ms"),
+      Stat.of("Statements prepared", stats.getPrepareStatementCount()),
+      Stat.of("Entities loaded", stats.getEntityLoadCount()),
+      Stat.of("Entities fetched", stats.getEntityFetchCount()),
+      Stat.of("Collections fetched", stats.getCollectionFetchCount()),
+      Stat.of("Transactions", stats.getTransactionCount()),
+      new Stat("Second-level cache hit ratio",
+        ratio(stats.getSecondLevelCacheHitCount(), stats.getSecondLevelCacheMissCount())),
+      new Stat("Query cache hit ratio", ratio(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()))
+    );
+  }
+
+  /**
+   * Per-query statistics, most total time first
+   */
+  public List<QueryTiming> queryTimings() {
+    Statistics stats = statistics();
+    List<QueryTiming> timings = new ArrayList<>();
+    for (String query : stats.getQueries()) {
+      QueryStatistics q = stats.getQueryStatistics(query);
+      timings.add(new QueryTiming(query, q.getExecutionCount(), q.getExecutionRowCount(),
+        q.getExecutionAvgTimeAsDouble(), q.getExecutionMaxTime(), q.getExecutionTotalTime()));
+    }
+    timings.sort(Comparator.comparingLong(QueryTiming::totalMs).reversed());
+    return timings.size() > MAX_QUERIES ? timings.subList(0, MAX_QUERIES) : timings;
+  }
+
+  /**
+   * Queries that exceeded hibernate.log_slow_query, with their slowest time
+   */
+  public List<Stat> slowQueries() {
+    return statistics().getSlowQueries().entrySet().stream()
+      .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+      .map(e -> new Stat(e.getKey(), e.getValue() + " ms"))
+      .toList();
+  }
+
+  /**
+   * HikariCP connection pool state
+   */
+  public List<Stat> poolStats() {
+    List<Stat> stats = new ArrayList<>();
+    stats.add(gauge("Active connections", "hikaricp.connections.active"));
+    stats.add(gauge("Idle connections", "hikaricp.connections.idle"));
+    stats.add(gauge("Threads waiting", "hikaricp.connections.pending"));
+    stats.add(gauge("Maximum connections", "hikaricp.connections.max"));
+    Timer acquire = registry.find("hikaricp.connections.acquire").timer();
+    if (acquire != null) {
+      stats.add(Stat.ofMillis("Mean connection wait", acquire.mean(TimeUnit.MILLISECONDS)));
+      stats.add(Stat.ofMillis("Max connection wait", acquire.max(TimeUnit.MILLISECONDS)));
+    }
+    Timer usage = registry.find("hikaricp.connections.usage").timer();
+    if (usage != null) {
+      stats.add(Stat.ofMillis("Mean connection hold", usage.mean(TimeUnit.MILLISECONDS)));
+    }
+    Counter timeouts = registry.find("hikaricp.connections.timeout").counter();
+    stats.add(Stat.of("Connection timeouts", timeouts == null ? 0 : (long) timeouts.count()));
+    return stats;
+  }
+
+  /**
+   * JavaFX pulse intervals recorded while frame recording was on
+   */
+  public List<Stat> frameStats() {
+    Timer frames = registry.find(FxPulseMonitor.FRAME_TIMER).timer();
+    if (frames == null || frames.count() == 0) {
+      return List.of(new Stat("Pulses", "not recorded"));
+    }
+    List<Stat> stats = new ArrayList<>();
+    double mean = frames.mean(TimeUnit.MILLISECONDS);
+    stats.add(Stat.of("Pulses", frames.count()));
+    stats.add(new Stat("Average frame rate", String.format("%.1f fps", mean > 0 ? 1000 / mean : 0)));
+    stats.add(Stat.ofMillis("Mean frame interval", mean));
+    for (ValueAtPercentile p : frames.takeSnapshot().percentileValues()) {
+      stats.add(Stat.ofMillis(String.format("p%.0f frame interval", p.percentile() * 100), p.value(TimeUnit.MILLISECONDS)));
+    }
+    stats.add(Stat.ofMillis("Longest recent stall", frames.max(TimeUnit.MILLISECONDS)));
+    Counter slow = registry.find(FxPulseMonitor.SLOW_FRAMES).counter();
+    stats.add(Stat.of("Frames over " + FxPulseMonitor.SLOW_FRAME.toMillis() + " ms", slow == null ? 0 : (long) slow.count()));
+    Timer stalls = registry.find(FxStallWatchdog.STALL_TIMER).timer();
+    stats.add(Stat.of("Stalls over " + stallThreshold.toMillis() + " ms", stalls == null ? 0 : stalls.count()));
+    return stats;
+  }
+
+  public String toJson() throws IOException {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("generatedAt", Instant.now().toString());
+    report.put("services", serviceTimings());
+    report.put("hibernate", hibernateStats());
+    report.put("queries", queryTimings());
+    report.put("slowQueries", slowQueries());
+    report.put("connectionPool", poolStats());
+    report.put("fxFrames", frameStats());
+    report.put("fxStalls", fxStalls());
+    return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+  }
+
+  /**
+   * Every registered meter in the Prometheus text exposition format
+   *
+   * @throws IllegalStateException if the Prometheus registry is not configured
+   */
+  public String toPrometheus() {
+    PrometheusMeterRegistry prometheus = prometheusRegistry.getIfAvailable();
+    if (prometheus == null) {
+      throw new IllegalStateException("Prometheus registry not available");
+    }
+    return prometheus.scrape();
+  }
+
+  public void export(Path file, ExportFormat format) throws IOException {
+    Files.writeString(file, format == ExportFormat.JSON ? toJson() : toPrometheus());
+  }
+
+  private Statistics statistics() {
+    return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  private Stat gauge(String label, String name) {
+    Gauge gauge = registry.find(name).gauge();
+    return gauge == null ? new Stat(label, "n/a") : Stat.of(label, (long) gauge.value());
+  }
+
+  private static String ratio(long hits, long misses) {
+    long total = hits + misses;
+    if (total == 0) return "n/a";
+    return String.format("%.1f%% (%d hits, %d misses)", 100.0 * hits / total, hits, misses);
+  }
+
+  private static String simpleName(String className) {
+    return className == null ? "" : className.substring(className.lastIndexOf('.') + 1);
+  }
+}
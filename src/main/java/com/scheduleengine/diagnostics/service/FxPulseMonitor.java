@@ -0,0 +1,53 @@
+package com.scheduleengine.diagnostics.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import javafx.animation.AnimationTimer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the time between JavaFX pulses. While the FX thread is free a pulse arrives about every
+ * 16 ms; a longer interval is time the UI was frozen by work on the FX thread. A running timer makes
+ * JavaFX pulse every frame even when nothing changes, so it only runs while someone is looking.
+ */
+class FxPulseMonitor extends AnimationTimer {
+  static final String FRAME_TIMER = "fx.frame.interval";
+  static final String SLOW_FRAMES = "fx.frame.slow";
+  static final Duration SLOW_FRAME = Duration.ofMillis(50);
+
+  private final Timer frames;
+  private final Counter slowFrames;
+  private long lastPulse;
+
+  FxPulseMonitor(MeterRegistry registry) {
+    this.frames = Timer.builder(FRAME_TIMER)
+      .description("Interval between JavaFX pulses")
+      .publishPercentiles(0.5, 0.95, 0.99)
+      .register(registry);
+    this.slowFrames = Counter.builder(SLOW_FRAMES)
+      .description("Pulses that arrived more than " + SLOW_FRAME.toMillis() + " ms after the previous one")
+      .register(registry);
+  }
+
+  @Override
+  public void handle(long now) {
+    if (lastPulse > 0) {
+      long interval = now - lastPulse;
+      frames.record(interval, TimeUnit.NANOSECONDS);
+      if (interval > SLOW_FRAME.toNanos()) {
+        slowFrames.increment();
+      }
+    }
+    lastPulse = now;
+  }
+
+  @Override
+  public void stop() {
+    super.stop();
+    // The time until the next start is not a frame
+    lastPulse = 0;
+  }
+}
@@ -0,0 +1,152 @@
+package com.scheduleengine.diagnostics.service;
+
+import com.scheduleengine.diagnostics.domain.FxStall;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the JavaFX application thread from a background thread. A ping is posted to the FX thread
+ * and, if it is not handled within the threshold, the FX thread's stack is captured. When the ping
+ * is finally handled the stall is logged with its duration and attributed to the view and service
+ * method on that stack. The log keeps the most recent stalls only.
+ */
+class FxStallWatchdog {
+  static final String STALL_TIMER = "fx.stall";
+  static final Duration SAMPLE_INTERVAL = Duration.ofMillis(50);
+  static final int LOG_CAPACITY = 100;
+  private static final String APP_PACKAGE = "com.scheduleengine.";
+
+  private final Thread fxThread;
+  private final Executor fxExecutor;
+  private final long thresholdNanos;
+  private final Timer stalls;
+  private final Deque<FxStall> log = new ArrayDeque<>();
+  private ScheduledExecutorService scheduler;
+
+  // Ping state: written by the FX thread when the ping runs, read by the watchdog thread
+  private volatile boolean pingPending;
+  private volatile long pingAnsweredAt;
+  // Stall in progress; only touched by the watchdog thread
+  private long pingSentAt;
+  private StackTraceElement[] stalledStack;
+
+  /**
+   * @param fxThread   the thread to sample
+   * @param fxExecutor runs pings on that thread, normally {@code Platform::runLater}
+   */
+  FxStallWatchdog(Thread fxThread, Executor fxExecutor, Duration threshold, MeterRegistry registry) {
+    this.fxThread = fxThread;
+    this.fxExecutor = fxExecutor;
+    this.thresholdNanos = threshold.toNanos();
+    this.stalls = Timer.builder(STALL_TIMER)
+      .description("Periods the JavaFX thread stopped handling events for longer than " + threshold.toMillis() + " ms")
+      .register(registry);
+  }
+
+  synchronized void start() {
+    if (scheduler != null) return;
+    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "fx-watchdog");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(this::tick, 0, SAMPLE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  synchronized void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  void tick() {
+    long now = System.nanoTime();
+    if (pingPending) {
+      if (stalledStack == null && now - pingSentAt > thresholdNanos) {
+        stalledStack = fxThread.getStackTrace();
+      }
+      return;
+    }
+    if (stalledStack != null) {
+      record(pingAnsweredAt - pingSentAt, stalledStack);
+      stalledStack = null;
+    }
+    pingPending = true;
+    pingSentAt = now;
+    fxExecutor.execute(() -> {
+      pingAnsweredAt = System.nanoTime();
+      pingPending = false;
+    });
+  }
+
+  synchronized List<FxStall> stalls() {
+    return List.copyOf(log);
+  }
+
+  private void record(long durationNanos, StackTraceElement[] stack) {
+    long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    FxStall stall = attribute(Instant.now().minusMillis(durationMs), durationMs, stack);
+    stalls.record(durationNanos, TimeUnit.NANOSECONDS);
+    synchronized (this) {
+      if (log.size() == LOG_CAPACITY) {
+        log.removeFirst();
+      }
+      log.addLast(stall);
+    }
+  }
+
+  /**
+   * Name the view and service method on the stack. Scanning from the innermost frame, the view is the
+   * first application class named *View; the service is the last application service frame seen
+   * before it, i.e. the service method the view called.
+   */
+  static FxStall attribute(Instant startedAt, long durationMs, StackTraceElement[] stack) {
+    String service = null;
+    String view = null;
+    for (StackTraceElement frame : stack) {
+      String className = frame.getClassName();
+      if (!className.startsWith(APP_PACKAGE)) continue;
+      String type = simpleName(className);
+      if (className.contains(".service.")) {
+        service = type + "." + methodName(frame.getMethodName());
+      } else if (type.endsWith("View")) {
+        view = type + "." + methodName(frame.getMethodName());
+        break;
+      }
+    }
+    List<String> frames = Arrays.stream(stack).map(StackTraceElement::toString).toList();
+    return new FxStall(startedAt, durationMs, view, service, frames);
+  }
+
+  /**
+   * "com.scheduleengine.payment.PaymentsView$1" and "GameService$$SpringCGLIB$$0" become the plain class name
+   */
+  private static String simpleName(String className) {
+    String name = className.substring(className.lastIndexOf('.') + 1);
+    int nested = name.indexOf('$');
+    return nested < 0 ? name : name.substring(0, nested);
+  }
+
+  /**
+   * "lambda$showAddTransactionDialog$12" becomes "showAddTransactionDialog"
+   */
+  private static String methodName(String method) {
+    if (method.startsWith("lambda$")) {
+      int end = method.indexOf('$', "lambda$".length());
+      return end < 0 ? method : method.substring("lambda$".length(), end);
+    }
+    return method;
+  }
+}
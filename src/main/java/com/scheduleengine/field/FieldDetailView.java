@@ -1,16 +1,26 @@
 package com.scheduleengine.field;
 
+import com.scheduleengine.blackout.BlackoutSection;
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.service.BlackoutService;
 import com.scheduleengine.common.DialogUtil;
 import com.scheduleengine.common.IconBadge;
 import com.scheduleengine.common.TablePreferencesUtil;
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.field.domain.Field;
 import com.scheduleengine.field.domain.FieldAvailability;
+import com.scheduleengine.field.domain.FieldException;
 import com.scheduleengine.field.domain.FieldUsageBlock;
 import com.scheduleengine.field.service.FieldAvailabilityService;
+import com.scheduleengine.field.service.FieldExceptionService;
 import com.scheduleengine.field.service.FieldService;
 import com.scheduleengine.field.service.FieldUsageBlockService;
+import com.scheduleengine.game.service.FieldCalendarResolver;
+import com.scheduleengine.game.service.FreeSlotService;
 import com.scheduleengine.game.service.GameService;
 import com.scheduleengine.navigation.NavigationContext;
+import com.scheduleengine.publish.PublishScheduleDialog;
+import com.scheduleengine.publish.service.SchedulePublishingService;
 import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -23,39 +33,50 @@ import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Consumer;
 
 /**
  * Comprehensive field detail view for managing a single field.
- * Includes hours of operation, usage blocks, and field schedule visualization.
+ * Includes hours of operation, usage blocks, date exceptions, blackouts, and field schedule visualization.
  */
 public class FieldDetailView {
 
-  // Make Sunday the first day of the week for headers and day iteration
-  private static final DayOfWeek[] DAYS = new DayOfWeek[]{
-    DayOfWeek.SUNDAY,
-    DayOfWeek.MONDAY,
-    DayOfWeek.TUESDAY,
-    DayOfWeek.WEDNESDAY,
-    DayOfWeek.THURSDAY,
-    DayOfWeek.FRIDAY,
-    DayOfWeek.SATURDAY
-  };
+  private static final DateTimeFormatter EXCEPTION_DATE_FORMAT = DateTimeFormatter.ofPattern("EEE MMM d, yyyy");
+  private static final DateTimeFormatter TIMELINE_DAY_FORMAT = DateTimeFormatter.ofPattern("EEE M/d");
   private final FieldService fieldService;
   private final FieldAvailabilityService availabilityService;
   private final FieldUsageBlockService usageBlockService;
+  private final FieldExceptionService exceptionService;
+  private final FieldCalendarResolver calendarResolver;
   private final GameService gameService;
+  private final CascadeDeleteService cascadeDeleteService;
+  private final SchedulePublishingService publishingService;
+  private final BlackoutService blackoutService;
   private Consumer<NavigationContext> navigationHandler;
+  // First day (a Sunday) of the week shown in the field schedule
+  private LocalDate timelineWeek;
 
   public FieldDetailView(FieldService fieldService, FieldAvailabilityService availabilityService,
-                         FieldUsageBlockService usageBlockService, GameService gameService) {
+                         FieldUsageBlockService usageBlockService, FieldExceptionService exceptionService,
+                         FieldCalendarResolver calendarResolver, GameService gameService,
+                         CascadeDeleteService cascadeDeleteService, SchedulePublishingService publishingService,
+                         BlackoutService blackoutService) {
     this.fieldService = fieldService;
     this.availabilityService = availabilityService;
     this.usageBlockService = usageBlockService;
+    this.exceptionService = exceptionService;
+    this.calendarResolver = calendarResolver;
     this.gameService = gameService;
+    this.cascadeDeleteService = cascadeDeleteService;
+    this.publishingService = publishingService;
+    this.blackoutService = blackoutService;
   }
 
   public void setNavigationHandler(Consumer<NavigationContext> handler) {
@@ -82,6 +103,7 @@ public class FieldDetailView {
     mainContainer.getChildren().add(header);
 
     // Build utilization section first so we can reference it
+    timelineWeek = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
     VBox utilizationSection = buildUtilizationSection(field);
     Object utilizationRefresh = utilizationSection.getUserData();
 
@@ -102,6 +124,16 @@ public class FieldDetailView {
     leftContainer.getChildren().add(blocksSection);
     VBox.setVgrow(blocksSection, Priority.ALWAYS);
 
+    // Date exceptions to the weekly hours
+    VBox exceptionsSection = buildExceptionsSection(field, utilizationRefresh);
+    leftContainer.getChildren().add(exceptionsSection);
+    VBox.setVgrow(exceptionsSection, Priority.ALWAYS);
+
+    // Whole days with no games on the field
+    VBox blackoutsSection = BlackoutSection.build(blackoutService, Blackout.Scope.FIELD, field.getId(),
+      "games on this field");
+    leftContainer.getChildren().add(blackoutsSection);
+
     // Create right container with utilization (should fill available height)
     VBox rightContainer = new VBox(15);
     rightContainer.getChildren().add(utilizationSection);
@@ -144,17 +176,25 @@ public class FieldDetailView {
     Region spacer = new Region();
     HBox.setHgrow(spacer, Priority.ALWAYS);
 
+    Button publishBtn = new Button("Publish Schedule");
+    publishBtn.setStyle("-fx-padding: 8 16; -fx-font-size: 12px;");
+    publishBtn.setOnAction(e -> PublishScheduleDialog.show(field.getName(), LocalDate.now(),
+      LocalDate.now().plusMonths(3), publishingService.getDirectory(),
+      (from, to, format, directory) -> publishingService.publishField(field.getId(), from, to, format, directory)));
+
     Button deleteBtn = new Button("Delete Field");
     deleteBtn.setStyle("-fx-padding: 8 16; -fx-background-color: #dc3545; -fx-text-fill: white; -fx-font-size: 12px;");
     deleteBtn.setOnAction(e -> confirmDeleteField(field));
 
-    titleBar.getChildren().addAll(iconBadge, title, spacer, deleteBtn);
+    titleBar.getChildren().addAll(iconBadge, title, spacer, publishBtn, deleteBtn);
 
     HBox infoBox = new HBox(20);
     infoBox.setAlignment(Pos.CENTER_LEFT);
     infoBox.getChildren().addAll(
       createInfoItem("Location:", field.getLocation()),
-      createInfoItem("Address:", field.getAddress())
+      createInfoItem("Address:", field.getAddress()),
+      createInfoItem("Coordinates:", field.hasCoordinates()
+        ? String.format("%.5f, %.5f", field.getLatitude(), field.getLongitude()) : null)
     );
 
     header.getChildren().addAll(titleBar, infoBox);
@@ -165,11 +205,17 @@ public class FieldDetailView {
     Alert confirmation = new Alert(Alert.AlertType.CONFIRMATION);
     confirmation.setTitle("Delete Field");
     confirmation.setHeaderText("Confirm Deletion");
-    confirmation.setContentText("Are you sure you want to delete the field '" + field.getName() + "'? This action cannot be undone.");
+    confirmation.setContentText("Are you sure you want to delete the field '" + field.getName()
+      + "'? Games, availability and usage blocks on it are deleted too. This action cannot be undone.");
 
     var result = confirmation.showAndWait();
     if (result.isPresent() && result.get() == ButtonType.OK) {
-      fieldService.deleteById(field.getId());
+      var deleted = cascadeDeleteService.deleteField(field.getId());
+      Alert done = new Alert(Alert.AlertType.INFORMATION);
+      done.setTitle("Field Deleted");
+      done.setHeaderText(null);
+      done.setContentText("Deleted " + deleted.describe() + ".");
+      done.showAndWait();
       // Navigate back to fields list
       if (navigationHandler != null) {
         NavigationContext ctx = new NavigationContext().navigateTo("fields", "Fields");
@@ -464,6 +510,145 @@ public class FieldDetailView {
     return container;
   }
 
+  private VBox buildExceptionsSection(Field field, Object utilizationRefresh) {
+    VBox container = new VBox(10);
+    container.setPadding(new Insets(12));
+    container.setStyle("-fx-background-color: white; -fx-border-color: #e0e0e0; -fx-border-width: 1;");
+
+    Label title = new Label("Date Exceptions");
+    title.setStyle("-fx-font-size: 16px; -fx-font-weight: bold;");
+
+    TableView<FieldException> table = new TableView<>();
+    table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+    table.setPlaceholder(new Label("No date exceptions"));
+    table.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+
+    TableColumn<FieldException, String> dateCol = new TableColumn<>("Date");
+    dateCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(EXCEPTION_DATE_FORMAT.format(c.getValue().getDate())));
+    dateCol.setMinWidth(140);
+
+    TableColumn<FieldException, String> kindCol = new TableColumn<>("Change");
+    kindCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(
+      c.getValue().getKind() == FieldException.Kind.OPEN ? "Extra hours" : "Closed"));
+    kindCol.setMinWidth(90);
+
+    TableColumn<FieldException, String> timeCol = new TableColumn<>("Time");
+    timeCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(c.getValue().isAllDay() ? "All day"
+      : c.getValue().getStartTime() + " - " + c.getValue().getEndTime()));
+    timeCol.setMinWidth(110);
+
+    TableColumn<FieldException, String> notesCol = new TableColumn<>("Notes");
+    notesCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(c.getValue().getNotes()));
+    notesCol.setMinWidth(120);
+
+    table.getColumns().setAll(dateCol, kindCol, timeCol, notesCol);
+    VBox.setVgrow(table, Priority.ALWAYS);
+    TablePreferencesUtil.setupTableColumnPersistence(table, "field.detail.exceptions");
+    table.setItems(FXCollections.observableArrayList(exceptionService.findByField(field.getId())));
+
+    Button addBtn = new Button("+ Add Exception");
+    addBtn.setWrapText(true);
+    addBtn.setStyle("-fx-padding: 8 16; -fx-background-color: #667eea; -fx-text-fill: white;");
+    addBtn.setOnAction(e -> showAddExceptionDialog(field, table, utilizationRefresh));
+
+    Button deleteBtn = new Button("Delete Selected");
+    deleteBtn.setWrapText(true);
+    deleteBtn.setStyle("-fx-padding: 8 16; -fx-background-color: #dc3545; -fx-text-fill: white;");
+    deleteBtn.setOnAction(e -> {
+      List<FieldException> selected = new ArrayList<>(table.getSelectionModel().getSelectedItems());
+      if (selected.isEmpty()) {
+        showError("No Selection", "Please select at least one date exception to delete.");
+        return;
+      }
+      for (FieldException exception : selected) {
+        exceptionService.delete(exception.getId());
+        table.getItems().remove(exception);
+      }
+      refreshUtilization(field, utilizationRefresh);
+    });
+
+    HBox buttonBox = new HBox(10);
+    buttonBox.setPadding(new Insets(10, 0, 0, 0));
+    buttonBox.getChildren().addAll(addBtn, deleteBtn);
+
+    container.getChildren().setAll(title, table, buttonBox);
+    return container;
+  }
+
+  private void showAddExceptionDialog(Field field, TableView<FieldException> table, Object utilizationRefresh) {
+    Dialog<FieldException> dialog = new Dialog<>();
+    dialog.setTitle("Add Date Exception");
+
+    ButtonType saveButtonType = new ButtonType("Save", ButtonBar.ButtonData.OK_DONE);
+    dialog.getDialogPane().getButtonTypes().addAll(saveButtonType, ButtonType.CANCEL);
+
+    GridPane grid = new GridPane();
+    grid.setHgap(10);
+    grid.setVgap(10);
+    grid.setPadding(new Insets(20, 150, 10, 10));
+
+    DatePicker datePicker = new DatePicker(timelineWeek == null ? LocalDate.now() : timelineWeek);
+    ComboBox<FieldException.Kind> kindCombo = new ComboBox<>(FXCollections.observableArrayList(FieldException.Kind.values()));
+    kindCombo.setValue(FieldException.Kind.CLOSED);
+    CheckBox allDay = new CheckBox("All day");
+    allDay.setSelected(true);
+    Spinner<Integer> startHourSpinner = new Spinner<>(0, 23, 9);
+    Spinner<Integer> startMinSpinner = new Spinner<>(0, 59, 0, 15);
+    Spinner<Integer> endHourSpinner = new Spinner<>(0, 23, 17);
+    Spinner<Integer> endMinSpinner = new Spinner<>(0, 59, 0, 15);
+    HBox startBox = new HBox(5, startHourSpinner, new Label(":"), startMinSpinner);
+    HBox endBox = new HBox(5, endHourSpinner, new Label(":"), endMinSpinner);
+    startBox.disableProperty().bind(allDay.selectedProperty());
+    endBox.disableProperty().bind(allDay.selectedProperty());
+    // Extra hours always need a time window
+    kindCombo.valueProperty().addListener((obs, old, kind) -> {
+      if (kind == FieldException.Kind.OPEN) allDay.setSelected(false);
+      allDay.setDisable(kind == FieldException.Kind.OPEN);
+    });
+    TextField notesField = new TextField();
+
+    grid.add(new Label("Date:"), 0, 0);
+    grid.add(datePicker, 1, 0);
+    grid.add(new Label("Change:"), 0, 1);
+    grid.add(kindCombo, 1, 1);
+    grid.add(allDay, 1, 2);
+    grid.add(new Label("Start:"), 0, 3);
+    grid.add(startBox, 1, 3);
+    grid.add(new Label("End:"), 0, 4);
+    grid.add(endBox, 1, 4);
+    grid.add(new Label("Notes:"), 0, 5);
+    grid.add(notesField, 1, 5);
+
+    dialog.getDialogPane().setContent(grid);
+    dialog.getDialogPane().getScene().getWindow().setOnShown(e ->
+      DialogUtil.makeResizable(dialog, "field.add.exception", 500, 380));
+
+    dialog.setResultConverter(dialogButton -> {
+      if (dialogButton == saveButtonType) {
+        if (datePicker.getValue() == null || kindCombo.getValue() == null) {
+          showError("Validation", "Please pick a date and a change");
+          return null;
+        }
+        FieldException exception = new FieldException(field, datePicker.getValue(), kindCombo.getValue(),
+          allDay.isSelected() ? null : LocalTime.of(startHourSpinner.getValue(), startMinSpinner.getValue()),
+          allDay.isSelected() ? null : LocalTime.of(endHourSpinner.getValue(), endMinSpinner.getValue()),
+          notesField.getText() == null || notesField.getText().isBlank() ? null : notesField.getText().trim());
+        try {
+          return exceptionService.save(exception);
+        } catch (Exception ex) {
+          showError("Error", "Failed to save exception: " + ex.getMessage());
+          return null;
+        }
+      }
+      return null;
+    });
+
+    dialog.showAndWait().ifPresent(saved -> {
+      table.setItems(FXCollections.observableArrayList(exceptionService.findByField(field.getId())));
+      refreshUtilization(field, utilizationRefresh);
+    });
+  }
+
   private VBox buildUtilizationSection(Field field) {
     VBox container = new VBox(10);
     container.setPadding(new Insets(15));
@@ -473,7 +658,7 @@ public class FieldDetailView {
     Label title = new Label("Field Schedule");
     title.setStyle("-fx-font-size: 16px; -fx-font-weight: bold;");
 
-    // Build timeline bars for each day
+    // Build timeline bars for each day of the shown week
     VBox timelineContainer = buildTimelineVisualization(field);
     VBox.setVgrow(timelineContainer, Priority.ALWAYS);
 
@@ -492,43 +677,73 @@ public class FieldDetailView {
     scrollPane.setMinHeight(400);
     VBox.setVgrow(scrollPane, Priority.ALWAYS);
 
-    container.getChildren().addAll(title, scrollPane);
-    VBox.setVgrow(scrollPane, Priority.ALWAYS);
-
     // Store reference for refresh capability
-    container.setUserData(new Object() {
+    Object refresher = new Object() {
       public void refresh() {
         contentArea.getChildren().remove(0); // Remove timeline container
         VBox newTimeline = buildTimelineVisualization(field);
         contentArea.getChildren().add(0, newTimeline);
         HBox.setHgrow(newTimeline, Priority.ALWAYS);
       }
+    };
+    container.setUserData(refresher);
+
+    // Week navigation
+    Label weekLabel = new Label("Week of " + EXCEPTION_DATE_FORMAT.format(timelineWeek));
+    weekLabel.setStyle("-fx-text-fill: #7f8c8d;");
+    Button prevBtn = new Button("◀");
+    Button todayBtn = new Button("This Week");
+    Button nextBtn = new Button("▶");
+    Runnable showWeek = () -> {
+      weekLabel.setText("Week of " + EXCEPTION_DATE_FORMAT.format(timelineWeek));
+      refreshUtilization(field, refresher);
+    };
+    prevBtn.setOnAction(e -> {
+      timelineWeek = timelineWeek.minusWeeks(1);
+      showWeek.run();
+    });
+    todayBtn.setOnAction(e -> {
+      timelineWeek = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+      showWeek.run();
     });
+    nextBtn.setOnAction(e -> {
+      timelineWeek = timelineWeek.plusWeeks(1);
+      showWeek.run();
+    });
+    HBox weekBar = new HBox(8, prevBtn, todayBtn, nextBtn, weekLabel);
+    weekBar.setAlignment(Pos.CENTER_LEFT);
+
+    container.getChildren().addAll(title, weekBar, scrollPane);
+    VBox.setVgrow(scrollPane, Priority.ALWAYS);
 
     return container;
   }
 
   /**
-   * Build a timeline visualization showing hours of operation and reserved time for each day
+   * Build a timeline visualization of the shown week: the field's effective hours on each date,
+   * with reserved time and date exceptions marked
    */
   private VBox buildTimelineVisualization(Field field) {
     VBox timelineBox = new VBox(12);
     timelineBox.setPadding(new Insets(10));
     timelineBox.setStyle("-fx-background-color: #f9f9f9;");
 
+    List<FieldException> exceptions = exceptionService.findByFieldBetween(field.getId(), timelineWeek, timelineWeek.plusDays(6));
+
     // Calculate hour range
-    int[] hourRange = calculateHourRange(field);
+    int[] hourRange = calculateHourRange(field, exceptions);
     int startHour = hourRange[0];
     int endHour = hourRange[1];
-    int totalHours = endHour - startHour;
 
     // Time axis label
     HBox timeAxisBox = createTimeAxis(startHour, endHour);
     timelineBox.getChildren().add(timeAxisBox);
 
     // Timeline bar for each day
-    for (DayOfWeek day : DAYS) {
-      HBox dayTimeline = createDayTimeline(field, day, startHour, endHour, totalHours);
+    for (int i = 0; i < 7; i++) {
+      LocalDate date = timelineWeek.plusDays(i);
+      List<FieldException> dayExceptions = exceptions.stream().filter(x -> x.getDate().equals(date)).toList();
+      HBox dayTimeline = createDayTimeline(field, date, dayExceptions, startHour, endHour);
       timelineBox.getChildren().add(dayTimeline);
     }
 
@@ -549,7 +764,6 @@ public class FieldDetailView {
     timeAxis.getChildren().add(dayLabelSpace);
 
     // Hour markers
-    int totalHours = endHour - startHour;
     for (int h = startHour; h < endHour; h++) {
       Label hourLabel = new Label(to12HourLabel(h));
       hourLabel.setStyle("-fx-font-size: 10px; -fx-text-alignment: center;");
@@ -562,27 +776,28 @@ public class FieldDetailView {
   }
 
   /**
-   * Create a timeline bar for a specific day
+   * Create a timeline bar for a specific date
    */
-  private HBox createDayTimeline(Field field, DayOfWeek day, int startHour, int endHour, int totalHours) {
+  private HBox createDayTimeline(Field field, LocalDate date, List<FieldException> exceptions, int startHour, int endHour) {
     HBox dayTimeline = new HBox(0);
     dayTimeline.setPrefHeight(45);
     dayTimeline.setStyle("-fx-border-color: #e0e0e0; -fx-border-width: 0 0 1 0;");
 
     // Day label
-    Label dayLabel = new Label(abbrev(day));
-    dayLabel.setStyle("-fx-font-weight: bold; -fx-text-alignment: center; -fx-padding: 5;");
+    Label dayLabel = new Label(TIMELINE_DAY_FORMAT.format(date));
+    dayLabel.setStyle("-fx-font-weight: bold; -fx-text-alignment: center; -fx-padding: 5;"
+      + (exceptions.isEmpty() ? "" : " -fx-text-fill: #d35400;"));
     dayLabel.setPrefWidth(100);
     dayLabel.setAlignment(Pos.CENTER);
     dayTimeline.getChildren().add(dayLabel);
 
-    // Get availability and blocks for this day
-    List<FieldAvailability> availability = availabilityService.findByFieldAndDayOfWeek(field, day);
-    List<FieldUsageBlock> blocks = usageBlockService.findByFieldAndDayOfWeek(field, day);
+    // Effective hours on this date, and the weekly blocks that explain reserved time
+    BitSet open = calendarResolver.openCells(field.getId(), date);
+    List<FieldUsageBlock> blocks = usageBlockService.findByFieldAndDayOfWeek(field, date.getDayOfWeek());
 
     // Create hour slots
     for (int h = startHour; h < endHour; h++) {
-      Region hourBlock = createHourBlock(h, availability, blocks);
+      Region hourBlock = createHourBlock(h, open, blocks, exceptions);
       hourBlock.setPrefWidth(40);
       dayTimeline.getChildren().add(hourBlock);
     }
@@ -591,51 +806,47 @@ public class FieldDetailView {
   }
 
   /**
-   * Create an individual hour block with appropriate color based on availability and blocks
+   * Create an individual hour block colored by the effective hours at the start of the hour; closed
+   * time is explained by a date exception or a usage block where one covers it
    */
-  private Region createHourBlock(int hour, List<FieldAvailability> availability, List<FieldUsageBlock> blocks) {
+  private Region createHourBlock(int hour, BitSet open, List<FieldUsageBlock> blocks, List<FieldException> exceptions) {
     Region block = new Region();
     String color = "#dfe6e9"; // Closed by default
     String tooltip = String.format("%02d:00", hour);
+    LocalTime time = LocalTime.of(hour, 0);
 
-    // Check availability
-    boolean isAvailable = availability.stream().anyMatch(a -> {
-      int openMin = a.getOpenTime().getHour() * 60 + a.getOpenTime().getMinute();
-      int closeMin = a.getCloseTime().getHour() * 60 + a.getCloseTime().getMinute();
-      int cellMin = hour * 60;
-      return cellMin >= openMin && cellMin < closeMin;
-    });
+    FieldException closure = exceptions.stream()
+      .filter(x -> x.getKind() == FieldException.Kind.CLOSED && covers(x, time)).findFirst().orElse(null);
+    FieldUsageBlock reserved = blocks.stream()
+      .filter(b -> !time.isBefore(b.getStartTime()) && time.isBefore(b.getEndTime())).findFirst().orElse(null);
 
-    if (isAvailable) {
+    if (closure != null) {
+      color = "#e17055";
+      tooltip += " - Closed on this date" + (closure.getNotes() == null ? "" : " (" + closure.getNotes() + ")");
+    } else if (open.get(hour * 60 / FreeSlotService.CELL_MINUTES)) {
       color = "#43e97b"; // Available
       tooltip += " - Available";
-    }
-
-    // Check blocks (override availability)
-    for (FieldUsageBlock b : blocks) {
-      int startMin = b.getStartTime().getHour() * 60 + b.getStartTime().getMinute();
-      int endMin = b.getEndTime().getHour() * 60 + b.getEndTime().getMinute();
-      int cellMin = hour * 60;
-      if (cellMin >= startMin && cellMin < endMin) {
-        switch (b.getUsageType()) {
-          case LEAGUE -> {
-            color = "#667eea";
-            tooltip = String.format("%02d:00 - League", hour);
-          }
-          case TOURNAMENT -> {
-            color = "#fa709a";
-            tooltip = String.format("%02d:00 - Tournament", hour);
-          }
-          case PRACTICE -> {
-            color = "#feca57";
-            tooltip = String.format("%02d:00 - Practice", hour);
-          }
-          case CLOSED -> {
-            color = "#95a5a6";
-            tooltip = String.format("%02d:00 - Closed Block", hour);
-          }
+      if (exceptions.stream().anyMatch(x -> x.getKind() == FieldException.Kind.OPEN && covers(x, time))) {
+        tooltip += " (extra hours)";
+      }
+    } else if (reserved != null) {
+      switch (reserved.getUsageType()) {
+        case LEAGUE -> {
+          color = "#667eea";
+          tooltip += " - League";
+        }
+        case TOURNAMENT -> {
+          color = "#fa709a";
+          tooltip += " - Tournament";
+        }
+        case PRACTICE -> {
+          color = "#feca57";
+          tooltip += " - Practice";
+        }
+        case CLOSED -> {
+          color = "#95a5a6";
+          tooltip += " - Closed Block";
         }
-        break;
       }
     }
 
@@ -644,6 +855,10 @@ public class FieldDetailView {
     return block;
   }
 
+  private static boolean covers(FieldException exception, LocalTime time) {
+    return exception.isAllDay() || (!time.isBefore(exception.getStartTime()) && time.isBefore(exception.getEndTime()));
+  }
+
 
   private VBox buildLegend() {
     VBox legend = new VBox(8);
@@ -660,6 +875,7 @@ public class FieldDetailView {
       makeLegendSwatch("Tournament Block", Color.web("#fa709a")),
       makeLegendSwatch("Practice Block", Color.web("#feca57")),
       makeLegendSwatch("Dedicated Closed Block", Color.web("#95a5a6")),
+      makeLegendSwatch("Closed on This Date", Color.web("#e17055")),
       makeLegendSwatch("Closed/Unavailable", Color.web("#dfe6e9"))
     );
 
@@ -683,9 +899,10 @@ public class FieldDetailView {
   }
 
 
-  private int[] calculateHourRange(Field field) {
+  private int[] calculateHourRange(Field field, List<FieldException> exceptions) {
     List<FieldAvailability> allAvailability = availabilityService.findByField(field);
-    if (allAvailability.isEmpty()) {
+    List<FieldException> extraHours = exceptions.stream().filter(x -> x.getKind() == FieldException.Kind.OPEN).toList();
+    if (allAvailability.isEmpty() && extraHours.isEmpty()) {
       return new int[]{0, 23};
     }
 
@@ -701,7 +918,10 @@ public class FieldDetailView {
       earliestHour = Math.min(earliestHour, openHour);
       latestHour = Math.max(latestHour, closeHour);
     }
-
+    for (FieldException extra : extraHours) {
+      earliestHour = Math.min(earliestHour, extra.getStartTime().getHour());
+      latestHour = Math.max(latestHour, extra.getEndTime().getHour() + (extra.getEndTime().getMinute() > 0 ? 1 : 0));
+    }
 
     return new int[]{earliestHour, latestHour};
   }
@@ -1041,10 +1261,6 @@ public class FieldDetailView {
     });
   }
 
-  private String abbrev(DayOfWeek day) {
-    return day.toString().substring(0, 3);
-  }
-
   private String to12HourLabel(int hour) {
     if (hour == 0) return "12 AM";
     if (hour < 12) return hour + " AM";
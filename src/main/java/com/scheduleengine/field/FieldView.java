@@ -145,6 +145,10 @@ public class FieldView {
     locationField.setPromptText("Location");
     javafx.scene.control.TextField addressField = new javafx.scene.control.TextField();
     addressField.setPromptText("Address");
+    javafx.scene.control.TextField latitudeField = new javafx.scene.control.TextField();
+    latitudeField.setPromptText("e.g. 40.7829");
+    javafx.scene.control.TextField longitudeField = new javafx.scene.control.TextField();
+    longitudeField.setPromptText("e.g. -73.9654");
 
     javafx.scene.control.Label iconLabel = new javafx.scene.control.Label("Icon:");
     IconPicker iconPicker = new IconPicker(null, null, null, null);
@@ -155,8 +159,12 @@ public class FieldView {
     grid.add(locationField, 1, 1);
     grid.add(new javafx.scene.control.Label("Address:"), 0, 2);
     grid.add(addressField, 1, 2);
-    grid.add(iconLabel, 0, 3);
-    grid.add(iconPicker, 1, 3);
+    grid.add(new javafx.scene.control.Label("Latitude:"), 0, 3);
+    grid.add(latitudeField, 1, 3);
+    grid.add(new javafx.scene.control.Label("Longitude:"), 0, 4);
+    grid.add(longitudeField, 1, 4);
+    grid.add(iconLabel, 0, 5);
+    grid.add(iconPicker, 1, 5);
 
     dialog.getDialogPane().setContent(grid);
     dialog.setResultConverter(dialogButton -> {
@@ -165,6 +173,8 @@ public class FieldView {
         field.setName(nameField.getText());
         field.setLocation(locationField.getText());
         field.setAddress(addressField.getText());
+        field.setLatitude(coordinate(latitudeField.getText()));
+        field.setLongitude(coordinate(longitudeField.getText()));
         IconPicker.Selection sel = iconPicker.currentSelection();
         field.setIconName(sel.iconName);
         field.setIconBackgroundColor(sel.bgColor);
@@ -175,11 +185,28 @@ public class FieldView {
     });
 
     dialog.showAndWait().ifPresent(field -> {
-      fieldService.save(field);
+      try {
+        fieldService.save(field);
+      } catch (IllegalArgumentException e) {
+        new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.ERROR, e.getMessage()).showAndWait();
+        return;
+      }
       loadData();
     });
   }
 
+  /**
+   * A coordinate typed in decimal degrees, or null when blank or not a number
+   */
+  private static Double coordinate(String text) {
+    if (text == null || text.isBlank()) return null;
+    try {
+      return Double.valueOf(text.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
   private void deleteSelectedField() {
     // TODO: Implement this method
   }
@@ -3,11 +3,15 @@ package com.scheduleengine.field.domain;
 import com.scheduleengine.game.domain.Game;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "field")
 @Table(name = "fields")
 public class Field {
 
@@ -23,10 +27,16 @@ public class Field {
 
   private String address;
 
+  /** Decimal degrees; set together with {@link #longitude} or not at all */
+  private Double latitude;
+
+  private Double longitude;
+
   @Column(length = 1000)
   private String facilities;
 
-  @OneToMany(mappedBy = "field", cascade = CascadeType.ALL)
+  // Not cascaded: CascadeDeleteService removes games in bulk rather than loading them
+  @OneToMany(mappedBy = "field")
   private List<Game> games = new ArrayList<>();
 
   @Column(name = "icon_name")
@@ -78,6 +88,26 @@ public class Field {
     this.address = address;
   }
 
+  public Double getLatitude() {
+    return latitude;
+  }
+
+  public void setLatitude(Double latitude) {
+    this.latitude = latitude;
+  }
+
+  public Double getLongitude() {
+    return longitude;
+  }
+
+  public void setLongitude(Double longitude) {
+    this.longitude = longitude;
+  }
+
+  public boolean hasCoordinates() {
+    return latitude != null && longitude != null;
+  }
+
   public String getFacilities() {
     return facilities;
   }
@@ -0,0 +1,135 @@
+package com.scheduleengine.field.domain;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Great-circle distances and estimated travel times between every pair of fields, computed once
+ * from their stored coordinates. Fields get dense indexes in id order and both tables are flat
+ * arrays, so a lookup by index is one array read; {@link #indexOf} is a binary search over the
+ * sorted ids. A distance involving a field without coordinates is unknown: {@code NaN} kilometres
+ * and {@code -1} minutes. A matrix is immutable and can be shared between threads.
+ */
+public final class FieldDistanceMatrix {
+  public static final FieldDistanceMatrix EMPTY = compile(List.of(), 1);
+
+  private static final double EARTH_RADIUS_KM = 6371.0088;
+
+  /**
+   * What the matrix needs of a field
+   */
+  public record Location(Long fieldId, Double latitude, Double longitude) {
+    public static Location of(Field field) {
+      return new Location(field.getId(), field.getLatitude(), field.getLongitude());
+    }
+  }
+
+  private final long[] ids;
+  private final float[] kilometres;
+  private final int[] minutes;
+
+  private FieldDistanceMatrix(long[] ids, float[] kilometres, int[] minutes) {
+    this.ids = ids;
+    this.kilometres = kilometres;
+    this.minutes = minutes;
+  }
+
+  /**
+   * @param speedKmh average door-to-door speed used to turn distance into travel time
+   */
+  public static FieldDistanceMatrix compile(Collection<Location> fields, double speedKmh) {
+    if (speedKmh <= 0) throw new IllegalArgumentException("Travel speed must be positive");
+    Location[] sorted = fields.stream()
+      .filter(f -> f.fieldId() != null)
+      .sorted(Comparator.comparing(Location::fieldId))
+      .toArray(Location[]::new);
+    int n = sorted.length;
+    long[] ids = new long[n];
+    double[] lat = new double[n];
+    double[] lon = new double[n];
+    boolean[] known = new boolean[n];
+    for (int i = 0; i < n; i++) {
+      ids[i] = sorted[i].fieldId();
+      known[i] = sorted[i].latitude() != null && sorted[i].longitude() != null;
+      if (known[i]) {
+        lat[i] = Math.toRadians(sorted[i].latitude());
+        lon[i] = Math.toRadians(sorted[i].longitude());
+      }
+    }
+    float[] kilometres = new float[n * n];
+    int[] minutes = new int[n * n];
+    for (int i = 0; i < n; i++) {
+      for (int j = i; j < n; j++) {
+        float km;
+        int min;
+        if (i == j) {
+          km = 0;
+          min = 0;
+        } else if (!known[i] || !known[j]) {
+          km = Float.NaN;
+          min = -1;
+        } else {
+          km = (float) haversine(lat[i], lon[i], lat[j], lon[j]);
+          min = (int) Math.ceil(km * 60 / speedKmh);
+        }
+        kilometres[i * n + j] = kilometres[j * n + i] = km;
+        minutes[i * n + j] = minutes[j * n + i] = min;
+      }
+    }
+    return new FieldDistanceMatrix(ids, kilometres, minutes);
+  }
+
+  /**
+   * The field's index, or -1 for a null id or a field the matrix does not know
+   */
+  public int indexOf(Long fieldId) {
+    if (fieldId == null) return -1;
+    int i = Arrays.binarySearch(ids, fieldId);
+    return i < 0 ? -1 : i;
+  }
+
+  public int size() {
+    return ids.length;
+  }
+
+  /**
+   * Distance between two indexed fields, 0 from a field to itself and {@code NaN} when unknown
+   */
+  public float kilometres(int from, int to) {
+    return kilometres[from * ids.length + to];
+  }
+
+  /**
+   * Estimated travel time between two indexed fields, 0 from a field to itself and -1 when unknown
+   */
+  public int minutes(int from, int to) {
+    return minutes[from * ids.length + to];
+  }
+
+  /**
+   * Distance between two fields by id; {@code NaN} when either is unknown or has no coordinates
+   */
+  public float kilometres(Long fromFieldId, Long toFieldId) {
+    int from = indexOf(fromFieldId);
+    int to = indexOf(toFieldId);
+    return from < 0 || to < 0 ? Float.NaN : kilometres(from, to);
+  }
+
+  /**
+   * Travel time between two fields by id; -1 when either is unknown or has no coordinates
+   */
+  public int minutes(Long fromFieldId, Long toFieldId) {
+    int from = indexOf(fromFieldId);
+    int to = indexOf(toFieldId);
+    return from < 0 || to < 0 ? -1 : minutes(from, to);
+  }
+
+  private static double haversine(double lat1, double lon1, double lat2, double lon2) {
+    double dLat = Math.sin((lat2 - lat1) / 2);
+    double dLon = Math.sin((lon2 - lon1) / 2);
+    double a = dLat * dLat + Math.cos(lat1) * Math.cos(lat2) * dLon * dLon;
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+}
@@ -0,0 +1,109 @@
+package com.scheduleengine.field.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * A change to a field's weekly hours on one date: extra hours ({@link Kind#OPEN}) or a closure
+ * ({@link Kind#CLOSED}). A closure without times covers the whole day.
+ */
+@Entity
+@Table(name = "field_exceptions")
+public class FieldException {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  @ManyToOne(optional = false)
+  @JoinColumn(name = "field_id")
+  private Field field;
+  @Column(name = "exception_date", nullable = false)
+  private LocalDate date;
+  @Enumerated(EnumType.STRING)
+  @Column(name = "kind", nullable = false)
+  private Kind kind;
+  @Column(name = "start_time")
+  private LocalTime startTime;
+  @Column(name = "end_time")
+  private LocalTime endTime;
+  @Column(name = "notes")
+  private String notes;
+
+  public FieldException() {
+  }
+
+  public FieldException(Field field, LocalDate date, Kind kind, LocalTime startTime, LocalTime endTime, String notes) {
+    this.field = field;
+    this.date = date;
+    this.kind = kind;
+    this.startTime = startTime;
+    this.endTime = endTime;
+    this.notes = notes;
+  }
+
+  /**
+   * Whether this exception covers the whole day rather than a time window
+   */
+  public boolean isAllDay() {
+    return startTime == null && endTime == null;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Field getField() {
+    return field;
+  }
+
+  public void setField(Field field) {
+    this.field = field;
+  }
+
+  public LocalDate getDate() {
+    return date;
+  }
+
+  public void setDate(LocalDate date) {
+    this.date = date;
+  }
+
+  public Kind getKind() {
+    return kind;
+  }
+
+  public void setKind(Kind kind) {
+    this.kind = kind;
+  }
+
+  public LocalTime getStartTime() {
+    return startTime;
+  }
+
+  public void setStartTime(LocalTime startTime) {
+    this.startTime = startTime;
+  }
+
+  public LocalTime getEndTime() {
+    return endTime;
+  }
+
+  public void setEndTime(LocalTime endTime) {
+    this.endTime = endTime;
+  }
+
+  public String getNotes() {
+    return notes;
+  }
+
+  public void setNotes(String notes) {
+    this.notes = notes;
+  }
+
+  public enum Kind {OPEN, CLOSED}
+}
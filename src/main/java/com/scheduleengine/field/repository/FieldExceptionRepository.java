@@ -0,0 +1,13 @@
+package com.scheduleengine.field.repository;
+
+import com.scheduleengine.field.domain.FieldException;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface FieldExceptionRepository extends JpaRepository<FieldException, Long> {
+  List<FieldException> findByFieldIdOrderByDateAscStartTimeAsc(Long fieldId);
+
+  List<FieldException> findByFieldIdAndDateBetweenOrderByDateAscStartTimeAsc(Long fieldId, LocalDate from, LocalDate to);
+}
@@ -1,9 +1,17 @@
 package com.scheduleengine.field.repository;
 
 import com.scheduleengine.field.domain.Field;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface FieldRepository extends JpaRepository<Field, Long> {
+  @Override
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<Field> findAll();
 }
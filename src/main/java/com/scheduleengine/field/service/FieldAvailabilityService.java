@@ -1,8 +1,10 @@
 package com.scheduleengine.field.service;
 
+import com.scheduleengine.diagnostics.MetricsConfig;
 import com.scheduleengine.field.domain.Field;
 import com.scheduleengine.field.domain.FieldAvailability;
 import com.scheduleengine.field.repository.FieldAvailabilityRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,6 +12,7 @@ import java.time.DayOfWeek;
 import java.util.List;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class FieldAvailabilityService {
   private final FieldAvailabilityRepository repo;
 
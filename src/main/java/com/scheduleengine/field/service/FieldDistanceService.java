@@ -0,0 +1,62 @@
+package com.scheduleengine.field.service;
+
+import com.scheduleengine.diagnostics.MetricsConfig;
+import com.scheduleengine.field.domain.FieldDistanceMatrix;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Serves the fields' coordinates compiled into a {@link FieldDistanceMatrix}. The matrix is
+ * compiled on first use and again after a field is saved or deleted, as reported by
+ * {@code FreeSlotListener} once the change has committed.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class FieldDistanceService {
+  private static final Logger log = LoggerFactory.getLogger(FieldDistanceService.class);
+
+  private final EntityManager entityManager;
+  private final double travelSpeedKmh;
+  private volatile FieldDistanceMatrix matrix;
+
+  public FieldDistanceService(EntityManager entityManager,
+                              @Value("${venues.travel-speed-kmh:40}") double travelSpeedKmh) {
+    this.entityManager = entityManager;
+    this.travelSpeedKmh = travelSpeedKmh;
+  }
+
+  /**
+   * The compiled matrix of all fields
+   */
+  public FieldDistanceMatrix matrix() {
+    FieldDistanceMatrix m = matrix;
+    if (m != null) return m;
+    synchronized (this) {
+      if (matrix == null) {
+        long start = System.nanoTime();
+        List<FieldDistanceMatrix.Location> fields = entityManager
+          .createQuery("select f.id, f.latitude, f.longitude from Field f", Object[].class)
+          .getResultList().stream()
+          .map(r -> new FieldDistanceMatrix.Location((Long) r[0], (Double) r[1], (Double) r[2]))
+          .toList();
+        matrix = FieldDistanceMatrix.compile(fields, travelSpeedKmh);
+        log.debug("Field distance matrix compiled: {} fields in {} ms", matrix.size(),
+          (System.nanoTime() - start) / 1_000_000);
+      }
+      return matrix;
+    }
+  }
+
+  /**
+   * Recompile on next use; called after a committed field change
+   */
+  public synchronized void invalidate() {
+    matrix = null;
+  }
+}
@@ -0,0 +1,54 @@
+package com.scheduleengine.field.service;
+
+import com.scheduleengine.diagnostics.MetricsConfig;
+import com.scheduleengine.field.domain.FieldException;
+import com.scheduleengine.field.repository.FieldExceptionRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class FieldExceptionService {
+  private final FieldExceptionRepository repo;
+
+  public FieldExceptionService(FieldExceptionRepository repo) {
+    this.repo = repo;
+  }
+
+  public List<FieldException> findByField(Long fieldId) {
+    return repo.findByFieldIdOrderByDateAscStartTimeAsc(fieldId);
+  }
+
+  /**
+   * A field's exceptions on the days from {@code from} through {@code to}
+   */
+  public List<FieldException> findByFieldBetween(Long fieldId, LocalDate from, LocalDate to) {
+    return repo.findByFieldIdAndDateBetweenOrderByDateAscStartTimeAsc(fieldId, from, to);
+  }
+
+  @Transactional
+  public FieldException save(FieldException exception) {
+    if (exception.getField() == null || exception.getDate() == null || exception.getKind() == null) {
+      throw new IllegalArgumentException("field, date and kind required");
+    }
+    if ((exception.getStartTime() == null) != (exception.getEndTime() == null)) {
+      throw new IllegalArgumentException("Give both a start and an end time, or neither for the whole day");
+    }
+    if (exception.isAllDay() && exception.getKind() == FieldException.Kind.OPEN) {
+      throw new IllegalArgumentException("Extra hours need a start and an end time");
+    }
+    if (!exception.isAllDay() && !exception.getEndTime().isAfter(exception.getStartTime())) {
+      throw new IllegalArgumentException("The exception ends before it starts");
+    }
+    return repo.save(exception);
+  }
+
+  @Transactional
+  public void delete(Long id) {
+    repo.deleteById(id);
+  }
+}
@@ -1,19 +1,25 @@
 package com.scheduleengine.field.service;
 
+import com.scheduleengine.common.service.CascadeDeleteService;
+import com.scheduleengine.diagnostics.MetricsConfig;
 import com.scheduleengine.field.domain.Field;
 import com.scheduleengine.field.repository.FieldRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class FieldService {
 
   private final FieldRepository fieldRepository;
+  private final CascadeDeleteService cascadeDeleteService;
 
-  public FieldService(FieldRepository fieldRepository) {
+  public FieldService(FieldRepository fieldRepository, CascadeDeleteService cascadeDeleteService) {
     this.fieldRepository = fieldRepository;
+    this.cascadeDeleteService = cascadeDeleteService;
   }
 
   public List<Field> findAll() {
@@ -25,15 +31,29 @@ public class FieldService {
   }
 
   public Field save(Field field) {
+    validateCoordinates(field);
     return fieldRepository.save(field);
   }
 
   public Field update(Long id, Field field) {
+    validateCoordinates(field);
     field.setId(id);
     return fieldRepository.save(field);
   }
 
+  private static void validateCoordinates(Field field) {
+    if ((field.getLatitude() == null) != (field.getLongitude() == null)) {
+      throw new IllegalArgumentException("Give both latitude and longitude, or neither");
+    }
+    if (field.hasCoordinates() && (Math.abs(field.getLatitude()) > 90 || Math.abs(field.getLongitude()) > 180)) {
+      throw new IllegalArgumentException("Latitude must be within ±90 and longitude within ±180 degrees");
+    }
+  }
+
+  /**
+   * Delete the field with everything that depends on it, see {@link CascadeDeleteService#deleteField}
+   */
   public void deleteById(Long id) {
-    fieldRepository.deleteById(id);
+    cascadeDeleteService.deleteField(id);
   }
 }
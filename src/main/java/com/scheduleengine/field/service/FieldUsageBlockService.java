@@ -1,8 +1,10 @@
 package com.scheduleengine.field.service;
 
+import com.scheduleengine.diagnostics.MetricsConfig;
 import com.scheduleengine.field.domain.Field;
 import com.scheduleengine.field.domain.FieldUsageBlock;
 import com.scheduleengine.field.repository.FieldUsageBlockRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,6 +12,7 @@ import java.time.DayOfWeek;
 import java.util.List;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class FieldUsageBlockService {
   private final FieldUsageBlockRepository repo;
 
@@ -4,7 +4,9 @@ import com.scheduleengine.common.TableColumnUtil;
 import com.scheduleengine.common.TablePreferencesUtil;
 import com.scheduleengine.field.domain.Field;
 import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.game.domain.FreeSlot;
 import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.service.FreeSlotService;
 import com.scheduleengine.game.service.GameService;
 import com.scheduleengine.league.domain.League;
 import com.scheduleengine.league.service.LeagueService;
@@ -15,6 +17,7 @@ import com.scheduleengine.team.service.TeamService;
 import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
@@ -24,14 +27,19 @@ import javafx.util.StringConverter;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class GameView {
+  /** Open slots offered in the game form */
+  static final int SUGGESTED_SLOTS = 6;
 
   private final GameService gameService;
   private final TeamService teamService;
   private final FieldService fieldService;
   private final SeasonService seasonService;
   private final LeagueService leagueService;
+  private final FreeSlotService freeSlotService;
   private TableView<Game> table;
   private final ObservableList<Game> data;
   private ComboBox<Season> seasonFilter;
@@ -42,12 +50,14 @@ public class GameView {
   private com.scheduleengine.navigation.NavigationHandler navigationHandler;
 
   public GameView(GameService gameService, TeamService teamService,
-                  FieldService fieldService, SeasonService seasonService, LeagueService leagueService) {
+                  FieldService fieldService, SeasonService seasonService, LeagueService leagueService,
+                  FreeSlotService freeSlotService) {
     this.gameService = gameService;
     this.teamService = teamService;
     this.fieldService = fieldService;
     this.seasonService = seasonService;
     this.leagueService = leagueService;
+    this.freeSlotService = freeSlotService;
     this.data = FXCollections.observableArrayList();
   }
 
@@ -299,7 +309,14 @@ public class GameView {
     // Use combo box values if set, otherwise use preset filters
     Season selectedSeason = seasonFilter != null ? seasonFilter.getValue() : filterSeason;
     League selectedLeague = leagueFilter != null ? leagueFilter.getValue() : filterLeague;
-    var list = selectedSeason != null ? gameService.findBySeasonId(selectedSeason.getId()) : gameService.findAll();
+    List<Game> list;
+    if (selectedSeason != null) {
+      list = gameService.findBySeasonId(selectedSeason.getId());
+    } else if (filterTeam != null) {
+      list = gameService.findByTeamId(filterTeam.getId());
+    } else {
+      list = gameService.findAll();
+    }
 
     // Filter by league
     if (selectedLeague != null) {
@@ -490,6 +507,73 @@ public class GameView {
     grid.add(new Label("Status:"), 0, 8);
     grid.add(statusCombo, 1, 8);
 
+    // Open slots for the chosen teams; picking one fills in date, time and field
+    ListView<FreeSlot> slotList = new ListView<>();
+    slotList.setPrefHeight(SUGGESTED_SLOTS * 24 + 2);
+    slotList.setPlaceholder(new Label("Choose both teams to see open slots"));
+    // The search waits while the slot catalog loads, so it runs off the FX thread; only the latest
+    // search's results are shown
+    AtomicInteger slotSearch = new AtomicInteger();
+    Runnable refreshSlots = () -> {
+      int search = slotSearch.incrementAndGet();
+      Team home = homeCombo.getValue();
+      Team away = awayCombo.getValue();
+      if (home == null || away == null || home.getId() == null || away.getId() == null || home.getId().equals(away.getId())) {
+        slotList.getItems().clear();
+        slotList.setPlaceholder(new Label("Choose both teams to see open slots"));
+        return;
+      }
+      LocalDateTime from = LocalDateTime.now();
+      if (datePicker.getValue() != null && datePicker.getValue().isAfter(from.toLocalDate())) {
+        from = datePicker.getValue().atStartOfDay();
+      }
+      LocalDateTime searchFrom = from;
+      Long excludeGameId = existing == null ? null : existing.getId();
+      Task<List<FreeSlot>> task = new Task<>() {
+        @Override
+        protected List<FreeSlot> call() {
+          return freeSlotService.findOpenSlots(home.getId(), away.getId(), excludeGameId, searchFrom, SUGGESTED_SLOTS);
+        }
+      };
+      task.setOnSucceeded(e -> {
+        if (search != slotSearch.get()) return;
+        slotList.getItems().setAll(task.getValue());
+        slotList.setPlaceholder(new Label("No open slots; check field availability"));
+      });
+      task.setOnFailed(e -> {
+        if (search != slotSearch.get()) return;
+        slotList.setPlaceholder(new Label("Open slots could not be loaded"));
+      });
+      slotList.getItems().clear();
+      slotList.setPlaceholder(new Label("Finding open slots…"));
+      Thread worker = new Thread(task, "free-slot-search");
+      worker.setDaemon(true);
+      worker.start();
+    };
+    homeCombo.valueProperty().addListener((obs, old, team) -> refreshSlots.run());
+    awayCombo.valueProperty().addListener((obs, old, team) -> refreshSlots.run());
+    datePicker.valueProperty().addListener((obs, old, date) -> {
+      // Picking a suggestion sets the date too; keep the list in place for that
+      if (slotList.getSelectionModel().getSelectedItem() == null
+        || !slotList.getSelectionModel().getSelectedItem().start().toLocalDate().equals(date)) {
+        refreshSlots.run();
+      }
+    });
+    slotList.getSelectionModel().selectedItemProperty().addListener((obs, old, slot) -> {
+      if (slot == null) return;
+      datePicker.setValue(slot.start().toLocalDate());
+      hour.getValueFactory().setValue(slot.start().getHour());
+      minute.getValueFactory().setValue(slot.start().getMinute());
+      fieldCombo.getItems().stream()
+        .filter(f -> f.getId().equals(slot.fieldId()))
+        .findFirst()
+        .ifPresent(fieldCombo::setValue);
+    });
+    refreshSlots.run();
+
+    grid.add(new Label("Open Slots:"), 0, 9);
+    grid.add(slotList, 1, 9);
+
     return grid;
   }
 
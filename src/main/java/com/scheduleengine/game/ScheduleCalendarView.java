@@ -0,0 +1,820 @@
+package com.scheduleengine.game;
+
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.game.domain.CalendarGame;
+import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.service.FreeSlotService;
+import com.scheduleengine.game.service.GameService;
+import com.scheduleengine.navigation.NavigationContext;
+import com.scheduleengine.navigation.NavigationHandler;
+import com.scheduleengine.season.domain.Season;
+import javafx.concurrent.Task;
+import javafx.geometry.Insets;
+import javafx.geometry.Orientation;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.control.ToggleGroup;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Week and month calendar of a season's games across fields, drawn on a canvas. Only the visible
+ * days and fields are painted, and games are fetched for the visible date window (plus a week on
+ * either side) with a range query, so a season of thousands of games scrolls smoothly. Games can be
+ * dragged to another time, day or field; the target is checked against field availability and
+ * other bookings while dragging and again when the move is saved.
+ * <p>
+ * Loading a window, checking a drop target and saving a move all run off the FX thread, since the
+ * free slot service waits while its catalog loads. The calendar keeps showing what it has and
+ * redraws when a result arrives; results overtaken by a later request are dropped.
+ */
+public class ScheduleCalendarView {
+  enum Mode {WEEK, MONTH}
+
+  static final double HEADER_HEIGHT = 44;
+  static final double GUTTER_WIDTH = 56;
+  static final double CELL_HEIGHT = 12;
+  static final double MIN_COLUMN_WIDTH = 90;
+  static final int PREFETCH_DAYS = 7;
+  private static final int CELLS_PER_DAY = FreeSlotService.CELLS_PER_DAY;
+  private static final int CELLS_PER_HOUR = 60 / FreeSlotService.CELL_MINUTES;
+  private static final int GAME_CELLS = FreeSlotService.GAME_CELLS;
+  private static final double MONTH_HEADER_HEIGHT = 24;
+  private static final double MONTH_LINE_HEIGHT = 15;
+  private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("EEE MMM d");
+  private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+  private static final Font FONT = Font.font(11);
+  private static final Font BOLD = Font.font(null, FontWeight.BOLD, 11);
+
+  private final GameService gameService;
+  private final FieldService fieldService;
+  private final FreeSlotService freeSlotService;
+  private NavigationHandler navigationHandler;
+
+  private Season season;
+  private NavigationContext context;
+  private List<Field> fields = List.of();
+  private Mode mode = Mode.WEEK;
+  private LocalDate monthShown;
+
+  private final Canvas canvas = new Canvas();
+  private final ScrollBar hScroll = new ScrollBar();
+  private final ScrollBar vScroll = new ScrollBar();
+  private final Label title = new Label();
+  private final Label status = new Label();
+
+  // Games for [loadedFrom, loadedTo), by day
+  private LocalDate loadedFrom;
+  private LocalDate loadedTo;
+  private final Map<LocalDate, List<CalendarGame>> gamesByDay = new HashMap<>();
+  // Open cells per field and date, weekly hours with dated exceptions applied, for shading
+  private final Map<Long, Map<LocalDate, BitSet>> openCells = new HashMap<>();
+  // Window being fetched in the background, if any
+  private LocalDate loadingFrom;
+  private LocalDate loadingTo;
+  private final AtomicInteger loads = new AtomicInteger();
+
+  // Drag in progress
+  private CalendarGame dragged;
+  private int dragOffsetCells;
+  private Target dropTarget;
+  private String dropProblem;
+  private boolean dropChecking;
+  private final AtomicInteger dropChecks = new AtomicInteger();
+
+  /**
+   * Where a dragged game would go; {@code fieldId} is null for the unassigned column
+   */
+  record Target(LocalDate date, Long fieldId, int cell) {
+    LocalDateTime start() {
+      return date.atTime(LocalTime.of(cell / CELLS_PER_HOUR, cell % CELLS_PER_HOUR * FreeSlotService.CELL_MINUTES));
+    }
+  }
+
+  /**
+   * Games and open cells fetched for {@code [from, to)}
+   */
+  private record Window(LocalDate from, LocalDate to, Map<LocalDate, List<CalendarGame>> gamesByDay,
+                        Map<Long, Map<LocalDate, BitSet>> openCells) {
+  }
+
+  public ScheduleCalendarView(GameService gameService, FieldService fieldService, FreeSlotService freeSlotService) {
+    this.gameService = gameService;
+    this.fieldService = fieldService;
+    this.freeSlotService = freeSlotService;
+
+    hScroll.setOrientation(Orientation.HORIZONTAL);
+    vScroll.setOrientation(Orientation.VERTICAL);
+    hScroll.valueProperty().addListener((obs, old, value) -> redraw());
+    vScroll.valueProperty().addListener((obs, old, value) -> redraw());
+    canvas.setOnMousePressed(this::onPressed);
+    canvas.setOnMouseDragged(this::onDragged);
+    canvas.setOnMouseReleased(this::onReleased);
+    canvas.setOnMouseMoved(this::onMoved);
+    canvas.setOnScroll(this::onScroll);
+  }
+
+  public void setNavigationHandler(NavigationHandler navigationHandler) {
+    this.navigationHandler = navigationHandler;
+  }
+
+  public VBox getView(Season season, NavigationContext context) {
+    this.season = season;
+    this.context = context;
+    fields = new ArrayList<>(fieldService.findAll());
+    fields.sort(Comparator.comparing(Field::getName, String.CASE_INSENSITIVE_ORDER));
+    gamesByDay.clear();
+    openCells.clear();
+    invalidate();
+    LocalDate today = LocalDate.now();
+    monthShown = (today.isBefore(season.getStartDate()) || today.isAfter(season.getEndDate())
+      ? season.getStartDate() : today).withDayOfMonth(1);
+
+    VBox vbox = new VBox(10);
+    vbox.setPadding(new Insets(10));
+
+    title.setStyle("-fx-font-size: 18px; -fx-font-weight: bold;");
+    ToggleGroup modes = new ToggleGroup();
+    ToggleButton week = new ToggleButton("Week");
+    ToggleButton month = new ToggleButton("Month");
+    week.setToggleGroup(modes);
+    month.setToggleGroup(modes);
+    (mode == Mode.WEEK ? week : month).setSelected(true);
+    modes.selectedToggleProperty().addListener((obs, old, selected) -> {
+      if (selected == null) {
+        old.setSelected(true);
+        return;
+      }
+      mode = selected == week ? Mode.WEEK : Mode.MONTH;
+      redraw();
+    });
+    Button previous = new Button("◀");
+    previous.setOnAction(e -> page(-1));
+    Button todayButton = new Button("Today");
+    todayButton.setOnAction(e -> showDate(LocalDate.now()));
+    Button next = new Button("▶");
+    next.setOnAction(e -> page(1));
+    Button refresh = new Button("Refresh");
+    refresh.setOnAction(e -> {
+      invalidate();
+      redraw();
+    });
+    Region spacer = new Region();
+    HBox.setHgrow(spacer, Priority.ALWAYS);
+    HBox toolbar = new HBox(8, title, spacer, week, month, previous, todayButton, next, refresh);
+
+    Pane canvasHolder = new Pane(canvas);
+    canvasHolder.setMinSize(0, 0);
+    canvas.widthProperty().bind(canvasHolder.widthProperty());
+    canvas.heightProperty().bind(canvasHolder.heightProperty());
+    canvas.widthProperty().addListener((obs, old, w) -> redraw());
+    canvas.heightProperty().addListener((obs, old, h) -> redraw());
+    BorderPane calendar = new BorderPane(canvasHolder);
+    calendar.setRight(vScroll);
+    calendar.setBottom(hScroll);
+    VBox.setVgrow(calendar, Priority.ALWAYS);
+
+    status.setStyle("-fx-text-fill: #7f8c8d;");
+    status.setText("Drag a game to move it; double-click to open it.");
+    vbox.getChildren().addAll(toolbar, calendar, status);
+
+    // Start the day view at 08:00
+    vScroll.setValue(8 * CELLS_PER_HOUR * CELL_HEIGHT);
+    showDate(LocalDate.now());
+    return vbox;
+  }
+
+  // ---- Data -------------------------------------------------------------------------------
+
+  /**
+   * Fetch the visible window again on the next redraw; the games shown stay until it arrives
+   */
+  private void invalidate() {
+    loadedFrom = null;
+    loadedTo = null;
+    loadingFrom = null;
+    loadingTo = null;
+    loads.incrementAndGet();
+  }
+
+  /**
+   * Make sure games for {@code [from, to)} are loaded or loading, fetching a wider window in the
+   * background when they are not
+   */
+  private void ensureLoaded(LocalDate from, LocalDate to) {
+    LocalDate seasonEnd = season.getEndDate().plusDays(1);
+    from = max(from, season.getStartDate());
+    to = min(to, seasonEnd);
+    if (!from.isBefore(to)) return;
+    if (covers(loadedFrom, loadedTo, from, to) || covers(loadingFrom, loadingTo, from, to)) return;
+
+    LocalDate windowFrom = max(from.minusDays(PREFETCH_DAYS), season.getStartDate());
+    LocalDate windowTo = min(to.plusDays(PREFETCH_DAYS), seasonEnd);
+    loadingFrom = windowFrom;
+    loadingTo = windowTo;
+    int load = loads.incrementAndGet();
+    Long seasonId = season.getId();
+    List<Long> fieldIds = fields.stream().map(Field::getId).toList();
+    Task<Window> task = new Task<>() {
+      @Override
+      protected Window call() {
+        Map<LocalDate, List<CalendarGame>> games = new HashMap<>();
+        for (CalendarGame game : gameService.findCalendarGames(seasonId, windowFrom, windowTo)) {
+          games.computeIfAbsent(game.gameDate().toLocalDate(), d -> new ArrayList<>()).add(game);
+        }
+        Map<Long, Map<LocalDate, BitSet>> open = new HashMap<>();
+        for (Long fieldId : fieldIds) {
+          for (LocalDate date = windowFrom; date.isBefore(windowTo); date = date.plusDays(1)) {
+            open.computeIfAbsent(fieldId, id -> new HashMap<>()).put(date, freeSlotService.openCells(fieldId, date));
+          }
+        }
+        return new Window(windowFrom, windowTo, games, open);
+      }
+    };
+    task.setOnSucceeded(e -> {
+      if (load != loads.get()) return;
+      Window window = task.getValue();
+      loadingFrom = null;
+      loadingTo = null;
+      loadedFrom = window.from();
+      loadedTo = window.to();
+      gamesByDay.clear();
+      gamesByDay.putAll(window.gamesByDay());
+      window.openCells().forEach((fieldId, days) -> openCells.computeIfAbsent(fieldId, id -> new HashMap<>()).putAll(days));
+      redraw();
+    });
+    task.setOnFailed(e -> {
+      if (load != loads.get()) return;
+      loadingFrom = null;
+      loadingTo = null;
+      showProblem("Games could not be loaded: " + task.getException().getMessage());
+    });
+    runInBackground(task, "calendar-load");
+  }
+
+  private static boolean covers(LocalDate loadedFrom, LocalDate loadedTo, LocalDate from, LocalDate to) {
+    return loadedFrom != null && !from.isBefore(loadedFrom) && !to.isAfter(loadedTo);
+  }
+
+  /**
+   * Open cells of a field on a date, or null until the window holding the date has loaded
+   */
+  private BitSet openCells(Long fieldId, LocalDate date) {
+    return openCells.getOrDefault(fieldId, Map.of()).get(date);
+  }
+
+  private static void runInBackground(Task<?> task, String name) {
+    Thread worker = new Thread(task, name);
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  // ---- Week geometry ----------------------------------------------------------------------
+
+  private int columnsPerDay() {
+    return fields.size() + 1;
+  }
+
+  private double columnWidth() {
+    return Math.max(MIN_COLUMN_WIDTH, (canvas.getWidth() - GUTTER_WIDTH) / (7.0 * columnsPerDay()));
+  }
+
+  private double dayWidth() {
+    return columnWidth() * columnsPerDay();
+  }
+
+  private int seasonDays() {
+    return (int) ChronoUnit.DAYS.between(season.getStartDate(), season.getEndDate()) + 1;
+  }
+
+  private void updateScrollBars() {
+    double viewWidth = Math.max(0, canvas.getWidth() - GUTTER_WIDTH);
+    double viewHeight = Math.max(0, canvas.getHeight() - HEADER_HEIGHT);
+    hScroll.setMax(Math.max(0, seasonDays() * dayWidth() - viewWidth));
+    hScroll.setVisibleAmount(viewWidth);
+    hScroll.setUnitIncrement(columnWidth());
+    hScroll.setBlockIncrement(dayWidth());
+    vScroll.setMax(Math.max(0, CELLS_PER_DAY * CELL_HEIGHT - viewHeight));
+    vScroll.setVisibleAmount(viewHeight);
+    vScroll.setUnitIncrement(CELL_HEIGHT * CELLS_PER_HOUR);
+    hScroll.setVisible(mode == Mode.WEEK);
+    vScroll.setVisible(mode == Mode.WEEK);
+  }
+
+  private double dayX(int dayIndex) {
+    return GUTTER_WIDTH + dayIndex * dayWidth() - hScroll.getValue();
+  }
+
+  private double cellY(int cell) {
+    return HEADER_HEIGHT + cell * CELL_HEIGHT - vScroll.getValue();
+  }
+
+  private int columnOf(Long fieldId) {
+    if (fieldId == null) return fields.size();
+    for (int i = 0; i < fields.size(); i++) {
+      if (fields.get(i).getId().equals(fieldId)) return i;
+    }
+    return fields.size();
+  }
+
+  private static int cellOf(LocalDateTime time) {
+    return time.getHour() * CELLS_PER_HOUR + time.getMinute() / FreeSlotService.CELL_MINUTES;
+  }
+
+  /**
+   * The week-view target under a point, or null outside the grid or the season
+   */
+  private Target weekTargetAt(double x, double y) {
+    if (x < GUTTER_WIDTH || y < HEADER_HEIGHT) return null;
+    double offset = x - GUTTER_WIDTH + hScroll.getValue();
+    int day = (int) Math.floor(offset / dayWidth());
+    if (day < 0 || day >= seasonDays()) return null;
+    int column = Math.min(columnsPerDay() - 1, (int) ((offset - day * dayWidth()) / columnWidth()));
+    int cell = (int) Math.floor((y - HEADER_HEIGHT + vScroll.getValue()) / CELL_HEIGHT);
+    return new Target(season.getStartDate().plusDays(day), column < fields.size() ? fields.get(column).getId() : null,
+      Math.max(0, Math.min(CELLS_PER_DAY - 1, cell)));
+  }
+
+  // ---- Month geometry ---------------------------------------------------------------------
+
+  private LocalDate monthGridStart() {
+    return monthShown.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+  }
+
+  private double monthCellWidth() {
+    return canvas.getWidth() / 7;
+  }
+
+  private double monthCellHeight() {
+    return (canvas.getHeight() - MONTH_HEADER_HEIGHT) / 6;
+  }
+
+  private LocalDate monthDateAt(double x, double y) {
+    if (y < MONTH_HEADER_HEIGHT) return null;
+    int column = (int) Math.min(6, x / monthCellWidth());
+    int row = (int) Math.min(5, (y - MONTH_HEADER_HEIGHT) / monthCellHeight());
+    return monthGridStart().plusDays(row * 7L + column);
+  }
+
+  private boolean inSeason(LocalDate date) {
+    return !date.isBefore(season.getStartDate()) && !date.isAfter(season.getEndDate());
+  }
+
+  // ---- Drawing ----------------------------------------------------------------------------
+
+  private void redraw() {
+    if (season == null || canvas.getWidth() <= 0 || canvas.getHeight() <= 0) return;
+    updateScrollBars();
+    GraphicsContext g = canvas.getGraphicsContext2D();
+    g.setFill(Color.WHITE);
+    g.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    g.setTextBaseline(VPos.CENTER);
+    if (mode == Mode.WEEK) {
+      drawWeek(g);
+    } else {
+      drawMonth(g);
+    }
+  }
+
+  private void drawWeek(GraphicsContext g) {
+    double width = canvas.getWidth();
+    double height = canvas.getHeight();
+    double columnWidth = columnWidth();
+    double dayWidth = dayWidth();
+    int firstDay = Math.max(0, (int) Math.floor(hScroll.getValue() / dayWidth));
+    int lastDay = Math.min(seasonDays() - 1, (int) Math.floor((hScroll.getValue() + width - GUTTER_WIDTH) / dayWidth));
+    LocalDate start = season.getStartDate();
+    ensureLoaded(start.plusDays(firstDay), start.plusDays(lastDay + 1L));
+    int firstCell = Math.max(0, (int) Math.floor(vScroll.getValue() / CELL_HEIGHT));
+    int lastCell = Math.min(CELLS_PER_DAY - 1, (int) Math.ceil((vScroll.getValue() + height - HEADER_HEIGHT) / CELL_HEIGHT));
+    title.setText("Schedule - " + season.getName() + " - " + DAY_FORMAT.format(start.plusDays(firstDay)));
+
+    g.save();
+    g.beginPath();
+    g.rect(GUTTER_WIDTH, HEADER_HEIGHT, width - GUTTER_WIDTH, height - HEADER_HEIGHT);
+    g.clip();
+    for (int day = firstDay; day <= lastDay; day++) {
+      LocalDate date = start.plusDays(day);
+      double x = dayX(day);
+      // Closed time is shaded; the unassigned column has no availability
+      for (int column = 0; column < fields.size(); column++) {
+        double cx = x + column * columnWidth;
+        if (cx > width || cx + columnWidth < GUTTER_WIDTH) continue;
+        BitSet open = openCells(fields.get(column).getId(), date);
+        g.setFill(Color.web("#ecf0f1"));
+        g.fillRect(cx, cellY(firstCell), columnWidth, (lastCell - firstCell + 1) * CELL_HEIGHT);
+        if (open == null) continue;
+        g.setFill(Color.WHITE);
+        for (int run = open.nextSetBit(firstCell); run >= 0 && run <= lastCell; run = open.nextSetBit(open.nextClearBit(run))) {
+          int end = open.nextClearBit(run);
+          g.fillRect(cx, cellY(run), columnWidth, (end - run) * CELL_HEIGHT);
+        }
+      }
+      g.setFill(Color.web("#f8f9fa"));
+      g.fillRect(x + fields.size() * columnWidth, HEADER_HEIGHT, columnWidth, height - HEADER_HEIGHT);
+    }
+    // Hour lines
+    g.setStroke(Color.web("#dfe4ea"));
+    g.setLineWidth(1);
+    for (int cell = firstCell - firstCell % CELLS_PER_HOUR; cell <= lastCell; cell += CELLS_PER_HOUR) {
+      g.strokeLine(GUTTER_WIDTH, cellY(cell) + 0.5, width, cellY(cell) + 0.5);
+    }
+    for (int day = firstDay; day <= lastDay; day++) {
+      double x = dayX(day);
+      g.setStroke(Color.web("#dfe4ea"));
+      for (int column = 1; column < columnsPerDay(); column++) {
+        g.strokeLine(x + column * columnWidth + 0.5, HEADER_HEIGHT, x + column * columnWidth + 0.5, height);
+      }
+      g.setStroke(Color.web("#7f8c8d"));
+      g.strokeLine(x + 0.5, 0, x + 0.5, height);
+      for (CalendarGame game : gamesByDay.getOrDefault(start.plusDays(day), List.of())) {
+        int cell = cellOf(game.gameDate());
+        if (cell + GAME_CELLS < firstCell || cell > lastCell) continue;
+        double gx = x + columnOf(game.fieldId()) * columnWidth;
+        if (gx > width || gx + columnWidth < GUTTER_WIDTH) continue;
+        drawGame(g, game, gx, cellY(cell), columnWidth, GAME_CELLS * CELL_HEIGHT, game == dragged ? 0.35 : 1);
+      }
+    }
+    if (dragged != null && dropTarget != null) {
+      int day = (int) ChronoUnit.DAYS.between(start, dropTarget.date());
+      double gx = dayX(day) + columnOf(dropTarget.fieldId()) * columnWidth;
+      double gy = cellY(dropTarget.cell());
+      g.setFill(dropChecking ? Color.web("#3498db", 0.25)
+        : dropProblem == null ? Color.web("#2ecc71", 0.35) : Color.web("#e74c3c", 0.35));
+      g.fillRect(gx + 2, gy, columnWidth - 4, GAME_CELLS * CELL_HEIGHT);
+      g.setStroke(dropChecking ? Color.web("#2980b9")
+        : dropProblem == null ? Color.web("#27ae60") : Color.web("#c0392b"));
+      g.setLineWidth(2);
+      g.strokeRect(gx + 2, gy, columnWidth - 4, GAME_CELLS * CELL_HEIGHT);
+    }
+    g.restore();
+
+    // Header: day and field names
+    g.setFill(Color.web("#34495e"));
+    g.fillRect(0, 0, width, HEADER_HEIGHT);
+    g.save();
+    g.beginPath();
+    g.rect(GUTTER_WIDTH, 0, width - GUTTER_WIDTH, HEADER_HEIGHT);
+    g.clip();
+    for (int day = firstDay; day <= lastDay; day++) {
+      LocalDate date = start.plusDays(day);
+      double x = dayX(day);
+      g.setFill(date.equals(LocalDate.now()) ? Color.web("#f1c40f") : Color.WHITE);
+      g.setFont(BOLD);
+      g.setTextAlign(TextAlignment.LEFT);
+      int count = gamesByDay.getOrDefault(date, List.of()).size();
+      g.fillText(DAY_FORMAT.format(date) + (count > 0 ? "  (" + count + ")" : ""), Math.max(x, GUTTER_WIDTH) + 6, 12);
+      g.setFont(FONT);
+      g.setFill(Color.web("#bdc3c7"));
+      for (int column = 0; column < columnsPerDay(); column++) {
+        String name = column < fields.size() ? fields.get(column).getName() : "No field";
+        fillClipped(g, name, x + column * columnWidth + 6, 32, columnWidth - 10);
+      }
+    }
+    g.restore();
+
+    // Gutter: hours
+    g.setFill(Color.web("#f4f6f7"));
+    g.fillRect(0, HEADER_HEIGHT, GUTTER_WIDTH, height - HEADER_HEIGHT);
+    g.setFill(Color.web("#34495e"));
+    g.fillRect(0, 0, GUTTER_WIDTH, HEADER_HEIGHT);
+    g.setFill(Color.web("#7f8c8d"));
+    g.setFont(FONT);
+    g.setTextAlign(TextAlignment.RIGHT);
+    for (int cell = firstCell - firstCell % CELLS_PER_HOUR; cell <= lastCell; cell += CELLS_PER_HOUR) {
+      double y = cellY(cell);
+      if (y >= HEADER_HEIGHT) g.fillText(String.format("%02d:00", cell / CELLS_PER_HOUR), GUTTER_WIDTH - 8, y + 6);
+    }
+  }
+
+  private void drawMonth(GraphicsContext g) {
+    double cellWidth = monthCellWidth();
+    double cellHeight = monthCellHeight();
+    LocalDate gridStart = monthGridStart();
+    ensureLoaded(gridStart, gridStart.plusDays(42));
+    title.setText("Schedule - " + season.getName() + " - "
+      + monthShown.format(DateTimeFormatter.ofPattern("MMMM yyyy")));
+
+    g.setFill(Color.web("#34495e"));
+    g.fillRect(0, 0, canvas.getWidth(), MONTH_HEADER_HEIGHT);
+    g.setFont(BOLD);
+    g.setTextAlign(TextAlignment.CENTER);
+    g.setFill(Color.WHITE);
+    for (int column = 0; column < 7; column++) {
+      String name = DayOfWeek.MONDAY.plus(column).getDisplayName(java.time.format.TextStyle.SHORT, java.util.Locale.getDefault());
+      g.fillText(name, column * cellWidth + cellWidth / 2, MONTH_HEADER_HEIGHT / 2);
+    }
+
+    LocalDate dropDate = dragged != null && dropTarget != null ? dropTarget.date() : null;
+    for (int i = 0; i < 42; i++) {
+      LocalDate date = gridStart.plusDays(i);
+      double x = (i % 7) * cellWidth;
+      double y = MONTH_HEADER_HEIGHT + (i / 7) * cellHeight;
+      g.setFill(!inSeason(date) ? Color.web("#ecf0f1") : date.getMonth() == monthShown.getMonth() ? Color.WHITE : Color.web("#f8f9fa"));
+      g.fillRect(x, y, cellWidth, cellHeight);
+      if (date.equals(dropDate)) {
+        g.setFill(dropChecking ? Color.web("#3498db", 0.2)
+          : dropProblem == null ? Color.web("#2ecc71", 0.25) : Color.web("#e74c3c", 0.25));
+        g.fillRect(x, y, cellWidth, cellHeight);
+      }
+      g.setStroke(Color.web("#dfe4ea"));
+      g.setLineWidth(1);
+      g.strokeRect(x + 0.5, y + 0.5, cellWidth, cellHeight);
+
+      g.setTextAlign(TextAlignment.LEFT);
+      g.setFont(BOLD);
+      g.setFill(date.equals(LocalDate.now()) ? Color.web("#e67e22") : Color.web("#2c3e50"));
+      g.fillText(String.valueOf(date.getDayOfMonth()), x + 6, y + 10);
+
+      List<CalendarGame> games = gamesByDay.getOrDefault(date, List.of());
+      int lines = Math.max(0, (int) ((cellHeight - 22) / MONTH_LINE_HEIGHT));
+      g.setFont(FONT);
+      for (int line = 0; line < games.size() && line < lines; line++) {
+        if (line == lines - 1 && games.size() > lines) {
+          g.setFill(Color.web("#7f8c8d"));
+          g.fillText("+" + (games.size() - line) + " more", x + 6, y + 26 + line * MONTH_LINE_HEIGHT);
+          break;
+        }
+        CalendarGame game = games.get(line);
+        double ly = y + 20 + line * MONTH_LINE_HEIGHT;
+        g.setFill(statusColor(game.status()).deriveColor(0, 1, 1, game == dragged ? 0.3 : 1));
+        g.fillRoundRect(x + 3, ly, cellWidth - 6, MONTH_LINE_HEIGHT - 2, 4, 4);
+        g.setFill(Color.WHITE);
+        fillClipped(g, TIME_FORMAT.format(game.gameDate()) + " " + game.label(), x + 7, ly + (MONTH_LINE_HEIGHT - 2) / 2, cellWidth - 14);
+      }
+    }
+  }
+
+  private void drawGame(GraphicsContext g, CalendarGame game, double x, double y, double width, double height, double opacity) {
+    g.setFill(statusColor(game.status()).deriveColor(0, 1, 1, opacity));
+    g.fillRoundRect(x + 2, y + 1, width - 4, height - 2, 6, 6);
+    g.setFill(Color.WHITE.deriveColor(0, 1, 1, opacity));
+    g.setFont(BOLD);
+    g.setTextAlign(TextAlignment.LEFT);
+    fillClipped(g, TIME_FORMAT.format(game.gameDate()), x + 6, y + 9, width - 12);
+    g.setFont(FONT);
+    fillClipped(g, game.homeTeamName(), x + 6, y + 24, width - 12);
+    fillClipped(g, "vs " + game.awayTeamName(), x + 6, y + 38, width - 12);
+  }
+
+  /**
+   * Draw text cut to fit the width; measuring is avoided by estimating six pixels per character
+   */
+  private static void fillClipped(GraphicsContext g, String text, double x, double y, double width) {
+    int fits = (int) (width / 6);
+    if (fits <= 0) return;
+    g.fillText(text.length() > fits ? text.substring(0, Math.max(0, fits - 1)) + "…" : text, x, y);
+  }
+
+  static Color statusColor(Game.GameStatus status) {
+    if (status == null) return Color.web("#3498db");
+    return switch (status) {
+      case SCHEDULED -> Color.web("#3498db");
+      case IN_PROGRESS -> Color.web("#9b59b6");
+      case COMPLETED -> Color.web("#27ae60");
+      case POSTPONED -> Color.web("#e67e22");
+      case CANCELLED -> Color.web("#95a5a6");
+    };
+  }
+
+  // ---- Interaction ------------------------------------------------------------------------
+
+  private CalendarGame gameAt(double x, double y) {
+    if (mode == Mode.WEEK) {
+      Target at = weekTargetAt(x, y);
+      if (at == null) return null;
+      for (CalendarGame game : gamesByDay.getOrDefault(at.date(), List.of())) {
+        int cell = cellOf(game.gameDate());
+        if (columnOf(game.fieldId()) == columnOf(at.fieldId()) && at.cell() >= cell && at.cell() < cell + GAME_CELLS) {
+          return game;
+        }
+      }
+      return null;
+    }
+    LocalDate date = monthDateAt(x, y);
+    if (date == null) return null;
+    double cellTop = MONTH_HEADER_HEIGHT + Math.floor((y - MONTH_HEADER_HEIGHT) / monthCellHeight()) * monthCellHeight();
+    int line = (int) Math.floor((y - cellTop - 20) / MONTH_LINE_HEIGHT);
+    List<CalendarGame> games = gamesByDay.getOrDefault(date, List.of());
+    int lines = Math.max(0, (int) ((monthCellHeight() - 22) / MONTH_LINE_HEIGHT));
+    boolean overflow = games.size() > lines;
+    return line >= 0 && line < games.size() && line < (overflow ? lines - 1 : lines) ? games.get(line) : null;
+  }
+
+  private void onPressed(MouseEvent e) {
+    if (season == null || e.getButton() != MouseButton.PRIMARY) return;
+    CalendarGame game = gameAt(e.getX(), e.getY());
+    if (game == null) return;
+    if (e.getClickCount() == 2) {
+      openGame(game);
+      return;
+    }
+    dragged = game;
+    Target at = mode == Mode.WEEK ? weekTargetAt(e.getX(), e.getY()) : null;
+    dragOffsetCells = at == null ? 0 : at.cell() - cellOf(game.gameDate());
+    dropTarget = null;
+    dropProblem = null;
+    dropChecking = false;
+  }
+
+  private void onDragged(MouseEvent e) {
+    if (dragged == null) return;
+    Target target;
+    if (mode == Mode.WEEK) {
+      Target at = weekTargetAt(e.getX(), e.getY());
+      target = at == null ? null
+        : new Target(at.date(), at.fieldId(), Math.max(0, Math.min(CELLS_PER_DAY - GAME_CELLS, at.cell() - dragOffsetCells)));
+    } else {
+      LocalDate date = monthDateAt(e.getX(), e.getY());
+      target = date == null || !inSeason(date) ? null : new Target(date, dragged.fieldId(), cellOf(dragged.gameDate()));
+    }
+    boolean changed = target != null && !target.equals(dropTarget);
+    dropTarget = target;
+    if (changed) checkDrop(dragged, target);
+    redraw();
+  }
+
+  /**
+   * Check the target against field availability and other bookings in the background; the answer
+   * is shown if the game is still over the same target
+   */
+  private void checkDrop(CalendarGame game, Target target) {
+    int check = dropChecks.incrementAndGet();
+    dropChecking = true;
+    dropProblem = null;
+    status.setStyle("-fx-text-fill: #7f8c8d;");
+    status.setText("Checking " + DAY_FORMAT.format(target.date()) + " " + TIME_FORMAT.format(target.start())
+      + " · " + fieldName(target.fieldId()) + "…");
+    Long seasonId = season.getId();
+    Task<Optional<String>> task = new Task<>() {
+      @Override
+      protected Optional<String> call() {
+        return freeSlotService.findConflict(game.id(), seasonId, target.fieldId(), game.homeTeamId(),
+          game.awayTeamId(), target.start());
+      }
+    };
+    task.setOnSucceeded(e -> {
+      if (check != dropChecks.get() || dragged != game || !target.equals(dropTarget)) return;
+      dropChecking = false;
+      dropProblem = task.getValue().orElse(null);
+      status.setText(dropProblem != null ? dropProblem
+        : "Move " + game.label() + " to " + DAY_FORMAT.format(target.date()) + " " + TIME_FORMAT.format(target.start())
+        + " · " + fieldName(target.fieldId()));
+      status.setStyle(dropProblem != null ? "-fx-text-fill: #c0392b;" : "-fx-text-fill: #27ae60;");
+      redraw();
+    });
+    task.setOnFailed(e -> {
+      if (check != dropChecks.get() || dragged != game || !target.equals(dropTarget)) return;
+      dropChecking = false;
+      dropProblem = "The target could not be checked: " + task.getException().getMessage();
+      showProblem(dropProblem);
+      redraw();
+    });
+    runInBackground(task, "calendar-drop-check");
+  }
+
+  private void onReleased(MouseEvent e) {
+    if (dragged == null) return;
+    CalendarGame game = dragged;
+    Target target = dropTarget;
+    dragged = null;
+    dropTarget = null;
+    boolean moved = target != null && (!target.start().equals(game.gameDate())
+      || columnOf(target.fieldId()) != columnOf(game.fieldId()));
+    // A check still running is dropped; saving the move checks the target again
+    dropChecks.incrementAndGet();
+    if (moved && dropProblem == null) {
+      move(game, target);
+    } else if (moved) {
+      status.setText("Not moved: " + dropProblem);
+    }
+    dropProblem = null;
+    dropChecking = false;
+    redraw();
+  }
+
+  private void move(CalendarGame game, Target target) {
+    Field field = fieldById(target.fieldId());
+    String where = DAY_FORMAT.format(target.date()) + " " + TIME_FORMAT.format(target.start()) + " · " + fieldName(target.fieldId());
+    status.setStyle("-fx-text-fill: #7f8c8d;");
+    status.setText("Moving " + game.label() + " to " + where + "…");
+    Task<Game> task = new Task<>() {
+      @Override
+      protected Game call() {
+        return gameService.reschedule(game.id(), target.start(), field);
+      }
+    };
+    task.setOnSucceeded(e -> {
+      status.setText("Moved " + game.label() + " to " + where);
+      status.setStyle("-fx-text-fill: #27ae60;");
+      invalidate();
+      redraw();
+    });
+    task.setOnFailed(e -> {
+      Throwable ex = task.getException();
+      showProblem(ex instanceof IllegalArgumentException ? ex.getMessage()
+        : "Could not move " + game.label() + ": " + ex.getMessage());
+    });
+    runInBackground(task, "calendar-move");
+  }
+
+  private void showProblem(String problem) {
+    status.setText(problem);
+    status.setStyle("-fx-text-fill: #c0392b;");
+  }
+
+  private void onMoved(MouseEvent e) {
+    if (season == null) return;
+    CalendarGame game = gameAt(e.getX(), e.getY());
+    if (game == null) return;
+    status.setStyle("-fx-text-fill: #7f8c8d;");
+    status.setText(DAY_FORMAT.format(game.gameDate()) + " " + TIME_FORMAT.format(game.gameDate()) + " · "
+      + game.label() + " · " + fieldName(game.fieldId()) + (game.status() != null ? " · " + game.status() : ""));
+  }
+
+  private void onScroll(ScrollEvent e) {
+    if (mode != Mode.WEEK) return;
+    double dx = e.isShiftDown() ? e.getDeltaY() : e.getDeltaX();
+    double dy = e.isShiftDown() ? 0 : e.getDeltaY();
+    hScroll.setValue(clamp(hScroll.getValue() - dx, hScroll.getMax()));
+    vScroll.setValue(clamp(vScroll.getValue() - dy, vScroll.getMax()));
+    e.consume();
+  }
+
+  private void page(int direction) {
+    if (mode == Mode.WEEK) {
+      hScroll.setValue(clamp(hScroll.getValue() + direction * 7 * dayWidth(), hScroll.getMax()));
+    } else {
+      monthShown = monthShown.plusMonths(direction);
+      redraw();
+    }
+  }
+
+  private void showDate(LocalDate date) {
+    LocalDate shown = max(season.getStartDate(), min(date, season.getEndDate()));
+    monthShown = shown.withDayOfMonth(1);
+    updateScrollBars();
+    hScroll.setValue(clamp(ChronoUnit.DAYS.between(season.getStartDate(), shown) * dayWidth(), hScroll.getMax()));
+    redraw();
+  }
+
+  private void openGame(CalendarGame calendarGame) {
+    if (navigationHandler == null) return;
+    gameService.findById(calendarGame.id()).ifPresent(game -> navigationHandler.navigate(
+      (context != null ? context : new NavigationContext()).navigateTo("game-detail", "Game #" + game.getId(), game)));
+  }
+
+  private Field fieldById(Long fieldId) {
+    return fieldId == null ? null : fields.stream().filter(f -> f.getId().equals(fieldId)).findFirst().orElse(null);
+  }
+
+  private String fieldName(Long fieldId) {
+    Field field = fieldById(fieldId);
+    return field == null ? "No field" : field.getName();
+  }
+
+  private static double clamp(double value, double max) {
+    return Math.max(0, Math.min(max, value));
+  }
+
+  private static LocalDate max(LocalDate a, LocalDate b) {
+    return a.isAfter(b) ? a : b;
+  }
+
+  private static LocalDate min(LocalDate a, LocalDate b) {
+    return a.isBefore(b) ? a : b;
+  }
+}
@@ -0,0 +1,16 @@
+package com.scheduleengine.game.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * A game as drawn on the schedule calendar, read without loading the entity or its teams
+ *
+ * @param fieldId null for games not yet assigned to a field
+ */
+public record CalendarGame(Long id, LocalDateTime gameDate, Long fieldId, Long homeTeamId, String homeTeamName,
+                           Long awayTeamId, String awayTeamName, Game.GameStatus status) {
+
+  public String label() {
+    return homeTeamName + " vs " + awayTeamName;
+  }
+}
@@ -0,0 +1,18 @@
+package com.scheduleengine.game.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * A game as written to calendar feeds and printed schedules, read as a flat row without loading the
+ * entity or its teams
+ *
+ * @param fieldName null for games not yet assigned to a field
+ */
+public record FeedEvent(Long id, LocalDateTime gameDate, String homeTeamName, String awayTeamName,
+                        String fieldName, String fieldAddress, String seasonName, Game.GameStatus status,
+                        Integer homeScore, Integer awayScore, String notes) {
+
+  public String summary() {
+    return homeTeamName + " vs " + awayTeamName;
+  }
+}
@@ -0,0 +1,13 @@
+package com.scheduleengine.game.domain;
+
+import java.nio.file.Path;
+
+/**
+ * Outcome of writing one calendar feed
+ *
+ * @param changed events added or changed since the feed was last written
+ * @param removed events dropped from the feed since it was last written
+ * @param written false when nothing changed and the existing file was left alone
+ */
+public record FeedResult(Path file, int events, int changed, int removed, boolean written) {
+}
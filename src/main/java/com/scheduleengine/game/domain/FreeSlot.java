@@ -0,0 +1,16 @@
+package com.scheduleengine.game.domain;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * A game-length window in which a field is available and not booked
+ */
+public record FreeSlot(Long fieldId, String fieldName, LocalDateTime start, LocalDateTime end) {
+  private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("EEE MMM d, HH:mm");
+
+  @Override
+  public String toString() {
+    return FORMAT.format(start) + "–" + end.toLocalTime() + " · " + fieldName;
+  }
+}
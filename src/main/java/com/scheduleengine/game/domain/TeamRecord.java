@@ -0,0 +1,16 @@
+package com.scheduleengine.game.domain;
+
+/**
+ * Win/loss record of a team over completed games
+ *
+ * @param scoreDifference points scored minus points conceded
+ */
+public record TeamRecord(Long teamId, long wins, long losses, long ties, long scoreDifference) {
+
+  /**
+   * Standings points: two for a win, one for a tie
+   */
+  public long points() {
+    return wins * 2 + ties;
+  }
+}
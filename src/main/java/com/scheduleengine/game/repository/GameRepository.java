@@ -1,10 +1,22 @@
 package com.scheduleengine.game.repository;
 
+import com.scheduleengine.game.domain.CalendarGame;
+import com.scheduleengine.game.domain.FeedEvent;
 import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.domain.TeamRecord;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface GameRepository extends JpaRepository<Game, Long> {
@@ -12,5 +24,103 @@ public interface GameRepository extends JpaRepository<Game, Long> {
 
   List<Game> findByHomeTeamIdOrAwayTeamId(Long homeTeamId, Long awayTeamId);
 
-  void deleteBySeasonId(Long seasonId);
+  /**
+   * A season's games starting in {@code [from, to)}, earliest first; served by idx_games_season_date
+   */
+  @Query("""
+    select new com.scheduleengine.game.domain.CalendarGame(g.id, g.gameDate, f.id, h.id, h.name, a.id, a.name, g.status)
+    from Game g join g.homeTeam h join g.awayTeam a left join g.field f
+    where g.season.id = :seasonId and g.gameDate >= :from and g.gameDate < :to
+    order by g.gameDate, g.id""")
+  List<CalendarGame> findCalendarGames(@Param("seasonId") Long seasonId, @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+  String FEED_EVENT_SELECT = """
+    select new com.scheduleengine.game.domain.FeedEvent(g.id, g.gameDate, h.name, a.name, f.name, f.address,
+      s.name, g.status, g.homeScore, g.awayScore, g.notes)
+    from Game g join g.homeTeam h join g.awayTeam a left join g.field f left join g.season s
+    """;
+
+  /**
+   * A team's home and away games in date order, streamed for writing its calendar feed. The stream
+   * must be consumed and closed inside a transaction.
+   */
+  @Query(FEED_EVENT_SELECT + "where h.id = :teamId or a.id = :teamId order by g.gameDate, g.id")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+  Stream<FeedEvent> streamTeamFeed(@Param("teamId") Long teamId);
+
+  /**
+   * A season's games in date order, streamed for writing its calendar feed
+   */
+  @Query(FEED_EVENT_SELECT + "where s.id = :seasonId order by g.gameDate, g.id")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+  Stream<FeedEvent> streamSeasonFeed(@Param("seasonId") Long seasonId);
+
+  /**
+   * The games booked on a field in date order, streamed for writing its calendar feed
+   */
+  @Query(FEED_EVENT_SELECT + "where f.id = :fieldId order by g.gameDate, g.id")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+  Stream<FeedEvent> streamFieldFeed(@Param("fieldId") Long fieldId);
+
+  /**
+   * A team's games from {@code from} up to but not including {@code to}, streamed for publishing
+   */
+  @Query(FEED_EVENT_SELECT + """
+    where (h.id = :teamId or a.id = :teamId) and g.gameDate >= :from and g.gameDate < :to
+    order by g.gameDate, g.id""")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+  Stream<FeedEvent> streamTeamSchedule(@Param("teamId") Long teamId, @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+  /**
+   * A field's games from {@code from} up to but not including {@code to}, streamed for publishing
+   */
+  @Query(FEED_EVENT_SELECT + """
+    where f.id = :fieldId and g.gameDate >= :from and g.gameDate < :to
+    order by g.gameDate, g.id""")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+  Stream<FeedEvent> streamFieldSchedule(@Param("fieldId") Long fieldId, @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+  /**
+   * The games of a league's seasons from {@code from} up to but not including {@code to}, streamed
+   * for publishing
+   */
+  @Query(FEED_EVENT_SELECT + """
+    where s.league.id = :leagueId and g.gameDate >= :from and g.gameDate < :to
+    order by g.gameDate, g.id""")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+  Stream<FeedEvent> streamLeagueSchedule(@Param("leagueId") Long leagueId, @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+  /**
+   * Delete a season's games in one statement, without loading them
+   *
+   * @return the number of games deleted
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from Game g where g.season.id = :seasonId")
+  int deleteBySeasonId(@Param("seasonId") Long seasonId);
+
+  /**
+   * Records of the given teams over scored games with the given status played before a date. Teams
+   * without such games are absent from the result.
+   */
+  @Query("""
+    select new com.scheduleengine.game.domain.TeamRecord(t.id,
+      sum(case when (g.homeTeam = t and g.homeScore > g.awayScore)
+                 or (g.awayTeam = t and g.awayScore > g.homeScore) then 1 else 0 end),
+      sum(case when (g.homeTeam = t and g.homeScore < g.awayScore)
+                 or (g.awayTeam = t and g.awayScore < g.homeScore) then 1 else 0 end),
+      sum(case when g.homeScore = g.awayScore then 1 else 0 end),
+      sum(case when g.homeTeam = t then g.homeScore - g.awayScore else g.awayScore - g.homeScore end))
+    from Game g join Team t on g.homeTeam = t or g.awayTeam = t
+    where t.id in :teamIds and g.status = :status and g.gameDate < :before
+      and g.homeScore is not null and g.awayScore is not null
+    group by t.id
+    """)
+  List<TeamRecord> findTeamRecords(@Param("teamIds") Collection<Long> teamIds,
+                                   @Param("status") Game.GameStatus status,
+                                   @Param("before") LocalDateTime before);
 }
@@ -0,0 +1,79 @@
+package com.scheduleengine.game.service;
+
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.season.domain.Season;
+import com.scheduleengine.season.service.SeasonService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the calendar feeds of every team, season and field up to date in a published directory.
+ * Regenerating is cheap when little has changed, since unchanged feeds are not rewritten.
+ */
+@Component
+@ConditionalOnProperty(name = "calendar-feeds.enabled", havingValue = "true")
+public class CalendarFeedPublisher {
+  private static final Logger log = LoggerFactory.getLogger(CalendarFeedPublisher.class);
+
+  private final CalendarFeedService calendarFeedService;
+  private final SeasonService seasonService;
+  private final FieldService fieldService;
+  private final Path directory;
+  private final Duration interval;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "calendar-feed-publisher");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public CalendarFeedPublisher(CalendarFeedService calendarFeedService, SeasonService seasonService,
+                               FieldService fieldService,
+                               @Value("${calendar-feeds.directory:./data/feeds}") Path directory,
+                               @Value("${calendar-feeds.interval:15m}") Duration interval) {
+    this.calendarFeedService = calendarFeedService;
+    this.seasonService = seasonService;
+    this.fieldService = fieldService;
+    this.directory = directory;
+    this.interval = interval;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    scheduler.scheduleWithFixedDelay(this::publish, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Regenerate all feeds now
+   */
+  public void publish() {
+    try {
+      calendarFeedService.writeAllTeamFeeds(directory);
+      for (Season season : seasonService.findAll()) {
+        calendarFeedService.writeSeasonFeed(season.getId(), directory);
+      }
+      for (Field field : fieldService.findAll()) {
+        calendarFeedService.writeFieldFeed(field.getId(), directory);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Publishing calendar feeds to {} failed; feeds stay as last written", directory, e);
+    }
+  }
+
+  @PreDestroy
+  void stop() {
+    scheduler.shutdownNow();
+  }
+}
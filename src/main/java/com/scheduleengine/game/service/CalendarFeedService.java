@@ -0,0 +1,326 @@
+package com.scheduleengine.game.service;
+
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.game.domain.FeedEvent;
+import com.scheduleengine.game.domain.FeedResult;
+import com.scheduleengine.game.repository.GameRepository;
+import com.scheduleengine.season.domain.Season;
+import com.scheduleengine.season.service.SeasonService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.domain.TeamSummary;
+import com.scheduleengine.team.service.TeamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes iCalendar feeds of a team's, season's or field's games. Games are streamed from the
+ * database straight into the file, so a feed never holds a whole season in memory.
+ * <p>
+ * A {@code .hashes} file next to each feed keeps a content hash per event. Unchanged events keep
+ * their SEQUENCE and DTSTAMP, so regenerating gives byte-identical output, and a feed whose events
+ * have not changed is not rewritten at all; a rescheduled game only touches the feeds it appears in.
+ */
+@Service
+public class CalendarFeedService {
+  private static final Logger log = LoggerFactory.getLogger(CalendarFeedService.class);
+
+  static final String PRODID = "-//Schedule Engine//Calendar Feed//EN";
+  static final String HASHES_SUFFIX = ".hashes";
+
+  private final GameRepository gameRepository;
+  private final TeamService teamService;
+  private final SeasonService seasonService;
+  private final FieldService fieldService;
+  private final TransactionTemplate readOnly;
+
+  /**
+   * What was last written for one event
+   *
+   * @param stamp the DTSTAMP value, i.e. when the event last changed
+   */
+  private record EventState(String hash, int sequence, String stamp) {
+  }
+
+  private record Manifest(String calendarHash, Map<String, EventState> events) {
+    static final Manifest EMPTY = new Manifest("", Map.of());
+  }
+
+  public CalendarFeedService(GameRepository gameRepository, TeamService teamService, SeasonService seasonService,
+                             FieldService fieldService, PlatformTransactionManager transactionManager) {
+    this.gameRepository = gameRepository;
+    this.teamService = teamService;
+    this.seasonService = seasonService;
+    this.fieldService = fieldService;
+    this.readOnly = new TransactionTemplate(transactionManager);
+    this.readOnly.setReadOnly(true);
+  }
+
+  /**
+   * Write the feed of a team's home and away games to {@code team-<id>.ics} in the directory
+   */
+  public FeedResult writeTeamFeed(Long teamId, Path directory) {
+    Team team = teamService.findById(teamId)
+      .orElseThrow(() -> new IllegalArgumentException("Team not found: " + teamId));
+    return writeTeamFeed(TeamSummary.of(team), createDirectories(directory));
+  }
+
+  /**
+   * Write the feed of a season's games to {@code season-<id>.ics} in the directory
+   */
+  public FeedResult writeSeasonFeed(Long seasonId, Path directory) {
+    Season season = seasonService.findById(seasonId)
+      .orElseThrow(() -> new IllegalArgumentException("Season not found: " + seasonId));
+    return writeFeed(createDirectories(directory).resolve("season-" + seasonId + ".ics"), season.getName(),
+      () -> gameRepository.streamSeasonFeed(seasonId));
+  }
+
+  /**
+   * Write the feed of the games booked on a field to {@code field-<id>.ics} in the directory
+   */
+  public FeedResult writeFieldFeed(Long fieldId, Path directory) {
+    Field field = fieldService.findById(fieldId)
+      .orElseThrow(() -> new IllegalArgumentException("Field not found: " + fieldId));
+    return writeFeed(createDirectories(directory).resolve("field-" + fieldId + ".ics"), field.getName(),
+      () -> gameRepository.streamFieldFeed(fieldId));
+  }
+
+  /**
+   * Write the feeds of every team, in parallel on one thread per core
+   */
+  public List<FeedResult> writeAllTeamFeeds(Path directory) {
+    Path dir = createDirectories(directory);
+    List<TeamSummary> teams = teamService.findSummaries();
+    if (teams.isEmpty()) return List.of();
+    long started = System.nanoTime();
+    int threads = Math.min(teams.size(), Runtime.getRuntime().availableProcessors());
+    AtomicInteger threadNumber = new AtomicInteger();
+    List<FeedResult> results = new ArrayList<>(teams.size());
+    try (ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+      Thread thread = new Thread(r, "calendar-feeds-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    })) {
+      List<CompletableFuture<FeedResult>> futures = teams.stream()
+        .map(team -> CompletableFuture.supplyAsync(() -> writeTeamFeed(team, dir), executor))
+        .toList();
+      for (CompletableFuture<FeedResult> future : futures) {
+        try {
+          results.add(future.join());
+        } catch (CompletionException e) {
+          throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+      }
+    }
+    log.info("Wrote {} of {} team calendar feeds on {} threads in {} ms",
+      results.stream().filter(FeedResult::written).count(), results.size(), threads,
+      (System.nanoTime() - started) / 1_000_000);
+    return results;
+  }
+
+  private FeedResult writeTeamFeed(TeamSummary team, Path directory) {
+    return writeFeed(directory.resolve("team-" + team.id() + ".ics"), team.name(),
+      () -> gameRepository.streamTeamFeed(team.id()));
+  }
+
+  private FeedResult writeFeed(Path file, String calendarName, Supplier<Stream<FeedEvent>> events) {
+    Path hashesFile = file.resolveSibling(file.getFileName() + HASHES_SUFFIX);
+    Path temp = null;
+    try {
+      Manifest previous = readManifest(hashesFile);
+      Map<String, EventState> current = new LinkedHashMap<>();
+      MessageDigest digest = sha256();
+      String now = IcsWriter.utc(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+      ZoneId zone = ZoneId.systemDefault();
+      List<String> header = List.of(
+        "BEGIN:VCALENDAR",
+        "VERSION:2.0",
+        "PRODID:" + PRODID,
+        "CALSCALE:GREGORIAN",
+        "METHOD:PUBLISH",
+        "X-WR-CALNAME:" + IcsWriter.text(calendarName));
+      String calendarHash = hash(digest, header);
+
+      temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+      Path out = temp;
+      int changed = readOnly.execute(status -> {
+        int changedEvents = 0;
+        try (Stream<FeedEvent> stream = events.get();
+             IcsWriter ics = new IcsWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+          for (String line : header) ics.line(line);
+          for (Iterator<FeedEvent> it = stream.iterator(); it.hasNext(); ) {
+            FeedEvent event = it.next();
+            List<String> properties = properties(event, zone);
+            String uid = "game-" + event.id() + "@schedule-engine";
+            String hash = hash(digest, properties);
+            EventState before = previous.events().get(uid);
+            EventState state = before;
+            if (before == null || !before.hash().equals(hash)) {
+              state = new EventState(hash, before == null ? 0 : before.sequence() + 1, now);
+              changedEvents++;
+            }
+            current.put(uid, state);
+            ics.line("BEGIN:VEVENT");
+            ics.line("UID:" + uid);
+            ics.line("DTSTAMP:" + state.stamp());
+            ics.line("SEQUENCE:" + state.sequence());
+            for (String line : properties) ics.line(line);
+            ics.line("END:VEVENT");
+          }
+          ics.line("END:VCALENDAR");
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        return changedEvents;
+      });
+      int removed = (int) previous.events().keySet().stream().filter(uid -> !current.containsKey(uid)).count();
+
+      if (changed == 0 && removed == 0 && calendarHash.equals(previous.calendarHash()) && Files.exists(file)) {
+        log.debug("Calendar feed {} is unchanged", file);
+        return new FeedResult(file, current.size(), 0, 0, false);
+      }
+      move(temp, file);
+      writeManifest(hashesFile, new Manifest(calendarHash, current));
+      log.debug("Wrote calendar feed {}: {} events, {} changed, {} removed", file, current.size(), changed, removed);
+      return new FeedResult(file, current.size(), changed, removed, true);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write calendar feed " + file, e);
+    } finally {
+      if (temp != null) {
+        try {
+          Files.deleteIfExists(temp);
+        } catch (IOException e) {
+          log.debug("Could not delete {}", temp, e);
+        }
+      }
+    }
+  }
+
+  /**
+   * The event's content lines other than UID, DTSTAMP and SEQUENCE; these are what is hashed
+   */
+  private static List<String> properties(FeedEvent event, ZoneId zone) {
+    LocalDateTime start = event.gameDate();
+    List<String> lines = new ArrayList<>(7);
+    lines.add("DTSTART:" + IcsWriter.utc(start.atZone(zone).toInstant()));
+    lines.add("DTEND:" + IcsWriter.utc(start.plus(FreeSlotService.GAME_LENGTH).atZone(zone).toInstant()));
+    lines.add("SUMMARY:" + IcsWriter.text(event.summary()));
+    if (event.fieldName() != null) {
+      String location = event.fieldAddress() == null || event.fieldAddress().isBlank()
+        ? event.fieldName() : event.fieldName() + ", " + event.fieldAddress();
+      lines.add("LOCATION:" + IcsWriter.text(location));
+    }
+    List<String> description = new ArrayList<>(3);
+    if (event.seasonName() != null) description.add(event.seasonName());
+    if (event.homeScore() != null && event.awayScore() != null) {
+      description.add("Final: " + event.homeScore() + " - " + event.awayScore());
+    }
+    if (event.notes() != null && !event.notes().isBlank()) description.add(event.notes());
+    if (!description.isEmpty()) {
+      lines.add("DESCRIPTION:" + IcsWriter.text(String.join("\n", description)));
+    }
+    // A game without a status is scheduled, as the calendar view shows it
+    lines.add("STATUS:" + switch (event.status()) {
+      case CANCELLED -> "CANCELLED";
+      case POSTPONED -> "TENTATIVE";
+      case null, default -> "CONFIRMED";
+    });
+    return lines;
+  }
+
+  private static String hash(MessageDigest digest, List<String> lines) {
+    for (String line : lines) {
+      digest.update(line.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) '\n');
+    }
+    // 128 bits are plenty to tell versions of one event apart
+    return HexFormat.of().formatHex(digest.digest(), 0, 16);
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Hashes file format: a {@code calendar <hash>} line for the feed header, then one
+   * {@code <uid> <hash> <sequence> <dtstamp>} line per event
+   */
+  private static Manifest readManifest(Path hashesFile) throws IOException {
+    if (!Files.exists(hashesFile)) return Manifest.EMPTY;
+    String calendarHash = "";
+    Map<String, EventState> events = new HashMap<>();
+    for (String line : Files.readAllLines(hashesFile, StandardCharsets.UTF_8)) {
+      String[] parts = line.split(" ");
+      if (parts.length == 2 && parts[0].equals("calendar")) {
+        calendarHash = parts[1];
+      } else if (parts.length == 4) {
+        try {
+          events.put(parts[0], new EventState(parts[1], Integer.parseInt(parts[2]), parts[3]));
+        } catch (NumberFormatException e) {
+          log.debug("Ignoring malformed line in {}: {}", hashesFile, line);
+        }
+      }
+    }
+    return new Manifest(calendarHash, events);
+  }
+
+  private static void writeManifest(Path hashesFile, Manifest manifest) throws IOException {
+    List<String> lines = new ArrayList<>(manifest.events().size() + 1);
+    lines.add("calendar " + manifest.calendarHash());
+    manifest.events().forEach((uid, state) ->
+      lines.add(uid + " " + state.hash() + " " + state.sequence() + " " + state.stamp()));
+    Files.write(hashesFile, lines, StandardCharsets.UTF_8);
+  }
+
+  private static void move(Path from, Path to) throws IOException {
+    try {
+      // Subscribers polling the directory see either the old or the new feed, never half of one
+      Files.move(from, to, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static Path createDirectories(Path directory) {
+    try {
+      return Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not create " + directory, e);
+    }
+  }
+}
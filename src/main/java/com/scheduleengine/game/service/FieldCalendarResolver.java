@@ -0,0 +1,198 @@
+package com.scheduleengine.game.service;
+
+import com.scheduleengine.field.domain.FieldException;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.scheduleengine.game.service.FreeSlotService.CELLS_PER_DAY;
+import static com.scheduleengine.game.service.FreeSlotService.cellAtOrAfter;
+import static com.scheduleengine.game.service.FreeSlotService.cellAtOrBefore;
+
+/**
+ * Resolves the quarter-hour cells in which a field is open on a given date. The weekly pattern is
+ * each availability window, shrunk to whole cells, minus each usage block, grown to whole cells;
+ * dated {@link FieldException}s are layered on top, extra hours first and closures last, so a
+ * closure always wins.
+ * <p>
+ * Weekly patterns are loaded for all fields at once. A field's dates are materialized a month at a
+ * time on first use and kept until {@link FreeSlotListener} reports a change to the field's hours,
+ * usage blocks or exceptions. Callers get copies and may modify them.
+ */
+@Component
+public class FieldCalendarResolver {
+  private final EntityManager entityManager;
+  // All state below is guarded by this
+  private Map<Long, BitSet[]> weeks;
+  private final Set<Long> staleFields = new HashSet<>();
+  private final Map<Month, BitSet[]> months = new HashMap<>();
+
+  /**
+   * One field's days in one month
+   */
+  private record Month(Long fieldId, YearMonth month) {
+  }
+
+  public FieldCalendarResolver(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * Quarter-hour cells in which the field is open on the given date
+   */
+  public synchronized BitSet openCells(Long fieldId, LocalDate date) {
+    return (BitSet) days(fieldId, YearMonth.from(date))[date.getDayOfMonth() - 1].clone();
+  }
+
+  /**
+   * Whether the field is open at all on the given date
+   */
+  public synchronized boolean isOpen(Long fieldId, LocalDate date) {
+    return !days(fieldId, YearMonth.from(date))[date.getDayOfMonth() - 1].isEmpty();
+  }
+
+  /**
+   * Load the weekly patterns ahead of the first lookup
+   */
+  public synchronized void preload() {
+    weeks();
+  }
+
+  /**
+   * A field's availability or usage blocks changed; its weekly pattern and every materialized month
+   * are rebuilt on next use
+   */
+  public synchronized void fieldScheduleChanged(Long fieldId) {
+    if (weeks != null) staleFields.add(fieldId);
+    months.keySet().removeIf(m -> m.fieldId().equals(fieldId));
+  }
+
+  /**
+   * An exception was added, changed or removed; only the month it falls in is rebuilt, or every
+   * month of the field when the date is not known
+   */
+  public synchronized void exceptionChanged(Long fieldId, LocalDate date) {
+    if (date == null) {
+      months.keySet().removeIf(m -> m.fieldId().equals(fieldId));
+    } else {
+      months.remove(new Month(fieldId, YearMonth.from(date)));
+    }
+  }
+
+  public synchronized void fieldDeleted(Long fieldId) {
+    if (weeks != null) weeks.remove(fieldId);
+    staleFields.remove(fieldId);
+    months.keySet().removeIf(m -> m.fieldId().equals(fieldId));
+  }
+
+  /**
+   * Drop everything, for changes made by bulk statements
+   */
+  public synchronized void invalidate() {
+    weeks = null;
+    staleFields.clear();
+    months.clear();
+  }
+
+  private BitSet[] days(Long fieldId, YearMonth month) {
+    Month key = new Month(fieldId, month);
+    BitSet[] days = months.get(key);
+    if (days == null) {
+      days = materialize(fieldId, month);
+      months.put(key, days);
+    }
+    return days;
+  }
+
+  private BitSet[] materialize(Long fieldId, YearMonth month) {
+    BitSet[] week = weeks().get(fieldId);
+    BitSet[] days = new BitSet[month.lengthOfMonth()];
+    for (int i = 0; i < days.length; i++) {
+      DayOfWeek day = month.atDay(i + 1).getDayOfWeek();
+      days[i] = week == null ? new BitSet(CELLS_PER_DAY) : (BitSet) week[day.ordinal()].clone();
+    }
+    List<FieldException> exceptions = entityManager.createQuery("""
+        select x from FieldException x where x.field.id = :fieldId and x.date between :from and :to""",
+        FieldException.class)
+      .setParameter("fieldId", fieldId)
+      .setParameter("from", month.atDay(1))
+      .setParameter("to", month.atEndOfMonth())
+      .getResultList();
+    for (FieldException x : exceptions) {
+      if (x.getKind() != FieldException.Kind.OPEN) continue;
+      int from = cellAtOrAfter(x.getStartTime());
+      int to = cellAtOrBefore(x.getEndTime());
+      if (from < to) days[x.getDate().getDayOfMonth() - 1].set(from, to);
+    }
+    for (FieldException x : exceptions) {
+      if (x.getKind() != FieldException.Kind.CLOSED) continue;
+      BitSet day = days[x.getDate().getDayOfMonth() - 1];
+      if (x.isAllDay()) {
+        day.clear();
+      } else {
+        int from = cellAtOrBefore(x.getStartTime());
+        int to = Math.min(CELLS_PER_DAY, cellAtOrAfter(x.getEndTime()));
+        if (from < to) day.clear(from, to);
+      }
+    }
+    return days;
+  }
+
+  private Map<Long, BitSet[]> weeks() {
+    if (weeks == null) {
+      weeks = weeks("", null);
+      staleFields.clear();
+    }
+    if (!staleFields.isEmpty()) {
+      for (Long fieldId : staleFields) {
+        weeks.remove(fieldId);
+        weeks.putAll(weeks(" where x.field.id = :fieldId", fieldId));
+      }
+      staleFields.clear();
+    }
+    return weeks;
+  }
+
+  /**
+   * Weekday bitmaps per field: availability windows, shrunk to whole cells, minus usage blocks,
+   * grown to whole cells
+   */
+  private Map<Long, BitSet[]> weeks(String where, Long fieldId) {
+    Map<Long, BitSet[]> cells = new HashMap<>();
+    for (Object[] r : windows("select x.field.id, x.dayOfWeek, x.openTime, x.closeTime from FieldAvailability x" + where, fieldId)) {
+      BitSet[] week = cells.computeIfAbsent((Long) r[0], id -> emptyWeek());
+      int from = cellAtOrAfter((LocalTime) r[2]);
+      int to = cellAtOrBefore((LocalTime) r[3]);
+      if (from < to) week[((DayOfWeek) r[1]).ordinal()].set(from, to);
+    }
+    for (Object[] r : windows("select x.field.id, x.dayOfWeek, x.startTime, x.endTime from FieldUsageBlock x" + where, fieldId)) {
+      BitSet[] week = cells.get((Long) r[0]);
+      int from = cellAtOrBefore((LocalTime) r[2]);
+      int to = Math.min(CELLS_PER_DAY, cellAtOrAfter((LocalTime) r[3]));
+      if (week != null && from < to) week[((DayOfWeek) r[1]).ordinal()].clear(from, to);
+    }
+    return cells;
+  }
+
+  private List<Object[]> windows(String jpql, Long fieldId) {
+    var query = entityManager.createQuery(jpql, Object[].class);
+    if (fieldId != null) query.setParameter("fieldId", fieldId);
+    return query.getResultList();
+  }
+
+  private static BitSet[] emptyWeek() {
+    BitSet[] week = new BitSet[7];
+    for (int i = 0; i < week.length; i++) week[i] = new BitSet(CELLS_PER_DAY);
+    return week;
+  }
+}
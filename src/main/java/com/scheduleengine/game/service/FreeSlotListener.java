@@ -0,0 +1,137 @@
+package com.scheduleengine.game.service;
+
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.domain.FieldAvailability;
+import com.scheduleengine.field.domain.FieldException;
+import com.scheduleengine.field.domain.FieldUsageBlock;
+import com.scheduleengine.field.service.FieldDistanceService;
+import com.scheduleengine.game.domain.Game;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the free slot catalog, the resolved field calendars and the field distance matrix in step
+ * with committed games, fields, availability windows, usage blocks and dated field exceptions. The
+ * catalog is loaded on a background thread once the application is ready.
+ */
+@Component
+public class FreeSlotListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+  PostCommitDeleteEventListener {
+  private static final Logger log = LoggerFactory.getLogger(FreeSlotListener.class);
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final FreeSlotService freeSlotService;
+  private final FieldCalendarResolver calendarResolver;
+  private final FieldDistanceService distanceService;
+
+  public FreeSlotListener(EntityManagerFactory entityManagerFactory, FreeSlotService freeSlotService,
+                          FieldCalendarResolver calendarResolver, FieldDistanceService distanceService) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.freeSlotService = freeSlotService;
+    this.calendarResolver = calendarResolver;
+    this.distanceService = distanceService;
+  }
+
+  @PostConstruct
+  void register() {
+    EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+      .getServiceRegistry().getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+    registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void preload() {
+    Thread loader = new Thread(() -> {
+      try {
+        freeSlotService.preload();
+      } catch (RuntimeException e) {
+        log.warn("Loading the free slot catalog failed", e);
+      }
+    }, "free-slot-catalog");
+    loader.setDaemon(true);
+    loader.start();
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    Class<?> type = persister.getMappedClass();
+    return type == Game.class || type == Field.class || type == FieldAvailability.class || type == FieldUsageBlock.class
+      || type == FieldException.class;
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    saved(event.getEntity(), false);
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    saved(event.getEntity(), true);
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    switch (event.getEntity()) {
+      case Game game -> freeSlotService.gameDeleted(game.getId());
+      case Field field -> {
+        freeSlotService.fieldDeleted(field.getId());
+        calendarResolver.fieldDeleted(field.getId());
+        distanceService.invalidate();
+      }
+      case FieldAvailability availability -> calendarResolver.fieldScheduleChanged(availability.getField().getId());
+      case FieldUsageBlock block -> calendarResolver.fieldScheduleChanged(block.getField().getId());
+      case FieldException exception -> calendarResolver.exceptionChanged(exception.getField().getId(), exception.getDate());
+      default -> {
+      }
+    }
+  }
+
+  /**
+   * @param updated whether an existing row changed, in which case an exception may have moved to
+   *                another month
+   */
+  private void saved(Object entity, boolean updated) {
+    switch (entity) {
+      case Game game -> freeSlotService.gameSaved(game);
+      case Field field -> {
+        freeSlotService.fieldSaved(field);
+        distanceService.invalidate();
+      }
+      case FieldAvailability availability -> calendarResolver.fieldScheduleChanged(availability.getField().getId());
+      case FieldUsageBlock block -> calendarResolver.fieldScheduleChanged(block.getField().getId());
+      case FieldException exception ->
+        calendarResolver.exceptionChanged(exception.getField().getId(), updated ? null : exception.getDate());
+      default -> {
+      }
+    }
+  }
+
+  @Override
+  public void onPostInsertCommitFailed(PostInsertEvent event) {
+  }
+
+  @Override
+  public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+  }
+
+  @Override
+  public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+  }
+}
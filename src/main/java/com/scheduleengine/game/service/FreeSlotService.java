@@ -0,0 +1,435 @@
+package com.scheduleengine.game.service;
+
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.domain.BlackoutCalendar;
+import com.scheduleengine.blackout.service.BlackoutService;
+import com.scheduleengine.diagnostics.MetricsConfig;
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.domain.FieldDistanceMatrix;
+import com.scheduleengine.field.service.FieldDistanceService;
+import com.scheduleengine.game.domain.FreeSlot;
+import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.team.domain.Team;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Suggests open game slots for manual game entry. The catalog splits each day into quarter-hour
+ * cells and keeps, per field, team and date, the cells taken by games. A slot is open where the
+ * field is open on that date, as resolved by {@link FieldCalendarResolver} from its weekly hours,
+ * usage blocks and dated exceptions, and neither the field's nor either team's date bitmap is set,
+ * so a search costs a few word-wide operations per field and day. Dated blackouts of the field, the
+ * teams and their leagues come from the compiled {@link BlackoutCalendar}, one bit test per owner
+ * and day. A team's games on one day are kept within a configurable distance of each other, read
+ * from the {@link FieldDistanceMatrix}; fields without coordinates are never too far.
+ * <p>
+ * The catalog is loaded once, then kept current by {@link FreeSlotListener} as games and fields
+ * are committed. Bulk game deletes cannot be followed and drop it for a reload instead.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class FreeSlotService {
+  private static final Logger log = LoggerFactory.getLogger(FreeSlotService.class);
+
+  public static final int CELL_MINUTES = 15;
+  public static final int CELLS_PER_DAY = 24 * 60 / CELL_MINUTES;
+  /** Games have no stored end time; each is assumed to take this long */
+  public static final Duration GAME_LENGTH = Duration.ofMinutes(90);
+  public static final int GAME_CELLS = (int) GAME_LENGTH.toMinutes() / CELL_MINUTES;
+  /** How far ahead of the start time to look */
+  static final int HORIZON_DAYS = 366;
+  /** Statuses whose games do not hold on to their slot */
+  private static final Set<Game.GameStatus> RELEASED = EnumSet.of(Game.GameStatus.CANCELLED, Game.GameStatus.POSTPONED);
+
+  private final EntityManager entityManager;
+  private final BlackoutService blackoutService;
+  private final FieldCalendarResolver calendarResolver;
+  private final FieldDistanceService distanceService;
+  private final double sameDayMaxKm;
+  // All state below is guarded by this
+  private Catalog catalog;
+
+  public FreeSlotService(EntityManager entityManager, BlackoutService blackoutService,
+                         FieldCalendarResolver calendarResolver, FieldDistanceService distanceService,
+                         @Value("${venues.same-day-max-km:15}") double sameDayMaxKm) {
+    this.entityManager = entityManager;
+    this.blackoutService = blackoutService;
+    this.calendarResolver = calendarResolver;
+    this.distanceService = distanceService;
+    this.sameDayMaxKm = sameDayMaxKm;
+  }
+
+  /**
+   * The first {@code limit} open slots at or after {@code from} in which the field and both teams
+   * are free and the field is near anywhere either team already plays that day, earliest first
+   *
+   * @param excludeGameId a game whose own booking is ignored, e.g. the one being edited; may be null
+   */
+  public synchronized List<FreeSlot> findOpenSlots(Long homeTeamId, Long awayTeamId, Long excludeGameId,
+                                                   LocalDateTime from, int limit) {
+    Catalog c = catalog();
+    List<Long> fieldIds = new ArrayList<>(c.fieldNames.keySet());
+    fieldIds.sort(Comparator.comparing(c.fieldNames::get, String.CASE_INSENSITIVE_ORDER));
+    BlackoutCalendar blackouts = blackoutService.calendar();
+    FieldDistanceMatrix distances = distanceService.matrix();
+    Long homeLeagueId = leagueOf(homeTeamId);
+    Long awayLeagueId = leagueOf(awayTeamId);
+
+    List<FreeSlot> slots = new ArrayList<>();
+    for (int day = 0; day < HORIZON_DAYS && slots.size() < limit; day++) {
+      LocalDate date = from.toLocalDate().plusDays(day);
+      if (blackouts.isBlackedOut(Blackout.Scope.TEAM, homeTeamId, date)
+        || blackouts.isBlackedOut(Blackout.Scope.TEAM, awayTeamId, date)
+        || blackouts.isBlackedOut(Blackout.Scope.LEAGUE, homeLeagueId, date)
+        || blackouts.isBlackedOut(Blackout.Scope.LEAGUE, awayLeagueId, date)) {
+        continue;
+      }
+      BitSet teamsBusy = new BitSet(CELLS_PER_DAY);
+      if (day == 0) teamsBusy.set(0, Math.min(CELLS_PER_DAY, cellAtOrAfter(from.toLocalTime())));
+      c.or(teamsBusy, new DayKey(true, homeTeamId, date), excludeGameId);
+      c.or(teamsBusy, new DayKey(true, awayTeamId, date), excludeGameId);
+      int[] venues = c.venues(distances, date, excludeGameId, homeTeamId, awayTeamId);
+
+      List<FreeSlot> daySlots = new ArrayList<>();
+      for (Long fieldId : fieldIds) {
+        if (!calendarResolver.isOpen(fieldId, date)) continue;
+        if (blackouts.isBlackedOut(Blackout.Scope.FIELD, fieldId, date)) continue;
+        if (tooFar(distances, distances.indexOf(fieldId), venues)) continue;
+        BitSet free = calendarResolver.openCells(fieldId, date);
+        free.andNot(teamsBusy);
+        BitSet fieldBusy = new BitSet(CELLS_PER_DAY);
+        c.or(fieldBusy, new DayKey(false, fieldId, date), excludeGameId);
+        free.andNot(fieldBusy);
+        // Pack games back to back from the start of each free run
+        for (int run = free.nextSetBit(0); run >= 0; run = free.nextSetBit(free.nextClearBit(run))) {
+          int runEnd = free.nextClearBit(run);
+          for (int cell = run; cell + GAME_CELLS <= runEnd; cell += GAME_CELLS) {
+            LocalDateTime start = date.atTime(timeOf(cell));
+            daySlots.add(new FreeSlot(fieldId, c.fieldNames.get(fieldId), start, start.plus(GAME_LENGTH)));
+          }
+        }
+      }
+      daySlots.sort(Comparator.comparing(FreeSlot::start));
+      slots.addAll(daySlots.subList(0, Math.min(daySlots.size(), limit - slots.size())));
+    }
+    return slots;
+  }
+
+  /**
+   * Why a game cannot start at the given time, or empty if it can: the day must not be blacked out
+   * for the season, the field, either team or their leagues, the field must be available for the
+   * whole game, neither the field nor either team may have another game then and the field must be
+   * near every other field either team plays at that day
+   *
+   * @param seasonId null for a game outside any season
+   * @param fieldId null for a game without a field; only the teams are checked
+   */
+  public synchronized Optional<String> findConflict(Long gameId, Long seasonId, Long fieldId, Long homeTeamId,
+                                                    Long awayTeamId, LocalDateTime start) {
+    Catalog c = catalog();
+    Booking booking = Booking.of(gameId, fieldId, homeTeamId, awayTeamId, start);
+    BitSet needed = new BitSet(CELLS_PER_DAY);
+    needed.set(booking.firstCell(), booking.endCell());
+    String when = DateTimeFormatter.ofPattern("EEE MMM d 'at' HH:mm").format(start);
+    BlackoutCalendar blackouts = blackoutService.calendar();
+    if (!blackouts.isEmpty()) {
+      LocalDate date = start.toLocalDate();
+      Optional<String> blackedOut = blackout(blackouts, "The season", Blackout.Scope.SEASON, seasonId, date)
+        .or(() -> blackout(blackouts, c.fieldNames.getOrDefault(fieldId, "The field"), Blackout.Scope.FIELD, fieldId, date))
+        .or(() -> blackout(blackouts, "The home team", Blackout.Scope.TEAM, homeTeamId, date))
+        .or(() -> blackout(blackouts, "The away team", Blackout.Scope.TEAM, awayTeamId, date))
+        .or(() -> blackout(blackouts, "The home team's league", Blackout.Scope.LEAGUE, leagueOf(homeTeamId), date))
+        .or(() -> blackout(blackouts, "The away team's league", Blackout.Scope.LEAGUE, leagueOf(awayTeamId), date));
+      if (blackedOut.isPresent()) return blackedOut;
+    }
+    if (fieldId != null) {
+      String fieldName = c.fieldNames.getOrDefault(fieldId, "The field");
+      BitSet closed = (BitSet) needed.clone();
+      closed.andNot(calendarResolver.openCells(fieldId, booking.date()));
+      if (!closed.isEmpty()) {
+        return Optional.of(fieldName + " is not available for a " + GAME_LENGTH.toMinutes() + " minute game on " + when);
+      }
+      if (c.takenExcept(new DayKey(false, fieldId, booking.date()), gameId).intersects(needed)) {
+        return Optional.of(fieldName + " already has a game on " + when);
+      }
+    }
+    if (c.takenExcept(new DayKey(true, homeTeamId, booking.date()), gameId).intersects(needed)) {
+      return Optional.of("The home team already plays on " + when);
+    }
+    if (c.takenExcept(new DayKey(true, awayTeamId, booking.date()), gameId).intersects(needed)) {
+      return Optional.of("The away team already plays on " + when);
+    }
+    if (fieldId != null) {
+      FieldDistanceMatrix distances = distanceService.matrix();
+      return farVenue(c, distances, "The home team", homeTeamId, fieldId, booking.date(), gameId)
+        .or(() -> farVenue(c, distances, "The away team", awayTeamId, fieldId, booking.date(), gameId));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Whether the field is too far from any of the given fields; unknown distances never are
+   */
+  private boolean tooFar(FieldDistanceMatrix distances, int field, int[] venues) {
+    if (field < 0) return false;
+    for (int venue : venues) {
+      if (distances.kilometres(field, venue) > sameDayMaxKm) return true;
+    }
+    return false;
+  }
+
+  private Optional<String> farVenue(Catalog c, FieldDistanceMatrix distances, String who, Long teamId, Long fieldId,
+                                    LocalDate date, Long gameId) {
+    if (teamId == null) return Optional.empty();
+    for (Booking other : c.bookingsByDay.getOrDefault(new DayKey(true, teamId, date), List.of())) {
+      if (other.gameId().equals(gameId) || other.fieldId() == null) continue;
+      float km = distances.kilometres(fieldId, other.fieldId());
+      if (km > sameDayMaxKm) {
+        return Optional.of(who + " also plays at " + c.fieldNames.getOrDefault(other.fieldId(), "another field")
+          + " that day, " + Math.round(km) + " km away");
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static Optional<String> blackout(BlackoutCalendar blackouts, String who, Blackout.Scope scope, Long id,
+                                           LocalDate date) {
+    return blackouts.find(scope, id, date).map(b -> who + " is blacked out on "
+      + DateTimeFormatter.ofPattern("EEE MMM d").format(date)
+      + (b.getReason() == null || b.getReason().isBlank() ? "" : " (" + b.getReason() + ")"));
+  }
+
+  /**
+   * The team's league id, read through the second-level cache
+   */
+  private Long leagueOf(Long teamId) {
+    if (teamId == null) return null;
+    Team team = entityManager.find(Team.class, teamId);
+    return team == null || team.getLeague() == null ? null : team.getLeague().getId();
+  }
+
+  /**
+   * Quarter-hour cells in which a field is open on the given date, e.g. for shading a calendar
+   */
+  public BitSet openCells(Long fieldId, LocalDate date) {
+    return calendarResolver.openCells(fieldId, date);
+  }
+
+  /**
+   * Load the catalog and the fields' weekly hours ahead of the first search
+   */
+  @Transactional(readOnly = true)
+  public synchronized void preload() {
+    catalog();
+    calendarResolver.preload();
+  }
+
+  /**
+   * Book or rebook a committed game
+   */
+  public synchronized void gameSaved(Game game) {
+    if (catalog == null) return;
+    catalog.remove(game.getId());
+    if (game.getGameDate() != null && (game.getStatus() == null || !RELEASED.contains(game.getStatus()))) {
+      catalog.add(Booking.of(game.getId(), game.getField() == null ? null : game.getField().getId(),
+        game.getHomeTeam() == null ? null : game.getHomeTeam().getId(),
+        game.getAwayTeam() == null ? null : game.getAwayTeam().getId(), game.getGameDate()));
+    }
+  }
+
+  public synchronized void gameDeleted(Long gameId) {
+    if (catalog != null) catalog.remove(gameId);
+  }
+
+  public synchronized void fieldSaved(Field field) {
+    if (catalog != null) catalog.fieldNames.put(field.getId(), field.getName());
+  }
+
+  public synchronized void fieldDeleted(Long fieldId) {
+    if (catalog != null) catalog.fieldNames.remove(fieldId);
+  }
+
+  /**
+   * Drop the catalog and the resolved field calendars once the current transaction commits, for
+   * changes made by bulk statements
+   */
+  public void invalidateAfterCommit() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      invalidate();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        invalidate();
+      }
+    });
+  }
+
+  private synchronized void invalidate() {
+    catalog = null;
+    calendarResolver.invalidate();
+  }
+
+  private Catalog catalog() {
+    if (catalog == null) {
+      long start = System.nanoTime();
+      catalog = load();
+      log.info("Free slot catalog loaded: {} fields, {} upcoming games in {} ms", catalog.fieldNames.size(),
+        catalog.bookings.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+    return catalog;
+  }
+
+  private Catalog load() {
+    Catalog loaded = new Catalog();
+    entityManager.createQuery("select f.id, f.name from Field f", Object[].class).getResultList()
+      .forEach(r -> loaded.fieldNames.put((Long) r[0], (String) r[1]));
+    entityManager.createQuery("""
+        select g.id, g.field.id, g.homeTeam.id, g.awayTeam.id, g.gameDate from Game g
+        where g.gameDate >= :from and (g.status is null or g.status not in :released)""", Object[].class)
+      .setParameter("from", LocalDate.now().atStartOfDay())
+      .setParameter("released", RELEASED)
+      .getResultList()
+      .forEach(r -> loaded.add(Booking.of((Long) r[0], (Long) r[1], (Long) r[2], (Long) r[3], (LocalDateTime) r[4])));
+    return loaded;
+  }
+
+  static int cellAtOrBefore(LocalTime time) {
+    return (time.getHour() * 60 + time.getMinute()) / CELL_MINUTES;
+  }
+
+  static int cellAtOrAfter(LocalTime time) {
+    int minutes = time.getHour() * 60 + time.getMinute() + (time.getSecond() > 0 || time.getNano() > 0 ? 1 : 0);
+    return (minutes + CELL_MINUTES - 1) / CELL_MINUTES;
+  }
+
+  private static LocalTime timeOf(int cell) {
+    return LocalTime.of(cell * CELL_MINUTES / 60, cell * CELL_MINUTES % 60);
+  }
+
+  /**
+   * A day's bitmap for a field ({@code team} false) or a team
+   */
+  private record DayKey(boolean team, Long id, LocalDate date) {
+  }
+
+  /**
+   * The cells a game takes; games running past midnight are cut off at the end of their day
+   */
+  private record Booking(Long gameId, Long fieldId, Long homeTeamId, Long awayTeamId, LocalDate date,
+                         int firstCell, int endCell) {
+    static Booking of(Long gameId, Long fieldId, Long homeTeamId, Long awayTeamId, LocalDateTime start) {
+      LocalTime end = start.toLocalTime().plus(GAME_LENGTH);
+      int endCell = end.isBefore(start.toLocalTime()) ? CELLS_PER_DAY : cellAtOrAfter(end);
+      return new Booking(gameId, fieldId, homeTeamId, awayTeamId, start.toLocalDate(),
+        cellAtOrBefore(start.toLocalTime()), endCell);
+    }
+
+    List<DayKey> keys() {
+      List<DayKey> keys = new ArrayList<>(3);
+      if (fieldId != null) keys.add(new DayKey(false, fieldId, date));
+      if (homeTeamId != null) keys.add(new DayKey(true, homeTeamId, date));
+      if (awayTeamId != null) keys.add(new DayKey(true, awayTeamId, date));
+      return keys;
+    }
+  }
+
+  private static final class Catalog {
+    final Map<Long, String> fieldNames = new HashMap<>();
+    final Map<Long, Booking> bookings = new HashMap<>();
+    final Map<DayKey, List<Booking>> bookingsByDay = new HashMap<>();
+    final Map<DayKey, BitSet> taken = new HashMap<>();
+
+    void add(Booking booking) {
+      bookings.put(booking.gameId(), booking);
+      for (DayKey key : booking.keys()) {
+        bookingsByDay.computeIfAbsent(key, k -> new ArrayList<>()).add(booking);
+        taken.computeIfAbsent(key, k -> new BitSet(CELLS_PER_DAY)).set(booking.firstCell(), booking.endCell());
+      }
+    }
+
+    void remove(Long gameId) {
+      Booking booking = bookings.remove(gameId);
+      if (booking == null) return;
+      for (DayKey key : booking.keys()) {
+        List<Booking> day = bookingsByDay.get(key);
+        day.remove(booking);
+        if (day.isEmpty()) {
+          bookingsByDay.remove(key);
+          taken.remove(key);
+        } else {
+          // Overlapping games may share cells, so rebuild from the games that remain
+          taken.put(key, cells(day, null));
+        }
+      }
+    }
+
+    /**
+     * Matrix indexes of the fields where any of the teams plays on the date, leaving out the
+     * excluded game
+     */
+    int[] venues(FieldDistanceMatrix distances, LocalDate date, Long excludeGameId, Long... teamIds) {
+      int[] venues = new int[0];
+      int count = 0;
+      for (Long teamId : teamIds) {
+        if (teamId == null) continue;
+        for (Booking booking : bookingsByDay.getOrDefault(new DayKey(true, teamId, date), List.of())) {
+          int venue = distances.indexOf(booking.fieldId());
+          if (venue < 0 || booking.gameId().equals(excludeGameId)) continue;
+          if (count == venues.length) venues = Arrays.copyOf(venues, Math.max(4, count * 2));
+          venues[count++] = venue;
+        }
+      }
+      return Arrays.copyOf(venues, count);
+    }
+
+    BitSet takenExcept(DayKey key, Long excludeGameId) {
+      BitSet cells = new BitSet(CELLS_PER_DAY);
+      or(cells, key, excludeGameId);
+      return cells;
+    }
+
+    /**
+     * Add a day's taken cells to {@code target}, leaving out the excluded game's booking
+     */
+    void or(BitSet target, DayKey key, Long excludeGameId) {
+      if (key.id() == null) return;
+      BitSet cells = taken.get(key);
+      if (cells == null) return;
+      Booking excluded = excludeGameId == null ? null : bookings.get(excludeGameId);
+      target.or(excluded != null && excluded.keys().contains(key) ? cells(bookingsByDay.get(key), excluded) : cells);
+    }
+
+    private static BitSet cells(List<Booking> day, Booking excluded) {
+      BitSet cells = new BitSet(CELLS_PER_DAY);
+      for (Booking booking : day) {
+        if (booking != excluded) cells.set(booking.firstCell(), booking.endCell());
+      }
+      return cells;
+    }
+  }
+}
@@ -1,20 +1,31 @@
 package com.scheduleengine.game.service;
 
+import com.scheduleengine.diagnostics.MetricsConfig;
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.game.domain.CalendarGame;
 import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.domain.TeamRecord;
 import com.scheduleengine.game.repository.GameRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class GameService {
 
   private final GameRepository gameRepository;
+  private final FreeSlotService freeSlotService;
 
-  public GameService(GameRepository gameRepository) {
+  public GameService(GameRepository gameRepository, FreeSlotService freeSlotService) {
     this.gameRepository = gameRepository;
+    this.freeSlotService = freeSlotService;
   }
 
   public List<Game> findAll() {
@@ -33,6 +44,21 @@ public class GameService {
     return gameRepository.findByHomeTeamIdOrAwayTeamId(teamId, teamId);
   }
 
+  /**
+   * A season's games on the days from {@code from} up to but not including {@code to}, for the calendar
+   */
+  public List<CalendarGame> findCalendarGames(Long seasonId, LocalDate from, LocalDate to) {
+    return gameRepository.findCalendarGames(seasonId, from.atStartOfDay(), to.atStartOfDay());
+  }
+
+  /**
+   * Win/loss records of the given teams over games completed before the given time
+   */
+  public List<TeamRecord> findTeamRecords(Collection<Long> teamIds, LocalDateTime before) {
+    if (teamIds.isEmpty()) return List.of();
+    return gameRepository.findTeamRecords(teamIds, Game.GameStatus.COMPLETED, before);
+  }
+
   public Game save(Game game) {
     return gameRepository.save(game);
   }
@@ -42,12 +68,37 @@ public class GameService {
     return gameRepository.save(game);
   }
 
+  /**
+   * Move a game to a new start time and field
+   *
+   * @param field null to leave the game without a field
+   * @throws IllegalArgumentException if the day is blacked out, the field is not available then, or
+   *                                  the field or either team already has a game at that time
+   */
+  @Transactional
+  public Game reschedule(Long gameId, LocalDateTime start, Field field) {
+    Game game = gameRepository.findById(gameId)
+      .orElseThrow(() -> new IllegalArgumentException("Game #" + gameId + " no longer exists"));
+    Long seasonId = game.getSeason() == null ? null : game.getSeason().getId();
+    freeSlotService.findConflict(gameId, seasonId, field == null ? null : field.getId(), game.getHomeTeam().getId(),
+      game.getAwayTeam().getId(), start).ifPresent(reason -> {
+      throw new IllegalArgumentException(reason);
+    });
+    game.setGameDate(start);
+    game.setField(field);
+    return game;
+  }
+
   public void deleteById(Long id) {
     gameRepository.deleteById(id);
   }
 
+  /**
+   * @return the number of games deleted
+   */
   @Transactional
-  public void deleteBySeasonId(Long seasonId) {
-    gameRepository.deleteBySeasonId(seasonId);
+  public int deleteBySeasonId(Long seasonId) {
+    freeSlotService.invalidateAfterCommit();
+    return gameRepository.deleteBySeasonId(seasonId);
   }
 }
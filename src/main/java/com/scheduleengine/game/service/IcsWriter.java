@@ -0,0 +1,90 @@
+package com.scheduleengine.game.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes iCalendar (RFC 5545) content lines: CRLF line endings, lines folded at 75 octets without
+ * splitting a UTF-8 character, and TEXT values escaped
+ */
+public final class IcsWriter implements Closeable {
+  static final int MAX_LINE_OCTETS = 75;
+  private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+  private final Writer out;
+
+  public IcsWriter(Writer out) {
+    this.out = out;
+  }
+
+  /**
+   * Write one unfolded content line, e.g. {@code SUMMARY:Hawks vs Owls}
+   */
+  public void line(String contentLine) throws IOException {
+    out.write(fold(contentLine));
+  }
+
+  /**
+   * The content line folded into physical lines, each ending in CRLF
+   */
+  static String fold(String contentLine) {
+    StringBuilder sb = new StringBuilder(contentLine.length() + 8);
+    int octets = 0;
+    for (int i = 0; i < contentLine.length(); ) {
+      int cp = contentLine.codePointAt(i);
+      int size = utf8Length(cp);
+      if (octets + size > MAX_LINE_OCTETS) {
+        // Continuation lines start with a space, which counts towards their length
+        sb.append("\r\n ");
+        octets = 1;
+      }
+      sb.appendCodePoint(cp);
+      octets += size;
+      i += Character.charCount(cp);
+    }
+    return sb.append("\r\n").toString();
+  }
+
+  private static int utf8Length(int cp) {
+    if (cp < 0x80) return 1;
+    if (cp < 0x800) return 2;
+    return cp < 0x10000 ? 3 : 4;
+  }
+
+  /**
+   * Escape a TEXT value: backslashes, semicolons, commas and line breaks
+   */
+  public static String text(String value) {
+    if (value == null) return "";
+    StringBuilder sb = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\\', ';', ',' -> sb.append('\\').append(c);
+        case '\n' -> sb.append("\\n");
+        case '\r' -> {
+          if (i + 1 < value.length() && value.charAt(i + 1) == '\n') i++;
+          sb.append("\\n");
+        }
+        default -> sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Format an instant as a UTC DATE-TIME value
+   */
+  public static String utc(Instant instant) {
+    return UTC.format(instant);
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+}
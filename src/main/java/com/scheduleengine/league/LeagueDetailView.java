@@ -1,19 +1,31 @@
 package com.scheduleengine.league;
 
+import com.scheduleengine.blackout.BlackoutSection;
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.service.BlackoutService;
 import com.scheduleengine.common.DialogUtil;
 import com.scheduleengine.common.IconBadge;
 import com.scheduleengine.common.IconPicker;
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.league.domain.League;
 import com.scheduleengine.league.service.LeagueService;
 import com.scheduleengine.navigation.DrillDownCard;
 import com.scheduleengine.navigation.NavigationContext;
 import com.scheduleengine.navigation.NavigationHandler;
+import com.scheduleengine.publish.PublishScheduleDialog;
+import com.scheduleengine.referee.RefereeView;
+import com.scheduleengine.referee.domain.Referee;
+import com.scheduleengine.publish.service.SchedulePublishingService;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
+import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 
+import java.time.LocalDate;
+import java.util.Arrays;
+
 /**
  * Detail view for a specific league with drill-down navigation options
  */
@@ -21,11 +33,19 @@ public class LeagueDetailView {
 
   private final LeagueService leagueService;
   private final NavigationHandler navigationHandler;
+  private final CascadeDeleteService cascadeDeleteService;
+  private final SchedulePublishingService publishingService;
+  private final BlackoutService blackoutService;
   private League league;
 
-  public LeagueDetailView(LeagueService leagueService, NavigationHandler navigationHandler) {
+  public LeagueDetailView(LeagueService leagueService, NavigationHandler navigationHandler,
+                          CascadeDeleteService cascadeDeleteService, SchedulePublishingService publishingService,
+                          BlackoutService blackoutService) {
     this.leagueService = leagueService;
     this.navigationHandler = navigationHandler;
+    this.cascadeDeleteService = cascadeDeleteService;
+    this.publishingService = publishingService;
+    this.blackoutService = blackoutService;
   }
 
   public VBox getView(League league, NavigationContext currentContext) {
@@ -56,6 +76,12 @@ public class LeagueDetailView {
       descLabel.setWrapText(true);
       header.getChildren().add(descLabel);
     }
+    if (league.getRefereeCertification() != null) {
+      Label certificationLabel = new Label("Referees: " + RefereeView.certificationConverter()
+        .toString(league.getRefereeCertification()) + " or above");
+      certificationLabel.setStyle("-fx-font-size: 13px; -fx-text-fill: #7f8c8d;");
+      header.getChildren().add(certificationLabel);
+    }
 
     // Section title
     Label sectionTitle = new Label("What would you like to do?");
@@ -150,6 +176,18 @@ public class LeagueDetailView {
     GridPane.setHgrow(paymentsCard, Priority.ALWAYS);
     GridPane.setFillWidth(paymentsCard, true);
 
+    // Publish schedule card
+    DrillDownCard publishCard = new DrillDownCard(
+      "Publish Schedule",
+      "Print the games of every season in " + league.getName() + " as HTML or PDF",
+      FontAwesomeIcon.PRINT,
+      () -> PublishScheduleDialog.show(league.getName(), LocalDate.now(), LocalDate.now().plusMonths(3),
+        publishingService.getDirectory(),
+        (from, to, format, directory) -> publishingService.publishLeague(league.getId(), from, to, format, directory))
+    );
+    GridPane.setHgrow(publishCard, Priority.ALWAYS);
+    GridPane.setFillWidth(publishCard, true);
+
     // Delete league card
     DrillDownCard deleteCard = new DrillDownCard(
       "Delete League",
@@ -166,11 +204,18 @@ public class LeagueDetailView {
     cardsGrid.add(editCard, 0, 1);
     cardsGrid.add(statsCard, 1, 1);
     cardsGrid.add(paymentsCard, 1, 2);
-    cardsGrid.add(deleteCard, 0, 2);
-
-    container.getChildren().addAll(header, sectionTitle, cardsGrid);
-
-    return container;
+    cardsGrid.add(publishCard, 0, 2);
+    cardsGrid.add(deleteCard, 0, 3);
+
+    container.getChildren().addAll(header, sectionTitle, cardsGrid,
+      BlackoutSection.build(blackoutService, Blackout.Scope.LEAGUE, league.getId(), "games in this league"));
+
+    // The blackouts section can take the view past the window height
+    ScrollPane scrollPane = new ScrollPane(container);
+    scrollPane.setFitToWidth(true);
+    VBox root = new VBox(scrollPane);
+    VBox.setVgrow(scrollPane, Priority.ALWAYS);
+    return root;
   }
 
   private void showEditDialog(League league, NavigationContext currentContext) {
@@ -201,6 +246,14 @@ public class LeagueDetailView {
     descField.setMaxWidth(Double.MAX_VALUE);
     GridPane.setVgrow(descField, Priority.ALWAYS);
 
+    // Least referee certification the league's games need; the first, empty entry means any level
+    ComboBox<Referee.Certification> certificationCombo = new ComboBox<>(FXCollections.observableArrayList(
+      Arrays.asList(null, Referee.Certification.GRASSROOTS, Referee.Certification.REGIONAL,
+        Referee.Certification.NATIONAL)));
+    certificationCombo.setConverter(RefereeView.certificationConverter());
+    certificationCombo.setPromptText("Any level");
+    certificationCombo.setValue(league.getRefereeCertification());
+
     Label iconLabel = new Label("Icon:");
     IconPicker iconPicker = new IconPicker(league.getIconName(), league.getIconBackgroundColor(), league.getIconGlyphColor(), null);
 
@@ -208,8 +261,10 @@ public class LeagueDetailView {
     grid.add(nameField, 1, 0);
     grid.add(new Label("Description:"), 0, 1);
     grid.add(descField, 1, 1);
-    grid.add(iconLabel, 0, 2);
-    grid.add(iconPicker, 1, 2);
+    grid.add(new Label("Referees:"), 0, 2);
+    grid.add(certificationCombo, 1, 2);
+    grid.add(iconLabel, 0, 3);
+    grid.add(iconPicker, 1, 3);
 
     dialog.getDialogPane().setContent(grid);
 
@@ -221,6 +276,7 @@ public class LeagueDetailView {
       if (dialogButton == saveButtonType) {
         league.setName(nameField.getText());
         league.setDescription(descField.getText());
+        league.setRefereeCertification(certificationCombo.getValue());
         IconPicker.Selection sel = iconPicker.currentSelection();
         league.setIconName(sel.iconName);
         league.setIconBackgroundColor(sel.bgColor);
@@ -246,11 +302,27 @@ public class LeagueDetailView {
     Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
     alert.setTitle("Delete League");
     alert.setHeaderText("Are you sure?");
-    alert.setContentText("Do you want to delete the league: " + league.getName() + "?\n\nThis action cannot be undone.");
+    alert.setContentText("Do you want to delete the league: " + league.getName()
+      + "?\n\nIts seasons, teams, players and games are deleted too. This action cannot be undone.");
 
     alert.showAndWait().ifPresent(response -> {
       if (response == ButtonType.OK) {
-        leagueService.deleteById(league.getId());
+        CascadeDeleteService.DeletionResult result;
+        try {
+          result = cascadeDeleteService.deleteLeague(league.getId());
+        } catch (IllegalStateException e) {
+          Alert error = new Alert(Alert.AlertType.ERROR);
+          error.setTitle("Cannot Delete League");
+          error.setHeaderText(null);
+          error.setContentText(e.getMessage());
+          error.showAndWait();
+          return;
+        }
+        Alert done = new Alert(Alert.AlertType.INFORMATION);
+        done.setTitle("League Deleted");
+        done.setHeaderText(null);
+        done.setContentText("Deleted " + result.describe() + ".");
+        done.showAndWait();
         // Navigate back to leagues list
         NavigationContext newContext = new NavigationContext()
           .navigateTo("leagues", "Leagues");
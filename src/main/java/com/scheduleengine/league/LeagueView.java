@@ -6,6 +6,7 @@ import com.scheduleengine.common.IconBadge;
 import com.scheduleengine.common.IconPicker;
 import com.scheduleengine.common.TableIconColumns;
 import com.scheduleengine.common.TablePreferencesUtil;
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.league.domain.League;
 import com.scheduleengine.league.service.LeagueService;
 import com.scheduleengine.navigation.NavigationHandler;
@@ -19,12 +20,14 @@ import javafx.scene.layout.*;
 public class LeagueView {
 
   private final LeagueService leagueService;
+  private final CascadeDeleteService cascadeDeleteService;
   private TableView<League> table;
   private final ObservableList<League> data;
   private NavigationHandler navigationHandler;
 
-  public LeagueView(LeagueService leagueService) {
+  public LeagueView(LeagueService leagueService, CascadeDeleteService cascadeDeleteService) {
     this.leagueService = leagueService;
+    this.cascadeDeleteService = cascadeDeleteService;
     this.data = FXCollections.observableArrayList();
   }
 
@@ -183,11 +186,16 @@ public class LeagueView {
     Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
     alert.setTitle("Delete League");
     alert.setHeaderText("Are you sure?");
-    alert.setContentText("Do you want to delete the league: " + league.getName() + "?");
+    alert.setContentText("Do you want to delete the league: " + league.getName()
+      + "?\n\nIts seasons, teams, players and games are deleted too.");
 
     alert.showAndWait().ifPresent(response -> {
       if (response == ButtonType.OK) {
-        leagueService.deleteById(league.getId());
+        try {
+          cascadeDeleteService.deleteLeague(league.getId());
+        } catch (IllegalStateException e) {
+          showError("Cannot Delete League", e.getMessage());
+        }
         loadData();
       }
     });
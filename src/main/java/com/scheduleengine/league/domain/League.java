@@ -1,14 +1,19 @@
 package com.scheduleengine.league.domain;
 
+import com.scheduleengine.referee.domain.Referee;
 import com.scheduleengine.season.domain.Season;
 import com.scheduleengine.team.domain.Team;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "league")
 @Table(name = "leagues")
 public class League {
 
@@ -38,6 +43,11 @@ public class League {
   @Column(name = "icon_glyph_color")
   private String iconGlyphColor;
 
+  /** The lowest referee certification the league's games need; null accepts any referee */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "referee_certification")
+  private Referee.Certification refereeCertification;
+
   public League() {
   }
 
@@ -109,4 +119,12 @@ public class League {
   public void setIconGlyphColor(String iconGlyphColor) {
     this.iconGlyphColor = iconGlyphColor;
   }
+
+  public Referee.Certification getRefereeCertification() {
+    return refereeCertification;
+  }
+
+  public void setRefereeCertification(Referee.Certification refereeCertification) {
+    this.refereeCertification = refereeCertification;
+  }
 }
@@ -1,9 +1,17 @@
 package com.scheduleengine.league.repository;
 
 import com.scheduleengine.league.domain.League;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface LeagueRepository extends JpaRepository<League, Long> {
+  @Override
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<League> findAll();
 }
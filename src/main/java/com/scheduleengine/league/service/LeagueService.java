@@ -1,7 +1,10 @@
 package com.scheduleengine.league.service;
 
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.league.domain.League;
 import com.scheduleengine.league.repository.LeagueRepository;
+import com.scheduleengine.payment.service.TransactionReportService;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -11,9 +14,11 @@ import java.util.Optional;
 public class LeagueService {
 
   private final LeagueRepository leagueRepository;
+  private final CascadeDeleteService cascadeDeleteService;
 
-  public LeagueService(LeagueRepository leagueRepository) {
+  public LeagueService(LeagueRepository leagueRepository, CascadeDeleteService cascadeDeleteService) {
     this.leagueRepository = leagueRepository;
+    this.cascadeDeleteService = cascadeDeleteService;
   }
 
   public List<League> findAll() {
@@ -24,16 +29,21 @@ public class LeagueService {
     return leagueRepository.findById(id);
   }
 
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
   public League save(League league) {
     return leagueRepository.save(league);
   }
 
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
   public League update(Long id, League league) {
     league.setId(id);
     return leagueRepository.save(league);
   }
 
+  /**
+   * Delete the league with everything that depends on it, see {@link CascadeDeleteService#deleteLeague}
+   */
   public void deleteById(Long id) {
-    leagueRepository.deleteById(id);
+    cascadeDeleteService.deleteLeague(id);
   }
 }
@@ -6,6 +6,7 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
@@ -18,20 +19,28 @@ import java.util.List;
 public class BreadcrumbBar extends HBox {
 
   private final NavigationHandler navigationHandler;
+  private final Button backBtn;
+  private final Button forwardBtn;
   private NavigationContext currentContext;
 
-  public BreadcrumbBar(NavigationHandler navigationHandler) {
+  public BreadcrumbBar(NavigationHandler navigationHandler, NavigationHistory history) {
     this.navigationHandler = navigationHandler;
     this.currentContext = new NavigationContext();
+    this.backBtn = createHistoryButton(FontAwesomeIcon.ARROW_LEFT, "Back (Alt+Left)",
+      () -> history.back().ifPresent(navigationHandler::navigate));
+    this.forwardBtn = createHistoryButton(FontAwesomeIcon.ARROW_RIGHT, "Forward (Alt+Right)",
+      () -> history.forward().ifPresent(navigationHandler::navigate));
+    backBtn.disableProperty().bind(history.canGoBackProperty().not());
+    forwardBtn.disableProperty().bind(history.canGoForwardProperty().not());
 
     setSpacing(8);
     setPadding(new Insets(15, 20, 15, 20));
     setAlignment(Pos.CENTER_LEFT);
     setStyle("-fx-background-color: white; -fx-border-color: #e0e0e0; -fx-border-width: 0 0 1 0;");
 
-    // Add home button
+    // Add history and home buttons
     Button homeBtn = createHomeButton();
-    getChildren().add(homeBtn);
+    getChildren().addAll(backBtn, forwardBtn, homeBtn);
   }
 
   /**
@@ -45,9 +54,9 @@ public class BreadcrumbBar extends HBox {
   private void rebuild() {
     getChildren().clear();
 
-    // Home button
+    // History and home buttons
     Button homeBtn = createHomeButton();
-    getChildren().add(homeBtn);
+    getChildren().addAll(backBtn, forwardBtn, homeBtn);
 
     // Breadcrumb items
     List<NavigationNode> breadcrumb = currentContext.getBreadcrumb();
@@ -115,6 +124,23 @@ public class BreadcrumbBar extends HBox {
     getChildren().add(spacer);
   }
 
+  private Button createHistoryButton(FontAwesomeIcon icon, String tooltip, Runnable action) {
+    Button button = new Button();
+    FontAwesomeIconView iconView = new FontAwesomeIconView(icon);
+    iconView.setSize("12");
+    iconView.setFill(javafx.scene.paint.Color.web("#667eea"));
+    button.setGraphic(iconView);
+    button.setTooltip(new Tooltip(tooltip));
+    button.setStyle(
+      "-fx-background-color: transparent; " +
+        "-fx-cursor: hand; " +
+        "-fx-padding: 4 6; " +
+        "-fx-background-radius: 4;"
+    );
+    button.setOnAction(e -> action.run());
+    return button;
+  }
+
   private Button createHomeButton() {
     Button homeBtn = new Button();
 
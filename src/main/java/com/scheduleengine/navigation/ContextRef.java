@@ -0,0 +1,122 @@
+package com.scheduleengine.navigation;
+
+import java.lang.ref.SoftReference;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The object a breadcrumb node was opened with. Entities are remembered by type and id; the
+ * instance itself is only softly held, and is looked up again through the installed
+ * {@link ContextResolver} once it has been collected. Other objects are held as they are.
+ * Whether an entity still exists is remembered until the next committed delete, so checking a long
+ * back/forward history on the FX thread does not reload every entity in it.
+ */
+public final class ContextRef {
+  private static volatile ContextResolver resolver;
+  private static final AtomicLong deletions = new AtomicLong();
+
+  private final Class<?> type;
+  private final Object id;
+  private final Object value;
+  private volatile SoftReference<Object> instance;
+  /**
+   * The deletion count when the entity was last known to exist, or -1
+   */
+  private volatile long existedAt;
+
+  private ContextRef(Class<?> type, Object id, Object value, Object instance) {
+    this.type = type;
+    this.id = id;
+    this.value = value;
+    this.instance = instance == null ? null : new SoftReference<>(instance);
+    this.existedAt = instance == null ? -1 : deletions.get();
+  }
+
+  /**
+   * Install the resolver used to identify and reload entities
+   */
+  public static void setResolver(ContextResolver contextResolver) {
+    resolver = contextResolver;
+  }
+
+  /**
+   * Forget which entities are known to exist; called once a delete has committed
+   */
+  public static void entitiesDeleted() {
+    deletions.incrementAndGet();
+  }
+
+  static ContextRef of(Object object) {
+    if (object == null) return null;
+    ContextResolver r = resolver;
+    Class<?> entityType = r == null ? null : r.entityType(object);
+    Object entityId = entityType == null ? null : r.idOf(object);
+    if (entityId == null) {
+      return new ContextRef(object.getClass(), null, object, null);
+    }
+    return new ContextRef(entityType, entityId, null, object);
+  }
+
+  /**
+   * Rebuild a reference from a stored type and id, e.g. when restoring a session
+   */
+  public static ContextRef of(Class<?> type, Object id) {
+    return new ContextRef(Objects.requireNonNull(type), Objects.requireNonNull(id), null, null);
+  }
+
+  public Class<?> type() {
+    return type;
+  }
+
+  /**
+   * The entity id, or null when the object is held directly
+   */
+  public Object id() {
+    return id;
+  }
+
+  /**
+   * The object, reloading an entity by id when needed; null if it no longer exists
+   */
+  public Object get() {
+    if (id == null) return value;
+    SoftReference<Object> ref = instance;
+    Object object = ref == null ? null : ref.get();
+    ContextResolver r = resolver;
+    if (object == null && r != null) {
+      object = r.find(type, id);
+      instance = object == null ? null : new SoftReference<>(object);
+    }
+    return object;
+  }
+
+  public <T> T get(Class<T> requiredType) {
+    if (!requiredType.isAssignableFrom(type)) return null;
+    Object object = get();
+    return requiredType.isInstance(object) ? requiredType.cast(object) : null;
+  }
+
+  /**
+   * Whether the object can still be shown: always for plain objects, and for entities while the
+   * row exists. The row is only looked up again after a delete has committed since the last check.
+   */
+  public boolean exists() {
+    if (id == null) return true;
+    long seen = deletions.get();
+    if (existedAt == seen) return true;
+    ContextResolver r = resolver;
+    if (r == null) return get() != null;
+    Object object = r.find(type, id);
+    instance = object == null ? null : new SoftReference<>(object);
+    if (object != null) existedAt = seen;
+    return object != null;
+  }
+
+  /**
+   * Whether both refer to the same entity, or hold the same object
+   */
+  public boolean sameTarget(ContextRef other) {
+    if (other == null) return false;
+    return id != null ? type.equals(other.type) && id.equals(other.id) : Objects.equals(value, other.value);
+  }
+}
@@ -0,0 +1,23 @@
+package com.scheduleengine.navigation;
+
+/**
+ * Identifies entities passed to {@link NavigationContext#navigateTo(String, String, Object)} and
+ * loads them again by id
+ */
+public interface ContextResolver {
+
+  /**
+   * The entity class of the object, or null if it is not an entity
+   */
+  Class<?> entityType(Object object);
+
+  /**
+   * The id of an entity, or null if it has not been saved
+   */
+  Object idOf(Object entity);
+
+  /**
+   * Load an entity, or return null if it no longer exists
+   */
+  Object find(Class<?> type, Object id);
+}
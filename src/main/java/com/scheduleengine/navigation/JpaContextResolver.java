@@ -0,0 +1,91 @@
+package com.scheduleengine.navigation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lets navigation contexts keep entities by id, reloading them through the second-level cache.
+ * Committed deletes, and bulk deletes reported through {@link #deletedAfterCommit()}, make
+ * {@link ContextRef#exists()} check its entity again.
+ */
+@Component
+public class JpaContextResolver implements ContextResolver, PostCommitDeleteEventListener {
+  private final EntityManagerFactory entityManagerFactory;
+  private final Set<Class<?>> entityTypes;
+
+  public JpaContextResolver(EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.entityTypes = entityManagerFactory.getMetamodel().getEntities().stream()
+      .map(type -> (Class<?>) type.getJavaType())
+      .collect(Collectors.toUnmodifiableSet());
+  }
+
+  @PostConstruct
+  void install() {
+    ContextRef.setResolver(this);
+    entityManagerFactory.unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+      .getService(EventListenerRegistry.class).appendListeners(EventType.POST_COMMIT_DELETE, this);
+  }
+
+  /**
+   * Report rows removed by bulk statements, which raise no delete events
+   */
+  public void deletedAfterCommit() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      ContextRef.entitiesDeleted();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        ContextRef.entitiesDeleted();
+      }
+    });
+  }
+
+  @Override
+  public Class<?> entityType(Object object) {
+    Class<?> type = Hibernate.getClassLazy(object);
+    return entityTypes.contains(type) ? type : null;
+  }
+
+  @Override
+  public Object idOf(Object entity) {
+    return entityManagerFactory.getPersistenceUnitUtil().getIdentifier(entity);
+  }
+
+  @Override
+  public Object find(Class<?> type, Object id) {
+    try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+      return entityManager.find(type, id);
+    }
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return true;
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    ContextRef.entitiesDeleted();
+  }
+
+  @Override
+  public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+  }
+}
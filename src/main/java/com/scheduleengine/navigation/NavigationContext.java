@@ -1,6 +1,7 @@
 package com.scheduleengine.navigation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -8,75 +9,76 @@ import java.util.Map;
 /**
  * Represents a navigation context with hierarchical breadcrumb support.
  * Enables drill-down navigation patterns like: Leagues > Teams > Roster
+ * <p>
+ * Contexts are immutable. The breadcrumb is a linked stack whose tail is shared with the context
+ * it was reached from, so navigating adds one frame instead of copying the trail, and any number
+ * of contexts can be kept for history. Entities are remembered by id (see {@link ContextRef}).
  */
 public class NavigationContext {
 
-  private final List<NavigationNode> breadcrumb;
-  private final Map<String, Object> contextData;
+  /**
+   * One breadcrumb level on top of its parent's trail
+   */
+  private record Frame(NavigationNode node, Frame parent, int depth) {
+  }
+
+  private final Frame top;
 
   public NavigationContext() {
-    this.breadcrumb = new ArrayList<>();
-    this.contextData = new HashMap<>();
+    this(null);
   }
 
-  private NavigationContext(List<NavigationNode> breadcrumb, Map<String, Object> contextData) {
-    this.breadcrumb = new ArrayList<>(breadcrumb);
-    this.contextData = new HashMap<>(contextData);
+  private NavigationContext(Frame top) {
+    this.top = top;
   }
 
   /**
    * Navigate to a new view, adding it to the breadcrumb trail
    */
   public NavigationContext navigateTo(String viewId, String displayName) {
-    List<NavigationNode> newBreadcrumb = new ArrayList<>(breadcrumb);
-    newBreadcrumb.add(new NavigationNode(viewId, displayName, null));
-    return new NavigationContext(newBreadcrumb, contextData);
+    return push(new NavigationNode(viewId, displayName, null));
   }
 
   /**
    * Navigate to a new view with associated data (e.g., a specific league or team)
    */
   public NavigationContext navigateTo(String viewId, String displayName, Object contextObject) {
-    List<NavigationNode> newBreadcrumb = new ArrayList<>(breadcrumb);
-    newBreadcrumb.add(new NavigationNode(viewId, displayName, contextObject));
+    return push(new NavigationNode(viewId, displayName, ContextRef.of(contextObject)));
+  }
 
-    Map<String, Object> newContextData = new HashMap<>(contextData);
-    if (contextObject != null) {
-      newContextData.put(viewId, contextObject);
-    }
+  /**
+   * Navigate to a new view with a reference rebuilt from a stored type and id
+   */
+  public NavigationContext navigateTo(String viewId, String displayName, ContextRef context) {
+    return push(new NavigationNode(viewId, displayName, context));
+  }
 
-    return new NavigationContext(newBreadcrumb, newContextData);
+  private NavigationContext push(NavigationNode node) {
+    return new NavigationContext(new Frame(node, top, getDepth() + 1));
   }
 
   /**
    * Navigate back to a specific level in the breadcrumb
    */
   public NavigationContext navigateToLevel(int level) {
-    if (level < 0 || level >= breadcrumb.size()) {
+    if (level < 0 || level >= getDepth()) {
       return this;
     }
-
-    List<NavigationNode> newBreadcrumb = new ArrayList<>(breadcrumb.subList(0, level + 1));
-    Map<String, Object> newContextData = new HashMap<>();
-
-    // Rebuild context data for remaining breadcrumb items
-    for (NavigationNode node : newBreadcrumb) {
-      if (node.contextObject() != null) {
-        newContextData.put(node.viewId(), node.contextObject());
-      }
+    Frame frame = top;
+    while (frame.depth() > level + 1) {
+      frame = frame.parent();
     }
-
-    return new NavigationContext(newBreadcrumb, newContextData);
+    return new NavigationContext(frame);
   }
 
   /**
    * Navigate back one level
    */
   public NavigationContext navigateBack() {
-    if (breadcrumb.isEmpty()) {
+    if (top == null || top.parent() == null) {
       return this;
     }
-    return navigateToLevel(breadcrumb.size() - 2);
+    return new NavigationContext(top.parent());
   }
 
   /**
@@ -90,19 +92,25 @@ public class NavigationContext {
    * Get the current view ID (last item in breadcrumb)
    */
   public String getCurrentViewId() {
-    if (breadcrumb.isEmpty()) {
-      return null;
-    }
-    return breadcrumb.get(breadcrumb.size() - 1).viewId();
+    return top == null ? null : top.node().viewId();
   }
 
   /**
-   * Get context data for a specific view
+   * Get the current breadcrumb node, or null at the root
+   */
+  public NavigationNode getCurrentNode() {
+    return top == null ? null : top.node();
+  }
+
+  /**
+   * Get context data for a specific view; the deepest level opened with data wins
    */
   public <T> T getContextData(String viewId, Class<T> type) {
-    Object data = contextData.get(viewId);
-    if (type.isInstance(data)) {
-      return type.cast(data);
+    for (Frame frame = top; frame != null; frame = frame.parent()) {
+      NavigationNode node = frame.node();
+      if (node.context() != null && node.viewId().equals(viewId)) {
+        return node.context().get(type);
+      }
     }
     return null;
   }
@@ -111,40 +119,78 @@ public class NavigationContext {
    * Get all context data
    */
   public Map<String, Object> getAllContextData() {
-    return new HashMap<>(contextData);
+    Map<String, Object> data = new HashMap<>();
+    for (Frame frame = top; frame != null; frame = frame.parent()) {
+      NavigationNode node = frame.node();
+      if (node.context() != null && !data.containsKey(node.viewId())) {
+        Object object = node.contextObject();
+        if (object != null) {
+          data.put(node.viewId(), object);
+        }
+      }
+    }
+    return data;
   }
 
   /**
    * Get the breadcrumb trail
    */
   public List<NavigationNode> getBreadcrumb() {
-    return new ArrayList<>(breadcrumb);
+    NavigationNode[] nodes = new NavigationNode[getDepth()];
+    for (Frame frame = top; frame != null; frame = frame.parent()) {
+      nodes[frame.depth() - 1] = frame.node();
+    }
+    return new ArrayList<>(Arrays.asList(nodes));
   }
 
   /**
    * Check if we're at the root level
    */
   public boolean isAtRoot() {
-    return breadcrumb.isEmpty();
+    return top == null;
   }
 
   /**
    * Get the depth of the current navigation
    */
   public int getDepth() {
-    return breadcrumb.size();
+    return top == null ? 0 : top.depth();
+  }
+
+  /**
+   * Whether both contexts show the same trail of views and objects, e.g. to skip duplicate history
+   */
+  public boolean sameLocation(NavigationContext other) {
+    if (other == null || other.getDepth() != getDepth()) return false;
+    for (Frame a = top, b = other.top; a != b; a = a.parent(), b = b.parent()) {
+      NavigationNode x = a.node();
+      NavigationNode y = b.node();
+      if (!x.viewId().equals(y.viewId())) return false;
+      if (x.context() == null ? y.context() != null : !x.context().sameTarget(y.context())) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Whether every object on the trail still exists, so the context can be shown again
+   */
+  public boolean isAvailable() {
+    for (Frame frame = top; frame != null; frame = frame.parent()) {
+      ContextRef context = frame.node().context();
+      if (context != null && !context.exists()) return false;
+    }
+    return true;
   }
 
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
-    for (int i = 0; i < breadcrumb.size(); i++) {
-      if (i > 0) {
+    for (NavigationNode node : getBreadcrumb()) {
+      if (!sb.isEmpty()) {
         sb.append(" > ");
       }
-      sb.append(breadcrumb.get(i).displayName());
+      sb.append(node.displayName());
     }
     return sb.toString();
   }
 }
-
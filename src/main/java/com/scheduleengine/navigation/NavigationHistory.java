@@ -0,0 +1,86 @@
+package com.scheduleengine.navigation;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+/**
+ * Browser-style back/forward history of visited navigation contexts. Contexts share their
+ * breadcrumb tails and keep entities by id, so a long history costs little memory.
+ */
+public class NavigationHistory {
+  static final int MAX_ENTRIES = 100;
+
+  private final Deque<NavigationContext> back = new ArrayDeque<>();
+  private final Deque<NavigationContext> forward = new ArrayDeque<>();
+  private final ReadOnlyBooleanWrapper canGoBack = new ReadOnlyBooleanWrapper(false);
+  private final ReadOnlyBooleanWrapper canGoForward = new ReadOnlyBooleanWrapper(false);
+  private NavigationContext current;
+
+  /**
+   * Record a visit. Returning to the current context (e.g. after {@link #back()}) or to the same
+   * location again is not a new entry; any other visit clears the forward history.
+   */
+  public void visit(NavigationContext context) {
+    if (context == current) return;
+    if (current != null && current.sameLocation(context)) {
+      current = context;
+      return;
+    }
+    if (current != null) {
+      back.push(current);
+      if (back.size() > MAX_ENTRIES) back.removeLast();
+    }
+    forward.clear();
+    current = context;
+    update();
+  }
+
+  /**
+   * Step back to the previous context, skipping any whose objects have since been deleted
+   */
+  public Optional<NavigationContext> back() {
+    return step(back, forward);
+  }
+
+  /**
+   * Step forward again after {@link #back()}, skipping any contexts whose objects have been deleted
+   */
+  public Optional<NavigationContext> forward() {
+    return step(forward, back);
+  }
+
+  private Optional<NavigationContext> step(Deque<NavigationContext> from, Deque<NavigationContext> to) {
+    while (!from.isEmpty()) {
+      NavigationContext next = from.pop();
+      if (next.isAvailable()) {
+        if (current != null) to.push(current);
+        current = next;
+        update();
+        return Optional.of(next);
+      }
+    }
+    update();
+    return Optional.empty();
+  }
+
+  public NavigationContext current() {
+    return current;
+  }
+
+  public ReadOnlyBooleanProperty canGoBackProperty() {
+    return canGoBack.getReadOnlyProperty();
+  }
+
+  public ReadOnlyBooleanProperty canGoForwardProperty() {
+    return canGoForward.getReadOnlyProperty();
+  }
+
+  private void update() {
+    canGoBack.set(!back.isEmpty());
+    canGoForward.set(!forward.isEmpty());
+  }
+}
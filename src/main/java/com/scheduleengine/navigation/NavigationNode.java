@@ -2,12 +2,20 @@ package com.scheduleengine.navigation;
 
 /**
  * Represents a single node in the navigation breadcrumb trail
+ *
+ * @param context the object the view was opened with, or null
  */
-public record NavigationNode(String viewId, String displayName, Object contextObject) {
+public record NavigationNode(String viewId, String displayName, ContextRef context) {
+
+  /**
+   * The object the view was opened with, reloaded if it is no longer in memory
+   */
+  public Object contextObject() {
+    return context == null ? null : context.get();
+  }
 
   @Override
   public String toString() {
     return displayName;
   }
 }
-
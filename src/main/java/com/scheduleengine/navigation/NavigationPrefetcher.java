@@ -0,0 +1,68 @@
+package com.scheduleengine.navigation;
+
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.player.service.PlayerService;
+import com.scheduleengine.season.service.SeasonService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads the data behind a detail view's drill-down cards on a background thread while the user is
+ * still looking at the detail view. League teams, seasons and team rosters come from cacheable
+ * queries, so running them once fills Hibernate's query cache. A team's games are not prefetched:
+ * they are not cached, and a list held here would miss game edits made in the meantime.
+ */
+public class NavigationPrefetcher {
+  private static final Logger log = LoggerFactory.getLogger(NavigationPrefetcher.class);
+
+  private final TeamService teamService;
+  private final SeasonService seasonService;
+  private final PlayerService playerService;
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+    Thread thread = new Thread(r, "navigation-prefetch");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public NavigationPrefetcher(TeamService teamService, SeasonService seasonService, PlayerService playerService) {
+    this.teamService = teamService;
+    this.seasonService = seasonService;
+    this.playerService = playerService;
+  }
+
+  /**
+   * Start loading what the views reachable from the context's current view will need
+   */
+  public void prefetch(NavigationContext context) {
+    String viewId = context.getCurrentViewId();
+    if ("league-detail".equals(viewId)) {
+      League league = context.getContextData(viewId, League.class);
+      if (league != null) {
+        run("league " + league.getId(), () -> {
+          teamService.findByLeagueId(league.getId());
+          seasonService.findByLeagueId(league.getId());
+        });
+      }
+    } else if ("team-detail".equals(viewId)) {
+      Team team = context.getContextData(viewId, Team.class);
+      if (team != null) {
+        run("team " + team.getId(), () -> playerService.findRowsByTeamId(team.getId()));
+      }
+    }
+  }
+
+  private void run(String what, Runnable task) {
+    executor.execute(() -> {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        log.debug("Prefetching for {} failed", what, e);
+      }
+    });
+  }
+}
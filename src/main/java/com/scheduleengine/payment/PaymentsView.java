@@ -1,10 +1,19 @@
 package com.scheduleengine.payment;
 
-import com.scheduleengine.common.TableColumnUtil;
+import com.scheduleengine.common.ProgressDialog;
 import com.scheduleengine.league.domain.League;
 import com.scheduleengine.league.service.LeagueService;
 import com.scheduleengine.navigation.NavigationContext;
+import com.scheduleengine.payment.domain.PartyTotal;
+import com.scheduleengine.payment.domain.BillingResult;
+import com.scheduleengine.payment.domain.InvoiceTerms;
+import com.scheduleengine.payment.domain.Money;
+import com.scheduleengine.payment.domain.MoneyRange;
 import com.scheduleengine.payment.domain.Transaction;
+import com.scheduleengine.payment.domain.TransactionFilter;
+import com.scheduleengine.payment.domain.TransactionReportFilter;
+import com.scheduleengine.payment.service.BillingService;
+import com.scheduleengine.payment.service.TransactionReportService;
 import com.scheduleengine.payment.service.TransactionService;
 import com.scheduleengine.player.service.PlayerService;
 import com.scheduleengine.team.domain.Team;
@@ -12,24 +21,41 @@ import com.scheduleengine.team.service.TeamService;
 import com.scheduleengine.tournament.domain.Tournament;
 import com.scheduleengine.tournament.service.TournamentRegistrationService;
 import com.scheduleengine.tournament.service.TournamentService;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.event.ActionEvent;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.ComboBoxTableCell;
 import javafx.scene.control.cell.TextFieldTableCell;
+import javafx.scene.control.skin.VirtualFlow;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
+import javafx.util.StringConverter;
 import org.controlsfx.control.SearchableComboBox;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.io.StringReader;
 import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.prefs.Preferences;
 
 public class PaymentsView {
@@ -43,7 +69,21 @@ public class PaymentsView {
   private static final String PREF_AMOUNT = "payments.filter.amount";
   private static final String PREF_NOTES = "payments.filter.notes";
   private static final String PREF_STATUSES = "payments.filter.statuses"; // comma-separated
+  // Rows fetched per query; the next page is requested as the user scrolls near the last loaded row
+  private static final int PAGE_SIZE = 200;
+  private static final int PREFETCH_ROWS = 20;
+  // Pages held in the table at once; pages scrolled far past are dropped and read again on the way back
+  private static final int MAX_PAGES = 5;
+  // Columns that can be sorted in SQL, by column id; the name columns are resolved after loading
+  private static final Map<String, String> SORT_PROPERTIES = Map.of(
+    "partyType", "partyType",
+    "category", "category",
+    "date", "date",
+    "amount", "amountCents",
+    "status", "status");
   private final TransactionService transactionService;
+  private final TransactionReportService reportService;
+  private final BillingService billingService;
   private final TeamService teamService;
   private final PlayerService playerService;
   private final LeagueService leagueService;
@@ -53,8 +93,18 @@ public class PaymentsView {
   // Add registration service
   private final TournamentRegistrationService tournamentRegistrationService;
   private TableView<Transaction> table;
-  private ObservableList<Transaction> data;
-  private ObservableList<Transaction> allData;
+  private final ObservableList<Transaction> data = FXCollections.observableArrayList();
+  // Current query, the pages of it held in the table, in order, and the start positions of the pages
+  // dropped above them, nearest last
+  private TransactionFilter currentFilter = TransactionFilter.none();
+  private Sort currentSort = TransactionService.DEFAULT_SORT;
+  private final Deque<Page> pages = new ArrayDeque<>();
+  private final Deque<ScrollPosition> droppedAbove = new ArrayDeque<>();
+  // A page is being fetched; pages of an earlier query arriving late are dropped
+  private boolean pageQueued;
+  private final AtomicInteger queries = new AtomicInteger();
+  private HBox loadingRow;
+  private Label loadingLabel;
   // Filter fields
   private TextField filterPartyType;
   private TextField filterPartyName;
@@ -69,14 +119,29 @@ public class PaymentsView {
   private TextField filterTeamName;
   private TextField filterPlayerName;
   private ContextMenu statusContextMenu;
+  private Label totalLabel;
+  // Reports panel
+  private TitledPane reportPane;
+  private DatePicker reportFrom;
+  private DatePicker reportTo;
+  private final ObservableList<ReportRow> statusReport = FXCollections.observableArrayList();
+  private final ObservableList<ReportRow> agingReport = FXCollections.observableArrayList();
+  private final ObservableList<ReportRow> monthReport = FXCollections.observableArrayList();
+  private final ObservableList<ReportRow> leagueReport = FXCollections.observableArrayList();
+  private final ObservableList<ReportRow> teamReport = FXCollections.observableArrayList();
+  private final ObservableList<ReportRow> partyReport = FXCollections.observableArrayList();
 
   public PaymentsView(TransactionService transactionService,
+                      TransactionReportService reportService,
+                      BillingService billingService,
                       TeamService teamService,
                       PlayerService playerService,
                       LeagueService leagueService,
                       TournamentService tournamentService,
                       TournamentRegistrationService tournamentRegistrationService) {
     this.transactionService = transactionService;
+    this.reportService = reportService;
+    this.billingService = billingService;
     this.teamService = teamService;
     this.playerService = playerService;
     this.leagueService = leagueService;
@@ -147,6 +212,17 @@ public class PaymentsView {
     applyFilters();
   }
 
+  /**
+   * Show transactions whose notes contain the given text, in any status
+   */
+  public void filterByNotes(String notes) {
+    clearFilters();
+    if (filterNotes != null) {
+      filterNotes.setText(notes);
+    }
+    applyFilters();
+  }
+
   public void clearFilters() {
     if (filterPartyType != null) filterPartyType.setText("");
     if (filterPartyName != null) filterPartyName.setText("");
@@ -172,43 +248,190 @@ public class PaymentsView {
   }
 
   public void refresh() {
-    // Load all transactions
-    List<Transaction> all = transactionService.findAll();
-    allData = FXCollections.observableArrayList(all);
     applyFilters();
+    refreshReports();
   }
 
+  /**
+   * Restart the ledger from the first page using the current header filters and column sort. Filtering
+   * and sorting run in the database; only the pages the user scrolls through are loaded.
+   */
   private void applyFilters() {
-    if (allData == null) {
-      allData = FXCollections.observableArrayList();
+    // Nothing to query until the view, including the footer, has been built
+    if (table == null || totalLabel == null) return;
+    currentFilter = new TransactionFilter(
+      text(filterPartyType),
+      text(filterPartyName),
+      text(filterLeagueName),
+      text(filterTeamName),
+      text(filterPlayerName),
+      text(filterCategory),
+      text(filterDate),
+      parseAmountFilter(),
+      selectedStatuses.isEmpty() ? Set.of() : EnumSet.copyOf(selectedStatuses),
+      text(filterNotes));
+    currentSort = sortFromTable();
+    queries.incrementAndGet();
+    pages.clear();
+    droppedAbove.clear();
+    data.clear();
+    loadNextPage();
+    table.scrollTo(0);
+  }
+
+  /**
+   * A page held in the table: where it was read from, its row count and where the next page starts
+   */
+  private record Page(ScrollPosition start, int size, ScrollPosition next, boolean hasNext) {
+    static Page of(ScrollPosition start, Window<Transaction> window) {
+      return new Page(start, window.size(), window.isEmpty() ? start : window.positionAt(window.size() - 1),
+        window.hasNext());
     }
-    String partyTypeFilter = filterPartyType != null ? filterPartyType.getText().toLowerCase() : "";
-    String partyNameFilter = filterPartyName != null ? filterPartyName.getText().toLowerCase() : "";
-    String leagueNameFilter = filterLeagueName != null ? filterLeagueName.getText().toLowerCase() : "";
-    String teamNameFilter = filterTeamName != null ? filterTeamName.getText().toLowerCase() : "";
-    String playerNameFilter = filterPlayerName != null ? filterPlayerName.getText().toLowerCase() : "";
-    String categoryFilter = filterCategory != null ? filterCategory.getText().toLowerCase() : "";
-    String dateFilter = filterDate != null ? filterDate.getText().toLowerCase() : "";
-    String amountFilter = filterAmount != null ? filterAmount.getText().toLowerCase() : "";
-    String notesFilter = filterNotes != null ? filterNotes.getText().toLowerCase() : "";
-
-    ObservableList<Transaction> filtered = FXCollections.observableArrayList(
-      allData.stream()
-        .filter(tx -> tx.getPartyType().name().toLowerCase().contains(partyTypeFilter))
-        .filter(tx -> (tx.getPartyName() == null ? "" : tx.getPartyName()).toLowerCase().contains(partyNameFilter))
-        .filter(tx -> (tx.getLeagueName() == null ? "" : tx.getLeagueName()).toLowerCase().contains(leagueNameFilter))
-        .filter(tx -> (tx.getTeamName() == null ? "" : tx.getTeamName()).toLowerCase().contains(teamNameFilter))
-        .filter(tx -> (tx.getPlayerName() == null ? "" : tx.getPlayerName()).toLowerCase().contains(playerNameFilter))
-        .filter(tx -> tx.getCategory().name().toLowerCase().contains(categoryFilter))
-        .filter(tx -> String.valueOf(tx.getDate()).contains(dateFilter))
-        .filter(tx -> String.valueOf(tx.getAmount()).contains(amountFilter))
-        .filter(tx -> selectedStatuses.isEmpty() || selectedStatuses.contains(tx.getStatus()))
-        .filter(tx -> (tx.getNotes() == null ? "" : tx.getNotes()).toLowerCase().contains(notesFilter))
-        .toList()
-    );
+  }
 
-    data = filtered;
-    if (table != null) table.setItems(data);
+  /**
+   * Append the page following the last held row, if there is one, and drop the first held page once
+   * more than {@link #MAX_PAGES} are held, keeping the rows in view where they are
+   */
+  private void loadNextPage() {
+    Page last = pages.peekLast();
+    if (last != null && !last.hasNext()) {
+      pageQueued = false;
+      return;
+    }
+    ScrollPosition start = last == null ? ScrollPosition.keyset() : last.next();
+    fetchPage(start, last == null ? "Loading transactions..." : "Loading more transactions...", window -> {
+      data.addAll(window.getContent());
+      pages.addLast(Page.of(start, window));
+      if (pages.size() > MAX_PAGES) {
+        int top = firstVisibleIndex();
+        Page first = pages.removeFirst();
+        droppedAbove.addLast(first.start());
+        data.remove(0, first.size());
+        table.scrollTo(Math.max(0, top - first.size()));
+      }
+    });
+  }
+
+  /**
+   * Read back the nearest page dropped above the held rows and drop the last held page once more
+   * than {@link #MAX_PAGES} are held, keeping the rows in view where they are
+   */
+  private void loadPreviousPage() {
+    if (droppedAbove.isEmpty()) {
+      pageQueued = false;
+      return;
+    }
+    ScrollPosition start = droppedAbove.peekLast();
+    fetchPage(start, "Loading earlier transactions...", window -> {
+      droppedAbove.removeLast();
+      int top = firstVisibleIndex();
+      data.addAll(0, window.getContent());
+      pages.addFirst(Page.of(start, window));
+      table.scrollTo(top + window.size());
+      if (pages.size() > MAX_PAGES) {
+        Page last = pages.removeLast();
+        data.remove(data.size() - last.size(), data.size());
+      }
+    });
+  }
+
+  /**
+   * Read a page of the current query in the background, showing the loading row meanwhile, and
+   * apply it on the FX thread unless the query has changed since
+   */
+  private void fetchPage(ScrollPosition start, String message, Consumer<Window<Transaction>> apply) {
+    pageQueued = true;
+    int query = queries.get();
+    TransactionFilter filter = currentFilter;
+    Sort sort = currentSort;
+    Task<Window<Transaction>> task = new Task<>() {
+      @Override
+      protected Window<Transaction> call() {
+        Window<Transaction> window = transactionService.findPage(filter, sort, start, PAGE_SIZE);
+        return window != null ? window : Window.from(List.of(), ScrollPosition::offset);
+      }
+    };
+    task.setOnSucceeded(e -> {
+      if (query != queries.get()) return;
+      apply.accept(task.getValue());
+      pageLoaded();
+      updateTotalLabel();
+    });
+    task.setOnFailed(e -> {
+      if (query != queries.get()) return;
+      pageLoaded();
+      totalLabel.setText("Transactions could not be loaded: " + task.getException().getMessage());
+    });
+    loadingLabel.setText(message);
+    loadingRow.setVisible(true);
+    if (data.isEmpty()) table.setPlaceholder(new Label(message));
+    Thread worker = new Thread(task, "payments-page");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  private void pageLoaded() {
+    pageQueued = false;
+    loadingRow.setVisible(false);
+    table.setPlaceholder(new Label("No transactions"));
+  }
+
+  private boolean hasNextPage() {
+    Page last = pages.peekLast();
+    return last != null && last.hasNext();
+  }
+
+  private int firstVisibleIndex() {
+    if (table.lookup(".virtual-flow") instanceof VirtualFlow<?> flow && flow.getFirstVisibleCell() != null) {
+      return flow.getFirstVisibleCell().getIndex();
+    }
+    return 0;
+  }
+
+  private void updateTotalLabel() {
+    if (totalLabel == null) return;
+    Money total = Money.sum(data, Transaction::getAmountCents);
+    boolean more = hasNextPage();
+    // Pages dropped above always had a page after them, so they were full
+    int first = droppedAbove.size() * PAGE_SIZE;
+    String rows = first == 0 ? data.size() + (more ? "+" : "") + " transaction(s)"
+      : String.format("Transactions %,d–%,d%s", first + 1, first + data.size(), more ? "+" : "");
+    totalLabel.setText(rows + ", total of rows held " + total + (more ? " (scroll for more)" : ""));
+  }
+
+  /**
+   * Translate the table's sort order into a database sort; unsortable columns are skipped
+   */
+  private Sort sortFromTable() {
+    List<Sort.Order> orders = new ArrayList<>();
+    for (TableColumn<Transaction, ?> column : table.getSortOrder()) {
+      String property = SORT_PROPERTIES.get(column.getId());
+      if (property != null) {
+        orders.add(column.getSortType() == TableColumn.SortType.DESCENDING
+          ? Sort.Order.desc(property) : Sort.Order.asc(property));
+      }
+    }
+    return orders.isEmpty() ? TransactionService.DEFAULT_SORT : Sort.by(orders);
+  }
+
+  private static String text(TextField field) {
+    return field == null ? null : field.getText();
+  }
+
+  /**
+   * Parse the amount filter as a numeric range; an unparseable expression is flagged and ignored
+   */
+  private MoneyRange parseAmountFilter() {
+    if (filterAmount == null) return MoneyRange.ANY;
+    try {
+      MoneyRange range = MoneyRange.parse(filterAmount.getText());
+      filterAmount.setStyle("-fx-padding: 2 2 2 2;");
+      return range;
+    } catch (IllegalArgumentException | ArithmeticException e) {
+      filterAmount.setStyle("-fx-padding: 2 2 2 2; -fx-border-color: #e74c3c;");
+      return MoneyRange.ANY;
+    }
   }
 
   private void saveFilters() {
@@ -269,11 +492,26 @@ public class PaymentsView {
     table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
     table.setPlaceholder(new Label("No transactions"));
     table.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
-    // Highlight overdue rows
+    table.setItems(data);
+    // Rows arrive in database order; a sort change re-queries instead of sorting the loaded rows
+    table.setSortPolicy(t -> {
+      if (!sortFromTable().equals(currentSort)) applyFilters();
+      return true;
+    });
+    // Highlight overdue rows, and fetch the next or previous page once rows near either end are rendered
     table.setRowFactory(tv -> new TableRow<>() {
       @Override
       protected void updateItem(Transaction item, boolean empty) {
         super.updateItem(item, empty);
+        if (!empty && !pageQueued) {
+          if (getIndex() >= data.size() - PREFETCH_ROWS && hasNextPage()) {
+            pageQueued = true;
+            Platform.runLater(PaymentsView.this::loadNextPage);
+          } else if (getIndex() < PREFETCH_ROWS && !droppedAbove.isEmpty()) {
+            pageQueued = true;
+            Platform.runLater(PaymentsView.this::loadPreviousPage);
+          }
+        }
         if (empty || item == null) {
           setStyle("");
         } else if (isSelected()) {
@@ -292,20 +530,24 @@ public class PaymentsView {
 
     TableColumn<Transaction, String> partyNameCol = new TableColumn<>("Party Name");
     partyNameCol.setId("partyName");
+    partyNameCol.setSortable(false);
     partyNameCol.setCellValueFactory(c -> new SimpleStringProperty(
       c.getValue().getPartyName() != null ? c.getValue().getPartyName() : "Unknown"
     ));
 
     TableColumn<Transaction, String> leagueCol = new TableColumn<>("League");
     leagueCol.setId("league");
+    leagueCol.setSortable(false);
     leagueCol.setCellValueFactory(c -> new SimpleStringProperty(c.getValue().getLeagueName() != null ? c.getValue().getLeagueName() : ""));
 
     TableColumn<Transaction, String> teamCol = new TableColumn<>("Team");
     teamCol.setId("team");
+    teamCol.setSortable(false);
     teamCol.setCellValueFactory(c -> new SimpleStringProperty(c.getValue().getTeamName() != null ? c.getValue().getTeamName() : ""));
 
     TableColumn<Transaction, String> playerCol = new TableColumn<>("Contact");
     playerCol.setId("player");
+    playerCol.setSortable(false);
     playerCol.setCellValueFactory(c -> {
       Transaction tx = c.getValue();
       String contact = tx.getPlayerName() != null ? tx.getPlayerName() : "";
@@ -338,16 +580,15 @@ public class PaymentsView {
       }
     });
 
-    TableColumn<Transaction, Number> amountCol = new TableColumn<>("Amount");
+    TableColumn<Transaction, Money> amountCol = new TableColumn<>("Amount");
     amountCol.setId("amount");
-    amountCol.setCellValueFactory(c -> new javafx.beans.property.SimpleDoubleProperty(c.getValue().getAmount()));
-    amountCol.setComparator(TableColumnUtil.comparingDouble());
-    amountCol.setCellFactory(TextFieldTableCell.forTableColumn(TableColumnUtil.doubleStringConverter()));
+    amountCol.setCellValueFactory(c -> new SimpleObjectProperty<>(c.getValue().getAmount()));
+    amountCol.setCellFactory(TextFieldTableCell.forTableColumn(moneyStringConverter()));
     amountCol.setOnEditCommit(e -> {
       try {
-        Number n = e.getNewValue();
-        if (n == null) throw new IllegalArgumentException("Amount required");
-        e.getRowValue().setAmount(n.doubleValue());
+        Money amount = e.getNewValue();
+        if (amount == null) throw new IllegalArgumentException("Amount required");
+        e.getRowValue().setAmount(amount);
         transactionService.save(e.getRowValue());
       } catch (Exception ex) {
         showError("Invalid amount");
@@ -377,6 +618,7 @@ public class PaymentsView {
 
     TableColumn<Transaction, String> notesCol = new TableColumn<>("Notes");
     notesCol.setId("notes");
+    notesCol.setSortable(false);
     notesCol.setCellValueFactory(c -> new SimpleStringProperty(c.getValue().getNotes() == null ? "" : c.getValue().getNotes()));
     notesCol.setCellFactory(TextFieldTableCell.forTableColumn());
     notesCol.setOnEditCommit(e -> {
@@ -431,7 +673,7 @@ public class PaymentsView {
 
     Button exportBtn = new Button("Export CSV");
     exportBtn.setOnAction(e -> {
-      String csv = transactionService.exportCsv(data == null ? List.of() : data);
+      String csv = transactionService.exportCsv(transactionService.findAll(currentFilter, currentSort));
       TextArea area = new TextArea(csv);
       area.setPrefRowCount(12);
       Dialog<Void> d = new Dialog<>();
@@ -507,7 +749,19 @@ public class PaymentsView {
     HBox controls = new HBox(10, addBtn, createLeagueInvoiceBtn, createTournamentInvoiceBtn, resetFiltersBtn, paidBtn, voidBtn, importBtn, exportBtn);
     controls.setAlignment(Pos.CENTER_LEFT);
 
-    container.getChildren().addAll(title, controls, table);
+    // Shown under the table while a page is fetched
+    ProgressIndicator loadingIndicator = new ProgressIndicator();
+    loadingIndicator.setPrefSize(16, 16);
+    loadingLabel = new Label();
+    loadingRow = new HBox(8, loadingIndicator, loadingLabel);
+    loadingRow.setAlignment(Pos.CENTER_LEFT);
+    loadingRow.setStyle("-fx-background-color: #f8f9fa; -fx-padding: 4 8;");
+    loadingRow.setVisible(false);
+    loadingRow.managedProperty().bind(loadingRow.visibleProperty());
+
+    totalLabel = new Label();
+    totalLabel.setStyle("-fx-font-weight: bold;");
+    container.getChildren().addAll(title, controls, createReportPane(), table, loadingRow, totalLabel);
     refresh();
     return container;
   }
@@ -603,7 +857,7 @@ public class PaymentsView {
 
     // Amount Filter
     filterAmount = new TextField();
-    filterAmount.setPromptText("$");
+    filterAmount.setPromptText("e.g. 10-50, >=100");
     VBox amountHeader = createHeaderWithFilter(amountCol, filterAmount);
     filterAmount.textProperty().addListener((obs, o, n) -> {
       applyFilters();
@@ -628,6 +882,7 @@ public class PaymentsView {
           selectedStatuses.remove(status);
         }
         applyFilters();
+        refreshReports();
       });
       statusContextMenu.getItems().add(item);
     }
@@ -669,6 +924,104 @@ public class PaymentsView {
     return vbox;
   }
 
+  /**
+   * Collapsible summary panel. Totals are aggregated by {@link TransactionReportService} for the
+   * selected date range and the status filter of the table, and only loaded while the panel is open.
+   */
+  private TitledPane createReportPane() {
+    reportFrom = new DatePicker();
+    reportFrom.setPromptText("From");
+    reportTo = new DatePicker();
+    reportTo.setPromptText("To");
+    reportFrom.valueProperty().addListener((obs, o, n) -> refreshReports());
+    reportTo.valueProperty().addListener((obs, o, n) -> refreshReports());
+    HBox range = new HBox(10, new Label("Date range:"), reportFrom, reportTo);
+    range.setAlignment(Pos.CENTER_LEFT);
+
+    TabPane tabs = new TabPane(
+      new Tab("By Status", createReportTable("Status", statusReport)),
+      new Tab("Aging (Outstanding)", createReportTable("Age", agingReport)),
+      new Tab("By Month", createReportTable("Month", monthReport)),
+      new Tab("By League", createReportTable("League", leagueReport)),
+      new Tab("By Team", createReportTable("Team", teamReport)),
+      new Tab("Top Parties", createReportTable("Party", partyReport))
+    );
+    tabs.setTabClosingPolicy(TabPane.TabClosingPolicy.UNAVAILABLE);
+    tabs.setPrefHeight(220);
+
+    reportPane = new TitledPane("Reports", new VBox(8, range, tabs));
+    reportPane.setExpanded(false);
+    reportPane.expandedProperty().addListener((obs, o, expanded) -> {
+      if (expanded) refreshReports();
+    });
+    return reportPane;
+  }
+
+  private TableView<ReportRow> createReportTable(String labelHeader, ObservableList<ReportRow> rows) {
+    TableView<ReportRow> reportTable = new TableView<>(rows);
+    reportTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+    reportTable.setPlaceholder(new Label("No transactions"));
+
+    TableColumn<ReportRow, String> labelCol = new TableColumn<>(labelHeader);
+    labelCol.setCellValueFactory(c -> new SimpleStringProperty(c.getValue().label()));
+    TableColumn<ReportRow, Number> countCol = new TableColumn<>("Count");
+    countCol.setCellValueFactory(c -> new javafx.beans.property.SimpleLongProperty(c.getValue().count()));
+    TableColumn<ReportRow, Money> totalCol = new TableColumn<>("Total");
+    totalCol.setCellValueFactory(c -> new SimpleObjectProperty<>(c.getValue().total()));
+
+    reportTable.getColumns().setAll(labelCol, countCol, totalCol);
+    return reportTable;
+  }
+
+  private void refreshReports() {
+    if (reportPane == null || !reportPane.isExpanded()) {
+      return;
+    }
+    TransactionReportFilter filter = new TransactionReportFilter(
+      reportFrom.getValue(), reportTo.getValue(),
+      selectedStatuses.isEmpty() ? EnumSet.allOf(Transaction.Status.class) : EnumSet.copyOf(selectedStatuses));
+
+    statusReport.setAll(reportService.totalsByStatus(filter).stream()
+      .map(t -> new ReportRow(t.status().name(), t.count(), t.total())).toList());
+    agingReport.setAll(reportService.agingBuckets(filter, LocalDate.now()).stream()
+      .map(t -> new ReportRow(t.bucket().getLabel(), t.count(), t.total())).toList());
+    monthReport.setAll(reportService.totalsByMonth(filter).stream()
+      .map(t -> new ReportRow(t.yearMonth().toString(), t.count(), t.total())).toList());
+    leagueReport.setAll(reportService.totalsByLeague(filter).stream()
+      .map(t -> new ReportRow(t.name(), t.count(), t.total())).toList());
+    teamReport.setAll(reportService.totalsByTeam(filter).stream()
+      .map(t -> new ReportRow(t.name(), t.count(), t.total())).toList());
+    partyReport.setAll(reportService.topParties(filter, 20).stream()
+      .map(t -> new ReportRow(partyLabel(t), t.count(), t.total())).toList());
+  }
+
+  private String partyLabel(PartyTotal total) {
+    if (total.partyType() == Transaction.PartyType.TEAM) {
+      return teamService.findById(total.partyId()).map(Team::getName)
+        .orElse("Unknown (" + total.partyId() + ")");
+    }
+    return playerService.findById(total.partyId()).map(p -> p.getFullName())
+      .orElse("Unknown (" + total.partyId() + ")");
+  }
+
+  private static StringConverter<Money> moneyStringConverter() {
+    return new StringConverter<>() {
+      @Override
+      public String toString(Money money) {
+        return money == null ? "" : money.toString();
+      }
+
+      @Override
+      public Money fromString(String text) {
+        try {
+          return Money.parse(text);
+        } catch (IllegalArgumentException e) {
+          return null;
+        }
+      }
+    };
+  }
+
   private void showError(String msg) {
     Alert a = new Alert(Alert.AlertType.ERROR, msg, ButtonType.OK);
     a.showAndWait();
@@ -757,7 +1110,7 @@ public class PaymentsView {
           tx.setPartyId(partyCombo.getValue().id);
           tx.setCategory(categoryCombo.getValue());
           tx.setDate(datePicker.getValue());
-          tx.setAmount(Double.parseDouble(amountField.getText()));
+          tx.setAmount(Money.parse(amountField.getText()));
           tx.setStatus(statusCombo.getValue());
           tx.setNotes(notesField.getText());
           return tx;
@@ -776,7 +1129,7 @@ public class PaymentsView {
   }
 
   private void showCreateLeagueInvoiceDialog() {
-    Dialog<Transaction> dialog = new Dialog<>();
+    Dialog<ButtonType> dialog = new Dialog<>();
     dialog.setTitle("Create League Invoice");
     dialog.setHeaderText("Create a new league invoice for a team");
 
@@ -817,6 +1170,7 @@ public class PaymentsView {
     teamCombo.setButtonCell(teamCombo.getCellFactory().call(null));
 
     CheckBox billAllTeams = new CheckBox("Bill all teams in this league");
+    CheckBox billPlayers = new CheckBox("Invoice each player instead of the team");
 
     // Populate teams when a league is selected
     leagueCombo.setOnAction(e -> {
@@ -840,6 +1194,7 @@ public class PaymentsView {
     content.getChildren().addAll(
       new Label("League:"), leagueCombo,
       billAllTeams,
+      billPlayers,
       new Label("Team:"), teamCombo,
       new Label("Amount:"), amountField,
       new Label("Date:"), datePicker,
@@ -848,56 +1203,32 @@ public class PaymentsView {
 
     dialog.getDialogPane().setContent(content);
 
-    dialog.setResultConverter(dialogButton -> {
-      if (dialogButton == saveButtonType) {
-        try {
-          if (billAllTeams.isSelected()) {
-            League selectedLeague = leagueCombo.getValue();
-            if (selectedLeague == null) throw new IllegalArgumentException("Select a league");
-            List<Team> teams = teamService.findByLeagueId(selectedLeague.getId());
-            double amt = Double.parseDouble(amountField.getText());
-            LocalDate date = datePicker.getValue();
-            String notes = notesField.getText();
-            for (Team t : teams) {
-              Transaction tx = new Transaction();
-              tx.setPartyType(Transaction.PartyType.TEAM);
-              tx.setPartyId(t.getId());
-              tx.setCategory(Transaction.Category.INVOICE);
-              tx.setDate(date);
-              tx.setAmount(amt);
-              tx.setStatus(Transaction.Status.PENDING);
-              tx.setNotes("League registration: " + selectedLeague.getName() + " - " + notes);
-              transactionService.save(tx);
-            }
-            refresh();
-            return null; // We've already saved all
-          } else {
-            Transaction tx = new Transaction();
-            tx.setPartyType(Transaction.PartyType.TEAM);
-            tx.setPartyId(teamCombo.getValue().getId());
-            tx.setCategory(Transaction.Category.INVOICE);
-            tx.setDate(datePicker.getValue());
-            tx.setAmount(Double.parseDouble(amountField.getText()));
-            tx.setStatus(Transaction.Status.PENDING);
-            tx.setNotes("League registration: " + (leagueCombo.getValue() != null ? leagueCombo.getValue().getName() : "") + " - " + notesField.getText());
-            return tx;
-          }
-        } catch (Exception e) {
-          showError("Invalid input: " + e.getMessage());
-          return null;
-        }
+    dialog.showAndWait().filter(saveButtonType::equals).ifPresent(btn -> {
+      League league = leagueCombo.getValue();
+      Team team = billAllTeams.isSelected() ? null : teamCombo.getValue();
+      if (league == null) {
+        showError("Invalid input: Select a league");
+        return;
       }
-      return null;
-    });
-
-    dialog.showAndWait().ifPresent(tx -> {
-      transactionService.save(tx);
-      refresh();
+      if (!billAllTeams.isSelected() && team == null) {
+        showError("Invalid input: Select a team");
+        return;
+      }
+      InvoiceTerms terms;
+      try {
+        terms = new InvoiceTerms(Money.parse(amountField.getText()), datePicker.getValue(), notesField.getText());
+      } catch (IllegalArgumentException e) {
+        showError("Invalid input: " + e.getMessage());
+        return;
+      }
+      Transaction.PartyType billTo = billPlayers.isSelected() ? Transaction.PartyType.PLAYER : Transaction.PartyType.TEAM;
+      runBilling("Create League Invoice", progress -> billingService.invoiceLeague(
+        league.getId(), team == null ? null : team.getId(), billTo, terms, progress));
     });
   }
 
   private void showCreateTournamentInvoiceDialog() {
-    Dialog<Transaction> dialog = new Dialog<>();
+    Dialog<ButtonType> dialog = new Dialog<>();
     dialog.setTitle("Create Tournament Invoice");
     dialog.setHeaderText("Create a new tournament invoice for a team");
 
@@ -968,60 +1299,71 @@ public class PaymentsView {
 
     dialog.getDialogPane().setContent(content);
 
-    dialog.setResultConverter(dialogButton -> {
-      if (dialogButton == saveButtonType) {
-        try {
-          double amt = Double.parseDouble(amountField.getText());
-          LocalDate date = datePicker.getValue();
-          String notes = notesField.getText();
-          Tournament t = tournamentCombo.getValue();
-          if (t == null) throw new IllegalArgumentException("Select a tournament");
-
-          if (billAllTeams.isSelected()) {
-            var regs = tournamentRegistrationService.findByTournamentIdAndStatus(t.getId(), com.scheduleengine.tournament.domain.TournamentRegistration.RegistrationStatus.APPROVED);
-            List<Team> teams = regs.stream().map(r -> r.getTeam()).distinct().toList();
-            for (Team team : teams) {
-              Transaction tx = new Transaction();
-              tx.setPartyType(Transaction.PartyType.TEAM);
-              tx.setPartyId(team.getId());
-              tx.setCategory(Transaction.Category.INVOICE);
-              tx.setDate(date);
-              tx.setAmount(amt);
-              tx.setStatus(Transaction.Status.PENDING);
-              tx.setNotes("Tournament registration: " + t.getName() + " - " + notes);
-              transactionService.save(tx);
-            }
-            refresh();
-            return null;
-          } else {
-            Team selTeam = teamCombo.getValue();
-            if (selTeam == null) throw new IllegalArgumentException("Select a team");
-            Transaction tx = new Transaction();
-            tx.setPartyType(Transaction.PartyType.TEAM);
-            tx.setPartyId(selTeam.getId());
-            tx.setCategory(Transaction.Category.INVOICE);
-            tx.setDate(date);
-            tx.setAmount(amt);
-            tx.setStatus(Transaction.Status.PENDING);
-            tx.setNotes("Tournament registration: " + t.getName() + " - " + notes);
-            return tx;
-          }
-        } catch (Exception e) {
-          showError("Invalid input: " + e.getMessage());
-          return null;
-        }
+    dialog.showAndWait().filter(saveButtonType::equals).ifPresent(btn -> {
+      Tournament tournament = tournamentCombo.getValue();
+      Team team = billAllTeams.isSelected() ? null : teamCombo.getValue();
+      if (tournament == null) {
+        showError("Invalid input: Select a tournament");
+        return;
       }
-      return null;
+      if (!billAllTeams.isSelected() && team == null) {
+        showError("Invalid input: Select a team");
+        return;
+      }
+      InvoiceTerms terms;
+      try {
+        terms = new InvoiceTerms(Money.parse(amountField.getText()), datePicker.getValue(), notesField.getText());
+      } catch (IllegalArgumentException e) {
+        showError("Invalid input: " + e.getMessage());
+        return;
+      }
+      runBilling("Create Tournament Invoice", progress -> billingService.invoiceTournament(
+        tournament.getId(), team == null ? null : team.getId(), terms, progress));
     });
+  }
 
-    dialog.showAndWait().ifPresent(tx -> {
-      if (tx != null) {
-        transactionService.save(tx);
-        refresh();
+  /**
+   * Run a bulk billing job on a background thread behind a progress dialog, then reload the table
+   */
+  private void runBilling(String title, Function<BiConsumer<Long, Long>, BillingResult> job) {
+    Task<BillingResult> task = new Task<>() {
+      @Override
+      protected BillingResult call() {
+        updateMessage("Creating invoices...");
+        return job.apply((processed, total) -> {
+          updateProgress(processed, total);
+          updateMessage("Processed " + processed + " of " + total);
+        });
       }
+    };
+
+    ProgressBar progressBar = new ProgressBar();
+    progressBar.setPrefWidth(320);
+    progressBar.progressProperty().bind(task.progressProperty());
+    Label message = new Label();
+    message.textProperty().bind(task.messageProperty());
+
+    task.setOnSucceeded(e -> {
+      refresh();
+      BillingResult result = task.getValue();
+      Alert info = new Alert(Alert.AlertType.INFORMATION,
+        "Created " + result.created() + " invoice(s)."
+          + (result.skipped() > 0 ? " Skipped " + result.skipped() + " already billed." : ""),
+        ButtonType.OK);
+      info.setHeaderText(title);
+      info.showAndWait();
     });
+    task.setOnFailed(e -> {
+      refresh();
+      showError("Billing failed: " + task.getException().getMessage());
+    });
+    ProgressDialog.run(task, "billing", title, "Creating invoices", new VBox(10, message, progressBar));
   }
 
+    // Row shown in the report tables
+    private record ReportRow(String label, long count, Money total) {
+    }
+
     // Helper class for ComboBox items
     private record PartyOption(Long id, String name) {
 
@@ -0,0 +1,31 @@
+package com.scheduleengine.payment.domain;
+
+/**
+ * Count and sum of outstanding transactions falling into an aging bucket
+ */
+public record AgingTotal(AgingBucket bucket, long count, Money total) {
+
+  /**
+   * Used by the aggregate query, which computes the bucket as its ordinal
+   */
+  public AgingTotal(int bucketOrdinal, long count, long totalCents) {
+    this(AgingBucket.values()[bucketOrdinal], count, Money.ofCents(totalCents));
+  }
+
+  public enum AgingBucket {
+    CURRENT("0-30 days"),
+    DAYS_31_60("31-60 days"),
+    DAYS_61_90("61-90 days"),
+    OVER_90("90+ days");
+
+    private final String label;
+
+    AgingBucket(String label) {
+      this.label = label;
+    }
+
+    public String getLabel() {
+      return label;
+    }
+  }
+}
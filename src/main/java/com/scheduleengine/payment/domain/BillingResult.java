@@ -0,0 +1,10 @@
+package com.scheduleengine.payment.domain;
+
+/**
+ * Outcome of a bulk billing run
+ *
+ * @param created invoices written by this run
+ * @param skipped parties that already had an invoice from an earlier run with the same key
+ */
+public record BillingResult(int created, int skipped) {
+}
@@ -0,0 +1,11 @@
+package com.scheduleengine.payment.domain;
+
+/**
+ * Count and sum of transactions rolled up to a named team or league
+ */
+public record GroupTotal(Long id, String name, long count, Money total) {
+
+  public GroupTotal(Long id, String name, long count, long totalCents) {
+    this(id, name, count, Money.ofCents(totalCents));
+  }
+}
@@ -0,0 +1,9 @@
+package com.scheduleengine.payment.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Amount, date and notes applied to every invoice in a bulk billing run
+ */
+public record InvoiceTerms(Money amount, LocalDate date, String notes) {
+}
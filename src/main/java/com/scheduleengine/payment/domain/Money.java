@@ -0,0 +1,80 @@
+package com.scheduleengine.payment.domain;
+
+import java.math.BigDecimal;
+import java.util.function.ToLongFunction;
+
+/**
+ * Exact monetary amount held as a whole number of cents. Arithmetic is done on the long value
+ * and fails on overflow rather than wrapping, so totals never drift the way summed doubles do.
+ */
+public record Money(long cents) implements Comparable<Money> {
+  public static final Money ZERO = new Money(0);
+
+  public static Money ofCents(long cents) {
+    return new Money(cents);
+  }
+
+  /**
+   * Parse a decimal amount such as "12", "12.5", "$1,250.00" or "-3.25". More than two fraction
+   * digits are rejected rather than rounded.
+   *
+   * @throws IllegalArgumentException if the text is not a valid amount
+   */
+  public static Money parse(String text) {
+    if (text == null || text.isBlank()) throw new IllegalArgumentException("amount required");
+    String cleaned = text.trim().replace("$", "").replace(",", "");
+    try {
+      BigDecimal value = new BigDecimal(cleaned);
+      if (value.scale() > 2 && value.stripTrailingZeros().scale() > 2) {
+        throw new IllegalArgumentException("amount has more than two decimal places: " + text);
+      }
+      return new Money(value.movePointRight(2).longValueExact());
+    } catch (NumberFormatException | ArithmeticException e) {
+      throw new IllegalArgumentException("invalid amount: " + text);
+    }
+  }
+
+  /**
+   * Exact sum of the cent amounts extracted from each item, accumulated as a primitive long
+   */
+  public static <T> Money sum(Iterable<T> items, ToLongFunction<? super T> cents) {
+    long total = 0;
+    for (T item : items) {
+      total = Math.addExact(total, cents.applyAsLong(item));
+    }
+    return new Money(total);
+  }
+
+  public Money plus(Money other) {
+    return new Money(Math.addExact(cents, other.cents));
+  }
+
+  public Money minus(Money other) {
+    return new Money(Math.subtractExact(cents, other.cents));
+  }
+
+  public Money times(long factor) {
+    return new Money(Math.multiplyExact(cents, factor));
+  }
+
+  public boolean isPositive() {
+    return cents > 0;
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(cents, 2);
+  }
+
+  @Override
+  public int compareTo(Money other) {
+    return Long.compare(cents, other.cents);
+  }
+
+  /**
+   * Plain decimal form with two fraction digits, e.g. "1250.00"; round-trips through {@link #parse}
+   */
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
@@ -0,0 +1,48 @@
+package com.scheduleengine.payment.domain;
+
+/**
+ * Inclusive range of amounts in cents used to filter transactions numerically. Either bound may be
+ * open ({@link Long#MIN_VALUE} / {@link Long#MAX_VALUE}).
+ */
+public record MoneyRange(long minCents, long maxCents) {
+  public static final MoneyRange ANY = new MoneyRange(Long.MIN_VALUE, Long.MAX_VALUE);
+
+  /**
+   * Parse a filter expression:
+   * <ul>
+   *   <li>{@code 25} or {@code 25.00} - exactly that amount</li>
+   *   <li>{@code 10-50} or {@code 10..50} - between the two amounts, inclusive</li>
+   *   <li>{@code >=100}, {@code >100}, {@code <=20}, {@code <20} - one-sided bounds</li>
+   * </ul>
+   * Blank text matches every amount.
+   *
+   * @throws IllegalArgumentException if the expression cannot be parsed
+   */
+  public static MoneyRange parse(String text) {
+    if (text == null || text.isBlank()) return ANY;
+    String expr = text.replace(" ", "");
+    if (expr.startsWith(">=")) return new MoneyRange(Money.parse(expr.substring(2)).cents(), Long.MAX_VALUE);
+    if (expr.startsWith("<=")) return new MoneyRange(Long.MIN_VALUE, Money.parse(expr.substring(2)).cents());
+    if (expr.startsWith(">")) return new MoneyRange(Math.addExact(Money.parse(expr.substring(1)).cents(), 1), Long.MAX_VALUE);
+    if (expr.startsWith("<")) return new MoneyRange(Long.MIN_VALUE, Math.subtractExact(Money.parse(expr.substring(1)).cents(), 1));
+
+    int sep = expr.indexOf("..");
+    int sepLength = 2;
+    if (sep < 0) {
+      // Skip a leading minus sign so "-5" parses as an amount, not an open range
+      sep = expr.indexOf('-', 1);
+      sepLength = 1;
+    }
+    if (sep > 0) {
+      long min = Money.parse(expr.substring(0, sep)).cents();
+      long max = Money.parse(expr.substring(sep + sepLength)).cents();
+      return new MoneyRange(Math.min(min, max), Math.max(min, max));
+    }
+    long exact = Money.parse(expr).cents();
+    return new MoneyRange(exact, exact);
+  }
+
+  public boolean contains(long cents) {
+    return cents >= minCents && cents <= maxCents;
+  }
+}
@@ -0,0 +1,17 @@
+package com.scheduleengine.payment.domain;
+
+import java.time.YearMonth;
+
+/**
+ * Count and sum of transactions dated within one calendar month
+ */
+public record MonthTotal(int year, int month, long count, Money total) {
+
+  public MonthTotal(int year, int month, long count, long totalCents) {
+    this(year, month, count, Money.ofCents(totalCents));
+  }
+
+  public YearMonth yearMonth() {
+    return YearMonth.of(year, month);
+  }
+}
@@ -0,0 +1,11 @@
+package com.scheduleengine.payment.domain;
+
+/**
+ * Count and sum of transactions billed to a single team or player
+ */
+public record PartyTotal(Transaction.PartyType partyType, Long partyId, long count, Money total) {
+
+  public PartyTotal(Transaction.PartyType partyType, Long partyId, long count, long totalCents) {
+    this(partyType, partyId, count, Money.ofCents(totalCents));
+  }
+}
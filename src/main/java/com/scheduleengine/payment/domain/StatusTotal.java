@@ -0,0 +1,11 @@
+package com.scheduleengine.payment.domain;
+
+/**
+ * Count and sum of transactions sharing a status
+ */
+public record StatusTotal(Transaction.Status status, long count, Money total) {
+
+  public StatusTotal(Transaction.Status status, long count, long totalCents) {
+    this(status, count, Money.ofCents(totalCents));
+  }
+}
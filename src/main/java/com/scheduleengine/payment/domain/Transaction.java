@@ -20,13 +20,15 @@ public class Transaction {
   private Category category;
   @Column(nullable = false)
   private LocalDate date;
-  @Column(nullable = false)
-  private Double amount;
+  @Column(name = "amount_cents", nullable = false)
+  private long amountCents; // exact amount in cents; exposed as Money
   @Enumerated(EnumType.STRING)
   @Column(nullable = false)
   private Status status;
   @Column(length = 1024)
   private String notes;
+  @Column(unique = true)
+  private String billingKey; // Set by BillingService; null for manually entered transactions
   @Transient
   private String partyName; // Populated by service layer with Team or Player name
   @Transient
@@ -80,12 +82,20 @@ public class Transaction {
     this.date = date;
   }
 
-  public Double getAmount() {
-    return amount;
+  public Money getAmount() {
+    return Money.ofCents(amountCents);
+  }
+
+  public void setAmount(Money amount) {
+    this.amountCents = amount == null ? 0 : amount.cents();
+  }
+
+  public long getAmountCents() {
+    return amountCents;
   }
 
-  public void setAmount(Double amount) {
-    this.amount = amount;
+  public void setAmountCents(long amountCents) {
+    this.amountCents = amountCents;
   }
 
   public Status getStatus() {
@@ -104,6 +114,14 @@ public class Transaction {
     this.notes = notes;
   }
 
+  public String getBillingKey() {
+    return billingKey;
+  }
+
+  public void setBillingKey(String billingKey) {
+    this.billingKey = billingKey;
+  }
+
   public String getPartyName() {
     return partyName;
   }
@@ -0,0 +1,33 @@
+package com.scheduleengine.payment.domain;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Column filters of the payments ledger, evaluated in SQL. Text filters are case-insensitive
+ * "contains" matches and are ignored when blank, the same way the header filter fields behave.
+ *
+ * @param partyType matched against the party type name
+ * @param partyName team name or player full name
+ * @param league    league of the team, or of the player's team
+ * @param team      the team, or the player's team
+ * @param player    player full name (team transactions never match)
+ * @param category  matched against the category name
+ * @param date      matched against the ISO date text, e.g. "2025-06"
+ * @param amount    numeric amount range
+ * @param statuses  statuses to include; empty means all
+ * @param notes     matched against the notes
+ */
+public record TransactionFilter(String partyType, String partyName, String league, String team, String player,
+                                String category, String date, MoneyRange amount, Set<Transaction.Status> statuses,
+                                String notes) {
+
+  public TransactionFilter {
+    amount = amount == null ? MoneyRange.ANY : amount;
+    statuses = statuses == null || statuses.isEmpty() ? Set.of() : Set.copyOf(EnumSet.copyOf(statuses));
+  }
+
+  public static TransactionFilter none() {
+    return new TransactionFilter(null, null, null, null, null, null, null, MoneyRange.ANY, Set.of(), null);
+  }
+}
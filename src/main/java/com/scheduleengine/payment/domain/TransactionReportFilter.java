@@ -0,0 +1,26 @@
+package com.scheduleengine.payment.domain;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Filter applied to the payments reports. Used as the cache key for report results, so it is
+ * immutable and compares by value.
+ *
+ * @param from     inclusive start date, or null for no lower bound
+ * @param to       inclusive end date, or null for no upper bound
+ * @param statuses statuses to include; empty means all
+ */
+public record TransactionReportFilter(LocalDate from, LocalDate to, Set<Transaction.Status> statuses) {
+
+  public TransactionReportFilter {
+    statuses = statuses == null || statuses.isEmpty()
+      ? Set.copyOf(EnumSet.allOf(Transaction.Status.class))
+      : Set.copyOf(statuses);
+  }
+
+  public static TransactionReportFilter all() {
+    return new TransactionReportFilter(null, null, null);
+  }
+}
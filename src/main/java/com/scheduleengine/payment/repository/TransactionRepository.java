@@ -1,18 +1,144 @@
 package com.scheduleengine.payment.repository;
 
+import com.scheduleengine.payment.domain.AgingTotal;
+import com.scheduleengine.payment.domain.GroupTotal;
+import com.scheduleengine.payment.domain.MonthTotal;
+import com.scheduleengine.payment.domain.PartyTotal;
+import com.scheduleengine.payment.domain.StatusTotal;
 import com.scheduleengine.payment.domain.Transaction;
 import com.scheduleengine.payment.domain.Transaction.PartyType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
   List<Transaction> findByPartyTypeAndPartyId(PartyType partyType, Long partyId);
 
   List<Transaction> findByPartyTypeAndPartyIdAndStatus(PartyType partyType, Long partyId, Transaction.Status status);
 
   List<Transaction> findByPartyTypeAndPartyIdAndDateBetween(PartyType partyType, Long partyId, LocalDate start, LocalDate end);
+
+  @Query("select t.billingKey from Transaction t where t.billingKey like concat(:prefix, '%')")
+  Set<String> findBillingKeysStartingWith(@Param("prefix") String prefix);
+
+  // Aggregates for the payments reports. Every query takes the same filter: a set of statuses and an
+  // optional inclusive date range (null bounds are open).
+
+  @Query("""
+    select new com.scheduleengine.payment.domain.StatusTotal(t.status, count(t), sum(t.amountCents))
+    from Transaction t
+    where t.status in :statuses
+      and (cast(:from as LocalDate) is null or t.date >= :from)
+      and (cast(:to as LocalDate) is null or t.date <= :to)
+    group by t.status
+    """)
+  List<StatusTotal> sumByStatus(@Param("statuses") Collection<Transaction.Status> statuses,
+                                @Param("from") LocalDate from,
+                                @Param("to") LocalDate to);
+
+  @Query("""
+    select new com.scheduleengine.payment.domain.MonthTotal(
+      extract(year from t.date), extract(month from t.date), count(t), sum(t.amountCents))
+    from Transaction t
+    where t.status in :statuses
+      and (cast(:from as LocalDate) is null or t.date >= :from)
+      and (cast(:to as LocalDate) is null or t.date <= :to)
+    group by extract(year from t.date), extract(month from t.date)
+    order by extract(year from t.date), extract(month from t.date)
+    """)
+  List<MonthTotal> sumByMonth(@Param("statuses") Collection<Transaction.Status> statuses,
+                              @Param("from") LocalDate from,
+                              @Param("to") LocalDate to);
+
+  @Query("""
+    select new com.scheduleengine.payment.domain.PartyTotal(t.partyType, t.partyId, count(t), sum(t.amountCents))
+    from Transaction t
+    where t.status in :statuses
+      and (cast(:from as LocalDate) is null or t.date >= :from)
+      and (cast(:to as LocalDate) is null or t.date <= :to)
+    group by t.partyType, t.partyId
+    order by sum(t.amountCents) desc
+    """)
+  List<PartyTotal> sumByParty(@Param("statuses") Collection<Transaction.Status> statuses,
+                              @Param("from") LocalDate from,
+                              @Param("to") LocalDate to,
+                              Pageable pageable);
+
+  /**
+   * Totals per team; player transactions roll up to the player's team
+   */
+  @Query("""
+    select new com.scheduleengine.payment.domain.GroupTotal(
+      coalesce(tm.id, pt.id), coalesce(tm.name, pt.name), count(t), sum(t.amountCents))
+    from Transaction t
+      left join Team tm on t.partyType = :teamParty and tm.id = t.partyId
+      left join Player p on t.partyType = :playerParty and p.id = t.partyId
+      left join p.team pt
+    where t.status in :statuses
+      and (cast(:from as LocalDate) is null or t.date >= :from)
+      and (cast(:to as LocalDate) is null or t.date <= :to)
+      and coalesce(tm.id, pt.id) is not null
+    group by coalesce(tm.id, pt.id), coalesce(tm.name, pt.name)
+    order by sum(t.amountCents) desc
+    """)
+  List<GroupTotal> sumByTeam(@Param("statuses") Collection<Transaction.Status> statuses,
+                             @Param("from") LocalDate from,
+                             @Param("to") LocalDate to,
+                             @Param("teamParty") PartyType teamParty,
+                             @Param("playerParty") PartyType playerParty);
+
+  /**
+   * Totals per league, resolved through the team (or the player's team) each transaction belongs to
+   */
+  @Query("""
+    select new com.scheduleengine.payment.domain.GroupTotal(
+      coalesce(tl.id, pl.id), coalesce(tl.name, pl.name), count(t), sum(t.amountCents))
+    from Transaction t
+      left join Team tm on t.partyType = :teamParty and tm.id = t.partyId
+      left join tm.league tl
+      left join Player p on t.partyType = :playerParty and p.id = t.partyId
+      left join p.team pt
+      left join pt.league pl
+    where t.status in :statuses
+      and (cast(:from as LocalDate) is null or t.date >= :from)
+      and (cast(:to as LocalDate) is null or t.date <= :to)
+      and coalesce(tl.id, pl.id) is not null
+    group by coalesce(tl.id, pl.id), coalesce(tl.name, pl.name)
+    order by sum(t.amountCents) desc
+    """)
+  List<GroupTotal> sumByLeague(@Param("statuses") Collection<Transaction.Status> statuses,
+                               @Param("from") LocalDate from,
+                               @Param("to") LocalDate to,
+                               @Param("teamParty") PartyType teamParty,
+                               @Param("playerParty") PartyType playerParty);
+
+  /**
+   * Outstanding totals bucketed by age relative to the given cut-off dates. Bucket 0 holds transactions
+   * dated on or after {@code current}, 1 on or after {@code days60}, 2 on or after {@code days90}, 3 the rest.
+   */
+  @Query("""
+    select new com.scheduleengine.payment.domain.AgingTotal(
+      case when t.date >= :current then 0 when t.date >= :days60 then 1 when t.date >= :days90 then 2 else 3 end,
+      count(t), sum(t.amountCents))
+    from Transaction t
+    where t.status in :statuses
+      and (cast(:from as LocalDate) is null or t.date >= :from)
+      and (cast(:to as LocalDate) is null or t.date <= :to)
+    group by case when t.date >= :current then 0 when t.date >= :days60 then 1 when t.date >= :days90 then 2 else 3 end
+    """)
+  List<AgingTotal> sumByAgingBucket(@Param("statuses") Collection<Transaction.Status> statuses,
+                                    @Param("from") LocalDate from,
+                                    @Param("to") LocalDate to,
+                                    @Param("current") LocalDate current,
+                                    @Param("days60") LocalDate days60,
+                                    @Param("days90") LocalDate days90);
 }
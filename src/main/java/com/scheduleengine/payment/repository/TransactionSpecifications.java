@@ -0,0 +1,123 @@
+package com.scheduleengine.payment.repository;
+
+import com.scheduleengine.payment.domain.MoneyRange;
+import com.scheduleengine.payment.domain.Transaction;
+import com.scheduleengine.payment.domain.TransactionFilter;
+import com.scheduleengine.player.domain.Player;
+import com.scheduleengine.team.domain.Team;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Translates the payments ledger filters into criteria predicates so filtering happens in SQL.
+ * Party, team and league names are not stored on transactions; they are matched through subqueries
+ * on teams and players selected by party type.
+ */
+public final class TransactionSpecifications {
+  private static final char ESCAPE = '\\';
+
+  private TransactionSpecifications() {
+  }
+
+  public static Specification<Transaction> matching(TransactionFilter filter) {
+    return (root, query, cb) -> {
+      List<Predicate> predicates = new ArrayList<>();
+
+      if (!isBlank(filter.partyType())) {
+        predicates.add(enumNameContains(root.get("partyType"), Transaction.PartyType.values(), filter.partyType(), cb));
+      }
+      if (!isBlank(filter.category())) {
+        predicates.add(enumNameContains(root.get("category"), Transaction.Category.values(), filter.category(), cb));
+      }
+      if (!isBlank(filter.partyName())) {
+        predicates.add(cb.or(
+          teamParty(root, query, cb, team -> team.get("name"), filter.partyName()),
+          playerParty(root, query, cb, player -> fullName(player, cb), filter.partyName())));
+      }
+      if (!isBlank(filter.league())) {
+        predicates.add(cb.or(
+          teamParty(root, query, cb, team -> team.join("league").get("name"), filter.league()),
+          playerParty(root, query, cb, player -> player.join("team").join("league").get("name"), filter.league())));
+      }
+      if (!isBlank(filter.team())) {
+        predicates.add(cb.or(
+          teamParty(root, query, cb, team -> team.get("name"), filter.team()),
+          playerParty(root, query, cb, player -> player.join("team").get("name"), filter.team())));
+      }
+      if (!isBlank(filter.player())) {
+        predicates.add(playerParty(root, query, cb, player -> fullName(player, cb), filter.player()));
+      }
+      if (!isBlank(filter.date())) {
+        predicates.add(cb.like(root.get("date").as(String.class), containsPattern(filter.date()), ESCAPE));
+      }
+      MoneyRange amount = filter.amount();
+      if (amount.minCents() != Long.MIN_VALUE) {
+        predicates.add(cb.ge(root.get("amountCents"), amount.minCents()));
+      }
+      if (amount.maxCents() != Long.MAX_VALUE) {
+        predicates.add(cb.le(root.get("amountCents"), amount.maxCents()));
+      }
+      if (!filter.statuses().isEmpty()) {
+        predicates.add(root.get("status").in(filter.statuses()));
+      }
+      if (!isBlank(filter.notes())) {
+        predicates.add(cb.like(cb.lower(root.get("notes")), containsPattern(filter.notes()), ESCAPE));
+      }
+      return cb.and(predicates.toArray(Predicate[]::new));
+    };
+  }
+
+  /**
+   * Enum columns are filtered by the constants whose name contains the text, which keeps the
+   * predicate an indexable IN list instead of a string match on the column
+   */
+  private static <E extends Enum<E>> Predicate enumNameContains(Expression<E> path, E[] values, String text,
+                                                                CriteriaBuilder cb) {
+    String needle = text.trim().toLowerCase(Locale.ROOT);
+    List<E> matches = Arrays.stream(values).filter(v -> v.name().toLowerCase(Locale.ROOT).contains(needle)).toList();
+    return matches.isEmpty() ? cb.disjunction() : path.in(matches);
+  }
+
+  private static Predicate teamParty(Root<Transaction> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                     Function<Root<Team>, Expression<String>> field, String text) {
+    Subquery<Long> teams = query.subquery(Long.class);
+    Root<Team> team = teams.from(Team.class);
+    teams.select(team.get("id")).where(cb.like(cb.lower(field.apply(team)), containsPattern(text), ESCAPE));
+    return cb.and(cb.equal(root.get("partyType"), Transaction.PartyType.TEAM), root.get("partyId").in(teams));
+  }
+
+  private static Predicate playerParty(Root<Transaction> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                       Function<Root<Player>, Expression<String>> field, String text) {
+    Subquery<Long> players = query.subquery(Long.class);
+    Root<Player> player = players.from(Player.class);
+    players.select(player.get("id")).where(cb.like(cb.lower(field.apply(player)), containsPattern(text), ESCAPE));
+    return cb.and(cb.equal(root.get("partyType"), Transaction.PartyType.PLAYER), root.get("partyId").in(players));
+  }
+
+  private static Expression<String> fullName(Root<Player> player, CriteriaBuilder cb) {
+    return cb.concat(cb.concat(player.get("firstName"), " "), player.get("lastName"));
+  }
+
+  private static String containsPattern(String text) {
+    String escaped = text.trim().toLowerCase(Locale.ROOT)
+      .replace("\\", "\\\\")
+      .replace("%", "\\%")
+      .replace("_", "\\_");
+    return "%" + escaped + "%";
+  }
+
+  private static boolean isBlank(String text) {
+    return text == null || text.isBlank();
+  }
+}
@@ -0,0 +1,177 @@
+package com.scheduleengine.payment.service;
+
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.league.service.LeagueService;
+import com.scheduleengine.payment.domain.BillingResult;
+import com.scheduleengine.payment.domain.InvoiceTerms;
+import com.scheduleengine.payment.domain.Transaction;
+import com.scheduleengine.payment.repository.TransactionRepository;
+import com.scheduleengine.player.domain.Player;
+import com.scheduleengine.player.service.PlayerService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import com.scheduleengine.tournament.domain.Tournament;
+import com.scheduleengine.tournament.domain.TournamentRegistration;
+import com.scheduleengine.tournament.service.TournamentRegistrationService;
+import com.scheduleengine.tournament.service.TournamentService;
+import jakarta.persistence.EntityManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Creates registration invoices for every team (or player) of a league or tournament in a single
+ * transaction. Each invoice carries a billing key derived from what is being billed, so running the
+ * same billing again only creates invoices for parties that were not billed before.
+ */
+@Service
+public class BillingService {
+  static final int BATCH_SIZE = 100;
+
+  private final TransactionRepository transactionRepository;
+  private final TransactionService transactionService;
+  private final LeagueService leagueService;
+  private final TeamService teamService;
+  private final PlayerService playerService;
+  private final TournamentService tournamentService;
+  private final TournamentRegistrationService registrationService;
+  private final EntityManager entityManager;
+
+  public BillingService(TransactionRepository transactionRepository,
+                        TransactionService transactionService,
+                        LeagueService leagueService,
+                        TeamService teamService,
+                        PlayerService playerService,
+                        TournamentService tournamentService,
+                        TournamentRegistrationService registrationService,
+                        EntityManager entityManager) {
+    this.transactionRepository = transactionRepository;
+    this.transactionService = transactionService;
+    this.leagueService = leagueService;
+    this.teamService = teamService;
+    this.playerService = playerService;
+    this.tournamentService = tournamentService;
+    this.registrationService = registrationService;
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * Invoice a league's teams, or each player on them. A league run is keyed by league and invoice date,
+   * so billing the same league again for the same date skips parties already invoiced.
+   *
+   * @param teamId   a single team to bill, or null for every team in the league
+   * @param billTo   TEAM to invoice teams, PLAYER to invoice each rostered player
+   * @param progress receives (processed, total) as parties are handled; may be null
+   */
+  @Transactional
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
+  public BillingResult invoiceLeague(Long leagueId, Long teamId, Transaction.PartyType billTo,
+                                     InvoiceTerms terms, BiConsumer<Long, Long> progress) {
+    validate(terms);
+    League league = leagueService.findById(leagueId)
+      .orElseThrow(() -> new IllegalArgumentException("League not found: " + leagueId));
+
+    List<Long> partyIds;
+    if (billTo == Transaction.PartyType.PLAYER) {
+      List<Player> players = teamId == null ? playerService.findByLeagueId(leagueId) : playerService.findByTeamId(teamId);
+      partyIds = players.stream().map(Player::getId).toList();
+    } else {
+      partyIds = teamId == null
+        ? teamService.findByLeagueId(leagueId).stream().map(Team::getId).toList()
+        : List.of(teamId);
+    }
+
+    String keyPrefix = "league:" + leagueId + ":" + terms.date() + ":";
+    return createInvoices(keyPrefix, billTo, partyIds, terms, "League registration: " + league.getName(), progress);
+  }
+
+  /**
+   * Invoice a tournament's approved teams. A tournament run is keyed by tournament only: each team is
+   * billed its entry fee once, whatever date later runs use.
+   *
+   * @param teamId   a single team to bill, or null for every approved registration
+   * @param progress receives (processed, total) as teams are handled; may be null
+   */
+  @Transactional
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
+  public BillingResult invoiceTournament(Long tournamentId, Long teamId, InvoiceTerms terms,
+                                         BiConsumer<Long, Long> progress) {
+    validate(terms);
+    Tournament tournament = tournamentService.findById(tournamentId)
+      .orElseThrow(() -> new IllegalArgumentException("Tournament not found: " + tournamentId));
+
+    List<Long> teamIds = teamId != null
+      ? List.of(teamId)
+      : registrationService.findByTournamentIdAndStatus(tournamentId, TournamentRegistration.RegistrationStatus.APPROVED)
+        .stream().map(r -> r.getTeam().getId()).distinct().toList();
+
+    String keyPrefix = "tournament:" + tournamentId + ":";
+    return createInvoices(keyPrefix, Transaction.PartyType.TEAM, teamIds, terms,
+      "Tournament registration: " + tournament.getName(), progress);
+  }
+
+  private BillingResult createInvoices(String keyPrefix, Transaction.PartyType partyType, List<Long> partyIds,
+                                       InvoiceTerms terms, String description, BiConsumer<Long, Long> progress) {
+    // One query for everything already billed under this run instead of a lookup per party
+    Set<String> billed = transactionRepository.findBillingKeysStartingWith(keyPrefix);
+    String notes = terms.notes() == null || terms.notes().isBlank() ? description : description + " - " + terms.notes();
+
+    long total = partyIds.size();
+    long processed = 0;
+    int created = 0;
+    int skipped = 0;
+    List<Transaction> batch = new ArrayList<>(BATCH_SIZE);
+    for (Long partyId : partyIds) {
+      String key = keyPrefix + partyType + ":" + partyId;
+      if (billed.add(key)) {
+        Transaction tx = new Transaction();
+        tx.setPartyType(partyType);
+        tx.setPartyId(partyId);
+        tx.setCategory(Transaction.Category.INVOICE);
+        tx.setStatus(Transaction.Status.PENDING);
+        tx.setDate(terms.date());
+        tx.setAmount(terms.amount());
+        tx.setNotes(notes);
+        tx.setBillingKey(key);
+        transactionService.validate(tx);
+        batch.add(tx);
+        if (batch.size() == BATCH_SIZE) {
+          created += flush(batch);
+        }
+      } else {
+        skipped++;
+      }
+      processed++;
+      if (progress != null) {
+        progress.accept(processed, total);
+      }
+    }
+    created += flush(batch);
+    return new BillingResult(created, skipped);
+  }
+
+  /**
+   * Write a chunk and detach it so the persistence context stays small on large runs
+   */
+  private int flush(List<Transaction> batch) {
+    int size = batch.size();
+    if (size > 0) {
+      transactionRepository.saveAll(batch);
+      transactionRepository.flush();
+      entityManager.clear();
+      batch.clear();
+    }
+    return size;
+  }
+
+  private void validate(InvoiceTerms terms) {
+    if (terms == null) throw new IllegalArgumentException("invoice terms required");
+    if (terms.date() == null) throw new IllegalArgumentException("date required");
+    if (terms.amount() == null || !terms.amount().isPositive()) throw new IllegalArgumentException("amount must be > 0");
+  }
+}
@@ -0,0 +1,96 @@
+package com.scheduleengine.payment.service;
+
+import com.scheduleengine.payment.domain.AgingTotal;
+import com.scheduleengine.payment.domain.GroupTotal;
+import com.scheduleengine.payment.domain.MonthTotal;
+import com.scheduleengine.payment.domain.PartyTotal;
+import com.scheduleengine.payment.domain.StatusTotal;
+import com.scheduleengine.payment.domain.Transaction;
+import com.scheduleengine.payment.domain.TransactionReportFilter;
+import com.scheduleengine.payment.repository.TransactionRepository;
+import com.scheduleengine.snapshot.SnapshotRead;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Financial summaries for the payments reports. All aggregation happens in SQL; results are cached
+ * per filter and evicted whenever a transaction changes, and whenever a team, player or league is
+ * saved or deleted, since the team and league rollups group by names resolved through them. In
+ * snapshot mode the reports read the database snapshot.
+ */
+@Service
+@SnapshotRead
+@Transactional(readOnly = true)
+public class TransactionReportService {
+  public static final String CACHE = "transactionReports";
+
+  /**
+   * Statuses that still represent money owed
+   */
+  public static final Set<Transaction.Status> OUTSTANDING =
+    Set.copyOf(EnumSet.of(Transaction.Status.PENDING, Transaction.Status.OVERDUE));
+
+  private final TransactionRepository repository;
+
+  public TransactionReportService(TransactionRepository repository) {
+    this.repository = repository;
+  }
+
+  @Cacheable(cacheNames = CACHE, key = "{'status', #filter}")
+  public List<StatusTotal> totalsByStatus(TransactionReportFilter filter) {
+    return repository.sumByStatus(filter.statuses(), filter.from(), filter.to()).stream()
+      .sorted(Comparator.comparing(StatusTotal::status))
+      .toList();
+  }
+
+  @Cacheable(cacheNames = CACHE, key = "{'month', #filter}")
+  public List<MonthTotal> totalsByMonth(TransactionReportFilter filter) {
+    return List.copyOf(repository.sumByMonth(filter.statuses(), filter.from(), filter.to()));
+  }
+
+  @Cacheable(cacheNames = CACHE, key = "{'team', #filter}")
+  public List<GroupTotal> totalsByTeam(TransactionReportFilter filter) {
+    return List.copyOf(repository.sumByTeam(filter.statuses(), filter.from(), filter.to(),
+      Transaction.PartyType.TEAM, Transaction.PartyType.PLAYER));
+  }
+
+  @Cacheable(cacheNames = CACHE, key = "{'league', #filter}")
+  public List<GroupTotal> totalsByLeague(TransactionReportFilter filter) {
+    return List.copyOf(repository.sumByLeague(filter.statuses(), filter.from(), filter.to(),
+      Transaction.PartyType.TEAM, Transaction.PartyType.PLAYER));
+  }
+
+  /**
+   * Parties with the largest totals under the filter, largest first
+   */
+  @Cacheable(cacheNames = CACHE, key = "{'party', #filter, #limit}")
+  public List<PartyTotal> topParties(TransactionReportFilter filter, int limit) {
+    return List.copyOf(repository.sumByParty(filter.statuses(), filter.from(), filter.to(),
+      PageRequest.of(0, limit)));
+  }
+
+  /**
+   * Outstanding (pending or overdue) amounts by age as of the given date. Only statuses that are both
+   * outstanding and selected by the filter are counted. Buckets with nothing in them are omitted.
+   */
+  @Cacheable(cacheNames = CACHE, key = "{'aging', #filter, #asOf}")
+  public List<AgingTotal> agingBuckets(TransactionReportFilter filter, LocalDate asOf) {
+    Set<Transaction.Status> statuses = EnumSet.copyOf(OUTSTANDING);
+    statuses.retainAll(filter.statuses());
+    if (statuses.isEmpty()) {
+      return List.of();
+    }
+    return repository.sumByAgingBucket(statuses, filter.from(), filter.to(),
+        asOf.minusDays(30), asOf.minusDays(60), asOf.minusDays(90)).stream()
+      .sorted(Comparator.comparing(AgingTotal::bucket))
+      .toList();
+  }
+}
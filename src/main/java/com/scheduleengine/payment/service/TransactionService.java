@@ -1,9 +1,22 @@
 package com.scheduleengine.payment.service;
 
+import com.scheduleengine.diagnostics.MetricsConfig;
+import com.scheduleengine.diagnostics.event.CsvImportChunkEvent;
+import com.scheduleengine.payment.domain.Money;
 import com.scheduleengine.payment.domain.Transaction;
+import com.scheduleengine.payment.domain.TransactionFilter;
 import com.scheduleengine.payment.repository.TransactionRepository;
+import com.scheduleengine.payment.repository.TransactionSpecifications;
+import com.scheduleengine.player.domain.Player;
 import com.scheduleengine.player.service.PlayerService;
+import com.scheduleengine.snapshot.SnapshotRead;
+import com.scheduleengine.team.domain.Team;
 import com.scheduleengine.team.service.TeamService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,9 +26,20 @@ import java.io.Reader;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class TransactionService {
+  /** Newest first; also the order used when the ledger has no column sort */
+  public static final Sort DEFAULT_SORT = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"));
+  /** Rows per flight recorder event emitted while importing CSV */
+  static final int IMPORT_CHUNK_ROWS = 500;
+
   private final TransactionRepository repository;
   private final TeamService teamService;
   private final PlayerService playerService;
@@ -34,6 +58,10 @@ public class TransactionService {
     return transactions;
   }
 
+  public Optional<Transaction> findById(Long id) {
+    return repository.findById(id);
+  }
+
   public List<Transaction> findAll() {
     List<Transaction> transactions = repository.findAll();
     populatePartyNames(transactions);
@@ -41,20 +69,62 @@ public class TransactionService {
   }
 
   /**
-   * Populate the transient partyName field with actual Team or Player name
+   * Read one window of the ledger matching the filter, starting after the given position. Windows are
+   * read by keyset (the sort columns plus id) rather than by offset, so a window deep into a large
+   * ledger costs the same as the first one.
+   *
+   * @param position {@link ScrollPosition#keyset()} for the first window, then the position of the
+   *                 last row already read
+   */
+  @Transactional(readOnly = true)
+  public Window<Transaction> findPage(TransactionFilter filter, Sort sort, ScrollPosition position, int pageSize) {
+    Window<Transaction> page = repository.findBy(TransactionSpecifications.matching(filter),
+      q -> q.sortBy(withIdTieBreaker(sort)).limit(pageSize).scroll(position));
+    populatePartyNames(page.getContent());
+    return page;
+  }
+
+  /**
+   * Every transaction matching the filter, in the given order; read from the snapshot in snapshot mode
+   */
+  @SnapshotRead
+  @Transactional(readOnly = true)
+  public List<Transaction> findAll(TransactionFilter filter, Sort sort) {
+    List<Transaction> transactions = repository.findAll(TransactionSpecifications.matching(filter), withIdTieBreaker(sort));
+    populatePartyNames(transactions);
+    return transactions;
+  }
+
+  /**
+   * Keyset scrolling needs a unique order, so id is appended as the final sort key
+   */
+  private static Sort withIdTieBreaker(Sort sort) {
+    if (sort == null || sort.isUnsorted()) return DEFAULT_SORT;
+    return sort.getOrderFor("id") != null ? sort : sort.and(Sort.by(Sort.Order.desc("id")));
+  }
+
+  /**
+   * Populate the transient partyName field with actual Team or Player name. Teams and players are
+   * loaded in one query each for the whole list rather than one lookup per transaction.
    */
   private void populatePartyNames(List<Transaction> transactions) {
+    Map<Long, Team> teams = teamService.findAllById(partyIds(transactions, Transaction.PartyType.TEAM)).stream()
+      .collect(Collectors.toMap(Team::getId, Function.identity()));
+    Map<Long, Player> players = playerService.findAllById(partyIds(transactions, Transaction.PartyType.PLAYER)).stream()
+      .collect(Collectors.toMap(Player::getId, Function.identity()));
     for (Transaction tx : transactions) {
       if (tx.getPartyType() == Transaction.PartyType.TEAM) {
-        teamService.findById(tx.getPartyId()).ifPresent(team -> {
+        Team team = teams.get(tx.getPartyId());
+        if (team != null) {
           tx.setPartyName(team.getName());
           tx.setTeamName(team.getName());
           if (team.getLeague() != null) {
             tx.setLeagueName(team.getLeague().getName());
           }
-        });
+        }
       } else if (tx.getPartyType() == Transaction.PartyType.PLAYER) {
-        playerService.findById(tx.getPartyId()).ifPresent(player -> {
+        Player player = players.get(tx.getPartyId());
+        if (player != null) {
           tx.setPartyName(player.getFullName());
           tx.setPlayerName(player.getFullName());
           if (player.getTeam() != null) {
@@ -63,7 +133,7 @@ public class TransactionService {
               tx.setLeagueName(player.getTeam().getLeague().getName());
             }
           }
-        });
+        }
       }
       if (tx.getPartyName() == null) {
         tx.setPartyName("Unknown (" + tx.getPartyId() + ")");
@@ -71,7 +141,15 @@ public class TransactionService {
     }
   }
 
+  private static Set<Long> partyIds(List<Transaction> transactions, Transaction.PartyType type) {
+    return transactions.stream()
+      .filter(tx -> tx.getPartyType() == type && tx.getPartyId() != null)
+      .map(Transaction::getPartyId)
+      .collect(Collectors.toSet());
+  }
+
   @Transactional
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
   public Transaction save(Transaction tx) {
     validate(tx);
     return repository.save(tx);
@@ -82,21 +160,25 @@ public class TransactionService {
     if (tx.getPartyId() == null) throw new IllegalArgumentException("partyId required");
     if (tx.getCategory() == null) throw new IllegalArgumentException("category required");
     if (tx.getDate() == null) throw new IllegalArgumentException("date required");
-    if (tx.getAmount() == null || tx.getAmount() <= 0) throw new IllegalArgumentException("amount must be > 0");
+    if (!tx.getAmount().isPositive()) throw new IllegalArgumentException("amount must be > 0");
     if (tx.getStatus() == null) throw new IllegalArgumentException("status required");
   }
 
   @Transactional
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
   public void deleteById(Long id) {
     repository.deleteById(id);
   }
 
   // Simple CSV import: header row expected with columns: partyType,partyId,category,date,amount,status,notes
   @Transactional
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
   public List<Transaction> importCsv(Reader reader) throws IOException {
     BufferedReader br = new BufferedReader(reader);
     String header = br.readLine(); // skip header
     List<Transaction> imported = new ArrayList<>();
+    CsvImportChunkEvent chunk = CsvImportChunkEvent.start("transactions", 0);
+    int chunkRows = 0;
     String line;
     while ((line = br.readLine()) != null) {
       String[] parts = line.split(",");
@@ -106,11 +188,19 @@ public class TransactionService {
       tx.setPartyId(Long.parseLong(parts[1].trim()));
       tx.setCategory(Transaction.Category.valueOf(parts[2].trim().toUpperCase()));
       tx.setDate(LocalDate.parse(parts[3].trim()));
-      tx.setAmount(Double.parseDouble(parts[4].trim()));
+      tx.setAmount(Money.parse(parts[4]));
       tx.setStatus(Transaction.Status.valueOf(parts[5].trim().toUpperCase()));
       if (parts.length > 6) tx.setNotes(parts[6].trim());
       validate(tx);
       imported.add(repository.save(tx));
+      if (++chunkRows == IMPORT_CHUNK_ROWS) {
+        chunk.finish(chunkRows);
+        chunk = CsvImportChunkEvent.start("transactions", chunk.chunk + 1);
+        chunkRows = 0;
+      }
+    }
+    if (chunkRows > 0) {
+      chunk.finish(chunkRows);
     }
     return imported;
   }
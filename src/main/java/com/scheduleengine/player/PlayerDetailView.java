@@ -6,7 +6,7 @@ import com.scheduleengine.navigation.NavigationContext;
 import com.scheduleengine.navigation.NavigationHandler;
 import com.scheduleengine.player.domain.Player;
 import com.scheduleengine.player.service.PlayerService;
-import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.domain.TeamSummary;
 import com.scheduleengine.team.service.TeamService;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import javafx.collections.FXCollections;
@@ -158,10 +158,11 @@ public class PlayerDetailView {
     TextField positionField = new TextField(player.getPosition());
     positionField.setMaxWidth(Double.MAX_VALUE);
 
-    ComboBox<Team> teamCombo = new ComboBox<>(FXCollections.observableArrayList(teamService.findAll()));
+    ComboBox<TeamSummary> teamCombo = new ComboBox<>(FXCollections.observableArrayList(teamService.findSummaries()));
     teamCombo.setMaxWidth(Double.MAX_VALUE);
     configureTeamCombo(teamCombo);
-    teamCombo.setValue(player.getTeam());
+    TeamSummary currentTeam = player.getTeam() == null ? null : TeamSummary.of(player.getTeam());
+    teamCombo.setValue(currentTeam);
 
     grid.add(new Label("First Name:"), 0, 0);
     grid.add(firstNameField, 1, 0);
@@ -199,7 +200,10 @@ public class PlayerDetailView {
           return null;
         }
         player.setPosition(positionField.getText());
-        player.setTeam(teamCombo.getValue());
+        TeamSummary chosen = teamCombo.getValue();
+        if (chosen != null && !chosen.equals(currentTeam)) {
+          player.setTeam(teamService.findById(chosen.id()).orElse(player.getTeam()));
+        }
         return player;
       }
       return null;
@@ -234,23 +238,23 @@ public class PlayerDetailView {
     });
   }
 
-  private void configureTeamCombo(ComboBox<Team> combo) {
+  private void configureTeamCombo(ComboBox<TeamSummary> combo) {
     combo.setConverter(new StringConverter<>() {
       @Override
-      public String toString(Team object) {
-        return object == null ? "" : object.getName();
+      public String toString(TeamSummary object) {
+        return object == null ? "" : object.name();
       }
 
       @Override
-      public Team fromString(String string) {
+      public TeamSummary fromString(String string) {
         return null;
       }
     });
     combo.setCellFactory(lv -> new ListCell<>() {
       @Override
-      protected void updateItem(Team item, boolean empty) {
+      protected void updateItem(TeamSummary item, boolean empty) {
         super.updateItem(item, empty);
-        setText(empty || item == null ? null : item.getName());
+        setText(empty || item == null ? null : item.name());
       }
     });
     combo.setButtonCell(combo.getCellFactory().call(null));
@@ -1,30 +1,41 @@
 package com.scheduleengine.player;
 
+import com.scheduleengine.common.ProgressDialog;
 import com.scheduleengine.common.TableColumnUtil;
 import com.scheduleengine.common.TablePreferencesUtil;
 import com.scheduleengine.player.domain.Player;
+import com.scheduleengine.player.domain.PlayerRow;
+import com.scheduleengine.player.domain.RosterImportResult;
 import com.scheduleengine.player.service.PlayerService;
 import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.domain.TeamSummary;
 import com.scheduleengine.team.service.TeamService;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.control.cell.TextFieldTableCell;
 import javafx.scene.layout.*;
+import javafx.stage.FileChooser;
 import javafx.util.StringConverter;
 
+import java.io.File;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
 public class RosterView {
 
   private final PlayerService playerService;
   private final TeamService teamService;
   private final com.scheduleengine.navigation.NavigationHandler navigationHandler;
-  private TableView<Player> table;
-  private final ObservableList<Player> data;
-  private ComboBox<Team> teamFilter;
-  private Team selectedTeam;
+  private TableView<PlayerRow> table;
+  private final ObservableList<PlayerRow> data;
+  private ComboBox<TeamSummary> teamFilter;
+  private TeamSummary selectedTeam;
 
   public RosterView(PlayerService playerService, TeamService teamService, com.scheduleengine.navigation.NavigationHandler navigationHandler) {
     this.playerService = playerService;
@@ -39,31 +50,31 @@ public class RosterView {
 
     HBox topBox = new HBox(10);
     String titleText = selectedTeam != null ?
-      "Roster - " + selectedTeam.getName() : "Team Rosters";
+      "Roster - " + selectedTeam.name() : "Team Rosters";
     Label title = new Label(titleText);
     title.setStyle("-fx-font-size: 18px; -fx-font-weight: bold;");
 
     Region spacer = new Region();
     HBox.setHgrow(spacer, Priority.ALWAYS);
 
-    teamFilter = new ComboBox<>(FXCollections.observableArrayList(teamService.findAll()));
+    teamFilter = new ComboBox<>(FXCollections.observableArrayList(teamService.findSummaries()));
     teamFilter.setPromptText("Select a Team");
     teamFilter.setConverter(new StringConverter<>() {
       @Override
-      public String toString(Team t) {
-        return t == null ? "" : t.getName();
+      public String toString(TeamSummary t) {
+        return t == null ? "" : t.name();
       }
 
       @Override
-      public Team fromString(String s) {
+      public TeamSummary fromString(String s) {
         return null;
       }
     });
     teamFilter.setCellFactory(lv -> new ListCell<>() {
       @Override
-      protected void updateItem(Team item, boolean empty) {
+      protected void updateItem(TeamSummary item, boolean empty) {
         super.updateItem(item, empty);
-        setText(empty || item == null ? null : item.getName());
+        setText(empty || item == null ? null : item.name());
       }
     });
     teamFilter.valueProperty().addListener((obs, oldVal, newVal) -> {
@@ -86,51 +97,53 @@ public class RosterView {
       showAddDialog();
     });
 
-    topBox.getChildren().addAll(title, spacer, new Label("Team:"), teamFilter, addButton);
+    Button importButton = new Button("Import CSV");
+    importButton.setOnAction(e -> importRoster());
+
+    topBox.getChildren().addAll(title, spacer, new Label("Team:"), teamFilter, addButton, importButton);
 
     table = new TableView<>();
     table.setItems(data);
     table.setEditable(true);
     table.getSelectionModel().setSelectionMode(SelectionMode.SINGLE);
 
-    TableColumn<Player, Long> idCol = new TableColumn<>("ID");
-    idCol.setCellValueFactory(new PropertyValueFactory<>("id"));
+    TableColumn<PlayerRow, Long> idCol = new TableColumn<>("ID");
+    idCol.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue().id()));
     idCol.setPrefWidth(50);
     idCol.setVisible(false);
 
-    TableColumn<Player, String> firstNameCol = new TableColumn<>("First Name");
-    firstNameCol.setCellValueFactory(new PropertyValueFactory<>("firstName"));
+    TableColumn<PlayerRow, String> firstNameCol = new TableColumn<>("First Name");
+    firstNameCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(c.getValue().firstName()));
     firstNameCol.setPrefWidth(140);
 
-    TableColumn<Player, String> lastNameCol = new TableColumn<>("Last Name");
-    lastNameCol.setCellValueFactory(new PropertyValueFactory<>("lastName"));
+    TableColumn<PlayerRow, String> lastNameCol = new TableColumn<>("Last Name");
+    lastNameCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(c.getValue().lastName()));
     lastNameCol.setPrefWidth(140);
 
-    TableColumn<Player, Number> jerseyCol = new TableColumn<>("Jersey #");
+    TableColumn<PlayerRow, Number> jerseyCol = new TableColumn<>("Jersey #");
     jerseyCol.setId("jersey");
-    jerseyCol.setCellValueFactory(c -> new javafx.beans.property.SimpleIntegerProperty(c.getValue().getJerseyNumber()));
+    jerseyCol.setCellValueFactory(c -> new ReadOnlyObjectWrapper<Number>(c.getValue().jerseyNumber()));
     jerseyCol.setComparator(TableColumnUtil.comparingInt());
     jerseyCol.setCellFactory(TextFieldTableCell.forTableColumn(TableColumnUtil.integerStringConverter()));
     jerseyCol.setOnEditCommit(e -> {
       Number n = e.getNewValue();
       if (n != null) {
-        e.getRowValue().setJerseyNumber(n.intValue());
-        playerService.save(e.getRowValue());
+        PlayerRow row = e.getRowValue();
+        playerService.updateJerseyNumber(row.id(), n.intValue());
+        data.set(e.getTablePosition().getRow(), row.withJerseyNumber(n.intValue()));
       }
     });
     jerseyCol.setPrefWidth(100);
 
-    TableColumn<Player, String> positionCol = new TableColumn<>("Position");
-    positionCol.setCellValueFactory(new PropertyValueFactory<>("position"));
+    TableColumn<PlayerRow, String> positionCol = new TableColumn<>("Position");
+    positionCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(c.getValue().position()));
     positionCol.setPrefWidth(140);
 
-    TableColumn<Player, String> teamCol = new TableColumn<>("Team");
-    teamCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(
-      c.getValue().getTeam() != null ? c.getValue().getTeam().getName() : ""
-    ));
+    TableColumn<PlayerRow, String> teamCol = new TableColumn<>("Team");
+    teamCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(c.getValue().teamName()));
     teamCol.setPrefWidth(140);
 
-    TableColumn<Player, Void> actionCol = new TableColumn<>("Actions");
+    TableColumn<PlayerRow, Void> actionCol = new TableColumn<>("Actions");
     actionCol.setPrefWidth(150);
     actionCol.setCellFactory(col -> new TableCell<>() {
       private final Button viewBtn = new Button("View Details");
@@ -138,13 +151,16 @@ public class RosterView {
       {
         viewBtn.setStyle("-fx-background-color: #667eea; -fx-text-fill: white;");
         viewBtn.setOnAction(e -> {
-          Player player = getTableView().getItems().get(getIndex());
+          PlayerRow row = getTableView().getItems().get(getIndex());
+          // The detail view edits the entity, so load it only when it is opened
           if (navigationHandler != null) {
-            com.scheduleengine.navigation.NavigationContext newContext =
-              new com.scheduleengine.navigation.NavigationContext()
-                .navigateTo("rosters", "Rosters")
-                .navigateTo("player-detail", player.getFullName(), player);
-            navigationHandler.navigate(newContext);
+            playerService.findById(row.id()).ifPresent(player -> {
+              com.scheduleengine.navigation.NavigationContext newContext =
+                new com.scheduleengine.navigation.NavigationContext()
+                  .navigateTo("rosters", "Rosters")
+                  .navigateTo("player-detail", player.getFullName(), player);
+              navigationHandler.navigate(newContext);
+            });
           }
         });
       }
@@ -186,7 +202,7 @@ public class RosterView {
    * Set the team to filter roster by
    */
   public void setFilterTeam(Team team) {
-    this.selectedTeam = team;
+    this.selectedTeam = team == null ? null : TeamSummary.of(team);
   }
 
   /**
@@ -197,9 +213,10 @@ public class RosterView {
   }
 
   private void loadData() {
-    data.clear();
     if (selectedTeam != null) {
-      data.addAll(playerService.findByTeamId(selectedTeam.getId()));
+      data.setAll(playerService.findRowsByTeamId(selectedTeam.id()));
+    } else {
+      data.clear();
     }
   }
 
@@ -245,7 +262,7 @@ public class RosterView {
         player.setLastName(lastNameField.getText());
         player.setJerseyNumber(jerseySpinner.getValue());
         player.setPosition(positionField.getText());
-        player.setTeam(selectedTeam);
+        player.setTeam(teamService.findById(selectedTeam.id()).orElse(null));
         return player;
       }
       return null;
@@ -257,6 +274,45 @@ public class RosterView {
     });
   }
 
+  /**
+   * Import players from a CSV file on a background thread, then reload the roster. The header row
+   * names the columns: team, firstName, lastName and optionally jerseyNumber and position.
+   */
+  private void importRoster() {
+    FileChooser chooser = new FileChooser();
+    chooser.setTitle("Import Roster CSV");
+    chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV files", "*.csv"));
+    File file = chooser.showOpenDialog(table.getScene() == null ? null : table.getScene().getWindow());
+    if (file == null) return;
+
+    Task<RosterImportResult> task = new Task<>() {
+      @Override
+      protected RosterImportResult call() throws Exception {
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+          return playerService.importRoster(reader, rows -> updateMessage("Read " + rows + " rows"));
+        }
+      }
+    };
+
+    ProgressIndicator indicator = new ProgressIndicator();
+    Label message = new Label("Importing " + file.getName());
+    task.messageProperty().addListener((obs, old, text) -> message.setText(text));
+    task.setOnSucceeded(e -> {
+      loadData();
+      RosterImportResult result = task.getValue();
+      StringBuilder summary = new StringBuilder("Imported " + result.imported() + " player(s).");
+      if (result.duplicates() > 0) summary.append(" Skipped ").append(result.duplicates()).append(" already on their team.");
+      if (!result.errors().isEmpty()) {
+        summary.append("\n\n").append(result.errors().size()).append(" row(s) not imported:\n");
+        result.errors().stream().limit(20).forEach(err -> summary.append(err).append('\n'));
+      }
+      Alert info = new Alert(Alert.AlertType.INFORMATION, summary.toString(), ButtonType.OK);
+      info.setHeaderText("Roster import");
+      info.showAndWait();
+    });
+    task.setOnFailed(e -> showError("Import failed", task.getException().getMessage()));
+    ProgressDialog.run(task, "roster-import", "Import Roster", null, new VBox(10, message, indicator));
+  }
 
   private void showError(String title, String msg) {
     Alert a = new Alert(Alert.AlertType.ERROR);
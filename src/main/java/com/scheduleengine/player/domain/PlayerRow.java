@@ -0,0 +1,17 @@
+package com.scheduleengine.player.domain;
+
+/**
+ * Roster table row: the player's own columns plus the team id and name, read as one projection
+ * instead of loading each player with its team and league
+ */
+public record PlayerRow(Long id, String firstName, String lastName, Integer jerseyNumber, String position,
+                        Long teamId, String teamName) {
+
+  public String fullName() {
+    return firstName + " " + lastName;
+  }
+
+  public PlayerRow withJerseyNumber(Integer number) {
+    return new PlayerRow(id, firstName, lastName, number, position, teamId, teamName);
+  }
+}
@@ -0,0 +1,13 @@
+package com.scheduleengine.player.domain;
+
+import java.util.List;
+
+/**
+ * Outcome of a roster CSV import
+ *
+ * @param imported   players created
+ * @param duplicates rows skipped because the team already has a player with that name
+ * @param errors     rows that could not be imported, with their line number
+ */
+public record RosterImportResult(int imported, int duplicates, List<String> errors) {
+}
@@ -1,16 +1,40 @@
 package com.scheduleengine.player.repository;
 
 import com.scheduleengine.player.domain.Player;
+import com.scheduleengine.player.domain.PlayerRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, Long> {
   List<Player> findByTeamId(Long teamId);
 
+  List<Player> findByTeamLeagueId(Long leagueId);
+
+  /**
+   * Cacheable so the navigation prefetcher can warm a roster before it is opened; player and team
+   * writes invalidate the cached rows
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query("select new com.scheduleengine.player.domain.PlayerRow(p.id, p.firstName, p.lastName, p.jerseyNumber, p.position, t.id, t.name)"
+    + " from Player p join p.team t where t.id = :teamId order by p.lastName, p.firstName, p.id")
+  List<PlayerRow> findRowsByTeamId(@Param("teamId") Long teamId);
+
+  /**
+   * Lower-cased "first|last" name of every player on the team, for duplicate checks during import
+   */
+  @Query("select lower(trim(p.firstName)) || '|' || lower(trim(p.lastName)) from Player p where p.team.id = :teamId")
+  Set<String> findNameKeysByTeamId(@Param("teamId") Long teamId);
+
   Optional<Player> findByFirstNameAndLastName(String firstName, String lastName);
 
   void deleteByTeamId(Long teamId);
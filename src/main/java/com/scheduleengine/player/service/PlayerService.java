@@ -1,19 +1,45 @@
 package com.scheduleengine.player.service;
 
+import com.scheduleengine.diagnostics.event.CsvImportChunkEvent;
+import com.scheduleengine.payment.service.TransactionReportService;
 import com.scheduleengine.player.domain.Player;
+import com.scheduleengine.player.domain.PlayerRow;
+import com.scheduleengine.player.domain.RosterImportResult;
 import com.scheduleengine.player.repository.PlayerRepository;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.domain.TeamSummary;
+import com.scheduleengine.team.service.TeamService;
+import jakarta.persistence.EntityManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntConsumer;
 
 @Service
 public class PlayerService {
+  static final int IMPORT_CHUNK_ROWS = 500;
 
   private final PlayerRepository playerRepository;
+  private final TeamService teamService;
+  private final EntityManager entityManager;
 
-  public PlayerService(PlayerRepository playerRepository) {
+  public PlayerService(PlayerRepository playerRepository, TeamService teamService, EntityManager entityManager) {
     this.playerRepository = playerRepository;
+    this.teamService = teamService;
+    this.entityManager = entityManager;
   }
 
   public List<Player> findAll() {
@@ -24,29 +50,181 @@ public class PlayerService {
     return playerRepository.findById(id);
   }
 
+  public List<Player> findAllById(Collection<Long> ids) {
+    return ids.isEmpty() ? List.of() : playerRepository.findAllById(ids);
+  }
+
   public List<Player> findByTeamId(Long teamId) {
     return playerRepository.findByTeamId(teamId);
   }
 
+  /**
+   * Roster rows for a team, ordered by name
+   */
+  public List<PlayerRow> findRowsByTeamId(Long teamId) {
+    return playerRepository.findRowsByTeamId(teamId);
+  }
+
+  public List<Player> findByLeagueId(Long leagueId) {
+    return playerRepository.findByTeamLeagueId(leagueId);
+  }
+
   public Optional<Player> findByFirstNameAndLastName(String firstName, String lastName) {
     return playerRepository.findByFirstNameAndLastName(firstName, lastName);
   }
 
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
   public Player save(Player player) {
     return playerRepository.save(player);
   }
 
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
   public Player update(Long id, Player player) {
     player.setId(id);
     return playerRepository.save(player);
   }
 
+  @Transactional
+  public void updateJerseyNumber(Long id, Integer jerseyNumber) {
+    Player player = playerRepository.findById(id)
+      .orElseThrow(() -> new IllegalArgumentException("Player not found: " + id));
+    player.setJerseyNumber(jerseyNumber);
+  }
+
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
   public void deleteById(Long id) {
     playerRepository.deleteById(id);
   }
 
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
   public void deleteByTeamId(Long teamId) {
     playerRepository.deleteByTeamId(teamId);
   }
-}
 
+  /**
+   * Import players from CSV in one transaction. The header row names the columns: team, firstName
+   * and lastName are required, jerseyNumber and position optional, in any order. Rows are read as
+   * a stream and written in chunks, so the file is never held in memory. Team names are resolved
+   * through one id/name lookup, and each team's existing player names are read once the first time
+   * the team appears; a row whose name is already on the team (or earlier in the file) is skipped.
+   *
+   * @param progress receives the number of rows read after each chunk; may be null
+   * @throws IllegalArgumentException if a required column is missing from the header
+   */
+  @Transactional
+  public RosterImportResult importRoster(Reader reader, IntConsumer progress) throws IOException {
+    BufferedReader lines = new BufferedReader(reader);
+    String header = lines.readLine();
+    if (header == null) return new RosterImportResult(0, 0, List.of());
+    Map<String, Integer> columns = new HashMap<>();
+    String[] names = header.split(",", -1);
+    for (int i = 0; i < names.length; i++) {
+      columns.put(names[i].trim().toLowerCase(Locale.ROOT), i);
+    }
+    int teamCol = requireColumn(columns, "team");
+    int firstCol = requireColumn(columns, "firstname");
+    int lastCol = requireColumn(columns, "lastname");
+    int jerseyCol = columns.getOrDefault("jerseynumber", -1);
+    int positionCol = columns.getOrDefault("position", -1);
+
+    Map<String, Long> teamIds = new HashMap<>();
+    for (TeamSummary team : teamService.findSummaries()) {
+      teamIds.putIfAbsent(team.name().trim().toLowerCase(Locale.ROOT), team.id());
+    }
+    Map<Long, Set<String>> namesByTeam = new HashMap<>();
+
+    int imported = 0;
+    int duplicates = 0;
+    int rowsRead = 0;
+    List<String> errors = new ArrayList<>();
+    List<Player> batch = new ArrayList<>(IMPORT_CHUNK_ROWS);
+    CsvImportChunkEvent chunk = CsvImportChunkEvent.start("players", 0);
+    int lineNumber = 1;
+    String line;
+    while ((line = lines.readLine()) != null) {
+      lineNumber++;
+      if (line.isBlank()) continue;
+      rowsRead++;
+      String[] parts = line.split(",", -1);
+      String teamName = cell(parts, teamCol);
+      String firstName = cell(parts, firstCol);
+      String lastName = cell(parts, lastCol);
+      if (firstName == null || lastName == null) {
+        errors.add("Line " + lineNumber + ": first and last name are required");
+        continue;
+      }
+      Long teamId = teamName == null ? null : teamIds.get(teamName.toLowerCase(Locale.ROOT));
+      if (teamId == null) {
+        errors.add("Line " + lineNumber + ": unknown team '" + (teamName == null ? "" : teamName) + "'");
+        continue;
+      }
+      Integer jerseyNumber;
+      try {
+        String jersey = cell(parts, jerseyCol);
+        jerseyNumber = jersey == null ? null : Integer.valueOf(jersey);
+      } catch (NumberFormatException e) {
+        errors.add("Line " + lineNumber + ": jersey number must be a whole number");
+        continue;
+      }
+
+      Set<String> teamNames = namesByTeam.computeIfAbsent(teamId,
+        id -> new HashSet<>(playerRepository.findNameKeysByTeamId(id)));
+      if (!teamNames.add(nameKey(firstName, lastName))) {
+        duplicates++;
+        continue;
+      }
+
+      Player player = new Player();
+      player.setFirstName(firstName);
+      player.setLastName(lastName);
+      player.setJerseyNumber(jerseyNumber);
+      player.setPosition(cell(parts, positionCol));
+      player.setTeam(entityManager.getReference(Team.class, teamId));
+      batch.add(player);
+      if (batch.size() == IMPORT_CHUNK_ROWS) {
+        imported += flush(batch);
+        chunk.finish(IMPORT_CHUNK_ROWS);
+        chunk = CsvImportChunkEvent.start("players", chunk.chunk + 1);
+        if (progress != null) progress.accept(rowsRead);
+      }
+    }
+    int remaining = flush(batch);
+    imported += remaining;
+    if (remaining > 0) chunk.finish(remaining);
+    if (progress != null) progress.accept(rowsRead);
+    return new RosterImportResult(imported, duplicates, errors);
+  }
+
+  /**
+   * Write a chunk and detach it so the persistence context stays small on large imports
+   */
+  private int flush(List<Player> batch) {
+    int size = batch.size();
+    if (size > 0) {
+      playerRepository.saveAll(batch);
+      playerRepository.flush();
+      entityManager.clear();
+      batch.clear();
+    }
+    return size;
+  }
+
+  private static int requireColumn(Map<String, Integer> columns, String name) {
+    Integer index = columns.get(name);
+    if (index == null) throw new IllegalArgumentException("CSV header is missing the " + name + " column");
+    return index;
+  }
+
+  private static String cell(String[] parts, int index) {
+    if (index < 0 || index >= parts.length) return null;
+    String value = parts[index].trim();
+    return value.isEmpty() ? null : value;
+  }
+
+  /**
+   * Same form as {@link PlayerRepository#findNameKeysByTeamId}
+   */
+  private static String nameKey(String firstName, String lastName) {
+    return firstName.toLowerCase(Locale.ROOT) + "|" + lastName.toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,140 @@
+package com.scheduleengine.publish;
+
+import com.scheduleengine.common.DialogUtil;
+import com.scheduleengine.common.ProgressDialog;
+import com.scheduleengine.publish.domain.PublishFormat;
+import com.scheduleengine.publish.domain.PublishedDocument;
+import javafx.collections.FXCollections;
+import javafx.concurrent.Task;
+import javafx.geometry.Insets;
+import javafx.scene.control.*;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.DirectoryChooser;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Asks for a format, a date range and a directory, then publishes one schedule document on a
+ * background thread and reports where it was written
+ */
+public final class PublishScheduleDialog {
+
+  /**
+   * Renders the document; {@code to} is exclusive
+   */
+  @FunctionalInterface
+  public interface Publisher {
+    PublishedDocument publish(LocalDate from, LocalDate to, PublishFormat format, Path directory);
+  }
+
+  private record Request(LocalDate from, LocalDate to, PublishFormat format, Path directory) {
+  }
+
+  private PublishScheduleDialog() {
+  }
+
+  /**
+   * @param title     what is being published, e.g. the team name
+   * @param directory the directory offered by default
+   */
+  public static void show(String title, LocalDate from, LocalDate to, Path directory, Publisher publisher) {
+    Dialog<Request> dialog = new Dialog<>();
+    dialog.setTitle("Publish Schedule");
+    dialog.setHeaderText("Publish the schedule of " + title);
+
+    ButtonType publishButtonType = new ButtonType("Publish", ButtonBar.ButtonData.OK_DONE);
+    dialog.getDialogPane().getButtonTypes().addAll(publishButtonType, ButtonType.CANCEL);
+
+    GridPane grid = new GridPane();
+    grid.setHgap(10);
+    grid.setVgap(10);
+    grid.setPadding(new Insets(20, 150, 10, 10));
+
+    ComboBox<PublishFormat> formatBox = new ComboBox<>(FXCollections.observableArrayList(PublishFormat.values()));
+    formatBox.setValue(PublishFormat.PDF);
+    DatePicker fromPicker = new DatePicker(from);
+    DatePicker toPicker = new DatePicker(to);
+    TextField directoryField = new TextField(directory.toString());
+    Button browseButton = new Button("Browse...");
+    browseButton.setOnAction(e -> {
+      DirectoryChooser chooser = new DirectoryChooser();
+      chooser.setTitle("Publish To");
+      File current = new File(directoryField.getText());
+      if (current.isDirectory()) chooser.setInitialDirectory(current);
+      File chosen = chooser.showDialog(dialog.getDialogPane().getScene().getWindow());
+      if (chosen != null) directoryField.setText(chosen.getPath());
+    });
+    HBox directoryBox = new HBox(5, directoryField, browseButton);
+    HBox.setHgrow(directoryField, Priority.ALWAYS);
+
+    grid.add(new Label("Format:"), 0, 0);
+    grid.add(formatBox, 1, 0);
+    grid.add(new Label("From:"), 0, 1);
+    grid.add(fromPicker, 1, 1);
+    grid.add(new Label("To:"), 0, 2);
+    grid.add(toPicker, 1, 2);
+    grid.add(new Label("Directory:"), 0, 3);
+    grid.add(directoryBox, 1, 3);
+
+    Button publishButton = (Button) dialog.getDialogPane().lookupButton(publishButtonType);
+    publishButton.disableProperty().bind(fromPicker.valueProperty().isNull()
+      .or(toPicker.valueProperty().isNull())
+      .or(directoryField.textProperty().isEmpty()));
+
+    dialog.getDialogPane().setContent(grid);
+    dialog.getDialogPane().getScene().getWindow().setOnShown(e ->
+      DialogUtil.makeResizable(dialog, "publish.schedule", 560, 320));
+
+    dialog.setResultConverter(dialogButton -> {
+      if (dialogButton == publishButtonType) {
+        // The date pickers are inclusive; the publisher takes an exclusive end
+        return new Request(fromPicker.getValue(), toPicker.getValue().plusDays(1), formatBox.getValue(),
+          Path.of(directoryField.getText().trim()));
+      }
+      return null;
+    });
+
+    dialog.showAndWait().ifPresent(request -> {
+      if (!request.to().isAfter(request.from())) {
+        showError("Invalid Dates", "The end date must not be before the start date.");
+        return;
+      }
+      publish(title, request, publisher);
+    });
+  }
+
+  private static void publish(String title, Request request, Publisher publisher) {
+    Task<PublishedDocument> task = new Task<>() {
+      @Override
+      protected PublishedDocument call() {
+        return publisher.publish(request.from(), request.to(), request.format(), request.directory());
+      }
+    };
+
+    task.setOnSucceeded(e -> {
+      PublishedDocument document = task.getValue();
+      Alert info = new Alert(Alert.AlertType.INFORMATION);
+      info.setTitle("Schedule Published");
+      info.setHeaderText(null);
+      info.setContentText("Published " + document.games() + " game(s) on " + document.pages() + " page(s) to\n"
+        + document.file().toAbsolutePath());
+      info.showAndWait();
+    });
+    task.setOnFailed(e -> showError("Publishing Failed", task.getException().getMessage()));
+    ProgressDialog.run(task, "schedule-publish", "Publish Schedule", null,
+      new VBox(10, new Label("Publishing " + title), new ProgressIndicator()));
+  }
+
+  private static void showError(String title, String msg) {
+    Alert a = new Alert(Alert.AlertType.ERROR);
+    a.setTitle(title);
+    a.setHeaderText(null);
+    a.setContentText(msg);
+    a.showAndWait();
+  }
+}
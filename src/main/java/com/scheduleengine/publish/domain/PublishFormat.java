@@ -0,0 +1,19 @@
+package com.scheduleengine.publish.domain;
+
+/**
+ * Output formats of published schedules
+ */
+public enum PublishFormat {
+  HTML("html"),
+  PDF("pdf");
+
+  private final String extension;
+
+  PublishFormat(String extension) {
+    this.extension = extension;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+}
@@ -0,0 +1,9 @@
+package com.scheduleengine.publish.domain;
+
+import java.nio.file.Path;
+
+/**
+ * One schedule document written by the publishing pipeline
+ */
+public record PublishedDocument(Path file, String title, int games, int pages) {
+}
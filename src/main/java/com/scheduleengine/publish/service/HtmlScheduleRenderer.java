@@ -0,0 +1,57 @@
+package com.scheduleengine.publish.service;
+
+import com.scheduleengine.game.domain.FeedEvent;
+import com.scheduleengine.game.domain.Game;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renders a schedule through a compiled {@link ScheduleTemplate}, one section per printed page
+ */
+final class HtmlScheduleRenderer implements ScheduleRenderer {
+  private final Writer out;
+  private final ScheduleTemplate template;
+  private final Map<String, String> document;
+  private final Map<String, String> values;
+
+  HtmlScheduleRenderer(Writer out, ScheduleTemplate template, String title, String range) throws IOException {
+    this.out = out;
+    this.template = template;
+    this.document = Map.of("title", title, "range", range);
+    this.values = new HashMap<>(document);
+    template.writeHead(out, document);
+  }
+
+  @Override
+  public void startPage(int number) throws IOException {
+    values.put("page", Integer.toString(number));
+    template.writePageStart(out, values);
+  }
+
+  @Override
+  public void row(FeedEvent game) throws IOException {
+    values.put("date", DATE_FORMAT.format(game.gameDate()));
+    values.put("time", TIME_FORMAT.format(game.gameDate()));
+    values.put("home", game.homeTeamName());
+    values.put("away", game.awayTeamName());
+    values.put("field", game.fieldName());
+    values.put("status", ScheduleRenderer.status(game));
+    values.put("rowClass", game.status() == Game.GameStatus.CANCELLED ? "cancelled" : "");
+    template.writeRow(out, values);
+  }
+
+  @Override
+  public void endPage() throws IOException {
+    template.writePageEnd(out, values);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try (out) {
+      template.writeTail(out, document);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.scheduleengine.publish.service;
+
+import com.scheduleengine.game.domain.FeedEvent;
+import com.scheduleengine.game.domain.Game;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Lays a schedule out as a table on US Letter pages
+ */
+final class PdfScheduleRenderer implements ScheduleRenderer {
+  private static final float MARGIN = 40;
+  private static final float ROW_HEIGHT = 16;
+  private static final float FONT_SIZE = 10;
+  private static final String[] HEADINGS = {"Date", "Time", "Home", "Away", "Field", "Status"};
+  private static final float[] COLUMNS = {MARGIN, 110, 150, 285, 420, 515, PdfWriter.PAGE_WIDTH - MARGIN};
+
+  private final PdfWriter pdf;
+  private final String title;
+  private final String range;
+  private float y;
+  private int page;
+
+  PdfScheduleRenderer(OutputStream out, String title, String range) throws IOException {
+    this.pdf = new PdfWriter(out);
+    this.title = title;
+    this.range = range;
+  }
+
+  @Override
+  public void startPage(int number) throws IOException {
+    page = number;
+    pdf.beginPage();
+    float top = PdfWriter.PAGE_HEIGHT - MARGIN;
+    pdf.text(MARGIN, top - 12, true, 16, 0, PdfWriter.fit(title, 16, COLUMNS[6] - MARGIN));
+    pdf.text(MARGIN, top - 30, false, FONT_SIZE, 0.45f, range);
+    y = top - 58;
+    for (int i = 0; i < HEADINGS.length; i++) {
+      pdf.text(COLUMNS[i], y, true, FONT_SIZE, 0, HEADINGS[i]);
+    }
+    pdf.line(MARGIN, y - 5, COLUMNS[6], y - 5, 1.5f, 0);
+    y -= ROW_HEIGHT + 2;
+  }
+
+  @Override
+  public void row(FeedEvent game) {
+    float gray = game.status() == Game.GameStatus.CANCELLED ? 0.6f : 0;
+    String[] cells = {
+      ScheduleRenderer.DATE_FORMAT.format(game.gameDate()),
+      ScheduleRenderer.TIME_FORMAT.format(game.gameDate()),
+      game.homeTeamName(),
+      game.awayTeamName(),
+      game.fieldName(),
+      ScheduleRenderer.status(game)};
+    for (int i = 0; i < cells.length; i++) {
+      pdf.text(COLUMNS[i], y, false, FONT_SIZE, gray, PdfWriter.fit(cells[i], FONT_SIZE, COLUMNS[i + 1] - COLUMNS[i] - 6));
+    }
+    pdf.line(MARGIN, y - 5, COLUMNS[6], y - 5, 0.5f, 0.85f);
+    y -= ROW_HEIGHT;
+  }
+
+  @Override
+  public void endPage() throws IOException {
+    pdf.text(MARGIN, MARGIN - 10, false, 8, 0.6f, "Page " + page);
+    pdf.endPage();
+  }
+
+  @Override
+  public void close() throws IOException {
+    pdf.close();
+  }
+}
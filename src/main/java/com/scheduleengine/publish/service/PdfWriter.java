@@ -0,0 +1,172 @@
+package com.scheduleengine.publish.service;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A minimal PDF 1.4 writer for text tables in the built-in Helvetica fonts. Each page is written
+ * out as soon as it ends, so only the current page and the object offsets are kept in memory,
+ * however long the document gets.
+ */
+final class PdfWriter implements Closeable {
+  /** US Letter, in points */
+  static final float PAGE_WIDTH = 612;
+  static final float PAGE_HEIGHT = 792;
+
+  private static final Charset WIN_ANSI = Charset.forName("windows-1252");
+  private static final int CATALOG = 1;
+  private static final int PAGES = 2;
+  private static final int FONT = 3;
+  private static final int BOLD_FONT = 4;
+
+  /** Helvetica advance widths of the characters from space to tilde, per 1000 units of font size */
+  private static final short[] WIDTHS = {
+    278, 278, 355, 556, 556, 889, 667, 191, 333, 333, 389, 584, 278, 333, 278, 278,
+    556, 556, 556, 556, 556, 556, 556, 556, 556, 556, 278, 278, 584, 584, 584, 556,
+    1015, 667, 667, 722, 722, 667, 611, 778, 722, 278, 500, 667, 556, 833, 722, 778,
+    667, 778, 722, 667, 611, 722, 667, 944, 667, 667, 611, 278, 278, 278, 469, 556,
+    333, 556, 556, 500, 556, 556, 278, 556, 556, 222, 222, 500, 222, 833, 556, 556,
+    556, 556, 333, 500, 278, 556, 500, 722, 500, 500, 500, 334, 260, 334, 584};
+
+  private final CountingOutputStream out;
+  /** File offset of each object, by object number - 1 */
+  private final List<Long> offsets = new ArrayList<>();
+  private final List<Integer> pageIds = new ArrayList<>();
+  private final CharsetEncoder encoder = WIN_ANSI.newEncoder();
+  private StringBuilder content;
+
+  PdfWriter(OutputStream out) throws IOException {
+    this.out = new CountingOutputStream(out);
+    // The comment of high-bit bytes marks the file as binary for transfer tools
+    this.out.write("%PDF-1.4\n%âãÏÓ\n".getBytes(StandardCharsets.ISO_8859_1));
+    offsets.add(-1L);
+    offsets.add(-1L);
+    writeObject(newObject(), "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>");
+    writeObject(newObject(), "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>");
+  }
+
+  void beginPage() throws IOException {
+    if (content != null) endPage();
+    content = new StringBuilder(4096);
+  }
+
+  /**
+   * Draw text with its baseline starting at (x, y), measured in points from the bottom left corner
+   */
+  void text(float x, float y, boolean bold, float size, float gray, String text) {
+    content.append("BT ").append(number(gray)).append(" g /F").append(bold ? BOLD_FONT : FONT).append(' ')
+      .append(number(size)).append(" Tf ").append(number(x)).append(' ').append(number(y)).append(" Td (");
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '(' || c == ')' || c == '\\') content.append('\\');
+      content.append(encoder.canEncode(c) ? c : '?');
+    }
+    content.append(") Tj ET\n");
+  }
+
+  void line(float x1, float y1, float x2, float y2, float width, float gray) {
+    content.append(number(gray)).append(" G ").append(number(width)).append(" w ")
+      .append(number(x1)).append(' ').append(number(y1)).append(" m ")
+      .append(number(x2)).append(' ').append(number(y2)).append(" l S\n");
+  }
+
+  void endPage() throws IOException {
+    byte[] stream = content.toString().getBytes(WIN_ANSI);
+    content = null;
+    int contentId = newObject();
+    offsets.set(contentId - 1, out.count());
+    out.write((contentId + " 0 obj\n<< /Length " + stream.length + " >>\nstream\n").getBytes(StandardCharsets.ISO_8859_1));
+    out.write(stream);
+    out.write("\nendstream\nendobj\n".getBytes(StandardCharsets.ISO_8859_1));
+    int pageId = newObject();
+    writeObject(pageId, "<< /Type /Page /Parent " + PAGES + " 0 R /MediaBox [0 0 " + number(PAGE_WIDTH) + " "
+      + number(PAGE_HEIGHT) + "] /Resources << /Font << /F" + FONT + " " + FONT + " 0 R /F" + BOLD_FONT + " "
+      + BOLD_FONT + " 0 R >> >> /Contents " + contentId + " 0 R >>");
+    pageIds.add(pageId);
+  }
+
+  /**
+   * Width of the text in points
+   */
+  static float width(String text, float size) {
+    int units = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      units += c >= ' ' && c <= '~' ? WIDTHS[c - ' '] : 556;
+    }
+    return units * size / 1000f;
+  }
+
+  /**
+   * The text, shortened with "..." if needed to fit the width
+   */
+  static String fit(String text, float size, float maxWidth) {
+    if (text == null) return "";
+    if (width(text, size) <= maxWidth) return text;
+    int end = text.length();
+    while (end > 0 && width(text.substring(0, end) + "...", size) > maxWidth) end--;
+    return text.substring(0, end).stripTrailing() + "...";
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (content != null) endPage();
+    StringBuilder kids = new StringBuilder();
+    for (int id : pageIds) kids.append(id).append(" 0 R ");
+    writeObject(PAGES, "<< /Type /Pages /Kids [" + kids + "] /Count " + pageIds.size() + " >>");
+    writeObject(CATALOG, "<< /Type /Catalog /Pages " + PAGES + " 0 R >>");
+    long xref = out.count();
+    StringBuilder trailer = new StringBuilder("xref\n0 ").append(offsets.size() + 1).append("\n0000000000 65535 f \n");
+    for (long offset : offsets) trailer.append(String.format(Locale.ROOT, "%010d 00000 n \n", offset));
+    trailer.append("trailer\n<< /Size ").append(offsets.size() + 1).append(" /Root ").append(CATALOG)
+      .append(" 0 R >>\nstartxref\n").append(xref).append("\n%%EOF\n");
+    out.write(trailer.toString().getBytes(StandardCharsets.ISO_8859_1));
+    out.close();
+  }
+
+  private int newObject() {
+    offsets.add(-1L);
+    return offsets.size();
+  }
+
+  private void writeObject(int id, String body) throws IOException {
+    offsets.set(id - 1, out.count());
+    out.write((id + " 0 obj\n" + body + "\nendobj\n").getBytes(StandardCharsets.ISO_8859_1));
+  }
+
+  private static String number(float value) {
+    return value == (int) value ? Integer.toString((int) value) : String.format(Locale.ROOT, "%.2f", value);
+  }
+
+  private static final class CountingOutputStream extends FilterOutputStream {
+    private long count;
+
+    CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    long count() {
+      return count;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      count += len;
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package com.scheduleengine.publish.service;
+
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.game.domain.FeedEvent;
+import com.scheduleengine.game.repository.GameRepository;
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.league.service.LeagueService;
+import com.scheduleengine.publish.domain.PublishFormat;
+import com.scheduleengine.publish.domain.PublishedDocument;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.domain.TeamSummary;
+import com.scheduleengine.team.service.TeamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Publishes printable team, field and league schedules as HTML or PDF. Games are streamed from
+ * date-range queries and each page is written out as soon as it is full, so memory use does not
+ * grow with the size of a document; a full publish renders its documents in parallel.
+ */
+@Service
+public class SchedulePublishingService {
+  private static final Logger log = LoggerFactory.getLogger(SchedulePublishingService.class);
+
+  static final String TEMPLATE = "templates/schedule.html";
+  static final int ROWS_PER_PAGE = 40;
+  private static final DateTimeFormatter RANGE_FORMAT = DateTimeFormatter.ofPattern("MMM d, yyyy");
+
+  private final GameRepository gameRepository;
+  private final TeamService teamService;
+  private final FieldService fieldService;
+  private final LeagueService leagueService;
+  private final TransactionTemplate readOnly;
+  private final Path directory;
+
+  /**
+   * One document to render
+   */
+  private record Job(String name, String title, Supplier<Stream<FeedEvent>> games) {
+  }
+
+  public SchedulePublishingService(GameRepository gameRepository, TeamService teamService, FieldService fieldService,
+                                   LeagueService leagueService, PlatformTransactionManager transactionManager,
+                                   @Value("${publishing.directory:./data/schedules}") Path directory) {
+    this.gameRepository = gameRepository;
+    this.teamService = teamService;
+    this.fieldService = fieldService;
+    this.leagueService = leagueService;
+    this.readOnly = new TransactionTemplate(transactionManager);
+    this.readOnly.setReadOnly(true);
+    this.directory = directory;
+  }
+
+  /**
+   * The configured directory schedules are published to unless another is chosen
+   */
+  public Path getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Publish a team's games on the days from {@code from} up to but not including {@code to}
+   */
+  public PublishedDocument publishTeam(Long teamId, LocalDate from, LocalDate to, PublishFormat format, Path directory) {
+    Team team = teamService.findById(teamId)
+      .orElseThrow(() -> new IllegalArgumentException("Team not found: " + teamId));
+    return render(teamJob(TeamSummary.of(team), from, to), from, to, format, createDirectories(directory));
+  }
+
+  /**
+   * Publish the games booked on a field on the days from {@code from} up to but not including {@code to}
+   */
+  public PublishedDocument publishField(Long fieldId, LocalDate from, LocalDate to, PublishFormat format, Path directory) {
+    Field field = fieldService.findById(fieldId)
+      .orElseThrow(() -> new IllegalArgumentException("Field not found: " + fieldId));
+    return render(fieldJob(field, from, to), from, to, format, createDirectories(directory));
+  }
+
+  /**
+   * Publish the games of a league's seasons on the days from {@code from} up to but not including {@code to}
+   */
+  public PublishedDocument publishLeague(Long leagueId, LocalDate from, LocalDate to, PublishFormat format, Path directory) {
+    League league = leagueService.findById(leagueId)
+      .orElseThrow(() -> new IllegalArgumentException("League not found: " + leagueId));
+    return render(leagueJob(league, from, to), from, to, format, createDirectories(directory));
+  }
+
+  /**
+   * Publish the schedule of every league, team and field, rendering documents in parallel on one
+   * thread per core
+   */
+  public List<PublishedDocument> publishAll(LocalDate from, LocalDate to, PublishFormat format, Path directory) {
+    Path dir = createDirectories(directory);
+    List<Job> jobs = new ArrayList<>();
+    leagueService.findAll().forEach(league -> jobs.add(leagueJob(league, from, to)));
+    teamService.findSummaries().forEach(team -> jobs.add(teamJob(team, from, to)));
+    fieldService.findAll().forEach(field -> jobs.add(fieldJob(field, from, to)));
+    if (jobs.isEmpty()) return List.of();
+
+    long started = System.nanoTime();
+    int threads = Math.min(jobs.size(), Runtime.getRuntime().availableProcessors());
+    AtomicInteger threadNumber = new AtomicInteger();
+    List<PublishedDocument> documents = new ArrayList<>(jobs.size());
+    try (ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+      Thread thread = new Thread(r, "schedule-publish-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    })) {
+      List<CompletableFuture<PublishedDocument>> futures = jobs.stream()
+        .map(job -> CompletableFuture.supplyAsync(() -> render(job, from, to, format, dir), executor))
+        .toList();
+      for (CompletableFuture<PublishedDocument> future : futures) {
+        try {
+          documents.add(future.join());
+        } catch (CompletionException e) {
+          throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+      }
+    }
+    log.info("Published {} {} schedules ({} pages) on {} threads in {} ms", documents.size(), format,
+      documents.stream().mapToInt(PublishedDocument::pages).sum(), threads, (System.nanoTime() - started) / 1_000_000);
+    return documents;
+  }
+
+  private Job teamJob(TeamSummary team, LocalDate from, LocalDate to) {
+    return new Job("team-" + team.id(), team.name(),
+      () -> gameRepository.streamTeamSchedule(team.id(), from.atStartOfDay(), to.atStartOfDay()));
+  }
+
+  private Job fieldJob(Field field, LocalDate from, LocalDate to) {
+    Long fieldId = field.getId();
+    return new Job("field-" + fieldId, field.getName(),
+      () -> gameRepository.streamFieldSchedule(fieldId, from.atStartOfDay(), to.atStartOfDay()));
+  }
+
+  private Job leagueJob(League league, LocalDate from, LocalDate to) {
+    Long leagueId = league.getId();
+    return new Job("league-" + leagueId, league.getName(),
+      () -> gameRepository.streamLeagueSchedule(leagueId, from.atStartOfDay(), to.atStartOfDay()));
+  }
+
+  private PublishedDocument render(Job job, LocalDate from, LocalDate to, PublishFormat format, Path directory) {
+    Path file = directory.resolve(job.name() + "." + format.getExtension());
+    String range = RANGE_FORMAT.format(from) + " – " + RANGE_FORMAT.format(to.minusDays(1));
+    return readOnly.execute(status -> {
+      int games = 0;
+      int pages = 0;
+      try (Stream<FeedEvent> stream = job.games().get();
+           ScheduleRenderer renderer = open(file, format, job.title(), range)) {
+        Iterator<FeedEvent> it = stream.iterator();
+        // An empty schedule still gets one page, with an empty table
+        do {
+          renderer.startPage(++pages);
+          for (int row = 0; row < ROWS_PER_PAGE && it.hasNext(); row++) {
+            renderer.row(it.next());
+            games++;
+          }
+          renderer.endPage();
+        } while (it.hasNext());
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not write " + file, e);
+      }
+      return new PublishedDocument(file, job.title(), games, pages);
+    });
+  }
+
+  private static ScheduleRenderer open(Path file, PublishFormat format, String title, String range) throws IOException {
+    return switch (format) {
+      case HTML -> new HtmlScheduleRenderer(Files.newBufferedWriter(file, StandardCharsets.UTF_8),
+        ScheduleTemplate.load(TEMPLATE), title, range);
+      case PDF -> new PdfScheduleRenderer(new BufferedOutputStream(Files.newOutputStream(file)), title, range);
+    };
+  }
+
+  private static Path createDirectories(Path directory) {
+    try {
+      return Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not create " + directory, e);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.scheduleengine.publish.service;
+
+import com.scheduleengine.game.domain.FeedEvent;
+import com.scheduleengine.game.domain.Game;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes one schedule document page by page; closing it finishes the document
+ */
+interface ScheduleRenderer extends Closeable {
+  DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("EEE MMM d");
+  DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+  void startPage(int number) throws IOException;
+
+  void row(FeedEvent game) throws IOException;
+
+  void endPage() throws IOException;
+
+  /**
+   * The status column: the score of completed games, otherwise the status
+   */
+  static String status(FeedEvent game) {
+    if (game.status() == Game.GameStatus.COMPLETED && game.homeScore() != null && game.awayScore() != null) {
+      return "Final " + game.homeScore() + " - " + game.awayScore();
+    }
+    // A game without a status is scheduled, as the calendar view shows it
+    return switch (game.status()) {
+      case null -> "Scheduled";
+      case SCHEDULED -> "Scheduled";
+      case IN_PROGRESS -> "In progress";
+      case COMPLETED -> "Completed";
+      case CANCELLED -> "Cancelled";
+      case POSTPONED -> "Postponed";
+    };
+  }
+}
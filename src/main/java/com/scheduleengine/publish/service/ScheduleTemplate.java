@@ -0,0 +1,140 @@
+package com.scheduleengine.publish.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An HTML schedule template compiled into literal text and {@code {{name}}} placeholders. The
+ * template is split at its {@code {{#page}}} and {@code {{#row}}} sections, so a document is
+ * written a row at a time instead of being built in memory. Compiled templates are cached by
+ * resource name and shared between threads.
+ */
+final class ScheduleTemplate {
+  private static final Map<String, ScheduleTemplate> CACHE = new ConcurrentHashMap<>();
+  private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{(\\w+)}}");
+  private static final List<String> MARKERS = List.of("{{#page}}", "{{#row}}", "{{/row}}", "{{/page}}");
+
+  private sealed interface Segment permits Literal, Placeholder {
+  }
+
+  private record Literal(String text) implements Segment {
+  }
+
+  private record Placeholder(String name) implements Segment {
+  }
+
+  private final List<Segment> head;
+  private final List<Segment> pageStart;
+  private final List<Segment> row;
+  private final List<Segment> pageEnd;
+  private final List<Segment> tail;
+
+  private ScheduleTemplate(List<List<Segment>> parts) {
+    this.head = parts.get(0);
+    this.pageStart = parts.get(1);
+    this.row = parts.get(2);
+    this.pageEnd = parts.get(3);
+    this.tail = parts.get(4);
+  }
+
+  /**
+   * The compiled template from a classpath resource, compiled on first use
+   */
+  static ScheduleTemplate load(String resource) {
+    return CACHE.computeIfAbsent(resource, name -> {
+      try (InputStream in = ScheduleTemplate.class.getClassLoader().getResourceAsStream(name)) {
+        if (in == null) throw new IllegalArgumentException("Template not found: " + name);
+        return compile(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read template " + name, e);
+      }
+    });
+  }
+
+  static ScheduleTemplate compile(String source) {
+    List<List<Segment>> parts = new ArrayList<>(5);
+    int start = 0;
+    for (String marker : MARKERS) {
+      int at = source.indexOf(marker, start);
+      if (at < 0) throw new IllegalArgumentException("Template is missing " + marker);
+      parts.add(segments(source.substring(start, at)));
+      start = skipLineBreak(source, at + marker.length());
+    }
+    parts.add(segments(source.substring(start)));
+    return new ScheduleTemplate(parts);
+  }
+
+  private static int skipLineBreak(String source, int index) {
+    if (source.startsWith("\r\n", index)) return index + 2;
+    return source.startsWith("\n", index) ? index + 1 : index;
+  }
+
+  private static List<Segment> segments(String text) {
+    List<Segment> segments = new ArrayList<>();
+    Matcher matcher = PLACEHOLDER.matcher(text);
+    int start = 0;
+    while (matcher.find()) {
+      if (matcher.start() > start) segments.add(new Literal(text.substring(start, matcher.start())));
+      segments.add(new Placeholder(matcher.group(1)));
+      start = matcher.end();
+    }
+    if (start < text.length()) segments.add(new Literal(text.substring(start)));
+    return List.copyOf(segments);
+  }
+
+  void writeHead(Writer out, Map<String, String> values) throws IOException {
+    write(head, out, values);
+  }
+
+  void writePageStart(Writer out, Map<String, String> values) throws IOException {
+    write(pageStart, out, values);
+  }
+
+  void writeRow(Writer out, Map<String, String> values) throws IOException {
+    write(row, out, values);
+  }
+
+  void writePageEnd(Writer out, Map<String, String> values) throws IOException {
+    write(pageEnd, out, values);
+  }
+
+  void writeTail(Writer out, Map<String, String> values) throws IOException {
+    write(tail, out, values);
+  }
+
+  /**
+   * Placeholder values are HTML-escaped; unknown placeholders are left empty
+   */
+  private static void write(List<Segment> segments, Writer out, Map<String, String> values) throws IOException {
+    for (Segment segment : segments) {
+      switch (segment) {
+        case Literal literal -> out.write(literal.text());
+        case Placeholder placeholder -> escape(values.get(placeholder.name()), out);
+      }
+    }
+  }
+
+  private static void escape(String value, Writer out) throws IOException {
+    if (value == null) return;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '&' -> out.write("&amp;");
+        case '<' -> out.write("&lt;");
+        case '>' -> out.write("&gt;");
+        case '"' -> out.write("&quot;");
+        case '\'' -> out.write("&#39;");
+        default -> out.write(c);
+      }
+    }
+  }
+}
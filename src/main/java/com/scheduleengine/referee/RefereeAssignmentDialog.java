@@ -0,0 +1,161 @@
+package com.scheduleengine.referee;
+
+import com.scheduleengine.common.DialogUtil;
+import com.scheduleengine.common.ProgressDialog;
+import com.scheduleengine.referee.domain.AssignmentResult;
+import com.scheduleengine.referee.domain.Referee;
+import com.scheduleengine.referee.service.RefereeAssignmentService;
+import javafx.concurrent.Task;
+import javafx.geometry.Insets;
+import javafx.scene.control.*;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.VBox;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * Dialogs that staff games with referees for a date range, or take a referee off a date range and
+ * re-staff their games. The assignment runs on a background thread.
+ */
+public final class RefereeAssignmentDialog {
+
+  private RefereeAssignmentDialog() {
+  }
+
+  /**
+   * Ask for a date range and staff its games
+   *
+   * @param onDone run on the FX thread once the assignment has been saved, or null
+   */
+  public static void showAssign(RefereeAssignmentService assignmentService, LocalDate from, LocalDate to,
+                                Runnable onDone) {
+    Dialog<ButtonType> dialog = new Dialog<>();
+    dialog.setTitle("Assign Referees");
+    dialog.setHeaderText("Staff the games in a date range with available, qualified referees");
+
+    ButtonType assignButtonType = new ButtonType("Assign", ButtonBar.ButtonData.OK_DONE);
+    dialog.getDialogPane().getButtonTypes().addAll(assignButtonType, ButtonType.CANCEL);
+
+    DatePicker fromPicker = new DatePicker(from);
+    DatePicker toPicker = new DatePicker(to);
+    CheckBox replaceExisting = new CheckBox("Replace existing assignments");
+    replaceExisting.setTooltip(new Tooltip("Otherwise games that have a referee keep them"));
+
+    GridPane grid = grid();
+    grid.add(new Label("From:"), 0, 0);
+    grid.add(fromPicker, 1, 0);
+    grid.add(new Label("To:"), 0, 1);
+    grid.add(toPicker, 1, 1);
+    grid.add(replaceExisting, 1, 2);
+
+    dialog.getDialogPane().lookupButton(assignButtonType).disableProperty()
+      .bind(fromPicker.valueProperty().isNull().or(toPicker.valueProperty().isNull()));
+    dialog.getDialogPane().setContent(grid);
+    dialog.getDialogPane().getScene().getWindow().setOnShown(e ->
+      DialogUtil.makeResizable(dialog, "referee.assign", 500, 300));
+
+    dialog.showAndWait().filter(button -> button == assignButtonType).ifPresent(button -> {
+      LocalDate start = fromPicker.getValue();
+      // The date pickers are inclusive; the service takes an exclusive end
+      LocalDate end = toPicker.getValue().plusDays(1);
+      if (!end.isAfter(start)) {
+        showError("Invalid Dates", "The end date must not be before the start date.");
+        return;
+      }
+      boolean replace = replaceExisting.isSelected();
+      run("Assigning referees", () -> assignmentService.assign(start, end, replace), onDone);
+    });
+  }
+
+  /**
+   * Ask for a date range the referee cannot work; they are blacked out and their games there are
+   * given to other referees
+   */
+  public static void showDropOut(RefereeAssignmentService assignmentService, Referee referee, Runnable onDone) {
+    Dialog<ButtonType> dialog = new Dialog<>();
+    dialog.setTitle("Drop Out");
+    dialog.setHeaderText("Take " + referee.getName() + " off their games in a date range");
+
+    ButtonType dropButtonType = new ButtonType("Drop Out", ButtonBar.ButtonData.OK_DONE);
+    dialog.getDialogPane().getButtonTypes().addAll(dropButtonType, ButtonType.CANCEL);
+
+    DatePicker fromPicker = new DatePicker(LocalDate.now());
+    DatePicker toPicker = new DatePicker(LocalDate.now());
+    fromPicker.valueProperty().addListener((obs, old, start) -> {
+      if (start != null && (toPicker.getValue() == null || toPicker.getValue().isBefore(start))) {
+        toPicker.setValue(start);
+      }
+    });
+    TextField reasonField = new TextField();
+    reasonField.setPromptText("e.g. Injured");
+
+    GridPane grid = grid();
+    grid.add(new Label("From:"), 0, 0);
+    grid.add(fromPicker, 1, 0);
+    grid.add(new Label("To:"), 0, 1);
+    grid.add(toPicker, 1, 1);
+    grid.add(new Label("Reason:"), 0, 2);
+    grid.add(reasonField, 1, 2);
+
+    dialog.getDialogPane().lookupButton(dropButtonType).disableProperty()
+      .bind(fromPicker.valueProperty().isNull().or(toPicker.valueProperty().isNull()));
+    dialog.getDialogPane().setContent(grid);
+    dialog.getDialogPane().getScene().getWindow().setOnShown(e ->
+      DialogUtil.makeResizable(dialog, "referee.dropout", 500, 300));
+
+    dialog.showAndWait().filter(button -> button == dropButtonType).ifPresent(button -> {
+      LocalDate start = fromPicker.getValue();
+      LocalDate end = toPicker.getValue().plusDays(1);
+      if (!end.isAfter(start)) {
+        showError("Invalid Dates", "The end date must not be before the start date.");
+        return;
+      }
+      String reason = reasonField.getText() == null || reasonField.getText().isBlank() ? null : reasonField.getText().trim();
+      run("Re-staffing the games of " + referee.getName(),
+        () -> assignmentService.dropOut(referee.getId(), start, end, reason), onDone);
+    });
+  }
+
+  private static void run(String message, Supplier<AssignmentResult> work, Runnable onDone) {
+    Task<AssignmentResult> task = new Task<>() {
+      @Override
+      protected AssignmentResult call() {
+        return work.get();
+      }
+    };
+
+    task.setOnSucceeded(e -> {
+      AssignmentResult result = task.getValue();
+      StringBuilder summary = new StringBuilder("Assigned ").append(result.assigned()).append(" game(s).");
+      if (result.kept() > 0) summary.append(" ").append(result.kept()).append(" kept their referee.");
+      if (!result.unstaffedGameIds().isEmpty()) {
+        summary.append("\n\n").append(result.unstaffedGameIds().size())
+          .append(" game(s) have no available, qualified referee.");
+      }
+      Alert info = new Alert(Alert.AlertType.INFORMATION, summary.toString(), ButtonType.OK);
+      info.setHeaderText("Referee assignment");
+      info.showAndWait();
+      if (onDone != null) onDone.run();
+    });
+    task.setOnFailed(e -> showError("Assignment Failed", task.getException().getMessage()));
+    ProgressDialog.run(task, "referee-assignment", "Referee Assignment", null,
+      new VBox(10, new Label(message), new ProgressIndicator()));
+  }
+
+  private static GridPane grid() {
+    GridPane grid = new GridPane();
+    grid.setHgap(10);
+    grid.setVgap(10);
+    grid.setPadding(new Insets(20, 150, 10, 10));
+    return grid;
+  }
+
+  private static void showError(String title, String msg) {
+    Alert a = new Alert(Alert.AlertType.ERROR);
+    a.setTitle(title);
+    a.setHeaderText(null);
+    a.setContentText(msg);
+    a.showAndWait();
+  }
+}
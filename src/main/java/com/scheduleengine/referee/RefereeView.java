@@ -0,0 +1,353 @@
+package com.scheduleengine.referee;
+
+import com.scheduleengine.blackout.BlackoutSection;
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.service.BlackoutService;
+import com.scheduleengine.common.DialogUtil;
+import com.scheduleengine.common.TablePreferencesUtil;
+import com.scheduleengine.referee.domain.Referee;
+import com.scheduleengine.referee.domain.RefereeAvailability;
+import com.scheduleengine.referee.service.RefereeAssignmentService;
+import com.scheduleengine.referee.service.RefereeService;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.scene.control.*;
+import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.layout.*;
+import javafx.util.StringConverter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.TextStyle;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Referees with their certification, weekly availability windows and blackout days, and the
+ * actions that staff games with them
+ */
+public class RefereeView {
+
+  private final RefereeService refereeService;
+  private final RefereeAssignmentService assignmentService;
+  private final BlackoutService blackoutService;
+  private final ObservableList<Referee> data;
+  private TableView<Referee> table;
+  private HBox detailArea;
+
+  public RefereeView(RefereeService refereeService, RefereeAssignmentService assignmentService,
+                     BlackoutService blackoutService) {
+    this.refereeService = refereeService;
+    this.assignmentService = assignmentService;
+    this.blackoutService = blackoutService;
+    this.data = FXCollections.observableArrayList();
+  }
+
+  /**
+   * Shows certification levels by name, and null as any level
+   */
+  public static StringConverter<Referee.Certification> certificationConverter() {
+    return new StringConverter<>() {
+      @Override
+      public String toString(Referee.Certification certification) {
+        if (certification == null) return "Any level";
+        String name = certification.name();
+        return name.charAt(0) + name.substring(1).toLowerCase();
+      }
+
+      @Override
+      public Referee.Certification fromString(String string) {
+        return null;
+      }
+    };
+  }
+
+  public VBox getView() {
+    VBox vbox = new VBox(10);
+    vbox.setPadding(new Insets(10));
+
+    HBox topBox = new HBox(10);
+    Label title = new Label("Referees");
+    title.setStyle("-fx-font-size: 18px; -fx-font-weight: bold;");
+
+    Region spacer = new Region();
+    HBox.setHgrow(spacer, Priority.ALWAYS);
+
+    Button assignButton = new Button("Assign Referees");
+    assignButton.setOnAction(e -> RefereeAssignmentDialog.showAssign(assignmentService, LocalDate.now(),
+      LocalDate.now().plusWeeks(2), null));
+
+    Button addButton = new Button("Add Referee");
+    addButton.setStyle("-fx-background-color: #667eea; -fx-text-fill: white;");
+    addButton.setOnAction(e -> showEditDialog(null));
+
+    topBox.getChildren().addAll(title, spacer, assignButton, addButton);
+
+    table = new TableView<>();
+    table.setItems(data);
+    table.setPlaceholder(new Label("No referees"));
+
+    TableColumn<Referee, String> nameCol = new TableColumn<>("Name");
+    nameCol.setCellValueFactory(new PropertyValueFactory<>("name"));
+    nameCol.setPrefWidth(200);
+
+    TableColumn<Referee, String> emailCol = new TableColumn<>("Email");
+    emailCol.setCellValueFactory(new PropertyValueFactory<>("email"));
+    emailCol.setPrefWidth(220);
+
+    TableColumn<Referee, String> certificationCol = new TableColumn<>("Certification");
+    certificationCol.setCellValueFactory(c ->
+      new ReadOnlyStringWrapper(certificationConverter().toString(c.getValue().getCertification())));
+    certificationCol.setPrefWidth(130);
+
+    TableColumn<Referee, String> activeCol = new TableColumn<>("Active");
+    activeCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(c.getValue().isActive() ? "Yes" : "No"));
+    activeCol.setPrefWidth(80);
+
+    table.getColumns().addAll(nameCol, emailCol, certificationCol, activeCol);
+    TablePreferencesUtil.bind(table, "referee");
+    TablePreferencesUtil.attachToggleMenu(table, "referee");
+    TablePreferencesUtil.setupTableColumnPersistence(table, "referee.table");
+
+    Button editButton = new Button("Edit");
+    editButton.setOnAction(e -> showEditDialog(table.getSelectionModel().getSelectedItem()));
+    Button dropOutButton = new Button("Drop Out...");
+    dropOutButton.setOnAction(e -> RefereeAssignmentDialog.showDropOut(assignmentService,
+      table.getSelectionModel().getSelectedItem(), this::showSelected));
+    Button deleteButton = new Button("Delete");
+    deleteButton.setStyle("-fx-background-color: #dc3545; -fx-text-fill: white;");
+    deleteButton.setOnAction(e -> deleteReferee(table.getSelectionModel().getSelectedItem()));
+    for (Button button : new Button[]{editButton, dropOutButton, deleteButton}) {
+      button.disableProperty().bind(table.getSelectionModel().selectedItemProperty().isNull());
+    }
+    HBox actions = new HBox(10, editButton, dropOutButton, deleteButton);
+
+    // Availability and blackouts of the selected referee
+    detailArea = new HBox(15);
+    table.getSelectionModel().selectedItemProperty().addListener((obs, old, referee) -> showSelected());
+
+    loadData();
+
+    vbox.getChildren().addAll(topBox, table, actions, detailArea);
+    VBox.setVgrow(table, Priority.ALWAYS);
+    return vbox;
+  }
+
+  public void refresh() {
+    loadData();
+  }
+
+  private void loadData() {
+    Referee selected = table == null ? null : table.getSelectionModel().getSelectedItem();
+    data.setAll(refereeService.findAll().stream().sorted(Comparator.comparing(Referee::getName)).toList());
+    if (selected != null) {
+      data.stream().filter(r -> r.getId().equals(selected.getId())).findFirst()
+        .ifPresent(r -> table.getSelectionModel().select(r));
+    }
+  }
+
+  private void showSelected() {
+    Referee referee = table.getSelectionModel().getSelectedItem();
+    if (referee == null) {
+      detailArea.getChildren().clear();
+      return;
+    }
+    VBox availability = buildAvailabilitySection(referee);
+    VBox blackouts = BlackoutSection.build(blackoutService, Blackout.Scope.REFEREE, referee.getId(),
+      "games for " + referee.getName());
+    HBox.setHgrow(availability, Priority.ALWAYS);
+    HBox.setHgrow(blackouts, Priority.ALWAYS);
+    detailArea.getChildren().setAll(availability, blackouts);
+  }
+
+  private VBox buildAvailabilitySection(Referee referee) {
+    VBox container = new VBox(10);
+    container.setPadding(new Insets(12));
+    container.setStyle("-fx-background-color: white; -fx-border-color: #e0e0e0; -fx-border-width: 1;");
+
+    Label title = new Label("Availability");
+    title.setStyle("-fx-font-size: 16px; -fx-font-weight: bold;");
+    Label hint = new Label("Weekly hours " + referee.getName() + " can work");
+    hint.setStyle("-fx-font-size: 12px; -fx-text-fill: #7f8c8d;");
+
+    TableView<RefereeAvailability> windows = new TableView<>();
+    windows.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+    windows.setPlaceholder(new Label("No availability; this referee is not assigned"));
+    windows.setPrefHeight(180);
+
+    TableColumn<RefereeAvailability, String> dayCol = new TableColumn<>("Day");
+    dayCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(
+      c.getValue().getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.getDefault())));
+    TableColumn<RefereeAvailability, String> timeCol = new TableColumn<>("Time");
+    timeCol.setCellValueFactory(c -> new ReadOnlyStringWrapper(
+      c.getValue().getStartTime() + " - " + c.getValue().getEndTime()));
+    windows.getColumns().setAll(dayCol, timeCol);
+    TablePreferencesUtil.setupTableColumnPersistence(windows, "referee.availability");
+    windows.setItems(FXCollections.observableArrayList(sorted(referee)));
+
+    Button addBtn = new Button("+ Add Window");
+    addBtn.setStyle("-fx-padding: 8 16; -fx-background-color: #667eea; -fx-text-fill: white;");
+    addBtn.setOnAction(e -> showAddAvailabilityDialog(referee, windows));
+
+    Button deleteBtn = new Button("Delete Selected");
+    deleteBtn.setStyle("-fx-padding: 8 16; -fx-background-color: #dc3545; -fx-text-fill: white;");
+    deleteBtn.setOnAction(e -> {
+      RefereeAvailability selected = windows.getSelectionModel().getSelectedItem();
+      if (selected == null) {
+        showError("No Selection", "Please select an availability window to delete.");
+        return;
+      }
+      refereeService.deleteAvailability(selected.getId());
+      windows.getItems().remove(selected);
+    });
+
+    HBox buttonBox = new HBox(10, addBtn, deleteBtn);
+    buttonBox.setPadding(new Insets(10, 0, 0, 0));
+
+    container.getChildren().setAll(title, hint, windows, buttonBox);
+    return container;
+  }
+
+  private List<RefereeAvailability> sorted(Referee referee) {
+    return refereeService.findAvailability(referee.getId()).stream()
+      .sorted(Comparator.comparing(RefereeAvailability::getDayOfWeek).thenComparing(RefereeAvailability::getStartTime))
+      .toList();
+  }
+
+  private void showAddAvailabilityDialog(Referee referee, TableView<RefereeAvailability> windows) {
+    Dialog<RefereeAvailability> dialog = new Dialog<>();
+    dialog.setTitle("Add Availability");
+
+    ButtonType saveButtonType = new ButtonType("Save", ButtonBar.ButtonData.OK_DONE);
+    dialog.getDialogPane().getButtonTypes().addAll(saveButtonType, ButtonType.CANCEL);
+
+    GridPane grid = new GridPane();
+    grid.setHgap(10);
+    grid.setVgap(10);
+    grid.setPadding(new Insets(20, 150, 10, 10));
+
+    ComboBox<DayOfWeek> dayCombo = new ComboBox<>(FXCollections.observableArrayList(DayOfWeek.values()));
+    dayCombo.setValue(DayOfWeek.SATURDAY);
+    Spinner<Integer> startHourSpinner = new Spinner<>(0, 23, 8);
+    Spinner<Integer> startMinSpinner = new Spinner<>(0, 59, 0, 15);
+    Spinner<Integer> endHourSpinner = new Spinner<>(0, 23, 17);
+    Spinner<Integer> endMinSpinner = new Spinner<>(0, 59, 0, 15);
+
+    grid.add(new Label("Day:"), 0, 0);
+    grid.add(dayCombo, 1, 0);
+    grid.add(new Label("Start:"), 0, 1);
+    grid.add(new HBox(5, startHourSpinner, new Label(":"), startMinSpinner), 1, 1);
+    grid.add(new Label("End:"), 0, 2);
+    grid.add(new HBox(5, endHourSpinner, new Label(":"), endMinSpinner), 1, 2);
+
+    dialog.getDialogPane().setContent(grid);
+    dialog.getDialogPane().getScene().getWindow().setOnShown(e ->
+      DialogUtil.makeResizable(dialog, "referee.add.availability", 500, 300));
+
+    dialog.setResultConverter(dialogButton -> {
+      if (dialogButton == saveButtonType) {
+        try {
+          return refereeService.saveAvailability(new RefereeAvailability(referee, dayCombo.getValue(),
+            LocalTime.of(startHourSpinner.getValue(), startMinSpinner.getValue()),
+            LocalTime.of(endHourSpinner.getValue(), endMinSpinner.getValue())));
+        } catch (Exception ex) {
+          showError("Error", "Failed to save availability: " + ex.getMessage());
+          return null;
+        }
+      }
+      return null;
+    });
+
+    dialog.showAndWait().ifPresent(saved -> windows.setItems(FXCollections.observableArrayList(sorted(referee))));
+  }
+
+  /**
+   * Add a referee, or edit {@code referee} when it is not null
+   */
+  private void showEditDialog(Referee referee) {
+    boolean adding = referee == null;
+    Dialog<Referee> dialog = new Dialog<>();
+    dialog.setTitle(adding ? "Add Referee" : "Edit Referee");
+    dialog.setHeaderText(adding ? "Create a new referee" : "Edit referee information");
+
+    ButtonType saveButtonType = new ButtonType("Save", ButtonBar.ButtonData.OK_DONE);
+    dialog.getDialogPane().getButtonTypes().addAll(saveButtonType, ButtonType.CANCEL);
+
+    GridPane grid = new GridPane();
+    grid.setHgap(10);
+    grid.setVgap(10);
+    grid.setPadding(new Insets(20, 150, 10, 10));
+
+    TextField nameField = new TextField(adding ? "" : referee.getName());
+    TextField emailField = new TextField(adding ? "" : referee.getEmail());
+    ComboBox<Referee.Certification> certificationCombo =
+      new ComboBox<>(FXCollections.observableArrayList(Referee.Certification.values()));
+    certificationCombo.setConverter(certificationConverter());
+    certificationCombo.setValue(adding ? Referee.Certification.GRASSROOTS : referee.getCertification());
+    CheckBox activeBox = new CheckBox("Active");
+    activeBox.setSelected(adding || referee.isActive());
+    activeBox.setTooltip(new Tooltip("Inactive referees keep their past games but are not given new ones"));
+
+    grid.add(new Label("Name:"), 0, 0);
+    grid.add(nameField, 1, 0);
+    grid.add(new Label("Email:"), 0, 1);
+    grid.add(emailField, 1, 1);
+    grid.add(new Label("Certification:"), 0, 2);
+    grid.add(certificationCombo, 1, 2);
+    grid.add(activeBox, 1, 3);
+
+    dialog.getDialogPane().setContent(grid);
+    dialog.getDialogPane().getScene().getWindow().setOnShown(e ->
+      DialogUtil.makeResizable(dialog, adding ? "referee.add" : "referee.edit", 500, 320));
+
+    dialog.setResultConverter(dialogButton -> {
+      if (dialogButton == saveButtonType) {
+        Referee target = adding ? new Referee() : referee;
+        target.setName(nameField.getText() == null ? null : nameField.getText().trim());
+        target.setEmail(emailField.getText() == null || emailField.getText().isBlank() ? null : emailField.getText().trim());
+        target.setCertification(certificationCombo.getValue());
+        target.setActive(activeBox.isSelected());
+        try {
+          return refereeService.save(target);
+        } catch (Exception ex) {
+          showError("Error", "Failed to save referee: " + ex.getMessage());
+          return null;
+        }
+      }
+      return null;
+    });
+
+    dialog.showAndWait().ifPresent(saved -> {
+      loadData();
+      data.stream().filter(r -> r.getId().equals(saved.getId())).findFirst()
+        .ifPresent(r -> table.getSelectionModel().select(r));
+    });
+  }
+
+  private void deleteReferee(Referee referee) {
+    Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+    alert.setTitle("Delete Referee");
+    alert.setHeaderText("Are you sure?");
+    alert.setContentText("Do you want to delete the referee: " + referee.getName()
+      + "?\n\nTheir games are left without a referee. To keep their past games, mark them inactive instead.");
+
+    alert.showAndWait().ifPresent(response -> {
+      if (response == ButtonType.OK) {
+        refereeService.delete(referee.getId());
+        loadData();
+      }
+    });
+  }
+
+  private void showError(String title, String msg) {
+    Alert a = new Alert(Alert.AlertType.ERROR);
+    a.setTitle(title);
+    a.setHeaderText(null);
+    a.setContentText(msg);
+    a.showAndWait();
+  }
+}
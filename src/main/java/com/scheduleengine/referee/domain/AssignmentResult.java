@@ -0,0 +1,14 @@
+package com.scheduleengine.referee.domain;
+
+import java.util.List;
+
+/**
+ * The outcome of staffing games
+ *
+ * @param games            games in the range that need a referee
+ * @param assigned         assignments made by this run
+ * @param kept             games that already had a referee and kept them
+ * @param unstaffedGameIds games no available, qualified referee could take
+ */
+public record AssignmentResult(int games, int assigned, int kept, List<Long> unstaffedGameIds) {
+}
@@ -0,0 +1,88 @@
+package com.scheduleengine.referee.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+
+@Entity
+@Table(name = "referees")
+public class Referee {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @NotBlank
+  @Column(nullable = false)
+  private String name;
+
+  private String email;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "certification", nullable = false)
+  private Certification certification = Certification.GRASSROOTS;
+
+  /** Inactive referees keep their past assignments but are not given new ones */
+  @Column(nullable = false)
+  private boolean active = true;
+
+  public Referee() {
+  }
+
+  public Referee(String name, Certification certification) {
+    this.name = name;
+    this.certification = certification;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public void setEmail(String email) {
+    this.email = email;
+  }
+
+  public Certification getCertification() {
+    return certification;
+  }
+
+  public void setCertification(Certification certification) {
+    this.certification = certification;
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public void setActive(boolean active) {
+    this.active = active;
+  }
+
+  /**
+   * Certification levels, lowest first; a referee may work games needing their level or below
+   */
+  public enum Certification {
+    GRASSROOTS, REGIONAL, NATIONAL;
+
+    /**
+     * Whether this level may work a game needing {@code required}; null means any level
+     */
+    public boolean covers(Certification required) {
+      return required == null || compareTo(required) >= 0;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.scheduleengine.referee.domain;
+
+import com.scheduleengine.game.domain.Game;
+import jakarta.persistence.*;
+
+/**
+ * The referee staffing a game; a game has at most one
+ */
+@Entity
+@Table(name = "referee_assignments")
+public class RefereeAssignment {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @OneToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "game_id", unique = true)
+  private Game game;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "referee_id")
+  private Referee referee;
+
+  public RefereeAssignment() {
+  }
+
+  public RefereeAssignment(Game game, Referee referee) {
+    this.game = game;
+    this.referee = referee;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Game getGame() {
+    return game;
+  }
+
+  public void setGame(Game game) {
+    this.game = game;
+  }
+
+  public Referee getReferee() {
+    return referee;
+  }
+
+  public void setReferee(Referee referee) {
+    this.referee = referee;
+  }
+}
@@ -0,0 +1,77 @@
+package com.scheduleengine.referee.domain;
+
+import jakarta.persistence.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * A weekly window in which a referee can work; a referee without windows is never assigned
+ */
+@Entity
+@Table(name = "referee_availability")
+public class RefereeAvailability {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  @ManyToOne(optional = false)
+  @JoinColumn(name = "referee_id")
+  private Referee referee;
+  @Enumerated(EnumType.STRING)
+  @Column(name = "day_of_week", nullable = false)
+  private DayOfWeek dayOfWeek;
+  @Column(name = "start_time", nullable = false)
+  private LocalTime startTime;
+  @Column(name = "end_time", nullable = false)
+  private LocalTime endTime;
+
+  public RefereeAvailability() {
+  }
+
+  public RefereeAvailability(Referee referee, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+    this.referee = referee;
+    this.dayOfWeek = dayOfWeek;
+    this.startTime = startTime;
+    this.endTime = endTime;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Referee getReferee() {
+    return referee;
+  }
+
+  public void setReferee(Referee referee) {
+    this.referee = referee;
+  }
+
+  public DayOfWeek getDayOfWeek() {
+    return dayOfWeek;
+  }
+
+  public void setDayOfWeek(DayOfWeek dayOfWeek) {
+    this.dayOfWeek = dayOfWeek;
+  }
+
+  public LocalTime getStartTime() {
+    return startTime;
+  }
+
+  public void setStartTime(LocalTime startTime) {
+    this.startTime = startTime;
+  }
+
+  public LocalTime getEndTime() {
+    return endTime;
+  }
+
+  public void setEndTime(LocalTime endTime) {
+    this.endTime = endTime;
+  }
+}
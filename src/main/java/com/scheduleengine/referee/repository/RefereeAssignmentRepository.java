@@ -0,0 +1,43 @@
+package com.scheduleengine.referee.repository;
+
+import com.scheduleengine.referee.domain.RefereeAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface RefereeAssignmentRepository extends JpaRepository<RefereeAssignment, Long> {
+  Optional<RefereeAssignment> findByGameId(Long gameId);
+
+  /**
+   * Assignments of games starting in {@code [from, to)}: referee id, game id, field id and start
+   */
+  @Query("""
+    select a.referee.id, g.id, g.field.id, g.gameDate from RefereeAssignment a join a.game g
+    where g.gameDate >= :from and g.gameDate < :to""")
+  List<Object[]> findBookings(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  @Query("""
+    select a.game.id from RefereeAssignment a
+    where a.referee.id = :refereeId and a.game.gameDate >= :from and a.game.gameDate < :to""")
+  List<Long> findGameIdsByReferee(@Param("refereeId") Long refereeId, @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+
+  @Modifying
+  @Query("""
+    delete from RefereeAssignment a
+    where a.game.id in (select g.id from Game g where g.gameDate >= :from and g.gameDate < :to)""")
+  int deleteByGameDateBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  @Modifying
+  @Query("delete from RefereeAssignment a where a.game.id in :gameIds")
+  int deleteByGameIdIn(@Param("gameIds") List<Long> gameIds);
+
+  @Modifying
+  @Query("delete from RefereeAssignment a where a.referee.id = :refereeId")
+  int deleteByRefereeId(@Param("refereeId") Long refereeId);
+}
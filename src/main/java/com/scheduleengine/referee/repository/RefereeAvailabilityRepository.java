@@ -0,0 +1,20 @@
+package com.scheduleengine.referee.repository;
+
+import com.scheduleengine.referee.domain.RefereeAvailability;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface RefereeAvailabilityRepository extends JpaRepository<RefereeAvailability, Long> {
+  List<RefereeAvailability> findByRefereeId(Long refereeId);
+
+  @Query("select a from RefereeAvailability a where a.referee.active = true")
+  List<RefereeAvailability> findAllActive();
+
+  @Modifying
+  @Query("delete from RefereeAvailability a where a.referee.id = :refereeId")
+  int deleteByRefereeId(@Param("refereeId") Long refereeId);
+}
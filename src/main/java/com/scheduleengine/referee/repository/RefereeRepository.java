@@ -0,0 +1,10 @@
+package com.scheduleengine.referee.repository;
+
+import com.scheduleengine.referee.domain.Referee;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface RefereeRepository extends JpaRepository<Referee, Long> {
+  List<Referee> findByActiveTrue();
+}
@@ -0,0 +1,161 @@
+package com.scheduleengine.referee.service;
+
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.domain.BlackoutCalendar;
+import com.scheduleengine.field.domain.FieldDistanceMatrix;
+import com.scheduleengine.referee.domain.Referee;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Matches games to referees in memory. Games are taken in start order and each goes to the
+ * least-loaded referee who is qualified, inside one of their weekly windows, not blacked out that
+ * day and free for the game with a travel gap either side when the neighbouring game is on another
+ * field: the configured gap, or the travel time between the two fields from the
+ * {@link FieldDistanceMatrix} when that is longer. Ties go to the lowest sufficient
+ * certification, keeping senior referees for the games only they can take.
+ * <p>
+ * Each referee's bookings are kept in start order, so a free check is two neighbour lookups and a
+ * game costs a pass over the referees; a weekend of 800 games is solved in milliseconds. Existing
+ * bookings are added before solving and are never moved, which makes re-solving the games of a
+ * referee who dropped out a run over just those games.
+ */
+final class RefereeAssignmentEngine {
+
+  /**
+   * A game to staff or already staffed
+   *
+   * @param fieldId  null when the game has no field yet
+   * @param required null when any referee will do
+   */
+  record Slot(Long gameId, Long fieldId, LocalDateTime start, LocalDateTime end, Referee.Certification required) {
+  }
+
+  /**
+   * A weekly window, in minutes from midnight
+   */
+  record Window(DayOfWeek day, int startMinute, int endMinute) {
+    static Window of(DayOfWeek day, LocalTime start, LocalTime end) {
+      return new Window(day, start.toSecondOfDay() / 60, end.toSecondOfDay() / 60);
+    }
+  }
+
+  private static final class Official {
+    final Long id;
+    final Referee.Certification certification;
+    final List<Window> windows;
+    final TreeMap<LocalDateTime, Slot> bookings = new TreeMap<>();
+    int load;
+
+    Official(Long id, Referee.Certification certification, List<Window> windows) {
+      this.id = id;
+      this.certification = certification;
+      this.windows = windows;
+    }
+  }
+
+  private final List<Official> officials = new ArrayList<>();
+  private final Map<Long, Official> byId = new HashMap<>();
+  private final BlackoutCalendar blackouts;
+  private final FieldDistanceMatrix distances;
+  private final Duration travelGap;
+
+  RefereeAssignmentEngine(BlackoutCalendar blackouts, FieldDistanceMatrix distances, Duration travelGap) {
+    this.blackouts = blackouts;
+    this.distances = distances;
+    this.travelGap = travelGap;
+  }
+
+  void addReferee(Long refereeId, Referee.Certification certification, List<Window> windows) {
+    Official official = new Official(refereeId, certification, List.copyOf(windows));
+    officials.add(official);
+    byId.put(refereeId, official);
+  }
+
+  /**
+   * Record an existing assignment; it blocks the referee's time and, when {@code counted}, adds to
+   * their load. Referees not added as candidates are ignored.
+   */
+  void book(Long refereeId, Slot slot, boolean counted) {
+    Official official = byId.get(refereeId);
+    if (official == null) return;
+    official.bookings.put(slot.start(), slot);
+    if (counted) official.load++;
+  }
+
+  /**
+   * Assign referees to the games, in start order
+   *
+   * @return referee id by game id, for the games that could be staffed
+   */
+  Map<Long, Long> solve(List<Slot> games) {
+    List<Slot> ordered = new ArrayList<>(games);
+    ordered.sort(Comparator.comparing(Slot::start).thenComparing(Slot::gameId));
+    Map<Long, Long> assigned = new LinkedHashMap<>();
+    for (Slot game : ordered) {
+      Official best = null;
+      for (Official official : officials) {
+        if (!canTake(official, game)) continue;
+        if (best == null || official.load < best.load
+          || (official.load == best.load && official.certification.compareTo(best.certification) < 0)) {
+          best = official;
+        }
+      }
+      if (best == null) continue;
+      best.bookings.put(game.start(), game);
+      best.load++;
+      assigned.put(game.gameId(), best.id);
+    }
+    return assigned;
+  }
+
+  /**
+   * The referee's assignment count, including counted existing bookings
+   */
+  int load(Long refereeId) {
+    Official official = byId.get(refereeId);
+    return official == null ? 0 : official.load;
+  }
+
+  private boolean canTake(Official official, Slot game) {
+    if (!official.certification.covers(game.required())) return false;
+    if (!withinWindow(official, game)) return false;
+    if (blackouts.isBlackedOut(Blackout.Scope.REFEREE, official.id, game.start().toLocalDate())) return false;
+    Map.Entry<LocalDateTime, Slot> before = official.bookings.floorEntry(game.start());
+    if (before != null && before.getValue().end().plus(gap(before.getValue(), game)).isAfter(game.start())) return false;
+    Map.Entry<LocalDateTime, Slot> after = official.bookings.higherEntry(game.start());
+    return after == null || !game.end().plus(gap(game, after.getValue())).isAfter(after.getKey());
+  }
+
+  /**
+   * Whether the whole game falls in one window on its start day; games past midnight never do
+   */
+  private static boolean withinWindow(Official official, Slot game) {
+    DayOfWeek day = game.start().getDayOfWeek();
+    int start = game.start().toLocalTime().toSecondOfDay() / 60;
+    int end = start + (int) Duration.between(game.start(), game.end()).toMinutes();
+    for (Window window : official.windows) {
+      if (window.day() == day && window.startMinute() <= start && end <= window.endMinute()) return true;
+    }
+    return false;
+  }
+
+  private Duration gap(Slot first, Slot second) {
+    if (first.fieldId() == null || second.fieldId() == null || Objects.equals(first.fieldId(), second.fieldId())) {
+      return Duration.ZERO;
+    }
+    int minutes = distances.minutes(first.fieldId(), second.fieldId());
+    return minutes > travelGap.toMinutes() ? Duration.ofMinutes(minutes) : travelGap;
+  }
+}
@@ -0,0 +1,191 @@
+package com.scheduleengine.referee.service;
+
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.service.BlackoutService;
+import com.scheduleengine.diagnostics.MetricsConfig;
+import com.scheduleengine.field.service.FieldDistanceService;
+import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.service.FreeSlotService;
+import com.scheduleengine.referee.domain.AssignmentResult;
+import com.scheduleengine.referee.domain.Referee;
+import com.scheduleengine.referee.domain.RefereeAssignment;
+import com.scheduleengine.referee.domain.RefereeAvailability;
+import com.scheduleengine.referee.repository.RefereeAssignmentRepository;
+import com.scheduleengine.referee.repository.RefereeAvailabilityRepository;
+import com.scheduleengine.referee.repository.RefereeRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Staffs games with referees through {@link RefereeAssignmentEngine}. Games, referees and the
+ * bookings around the range are read with a few projection queries and matched in memory; only the
+ * new assignments are written.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class RefereeAssignmentService {
+  private static final Logger log = LoggerFactory.getLogger(RefereeAssignmentService.class);
+
+  /** Games that do not need a referee */
+  private static final Set<Game.GameStatus> RELEASED = EnumSet.of(Game.GameStatus.CANCELLED, Game.GameStatus.POSTPONED);
+
+  private final EntityManager entityManager;
+  private final RefereeRepository refereeRepo;
+  private final RefereeAvailabilityRepository availabilityRepo;
+  private final RefereeAssignmentRepository assignmentRepo;
+  private final BlackoutService blackoutService;
+  private final FieldDistanceService distanceService;
+  private final Duration travelGap;
+
+  public RefereeAssignmentService(EntityManager entityManager, RefereeRepository refereeRepo,
+                                  RefereeAvailabilityRepository availabilityRepo,
+                                  RefereeAssignmentRepository assignmentRepo, BlackoutService blackoutService,
+                                  FieldDistanceService distanceService,
+                                  @Value("${referees.travel-gap:30m}") Duration travelGap) {
+    this.entityManager = entityManager;
+    this.refereeRepo = refereeRepo;
+    this.availabilityRepo = availabilityRepo;
+    this.assignmentRepo = assignmentRepo;
+    this.blackoutService = blackoutService;
+    this.distanceService = distanceService;
+    this.travelGap = travelGap;
+  }
+
+  /**
+   * Staff every game on the days from {@code from} up to but not including {@code to}
+   *
+   * @param replaceExisting whether to clear the range's assignments and solve from scratch; when
+   *                        false, games that have a referee keep them and only the rest are staffed
+   */
+  @Transactional
+  public AssignmentResult assign(LocalDate from, LocalDate to, boolean replaceExisting) {
+    if (replaceExisting) {
+      assignmentRepo.deleteByGameDateBetween(from.atStartOfDay(), to.atStartOfDay());
+    }
+    return solve(from, to, null, null);
+  }
+
+  /**
+   * Take a referee off the days from {@code from} up to but not including {@code to}: they are
+   * blacked out for those days and only the games they had there are re-staffed, every other
+   * assignment staying as it is
+   */
+  @Transactional
+  public AssignmentResult dropOut(Long refereeId, LocalDate from, LocalDate to, String reason) {
+    if (!to.isAfter(from)) throw new IllegalArgumentException("The range ends before it starts");
+    blackoutService.save(new Blackout(Blackout.Scope.REFEREE, refereeId, from, to.minusDays(1), reason));
+    List<Long> gameIds = assignmentRepo.findGameIdsByReferee(refereeId, from.atStartOfDay(), to.atStartOfDay());
+    if (gameIds.isEmpty()) return new AssignmentResult(0, 0, 0, List.of());
+    assignmentRepo.deleteByGameIdIn(gameIds);
+    // The blackout calendar is recompiled after commit, so leave the referee out explicitly
+    return solve(from, to, new HashSet<>(gameIds), refereeId);
+  }
+
+  /**
+   * Referee ids by game id for the given games, e.g. to show who is staffing a schedule
+   */
+  public Map<Long, Long> refereesFor(Collection<Long> gameIds) {
+    Map<Long, Long> referees = new HashMap<>();
+    if (gameIds.isEmpty()) return referees;
+    entityManager.createQuery("select a.game.id, a.referee.id from RefereeAssignment a where a.game.id in :ids",
+        Object[].class)
+      .setParameter("ids", gameIds)
+      .getResultList()
+      .forEach(r -> referees.put((Long) r[0], (Long) r[1]));
+    return referees;
+  }
+
+  /**
+   * @param only     the games to staff, or null for every unstaffed game in the range
+   * @param excluded a referee to leave out, or null
+   */
+  private AssignmentResult solve(LocalDate from, LocalDate to, Set<Long> only, Long excluded) {
+    long started = System.nanoTime();
+    LocalDateTime start = from.atStartOfDay();
+    LocalDateTime end = to.atStartOfDay();
+    RefereeAssignmentEngine engine = new RefereeAssignmentEngine(blackoutService.calendar(),
+      distanceService.matrix(), travelGap);
+
+    Map<Long, List<RefereeAssignmentEngine.Window>> windows = new HashMap<>();
+    for (RefereeAvailability a : availabilityRepo.findAllActive()) {
+      windows.computeIfAbsent(a.getReferee().getId(), id -> new ArrayList<>())
+        .add(RefereeAssignmentEngine.Window.of(a.getDayOfWeek(), a.getStartTime(), a.getEndTime()));
+    }
+    for (Referee referee : refereeRepo.findByActiveTrue()) {
+      if (referee.getId().equals(excluded)) continue;
+      engine.addReferee(referee.getId(), referee.getCertification(), windows.getOrDefault(referee.getId(), List.of()));
+    }
+
+    // Bookings a day either side block time near the edges without adding to the range's load
+    Set<Long> staffed = new HashSet<>();
+    for (Object[] r : assignmentRepo.findBookings(start.minusDays(1), end.plusDays(1))) {
+      LocalDateTime gameDate = (LocalDateTime) r[3];
+      engine.book((Long) r[0], slot((Long) r[1], (Long) r[2], gameDate, null),
+        !gameDate.isBefore(start) && gameDate.isBefore(end));
+      staffed.add((Long) r[1]);
+    }
+
+    List<RefereeAssignmentEngine.Slot> open = new ArrayList<>();
+    int games = 0;
+    for (RefereeAssignmentEngine.Slot game : games(start, end)) {
+      games++;
+      if (only == null ? !staffed.contains(game.gameId()) : only.contains(game.gameId())) open.add(game);
+    }
+
+    Map<Long, Long> assigned = engine.solve(open);
+    save(assigned);
+    List<Long> unstaffed = open.stream().map(RefereeAssignmentEngine.Slot::gameId)
+      .filter(id -> !assigned.containsKey(id)).toList();
+    AssignmentResult result = new AssignmentResult(games, assigned.size(), games - open.size(), unstaffed);
+    log.info("Staffed {} of {} games from {} to {} ({} kept, {} unstaffed) in {} ms", assigned.size(), open.size(),
+      from, to, result.kept(), unstaffed.size(), (System.nanoTime() - started) / 1_000_000);
+    return result;
+  }
+
+  /**
+   * The range's games that need a referee, with the certification their league asks for; a
+   * season's league takes precedence over the home team's
+   */
+  private List<RefereeAssignmentEngine.Slot> games(LocalDateTime start, LocalDateTime end) {
+    return entityManager.createQuery("""
+        select g.id, g.field.id, g.gameDate, coalesce(sl.refereeCertification, hl.refereeCertification)
+        from Game g left join g.season s left join s.league sl left join g.homeTeam h left join h.league hl
+        where g.gameDate >= :from and g.gameDate < :to and (g.status is null or g.status not in :released)""",
+        Object[].class)
+      .setParameter("from", start)
+      .setParameter("to", end)
+      .setParameter("released", RELEASED)
+      .getResultList().stream()
+      .map(r -> slot((Long) r[0], (Long) r[1], (LocalDateTime) r[2], (Referee.Certification) r[3]))
+      .toList();
+  }
+
+  private void save(Map<Long, Long> assigned) {
+    for (Map.Entry<Long, Long> e : assigned.entrySet()) {
+      entityManager.persist(new RefereeAssignment(entityManager.getReference(Game.class, e.getKey()),
+        entityManager.getReference(Referee.class, e.getValue())));
+    }
+  }
+
+  private static RefereeAssignmentEngine.Slot slot(Long gameId, Long fieldId, LocalDateTime start,
+                                                   Referee.Certification required) {
+    return new RefereeAssignmentEngine.Slot(gameId, fieldId, start, start.plus(FreeSlotService.GAME_LENGTH), required);
+  }
+}
@@ -0,0 +1,84 @@
+package com.scheduleengine.referee.service;
+
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.service.BlackoutService;
+import com.scheduleengine.diagnostics.MetricsConfig;
+import com.scheduleengine.referee.domain.Referee;
+import com.scheduleengine.referee.domain.RefereeAvailability;
+import com.scheduleengine.referee.repository.RefereeAssignmentRepository;
+import com.scheduleengine.referee.repository.RefereeAvailabilityRepository;
+import com.scheduleengine.referee.repository.RefereeRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class RefereeService {
+  private final RefereeRepository repo;
+  private final RefereeAvailabilityRepository availabilityRepo;
+  private final RefereeAssignmentRepository assignmentRepo;
+  private final BlackoutService blackoutService;
+
+  public RefereeService(RefereeRepository repo, RefereeAvailabilityRepository availabilityRepo,
+                        RefereeAssignmentRepository assignmentRepo, BlackoutService blackoutService) {
+    this.repo = repo;
+    this.availabilityRepo = availabilityRepo;
+    this.assignmentRepo = assignmentRepo;
+    this.blackoutService = blackoutService;
+  }
+
+  public List<Referee> findAll() {
+    return repo.findAll();
+  }
+
+  public Optional<Referee> findById(Long id) {
+    return repo.findById(id);
+  }
+
+  @Transactional
+  public Referee save(Referee referee) {
+    if (referee.getName() == null || referee.getName().isBlank()) {
+      throw new IllegalArgumentException("name required");
+    }
+    if (referee.getCertification() == null) {
+      throw new IllegalArgumentException("certification required");
+    }
+    return repo.save(referee);
+  }
+
+  /**
+   * Delete a referee with their availability, assignments and blackouts; their games become unstaffed
+   */
+  @Transactional
+  public void delete(Long id) {
+    availabilityRepo.deleteByRefereeId(id);
+    assignmentRepo.deleteByRefereeId(id);
+    blackoutService.findFor(Blackout.Scope.REFEREE, id).forEach(b -> blackoutService.delete(b.getId()));
+    repo.deleteById(id);
+  }
+
+  public List<RefereeAvailability> findAvailability(Long refereeId) {
+    return availabilityRepo.findByRefereeId(refereeId);
+  }
+
+  @Transactional
+  public RefereeAvailability saveAvailability(RefereeAvailability availability) {
+    if (availability.getReferee() == null || availability.getDayOfWeek() == null
+      || availability.getStartTime() == null || availability.getEndTime() == null) {
+      throw new IllegalArgumentException("referee, day, start and end time required");
+    }
+    if (!availability.getEndTime().isAfter(availability.getStartTime())) {
+      throw new IllegalArgumentException("The window ends before it starts");
+    }
+    return availabilityRepo.save(availability);
+  }
+
+  @Transactional
+  public void deleteAvailability(Long id) {
+    availabilityRepo.deleteById(id);
+  }
+}
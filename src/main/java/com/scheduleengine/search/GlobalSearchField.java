@@ -0,0 +1,107 @@
+package com.scheduleengine.search;
+
+import com.scheduleengine.search.domain.SearchDocument;
+import com.scheduleengine.search.service.SearchService;
+import javafx.concurrent.Task;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.CustomMenuItem;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.VBox;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Search box for the sidebar. Results from the in-memory index are listed under the field as the
+ * user types; choosing one (or pressing Enter for the first) opens it. Searches run off the FX
+ * thread, since one can wait while the index is being written; only the latest one's results are
+ * shown.
+ */
+public class GlobalSearchField extends TextField {
+  static final int MAX_RESULTS = 12;
+
+  private final SearchService searchService;
+  private final Consumer<SearchDocument> onOpen;
+  private final ContextMenu resultsMenu = new ContextMenu();
+  private final AtomicInteger searches = new AtomicInteger();
+  private List<SearchDocument> results = List.of();
+
+  public GlobalSearchField(SearchService searchService, Consumer<SearchDocument> onOpen) {
+    this.searchService = searchService;
+    this.onOpen = onOpen;
+
+    setPromptText("Search everything...");
+    setStyle("-fx-background-color: #34495e; -fx-text-fill: #ecf0f1; -fx-prompt-text-fill: #95a5a6; -fx-background-radius: 4;");
+    textProperty().addListener((obs, old, text) -> search(text));
+    setOnKeyPressed(e -> {
+      if (e.getCode() == KeyCode.ENTER && !results.isEmpty()) {
+        open(results.get(0));
+      } else if (e.getCode() == KeyCode.ESCAPE) {
+        clear();
+      }
+    });
+    focusedProperty().addListener((obs, old, focused) -> {
+      if (!focused) resultsMenu.hide();
+    });
+  }
+
+  public List<SearchDocument> getResults() {
+    return results;
+  }
+
+  private void search(String text) {
+    int search = searches.incrementAndGet();
+    if (text == null || text.isBlank()) {
+      showResults(List.of());
+      return;
+    }
+    Task<List<SearchDocument>> task = new Task<>() {
+      @Override
+      protected List<SearchDocument> call() {
+        return searchService.search(text, MAX_RESULTS);
+      }
+    };
+    task.setOnSucceeded(e -> {
+      if (search == searches.get()) showResults(task.getValue());
+    });
+    Thread worker = new Thread(task, "global-search");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  private void showResults(List<SearchDocument> found) {
+    results = found;
+    if (results.isEmpty()) {
+      resultsMenu.hide();
+      return;
+    }
+    resultsMenu.getItems().setAll(results.stream().map(this::resultItem).toList());
+    if (!resultsMenu.isShowing() && getScene() != null) {
+      resultsMenu.show(this, Side.BOTTOM, 0, 0);
+    }
+  }
+
+  private CustomMenuItem resultItem(SearchDocument document) {
+    Label title = new Label(document.type().getLabel() + ": " + document.title());
+    title.setStyle("-fx-font-weight: bold;");
+    VBox content = new VBox(2, title);
+    if (document.detail() != null) {
+      Label detail = new Label(document.detail());
+      detail.setStyle("-fx-text-fill: #7f8c8d; -fx-font-size: 11px;");
+      content.getChildren().add(detail);
+    }
+    CustomMenuItem item = new CustomMenuItem(content, true);
+    item.setOnAction(e -> open(document));
+    return item;
+  }
+
+  private void open(SearchDocument document) {
+    resultsMenu.hide();
+    clear();
+    onOpen.accept(document);
+  }
+}
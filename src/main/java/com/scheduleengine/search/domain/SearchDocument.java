@@ -0,0 +1,51 @@
+package com.scheduleengine.search.domain;
+
+/**
+ * One searchable entity in the global search index
+ *
+ * @param title  main text, shown first in results and ranked above the detail
+ * @param detail secondary searchable text such as coach, location or contact; may be null
+ */
+public record SearchDocument(Type type, Long id, String title, String detail) {
+
+  public enum Type {
+    PLAYER("Player"),
+    TEAM("Team"),
+    FIELD("Field"),
+    LEAGUE("League"),
+    SEASON("Season"),
+    TOURNAMENT("Tournament"),
+    TRANSACTION("Transaction");
+
+    private final String label;
+
+    Type(String label) {
+      this.label = label;
+    }
+
+    public String getLabel() {
+      return label;
+    }
+  }
+
+  /**
+   * Build a document from the searchable fields; null and blank parts are skipped
+   */
+  public static SearchDocument of(Type type, Long id, String title, String... details) {
+    StringBuilder detail = new StringBuilder();
+    for (String part : details) {
+      if (part == null || part.isBlank()) continue;
+      if (!detail.isEmpty()) detail.append(" · ");
+      detail.append(part.trim());
+    }
+    return new SearchDocument(type, id, title == null ? null : title.trim(), detail.isEmpty() ? null : detail.toString());
+  }
+
+  /**
+   * Everything the index searches
+   */
+  public String text() {
+    if (title == null) return detail == null ? "" : detail;
+    return detail == null ? title : title + " " + detail;
+  }
+}
@@ -0,0 +1,93 @@
+package com.scheduleengine.search.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the search index in step with the database. Hibernate calls back after each transaction
+ * commits, so every save path (services, bulk billing, CSV import) is covered and rolled back
+ * changes never reach the index. The initial build runs on a background thread once the
+ * application is ready.
+ */
+@Component
+public class SearchIndexListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+  PostCommitDeleteEventListener {
+  private static final Logger log = LoggerFactory.getLogger(SearchIndexListener.class);
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final SearchService searchService;
+
+  public SearchIndexListener(EntityManagerFactory entityManagerFactory, SearchService searchService) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.searchService = searchService;
+  }
+
+  @PostConstruct
+  void register() {
+    EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+      .getServiceRegistry().getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+    registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void buildIndex() {
+    Thread builder = new Thread(() -> {
+      try {
+        searchService.rebuild();
+      } catch (RuntimeException e) {
+        log.warn("Building the search index failed", e);
+      }
+    }, "search-index");
+    builder.setDaemon(true);
+    builder.start();
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return SearchService.isSearched(persister.getMappedClass());
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    searchService.indexed(event.getEntity());
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    searchService.indexed(event.getEntity());
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    searchService.removed(event.getEntity());
+  }
+
+  @Override
+  public void onPostInsertCommitFailed(PostInsertEvent event) {
+  }
+
+  @Override
+  public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+  }
+
+  @Override
+  public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+  }
+}
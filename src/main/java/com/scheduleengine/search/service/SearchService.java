@@ -0,0 +1,159 @@
+package com.scheduleengine.search.service;
+
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.payment.domain.Transaction;
+import com.scheduleengine.player.domain.Player;
+import com.scheduleengine.search.domain.SearchDocument;
+import com.scheduleengine.season.domain.Season;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.tournament.domain.Tournament;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Global search over players, teams, fields, leagues, seasons, tournaments and transaction notes.
+ * The index lives in memory: it is built from the database at startup and then kept current by
+ * {@link SearchIndexListener} as entities are committed, so searches never touch the database.
+ */
+@Service
+public class SearchService {
+  private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+  static final int LOAD_CHUNK = 1_000;
+
+  private final EntityManager entityManager;
+  private volatile TrigramIndex index = new TrigramIndex();
+  // Changes committed while a rebuild is loading; replayed onto the new index before it is swapped in
+  private List<Consumer<TrigramIndex>> pendingChanges;
+
+  public SearchService(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  public List<SearchDocument> search(String query, int limit) {
+    return index.search(query, limit);
+  }
+
+  public int size() {
+    return index.size();
+  }
+
+  /**
+   * Map an entity to its search document, or empty if the type is not searched
+   */
+  public static Optional<SearchDocument> toDocument(Object entity) {
+    return Optional.ofNullable(switch (entity) {
+      case Player p -> SearchDocument.of(SearchDocument.Type.PLAYER, p.getId(), p.getFullName(), p.getPosition());
+      case Team t -> SearchDocument.of(SearchDocument.Type.TEAM, t.getId(), t.getName(),
+        t.getCoach(), t.getContactEmail(), t.getContactPhone());
+      case Field f -> SearchDocument.of(SearchDocument.Type.FIELD, f.getId(), f.getName(), f.getLocation(), f.getAddress());
+      case League l -> SearchDocument.of(SearchDocument.Type.LEAGUE, l.getId(), l.getName());
+      case Season s -> SearchDocument.of(SearchDocument.Type.SEASON, s.getId(), s.getName());
+      case Tournament t -> SearchDocument.of(SearchDocument.Type.TOURNAMENT, t.getId(), t.getName(), t.getLocation());
+      case Transaction t -> SearchDocument.of(SearchDocument.Type.TRANSACTION, t.getId(), t.getNotes());
+      default -> null;
+    });
+  }
+
+  public static boolean isSearched(Class<?> entityClass) {
+    return entityClass == Player.class || entityClass == Team.class || entityClass == Field.class
+      || entityClass == League.class || entityClass == Season.class || entityClass == Tournament.class
+      || entityClass == Transaction.class;
+  }
+
+  /**
+   * Index a committed insert or update
+   */
+  public void indexed(Object entity) {
+    toDocument(entity).ifPresent(document -> apply(target -> target.put(document)));
+  }
+
+  /**
+   * Drop a committed delete from the index
+   */
+  public void removed(Object entity) {
+    toDocument(entity).ifPresent(document -> apply(target -> target.remove(document.type(), document.id())));
+  }
+
+  /**
+   * Drop rows removed by a bulk delete, which Hibernate does not report to {@link SearchIndexListener}.
+   * Inside a transaction the removal waits for the commit.
+   */
+  public void removeAfterCommit(SearchDocument.Type type, Collection<Long> ids) {
+    if (ids.isEmpty()) return;
+    Runnable removal = () -> apply(target -> ids.forEach(id -> target.remove(type, id)));
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      removal.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        removal.run();
+      }
+    });
+  }
+
+  private synchronized void apply(Consumer<TrigramIndex> change) {
+    if (pendingChanges != null) pendingChanges.add(change);
+    change.accept(index);
+  }
+
+  /**
+   * Load every searchable row into a new index and swap it in. Rows are read as scalar projections
+   * a chunk at a time, so no entities are loaded. Searches keep using the old index meanwhile.
+   */
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    synchronized (this) {
+      pendingChanges = new ArrayList<>();
+    }
+    TrigramIndex fresh = new TrigramIndex();
+    boolean loaded = false;
+    try {
+      load(fresh, "select p.id, concat(p.firstName, ' ', p.lastName), p.position from Player p",
+        r -> SearchDocument.of(SearchDocument.Type.PLAYER, (Long) r[0], (String) r[1], (String) r[2]));
+      load(fresh, "select t.id, t.name, t.coach, t.contactEmail, t.contactPhone from Team t",
+        r -> SearchDocument.of(SearchDocument.Type.TEAM, (Long) r[0], (String) r[1], (String) r[2], (String) r[3], (String) r[4]));
+      load(fresh, "select f.id, f.name, f.location, f.address from Field f",
+        r -> SearchDocument.of(SearchDocument.Type.FIELD, (Long) r[0], (String) r[1], (String) r[2], (String) r[3]));
+      load(fresh, "select l.id, l.name from League l",
+        r -> SearchDocument.of(SearchDocument.Type.LEAGUE, (Long) r[0], (String) r[1]));
+      load(fresh, "select s.id, s.name from Season s",
+        r -> SearchDocument.of(SearchDocument.Type.SEASON, (Long) r[0], (String) r[1]));
+      load(fresh, "select t.id, t.name, t.location from Tournament t",
+        r -> SearchDocument.of(SearchDocument.Type.TOURNAMENT, (Long) r[0], (String) r[1], (String) r[2]));
+      load(fresh, "select t.id, t.notes from Transaction t where t.notes is not null",
+        r -> SearchDocument.of(SearchDocument.Type.TRANSACTION, (Long) r[0], (String) r[1]));
+      loaded = true;
+    } finally {
+      synchronized (this) {
+        List<Consumer<TrigramIndex>> changes = pendingChanges;
+        pendingChanges = null;
+        if (loaded) {
+          changes.forEach(change -> change.accept(fresh));
+          index = fresh;
+        }
+      }
+    }
+    log.info("Search index built with {} documents", fresh.size());
+  }
+
+  private void load(TrigramIndex target, String jpql, Function<Object[], SearchDocument> mapper) {
+    try (var rows = entityManager.createQuery(jpql, Object[].class).setHint("org.hibernate.fetchSize", LOAD_CHUNK).getResultStream()) {
+      rows.forEach(row -> target.put(mapper.apply(row)));
+    }
+  }
+}
@@ -0,0 +1,374 @@
+package com.scheduleengine.search.service;
+
+import com.scheduleengine.search.domain.SearchDocument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over {@link SearchDocument}s. Each word is padded like {@code "  word "}
+ * and split into three-character keys, each mapping to a sorted posting list of document slots.
+ * A query word of three or more characters matches anywhere inside a word; a shorter one matches
+ * the start of a word. Candidates come from intersecting the posting lists, smallest first, and
+ * every one is ranked against a heap of the best {@code limit} found so far. Postings also record
+ * whether the trigram starts the text, is in the title or only in the detail, which bounds a
+ * candidate's score, so most candidates are skipped without checking the text.
+ * <p>
+ * Replacing a document appends it to a new slot and retires the old one; posting lists are rebuilt
+ * once retired slots outnumber live ones. Safe for concurrent readers and writers.
+ */
+public class TrigramIndex {
+  private static final int MIN_COMPACT_SLOTS = 1_024;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, Postings> postings = new HashMap<>();
+  private final Map<Key, Integer> slots = new HashMap<>();
+  private final BitSet live = new BitSet();
+  private SearchDocument[] documents = new SearchDocument[MIN_COMPACT_SLOTS];
+  private String[] texts = new String[MIN_COMPACT_SLOTS];
+  private int[] titleEnds = new int[MIN_COMPACT_SLOTS];
+  private int used;
+
+  private record Key(SearchDocument.Type type, Long id) {
+  }
+
+  /**
+   * Add or replace a document. A document with no searchable text is removed instead.
+   */
+  public void put(SearchDocument document) {
+    String text = normalize(document.text());
+    lock.writeLock().lock();
+    try {
+      removeSlot(new Key(document.type(), document.id()));
+      if (text.isEmpty()) return;
+      int slot = used++;
+      ensureCapacity(used);
+      documents[slot] = document;
+      texts[slot] = text;
+      titleEnds[slot] = document.title() == null ? 0 : normalize(document.title()).length();
+      live.set(slot);
+      slots.put(new Key(document.type(), document.id()), slot);
+      addPostings(slot, text, titleEnds[slot]);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(SearchDocument.Type type, Long id) {
+    lock.writeLock().lock();
+    try {
+      removeSlot(new Key(type, id));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return slots.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Documents containing every word of the query, best first: title matches before detail matches,
+   * word starts before mid-word matches, then shorter titles
+   */
+  public List<SearchDocument> search(String query, int limit) {
+    String[] words = normalize(query).split(" ");
+    if (words.length == 0 || words[0].isEmpty() || limit <= 0) return List.of();
+
+    lock.readLock().lock();
+    try {
+      List<Term> terms = new ArrayList<>();
+      for (int w = 0; w < words.length; w++) {
+        long[] trigrams = queryTrigrams(words[w]);
+        for (int i = 0; i < trigrams.length; i++) {
+          Postings list = postings.get(trigrams[i]);
+          if (list == null) return List.of();
+          terms.add(new Term(list, w, i == 0));
+        }
+      }
+      terms.sort(Comparator.comparingInt(t -> t.postings().size));
+      // Short words are looked up by their word-start key, so the posting's place is their exact score
+      boolean exact = true;
+      for (String word : words) {
+        exact &= word.length() < 3;
+      }
+
+      Postings[] lists = new Postings[terms.size()];
+      int[] termWords = new int[lists.length];
+      boolean[] firsts = new boolean[lists.length];
+      for (int t = 0; t < lists.length; t++) {
+        lists[t] = terms.get(t).postings();
+        termWords[t] = terms.get(t).word();
+        firsts[t] = terms.get(t).first();
+      }
+
+      Comparator<Match> rank = Comparator.comparingInt(Match::score)
+        .thenComparingInt(m -> titleEnds[m.slot()])
+        .thenComparing(m -> texts[m.slot()]);
+      // Worst kept match on top, so it is the one a better candidate replaces
+      PriorityQueue<Match> best = new PriorityQueue<>(Math.min(limit, 64) + 1, rank.reversed());
+      int worstScore = Integer.MAX_VALUE;
+      int worstTitleEnd = Integer.MAX_VALUE;
+      // Candidates ascend, so each other list is searched forward from where the last lookup ended
+      int[] cursors = new int[lists.length];
+      int[] wordScores = new int[words.length];
+      candidates:
+      for (int i = 0; i < lists[0].size; i++) {
+        int slot = lists[0].slots[i];
+        if (!live.get(slot)) continue;
+        cursors[0] = i;
+        for (int t = 1; t < lists.length; t++) {
+          cursors[t] = lists[t].seek(slot, cursors[t]);
+          if (cursors[t] < 0) break candidates;
+          if (lists[t].slots[cursors[t]] != slot) continue candidates;
+        }
+
+        // Every trigram of a word occurs where the word does, and its first trigram starts there, so
+        // the places recorded in the postings bound the word's score from below. Candidates that
+        // cannot beat the kept matches are not scored.
+        Arrays.fill(wordScores, 0);
+        for (int t = 0; t < lists.length; t++) {
+          int place = lists[t].places[cursors[t]];
+          wordScores[termWords[t]] = Math.max(wordScores[termWords[t]], firsts[t] ? place >> 4 : place & 15);
+        }
+        int bound = combine(wordScores);
+        if (bound > worstScore || bound == worstScore && titleEnds[slot] > worstTitleEnd) continue;
+
+        int score = exact ? bound : score(slot, words);
+        if (score < 0) continue;
+        Match match = new Match(slot, score);
+        if (best.size() == limit && rank.compare(match, best.peek()) >= 0) continue;
+        best.add(match);
+        if (best.size() > limit) best.poll();
+        if (best.size() == limit) {
+          worstScore = best.peek().score();
+          worstTitleEnd = titleEnds[best.peek().slot()];
+        }
+      }
+
+      Match[] ranked = best.toArray(new Match[0]);
+      Arrays.sort(ranked, rank);
+      List<SearchDocument> results = new ArrayList<>(ranked.length);
+      for (Match match : ranked) {
+        results.add(documents[match.slot()]);
+      }
+      return results;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private record Term(Postings postings, int word, boolean first) {
+  }
+
+  private record Match(int slot, int score) {
+  }
+
+  /**
+   * Lower is better; -1 if a query word is not actually in the text
+   */
+  private int score(int slot, String[] words) {
+    String text = texts[slot];
+    int titleEnd = titleEnds[slot];
+    int[] wordScores = new int[words.length];
+    for (int w = 0; w < words.length; w++) {
+      int at = indexOfWord(text, words[w]);
+      if (at < 0) return -1;
+      wordScores[w] = place(at, titleEnd);
+      if (at > 0 && text.charAt(at - 1) != ' ') wordScores[w]++;
+    }
+    return combine(wordScores);
+  }
+
+  /**
+   * Score of a word found at a word start: 0 at the start of the text, 1 elsewhere in the title,
+   * 3 in the detail. A mid-word match scores one more.
+   */
+  private static int place(int at, int titleEnd) {
+    return at < titleEnd ? (at == 0 ? 0 : 1) : 3;
+  }
+
+  /**
+   * The best word decides, then the sum over all words
+   */
+  private static int combine(int[] wordScores) {
+    int best = Integer.MAX_VALUE;
+    int total = 0;
+    for (int wordScore : wordScores) {
+      best = Math.min(best, wordScore);
+      total += wordScore;
+    }
+    return best * 16 + Math.min(total, 15);
+  }
+
+  /**
+   * Position of the word in the text; short words only count at the start of a word
+   */
+  private static int indexOfWord(String text, String word) {
+    if (word.length() >= 3) {
+      // Prefer an occurrence at a word start so it ranks as such
+      int start = wordStart(text, word);
+      return start >= 0 ? start : text.indexOf(word);
+    }
+    return wordStart(text, word);
+  }
+
+  private static int wordStart(String text, String word) {
+    for (int at = text.indexOf(word); at >= 0; at = text.indexOf(word, at + 1)) {
+      if (at == 0 || text.charAt(at - 1) == ' ') return at;
+    }
+    return -1;
+  }
+
+  private void removeSlot(Key key) {
+    Integer slot = slots.remove(key);
+    if (slot == null) return;
+    live.clear(slot);
+    documents[slot] = null;
+    texts[slot] = null;
+    if (used >= MIN_COMPACT_SLOTS && used - slots.size() > slots.size()) {
+      compact();
+    }
+  }
+
+  /**
+   * Move live documents to the front and rebuild every posting list
+   */
+  private void compact() {
+    int next = 0;
+    for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+      documents[next] = documents[slot];
+      texts[next] = texts[slot];
+      titleEnds[next] = titleEnds[slot];
+      slots.put(new Key(documents[next].type(), documents[next].id()), next);
+      next++;
+    }
+    Arrays.fill(documents, next, used, null);
+    Arrays.fill(texts, next, used, null);
+    used = next;
+    live.clear();
+    live.set(0, used);
+    postings.clear();
+    for (int slot = 0; slot < used; slot++) {
+      addPostings(slot, texts[slot], titleEnds[slot]);
+    }
+  }
+
+  private void addPostings(int slot, String text, int titleEnd) {
+    // Per trigram, the best score of a word starting with it in the high bits and the best place it
+    // occurs in the low bits
+    Map<Long, Integer> trigrams = new HashMap<>();
+    int at = 0;
+    for (String word : text.split(" ")) {
+      int place = place(at, titleEnd);
+      String padded = "  " + word + " ";
+      for (int i = 0; i + 3 <= padded.length(); i++) {
+        int wordScore = i > 2 ? place + 1 : place;
+        trigrams.merge(trigram(padded, i), wordScore << 4 | place, (a, b) ->
+          Math.min(a >> 4, b >> 4) << 4 | Math.min(a & 15, b & 15));
+      }
+      at += word.length() + 1;
+    }
+    trigrams.forEach((trigram, place) ->
+      postings.computeIfAbsent(trigram, t -> new Postings()).add(slot, place));
+  }
+
+  private static long[] queryTrigrams(String word) {
+    if (word.length() < 3) {
+      // Word-start key: "  a" or " ab"
+      String padded = (word.length() == 1 ? "  " : " ") + word;
+      return new long[]{trigram(padded, 0)};
+    }
+    long[] trigrams = new long[word.length() - 2];
+    for (int i = 0; i < trigrams.length; i++) {
+      trigrams[i] = trigram(word, i);
+    }
+    return trigrams;
+  }
+
+  private static long trigram(String s, int at) {
+    return ((long) s.charAt(at) << 32) | ((long) s.charAt(at + 1) << 16) | s.charAt(at + 2);
+  }
+
+  /**
+   * Lower case letters and digits separated by single spaces
+   */
+  static String normalize(String text) {
+    if (text == null) return "";
+    StringBuilder out = new StringBuilder(text.length());
+    boolean space = true;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (Character.isLetterOrDigit(c)) {
+        out.append(Character.toLowerCase(c));
+        space = false;
+      } else if (!space) {
+        out.append(' ');
+        space = true;
+      }
+    }
+    int end = out.length();
+    if (end > 0 && out.charAt(end - 1) == ' ') out.setLength(end - 1);
+    return out.toString();
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= documents.length) return;
+    int grown = Math.max(capacity, documents.length * 2);
+    documents = Arrays.copyOf(documents, grown);
+    texts = Arrays.copyOf(texts, grown);
+    titleEnds = Arrays.copyOf(titleEnds, grown);
+  }
+
+  /**
+   * Growable sorted slot list with the trigram's best places in each document; slots are only ever
+   * appended in increasing order
+   */
+  private static final class Postings {
+    private int[] slots = new int[4];
+    private byte[] places = new byte[4];
+    private int size;
+
+    void add(int slot, int place) {
+      if (size == slots.length) {
+        slots = Arrays.copyOf(slots, size * 2);
+        places = Arrays.copyOf(places, size * 2);
+      }
+      slots[size] = slot;
+      places[size++] = (byte) place;
+    }
+
+    /**
+     * Index of the first slot at or after {@code from} that is not below the target, or -1 if
+     * there is none. Gallops forward, then binary searches the bracketed range.
+     */
+    int seek(int target, int from) {
+      if (from >= size) return -1;
+      if (slots[from] >= target) return from;
+      int below = from;
+      int step = 1;
+      int hi = from + 1;
+      while (hi < size && slots[hi] < target) {
+        below = hi;
+        step <<= 1;
+        hi = below + step;
+      }
+      int found = Arrays.binarySearch(slots, below + 1, Math.min(hi + 1, size), target);
+      int at = found >= 0 ? found : -found - 1;
+      return at < size ? at : -1;
+    }
+  }
+}
@@ -1,9 +1,13 @@
 package com.scheduleengine.season;
 
+import com.scheduleengine.blackout.BlackoutSection;
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.service.BlackoutService;
 import com.scheduleengine.common.DialogUtil;
 import com.scheduleengine.common.IconBadge;
 import com.scheduleengine.common.IconPicker;
 import com.scheduleengine.common.ScheduleGeneratorResultView;
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.common.service.ScheduleGeneratorService;
 import com.scheduleengine.game.service.GameService;
 import com.scheduleengine.league.domain.League;
@@ -11,6 +15,8 @@ import com.scheduleengine.league.service.LeagueService;
 import com.scheduleengine.navigation.DrillDownCard;
 import com.scheduleengine.navigation.NavigationContext;
 import com.scheduleengine.navigation.NavigationHandler;
+import com.scheduleengine.referee.RefereeAssignmentDialog;
+import com.scheduleengine.referee.service.RefereeAssignmentService;
 import com.scheduleengine.season.domain.Season;
 import com.scheduleengine.season.service.SeasonService;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
@@ -20,6 +26,7 @@ import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.util.StringConverter;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 /**
@@ -32,15 +39,23 @@ public class SeasonDetailView {
   private final NavigationHandler navigationHandler;
   private final ScheduleGeneratorService scheduleService;
   private final GameService gameService;
+  private final CascadeDeleteService cascadeDeleteService;
+  private final BlackoutService blackoutService;
+  private final RefereeAssignmentService refereeAssignmentService;
   private final ScheduleGeneratorResultView scheduleGeneratorResultView;
 
   public SeasonDetailView(SeasonService seasonService, LeagueService leagueService, NavigationHandler navigationHandler,
-                          ScheduleGeneratorService scheduleService, GameService gameService) {
+                          ScheduleGeneratorService scheduleService, GameService gameService,
+                          CascadeDeleteService cascadeDeleteService, BlackoutService blackoutService,
+                          RefereeAssignmentService refereeAssignmentService) {
     this.seasonService = seasonService;
     this.leagueService = leagueService;
     this.navigationHandler = navigationHandler;
     this.scheduleService = scheduleService;
     this.gameService = gameService;
+    this.cascadeDeleteService = cascadeDeleteService;
+    this.blackoutService = blackoutService;
+    this.refereeAssignmentService = refereeAssignmentService;
     this.scheduleGeneratorResultView = new ScheduleGeneratorResultView(scheduleService, gameService);
   }
 
@@ -123,6 +138,23 @@ public class SeasonDetailView {
     GridPane.setHgrow(teamsCard, Priority.ALWAYS);
     GridPane.setFillWidth(teamsCard, true);
 
+    // Schedule calendar card
+    DrillDownCard calendarCard = new DrillDownCard(
+      "Schedule Calendar",
+      "See games by week or month and drag them to reschedule",
+      FontAwesomeIcon.CALENDAR_ALT,
+      () -> {
+        NavigationContext newContext = currentContext.navigateTo(
+          "season-calendar",
+          "Calendar",
+          season
+        );
+        navigationHandler.navigate(newContext);
+      }
+    );
+    GridPane.setHgrow(calendarCard, Priority.ALWAYS);
+    GridPane.setFillWidth(calendarCard, true);
+
     // Edit season card
     DrillDownCard editCard = new DrillDownCard(
       "Edit Season",
@@ -161,6 +193,18 @@ public class SeasonDetailView {
     GridPane.setHgrow(generateCard, Priority.ALWAYS);
     GridPane.setFillWidth(generateCard, true);
 
+    // Assign referees card
+    DrillDownCard refereesCard = new DrillDownCard(
+      "Assign Referees",
+      "Staff the games played during this season with referees",
+      FontAwesomeIcon.FLAG,
+      () -> RefereeAssignmentDialog.showAssign(refereeAssignmentService,
+        season.getStartDate() != null ? season.getStartDate() : LocalDate.now(),
+        season.getEndDate() != null ? season.getEndDate() : LocalDate.now().plusWeeks(2), null)
+    );
+    GridPane.setHgrow(refereesCard, Priority.ALWAYS);
+    GridPane.setFillWidth(refereesCard, true);
+
     // Delete season card
     DrillDownCard deleteCard = new DrillDownCard(
       "Delete Season",
@@ -174,10 +218,12 @@ public class SeasonDetailView {
 
     cardsGrid.add(gamesCard, 0, 0);
     cardsGrid.add(teamsCard, 1, 0);
-    cardsGrid.add(editCard, 0, 1);
+    cardsGrid.add(calendarCard, 0, 1);
     cardsGrid.add(standingsCard, 1, 1);
-    cardsGrid.add(generateCard, 0, 2);
-    cardsGrid.add(deleteCard, 1, 2);
+    cardsGrid.add(editCard, 0, 2);
+    cardsGrid.add(generateCard, 1, 2);
+    cardsGrid.add(deleteCard, 0, 3);
+    cardsGrid.add(refereesCard, 1, 3);
 
     // Configure grid columns to be equal width
     ColumnConstraints col1 = new ColumnConstraints();
@@ -186,9 +232,15 @@ public class SeasonDetailView {
     col2.setPercentWidth(50);
     cardsGrid.getColumnConstraints().addAll(col1, col2);
 
-    container.getChildren().addAll(header, sectionTitle, cardsGrid);
+    container.getChildren().addAll(header, sectionTitle, cardsGrid,
+      BlackoutSection.build(blackoutService, Blackout.Scope.SEASON, season.getId(), "games in this season"));
 
-    return container;
+    // The blackouts section can take the view past the window height
+    ScrollPane scrollPane = new ScrollPane(container);
+    scrollPane.setFitToWidth(true);
+    VBox root = new VBox(scrollPane);
+    VBox.setVgrow(scrollPane, Priority.ALWAYS);
+    return root;
   }
 
   private void showEditDialog(Season season, NavigationContext currentContext) {
@@ -321,11 +373,17 @@ public class SeasonDetailView {
     Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
     alert.setTitle("Delete Season");
     alert.setHeaderText("Are you sure?");
-    alert.setContentText("Do you want to delete the season: " + season.getName() + "?\n\nThis action cannot be undone.");
+    alert.setContentText("Do you want to delete the season: " + season.getName()
+      + "?\n\nIts games are deleted too. This action cannot be undone.");
 
     alert.showAndWait().ifPresent(response -> {
       if (response == ButtonType.OK) {
-        seasonService.deleteById(season.getId());
+        var result = cascadeDeleteService.deleteSeason(season.getId());
+        Alert done = new Alert(Alert.AlertType.INFORMATION);
+        done.setTitle("Season Deleted");
+        done.setHeaderText(null);
+        done.setContentText("Deleted " + result.describe() + ".");
+        done.showAndWait();
         // Navigate back to seasons list
         NavigationContext newContext = new NavigationContext()
           .navigateTo("seasons", "Seasons");
@@ -151,11 +151,8 @@ public class SeasonView {
   private void loadData() {
     data.clear();
     if (filterLeague != null) {
-      // Filter seasons by league
-      data.addAll(seasonService.findAll().stream()
-        .filter(season -> season.getLeague() != null &&
-          season.getLeague().getId().equals(filterLeague.getId()))
-        .toList());
+      // The league's seasons, the same cached query the league detail view prefetches
+      data.addAll(seasonService.findByLeagueId(filterLeague.getId()));
     } else {
       data.addAll(seasonService.findAll());
     }
@@ -5,12 +5,16 @@ import com.scheduleengine.league.domain.League;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "season")
 @Table(name = "seasons", uniqueConstraints = {
   @UniqueConstraint(columnNames = "name", name = "uk_season_name")
 })
@@ -36,7 +40,8 @@ public class Season {
   @JoinColumn(name = "league_id")
   private League league;
 
-  @OneToMany(mappedBy = "season", cascade = CascadeType.ALL, orphanRemoval = true)
+  // Not cascaded: CascadeDeleteService removes games in bulk rather than loading them
+  @OneToMany(mappedBy = "season")
   private List<Game> games = new ArrayList<>();
 
   @Column(name = "icon_name")
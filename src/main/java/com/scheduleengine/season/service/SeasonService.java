@@ -1,5 +1,6 @@
 package com.scheduleengine.season.service;
 
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.season.domain.Season;
 import com.scheduleengine.season.repository.SeasonRepository;
 import org.springframework.stereotype.Service;
@@ -11,9 +12,11 @@ import java.util.Optional;
 public class SeasonService {
 
   private final SeasonRepository seasonRepository;
+  private final CascadeDeleteService cascadeDeleteService;
 
-  public SeasonService(SeasonRepository seasonRepository) {
+  public SeasonService(SeasonRepository seasonRepository, CascadeDeleteService cascadeDeleteService) {
     this.seasonRepository = seasonRepository;
+    this.cascadeDeleteService = cascadeDeleteService;
   }
 
   public List<Season> findAll() {
@@ -66,7 +69,10 @@ public class SeasonService {
     return seasonRepository.save(season);
   }
 
+  /**
+   * Delete the season with everything that depends on it, see {@link CascadeDeleteService#deleteSeason}
+   */
   public void deleteById(Long id) {
-    seasonRepository.deleteById(id);
+    cascadeDeleteService.deleteSeason(id);
   }
 }
@@ -0,0 +1,44 @@
+package com.scheduleengine.snapshot;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Snapshot mode: reports and exports read an in-memory copy of the database that is refreshed on a
+ * fixed interval, so long reads never contend with the editing views for the shared H2 file.
+ * Enabled with {@code snapshot.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "snapshot.enabled", havingValue = "true")
+public class SnapshotConfig {
+
+  @Bean(destroyMethod = "close")
+  public SnapshotDataSource snapshotDataSource(DataSourceProperties properties) {
+    return new SnapshotDataSource(properties.initializeDataSourceBuilder().type(HikariDataSource.class).build());
+  }
+
+  /**
+   * The application's data source. Connections are fetched lazily, on the first statement, by which
+   * time the transaction's read-only flag is known and can pick the database.
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(SnapshotDataSource snapshotDataSource) {
+    return new LazyConnectionDataSourceProxy(snapshotDataSource);
+  }
+
+  @Bean
+  public SnapshotReadAspect snapshotReadAspect(SnapshotDataSource snapshotDataSource, EntityManager entityManager,
+                                               PlatformTransactionManager transactionManager) {
+    return new SnapshotReadAspect(snapshotDataSource, entityManager, transactionManager);
+  }
+}
@@ -0,0 +1,130 @@
+package com.scheduleengine.snapshot;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes connections either to the live database or to an in-memory H2 copy of it. The copy is
+ * made with {@code SCRIPT}, which reads one consistent MVCC view of the live database, and replaced
+ * on every {@link #refresh()}. A connection goes to the copy only inside {@link #read(Callable)}
+ * and only for read-only transactions, so writes always reach the live database.
+ */
+public class SnapshotDataSource extends AbstractDataSource {
+  private static final Logger log = LoggerFactory.getLogger(SnapshotDataSource.class);
+  private static final ThreadLocal<Boolean> SNAPSHOT_READ = new ThreadLocal<>();
+
+  private final DataSource primary;
+  private final AtomicInteger generation = new AtomicInteger();
+  private volatile HikariDataSource snapshot;
+  // Kept open for one more refresh so reads that started on it can finish
+  private HikariDataSource previous;
+
+  public SnapshotDataSource(DataSource primary) {
+    this.primary = primary;
+  }
+
+  public DataSource getPrimary() {
+    return primary;
+  }
+
+  /**
+   * Run the task with read-only transactions routed to the snapshot, if one has been taken
+   */
+  public static <T> T read(Callable<T> task) throws Exception {
+    Boolean outer = SNAPSHOT_READ.get();
+    SNAPSHOT_READ.set(Boolean.TRUE);
+    try {
+      return task.call();
+    } finally {
+      if (outer == null) SNAPSHOT_READ.remove();
+    }
+  }
+
+  public boolean hasSnapshot() {
+    return snapshot != null;
+  }
+
+  private DataSource target() {
+    HikariDataSource current = snapshot;
+    boolean routed = current != null && Boolean.TRUE.equals(SNAPSHOT_READ.get())
+      && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    return routed ? current : primary;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return target().getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return target().getConnection(username, password);
+  }
+
+  /**
+   * Copy the live database into a new in-memory snapshot and switch reads over to it
+   */
+  public synchronized void refresh() throws SQLException, IOException {
+    long started = System.nanoTime();
+    String url = "jdbc:h2:mem:snapshot-" + generation.incrementAndGet() + ";DB_CLOSE_DELAY=-1";
+    Path script = Files.createTempFile("schedule-snapshot", ".sql");
+    try {
+      try (Connection connection = primary.getConnection(); Statement statement = connection.createStatement()) {
+        statement.execute("SCRIPT TO '" + script.toAbsolutePath().toString().replace("'", "''") + "'");
+      }
+      try (Connection connection = DriverManager.getConnection(url, "sa", "");
+           Statement statement = connection.createStatement()) {
+        statement.execute("RUNSCRIPT FROM '" + script.toAbsolutePath().toString().replace("'", "''") + "'");
+      }
+    } finally {
+      Files.deleteIfExists(script);
+    }
+
+    HikariDataSource next = new HikariDataSource();
+    next.setJdbcUrl(url);
+    next.setUsername("sa");
+    next.setPassword("");
+    next.setReadOnly(true);
+    next.setMaximumPoolSize(4);
+    next.setPoolName("snapshot-" + generation.get());
+
+    close(previous);
+    previous = snapshot;
+    snapshot = next;
+    log.info("Database snapshot {} taken in {} ms", generation.get(), (System.nanoTime() - started) / 1_000_000);
+  }
+
+  public synchronized void close() {
+    close(previous);
+    close(snapshot);
+    previous = null;
+    snapshot = null;
+    if (primary instanceof HikariDataSource hikari) {
+      hikari.close();
+    }
+  }
+
+  private static void close(HikariDataSource dataSource) {
+    if (dataSource == null) return;
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    } catch (SQLException e) {
+      log.debug("Shutting down snapshot {} failed", dataSource.getPoolName(), e);
+    }
+    dataSource.close();
+  }
+}
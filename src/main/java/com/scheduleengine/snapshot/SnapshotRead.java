@@ -0,0 +1,18 @@
+package com.scheduleengine.snapshot;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks read-only service methods (or every method of a class) that may read from the database
+ * snapshot instead of the live database, e.g. reports and exports. Has no effect unless
+ * {@code snapshot.enabled} is set, or when called inside a transaction that is already running.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface SnapshotRead {
+}
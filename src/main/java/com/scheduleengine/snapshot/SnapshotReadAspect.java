@@ -0,0 +1,66 @@
+package com.scheduleengine.snapshot;
+
+import jakarta.persistence.EntityManager;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs {@link SnapshotRead} methods in a read-only transaction against the snapshot. The aspect
+ * runs ahead of the transaction advice and starts the transaction itself, which the method's own
+ * {@code @Transactional} then joins; a call made inside someone else's transaction is left alone.
+ * Starting it here also lets the session read the second-level cache without filling it with
+ * snapshot rows that may be older than what the editing views have cached.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SnapshotReadAspect {
+  private final SnapshotDataSource dataSource;
+  private final EntityManager entityManager;
+  private final TransactionTemplate readOnly;
+
+  public SnapshotReadAspect(SnapshotDataSource dataSource, EntityManager entityManager,
+                            PlatformTransactionManager transactionManager) {
+    this.dataSource = dataSource;
+    this.entityManager = entityManager;
+    this.readOnly = new TransactionTemplate(transactionManager);
+    this.readOnly.setReadOnly(true);
+  }
+
+  @Around("@within(com.scheduleengine.snapshot.SnapshotRead) || @annotation(com.scheduleengine.snapshot.SnapshotRead)")
+  public Object read(ProceedingJoinPoint joinPoint) throws Throwable {
+    if (!dataSource.hasSnapshot() || TransactionSynchronizationManager.isActualTransactionActive()) {
+      return joinPoint.proceed();
+    }
+    try {
+      return SnapshotDataSource.read(() -> readOnly.execute(status -> {
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+        try {
+          return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+          throw e;
+        } catch (Throwable e) {
+          throw new SnapshotReadException(e);
+        }
+      }));
+    } catch (SnapshotReadException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Carries a checked exception out of the transaction callback
+   */
+  private static class SnapshotReadException extends RuntimeException {
+    SnapshotReadException(Throwable cause) {
+      super(cause);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.scheduleengine.snapshot;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes the first snapshot once migrations have run and refreshes it on a fixed delay. Cached
+ * service results are cleared with each refresh so none outlive the snapshot they were read from.
+ */
+@Component
+@ConditionalOnProperty(name = "snapshot.enabled", havingValue = "true")
+public class SnapshotRefresher {
+  private static final Logger log = LoggerFactory.getLogger(SnapshotRefresher.class);
+
+  private final SnapshotDataSource dataSource;
+  private final CacheManager cacheManager;
+  private final Duration interval;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "db-snapshot");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public SnapshotRefresher(SnapshotDataSource dataSource, CacheManager cacheManager,
+                           @Value("${snapshot.refresh-interval:5m}") Duration interval) {
+    this.dataSource = dataSource;
+    this.cacheManager = cacheManager;
+    this.interval = interval;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    scheduler.scheduleWithFixedDelay(this::refresh, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Take a new snapshot now
+   */
+  public void refresh() {
+    try {
+      dataSource.refresh();
+      cacheManager.getCacheNames().forEach(name -> Optional.ofNullable(cacheManager.getCache(name)).ifPresent(Cache::clear));
+    } catch (Exception e) {
+      log.warn("Refreshing the database snapshot failed; reads stay on the previous one", e);
+    }
+  }
+
+  @PreDestroy
+  void stop() {
+    scheduler.shutdownNow();
+  }
+}
@@ -1,13 +1,19 @@
 package com.scheduleengine.team;
 
+import com.scheduleengine.blackout.BlackoutSection;
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.service.BlackoutService;
 import com.scheduleengine.common.DialogUtil;
 import com.scheduleengine.common.IconBadge;
 import com.scheduleengine.common.IconPicker;
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.league.domain.League;
 import com.scheduleengine.league.service.LeagueService;
 import com.scheduleengine.navigation.DrillDownCard;
 import com.scheduleengine.navigation.NavigationContext;
 import com.scheduleengine.navigation.NavigationHandler;
+import com.scheduleengine.publish.PublishScheduleDialog;
+import com.scheduleengine.publish.service.SchedulePublishingService;
 import com.scheduleengine.team.domain.Team;
 import com.scheduleengine.team.service.TeamService;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
@@ -20,6 +26,8 @@ import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.util.StringConverter;
 
+import java.time.LocalDate;
+
 /**
  * Detail view for a specific team with drill-down navigation options
  */
@@ -28,11 +36,19 @@ public class TeamDetailView {
   private final TeamService teamService;
   private final LeagueService leagueService;
   private final NavigationHandler navigationHandler;
+  private final CascadeDeleteService cascadeDeleteService;
+  private final SchedulePublishingService publishingService;
+  private final BlackoutService blackoutService;
 
-  public TeamDetailView(TeamService teamService, LeagueService leagueService, NavigationHandler navigationHandler) {
+  public TeamDetailView(TeamService teamService, LeagueService leagueService, NavigationHandler navigationHandler,
+                        CascadeDeleteService cascadeDeleteService, SchedulePublishingService publishingService,
+                        BlackoutService blackoutService) {
     this.teamService = teamService;
     this.leagueService = leagueService;
     this.navigationHandler = navigationHandler;
+    this.cascadeDeleteService = cascadeDeleteService;
+    this.publishingService = publishingService;
+    this.blackoutService = blackoutService;
   }
 
   public VBox getView(Team team, NavigationContext currentContext) {
@@ -162,6 +178,18 @@ public class TeamDetailView {
     GridPane.setHgrow(paymentsCard, Priority.ALWAYS);
     GridPane.setFillWidth(paymentsCard, true);
 
+    // Publish schedule card
+    DrillDownCard publishCard = new DrillDownCard(
+      "Publish Schedule",
+      "Print the games of " + team.getName() + " as HTML or PDF",
+      FontAwesomeIcon.PRINT,
+      () -> PublishScheduleDialog.show(team.getName(), LocalDate.now(), LocalDate.now().plusMonths(3),
+        publishingService.getDirectory(),
+        (from, to, format, directory) -> publishingService.publishTeam(team.getId(), from, to, format, directory))
+    );
+    GridPane.setHgrow(publishCard, Priority.ALWAYS);
+    GridPane.setFillWidth(publishCard, true);
+
     // Delete team card
     DrillDownCard deleteCard = new DrillDownCard(
       "Delete Team",
@@ -179,6 +207,7 @@ public class TeamDetailView {
     cardsGrid.add(editCard, 0, 1);
     cardsGrid.add(statsCard, 1, 1);
     cardsGrid.add(deleteCard, 2, 1);
+    cardsGrid.add(publishCard, 0, 2);
 
     // Configure grid columns to be equal width
     ColumnConstraints col1 = new ColumnConstraints();
@@ -189,9 +218,15 @@ public class TeamDetailView {
     col3.setPercentWidth(33.34);
     cardsGrid.getColumnConstraints().addAll(col1, col2, col3);
 
-    container.getChildren().addAll(header, sectionTitle, cardsGrid);
+    container.getChildren().addAll(header, sectionTitle, cardsGrid,
+      BlackoutSection.build(blackoutService, Blackout.Scope.TEAM, team.getId(), "games for this team"));
 
-    return container;
+    // The blackouts section can take the view past the window height
+    ScrollPane scrollPane = new ScrollPane(container);
+    scrollPane.setFitToWidth(true);
+    VBox root = new VBox(scrollPane);
+    VBox.setVgrow(scrollPane, Priority.ALWAYS);
+    return root;
   }
 
   private StackPane buildIconBadge(Team team) {
@@ -303,11 +338,17 @@ public class TeamDetailView {
     Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
     alert.setTitle("Delete Team");
     alert.setHeaderText("Are you sure?");
-    alert.setContentText("Do you want to delete the team: " + team.getName() + "?\n\nThis action cannot be undone.");
+    alert.setContentText("Do you want to delete the team: " + team.getName()
+      + "?\n\nIts games, players and tournament registrations are deleted too. This action cannot be undone.");
 
     alert.showAndWait().ifPresent(response -> {
       if (response == ButtonType.OK) {
-        teamService.deleteById(team.getId());
+        var result = cascadeDeleteService.deleteTeam(team.getId());
+        Alert done = new Alert(Alert.AlertType.INFORMATION);
+        done.setTitle("Team Deleted");
+        done.setHeaderText(null);
+        done.setContentText("Deleted " + result.describe() + ".");
+        done.showAndWait();
         // Navigate back to teams list
         NavigationContext newContext = new NavigationContext()
           .navigateTo("teams", "Teams");
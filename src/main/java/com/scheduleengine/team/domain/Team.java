@@ -4,11 +4,15 @@ import com.scheduleengine.game.domain.Game;
 import com.scheduleengine.league.domain.League;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team")
 @Table(name = "teams")
 public class Team {
 
@@ -32,10 +36,11 @@ public class Team {
   @JoinColumn(name = "league_id")
   private League league;
 
-  @OneToMany(mappedBy = "homeTeam", cascade = CascadeType.ALL)
+  // Not cascaded: CascadeDeleteService removes games in bulk rather than loading them
+  @OneToMany(mappedBy = "homeTeam")
   private List<Game> homeGames = new ArrayList<>();
 
-  @OneToMany(mappedBy = "awayTeam", cascade = CascadeType.ALL)
+  @OneToMany(mappedBy = "awayTeam")
   private List<Game> awayGames = new ArrayList<>();
 
   @Column(name = "icon_name")
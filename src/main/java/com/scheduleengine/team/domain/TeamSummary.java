@@ -0,0 +1,11 @@
+package com.scheduleengine.team.domain;
+
+/**
+ * Team id and name for pickers and lookups, read without loading the entity or its league
+ */
+public record TeamSummary(Long id, String name) {
+
+  public static TeamSummary of(Team team) {
+    return new TeamSummary(team.getId(), team.getName());
+  }
+}
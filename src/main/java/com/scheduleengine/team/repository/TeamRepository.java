@@ -2,14 +2,29 @@ package com.scheduleengine.team.repository;
 
 import com.scheduleengine.league.domain.League;
 import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.domain.TeamSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
+  @Override
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<Team> findAll();
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   List<Team> findByLeagueId(Long leagueId);
 
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   List<Team> findByLeague(League league);
+
+  @Query("select new com.scheduleengine.team.domain.TeamSummary(t.id, t.name) from Team t order by t.name, t.id")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<TeamSummary> findSummaries();
 }
@@ -1,10 +1,15 @@
 package com.scheduleengine.team.service;
 
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.league.domain.League;
+import com.scheduleengine.payment.service.TransactionReportService;
 import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.domain.TeamSummary;
 import com.scheduleengine.team.repository.TeamRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,19 +17,32 @@ import java.util.Optional;
 public class TeamService {
 
   private final TeamRepository teamRepository;
+  private final CascadeDeleteService cascadeDeleteService;
 
-  public TeamService(TeamRepository teamRepository) {
+  public TeamService(TeamRepository teamRepository, CascadeDeleteService cascadeDeleteService) {
     this.teamRepository = teamRepository;
+    this.cascadeDeleteService = cascadeDeleteService;
   }
 
   public List<Team> findAll() {
     return teamRepository.findAll();
   }
 
+  /**
+   * Id and name of every team, ordered by name
+   */
+  public List<TeamSummary> findSummaries() {
+    return teamRepository.findSummaries();
+  }
+
   public Optional<Team> findById(Long id) {
     return teamRepository.findById(id);
   }
 
+  public List<Team> findAllById(Collection<Long> ids) {
+    return ids.isEmpty() ? List.of() : teamRepository.findAllById(ids);
+  }
+
   public List<Team> findByLeagueId(Long leagueId) {
     return teamRepository.findByLeagueId(leagueId);
   }
@@ -33,16 +51,21 @@ public class TeamService {
     return teamRepository.findByLeague(league);
   }
 
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
   public Team save(Team team) {
     return teamRepository.save(team);
   }
 
+  @CacheEvict(cacheNames = TransactionReportService.CACHE, allEntries = true)
   public Team update(Long id, Team team) {
     team.setId(id);
     return teamRepository.save(team);
   }
 
+  /**
+   * Delete the team with everything that depends on it, see {@link CascadeDeleteService#deleteTeam}
+   */
   public void deleteById(Long id) {
-    teamRepository.deleteById(id);
+    cascadeDeleteService.deleteTeam(id);
   }
 }
@@ -1,5 +1,6 @@
 package com.scheduleengine.tournament;
 
+import com.scheduleengine.tournament.domain.SeedingStrategy;
 import com.scheduleengine.tournament.domain.Tournament;
 import com.scheduleengine.tournament.domain.TournamentRegistration;
 import com.scheduleengine.tournament.service.TournamentRegistrationService;
@@ -16,12 +17,20 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 public class TournamentBracketEditorView {
 
   private final TournamentService tournamentService;
   private final TournamentRegistrationService registrationService;
   private Tournament tournament;
   private final ObservableList<TournamentRegistration> registrations = FXCollections.observableArrayList();
+  // Seed edits not yet saved, by registration id
+  private final Map<Long, Integer> pendingSeeds = new LinkedHashMap<>();
+  private Button saveSeedsBtn;
 
   public TournamentBracketEditorView(TournamentService tournamentService,
                                      TournamentRegistrationService registrationService) {
@@ -47,9 +56,18 @@ public class TournamentBracketEditorView {
     Region spacer = new Region();
     HBox.setHgrow(spacer, Priority.ALWAYS);
 
-    Button seedBtn = new Button("Auto-Seed Teams");
+    MenuItem byRegistration = new MenuItem("By Registration Order");
+    byRegistration.setOnAction(e -> autoSeedTeams(SeedingStrategy.registrationOrder()));
+    MenuItem byStandings = new MenuItem("By Prior Standings");
+    byStandings.setOnAction(e -> autoSeedTeams(SeedingStrategy.priorStandings()));
+    MenuItem randomly = new MenuItem("Random...");
+    randomly.setOnAction(e -> promptRandomSeed().ifPresent(seed -> autoSeedTeams(SeedingStrategy.random(seed))));
+    MenuButton seedBtn = new MenuButton("Auto-Seed Teams", null, byRegistration, byStandings, randomly);
     seedBtn.setStyle("-fx-background-color: #667eea; -fx-text-fill: white;");
-    seedBtn.setOnAction(e -> autoSeedTeams());
+
+    saveSeedsBtn = new Button("Save Seeds");
+    saveSeedsBtn.setDisable(true);
+    saveSeedsBtn.setOnAction(e -> saveSeeds());
 
     Button generateBtn = new Button("Generate Bracket");
     generateBtn.setStyle("-fx-background-color: #43e97b; -fx-text-fill: white;");
@@ -59,7 +77,7 @@ public class TournamentBracketEditorView {
     closeBtn.setStyle("-fx-background-color: #dc3545; -fx-text-fill: white;");
     closeBtn.setOnAction(e -> vbox.getChildren().clear());
 
-    headerBox.getChildren().addAll(titleLabel, typeLabel, spacer, seedBtn, generateBtn, closeBtn);
+    headerBox.getChildren().addAll(titleLabel, typeLabel, spacer, seedBtn, saveSeedsBtn, generateBtn, closeBtn);
 
     // Tournament info
     HBox infoBox = new HBox(30);
@@ -94,6 +112,12 @@ public class TournamentBracketEditorView {
         }
       }
     ));
+    // Collect edits and save them together
+    seedCol.setOnEditCommit(e -> {
+      e.getRowValue().setSeedNumber(e.getNewValue());
+      pendingSeeds.put(e.getRowValue().getId(), e.getNewValue());
+      saveSeedsBtn.setDisable(false);
+    });
 
     TableColumn<TournamentRegistration, String> teamCol = new TableColumn<>("Team");
     teamCol.setCellValueFactory(cellData ->
@@ -127,21 +151,55 @@ public class TournamentBracketEditorView {
   }
 
   private void loadRegistrations() {
-    registrations.clear();
     var approved = registrationService.findByTournamentIdAndStatus(
       tournament.getId(),
       TournamentRegistration.RegistrationStatus.APPROVED
     );
-    registrations.addAll(approved);
+    showSeeded(approved);
   }
 
-  private void autoSeedTeams() {
-    int seed = 1;
-    for (TournamentRegistration reg : registrations) {
-      reg.setSeedNumber(seed++);
-      registrationService.save(reg);
+  private void autoSeedTeams(SeedingStrategy strategy) {
+    try {
+      showSeeded(registrationService.reseed(tournament.getId(), strategy));
+      showInfo("Success", "Teams auto-seeded (1-" + registrations.size() + ")");
+    } catch (Exception ex) {
+      showError("Error", "Seeding failed: " + ex.getMessage());
+    }
+  }
+
+  private void saveSeeds() {
+    try {
+      showSeeded(registrationService.updateSeeds(tournament.getId(), pendingSeeds));
+    } catch (IllegalArgumentException ex) {
+      showError("Error", ex.getMessage());
     }
-    showInfo("Success", "Teams auto-seeded (1-" + registrations.size() + ")");
+  }
+
+  /**
+   * Replace the table rows in one change and drop unsaved edits
+   */
+  private void showSeeded(List<TournamentRegistration> seeded) {
+    registrations.setAll(seeded == null ? List.of() : seeded);
+    pendingSeeds.clear();
+    if (saveSeedsBtn != null) saveSeedsBtn.setDisable(true);
+  }
+
+  /**
+   * Ask for the shuffle seed; defaults to the tournament id so re-running gives the same bracket
+   */
+  private Optional<Long> promptRandomSeed() {
+    TextInputDialog dialog = new TextInputDialog(String.valueOf(tournament.getId()));
+    dialog.setTitle("Random Seeding");
+    dialog.setHeaderText("The same number always produces the same seeding");
+    dialog.setContentText("Random seed:");
+    return dialog.showAndWait().flatMap(text -> {
+      try {
+        return Optional.of(Long.parseLong(text.trim()));
+      } catch (NumberFormatException e) {
+        showError("Error", "Random seed must be a whole number");
+        return Optional.empty();
+      }
+    });
   }
 
   private void generateBracket() {
@@ -0,0 +1,34 @@
+package com.scheduleengine.tournament.domain;
+
+/**
+ * How {@code TournamentRegistrationService.reseed} orders a tournament's approved teams
+ */
+public sealed interface SeedingStrategy {
+
+  /** Earliest registration gets the top seed */
+  record RegistrationOrder() implements SeedingStrategy {
+  }
+
+  /**
+   * Best record in games completed before the tournament starts gets the top seed: points, then
+   * score difference, then registration order
+   */
+  record PriorStandings() implements SeedingStrategy {
+  }
+
+  /** Shuffled with the given seed, so the same seed always produces the same seeding */
+  record Random(long seed) implements SeedingStrategy {
+  }
+
+  static SeedingStrategy registrationOrder() {
+    return new RegistrationOrder();
+  }
+
+  static SeedingStrategy priorStandings() {
+    return new PriorStandings();
+  }
+
+  static SeedingStrategy random(long seed) {
+    return new Random(seed);
+  }
+}
@@ -1,6 +1,9 @@
 package com.scheduleengine.tournament.service;
 
+import com.scheduleengine.game.domain.TeamRecord;
+import com.scheduleengine.game.service.GameService;
 import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.tournament.domain.SeedingStrategy;
 import com.scheduleengine.tournament.domain.Tournament;
 import com.scheduleengine.tournament.domain.TournamentRegistration;
 import com.scheduleengine.tournament.repository.TournamentRegistrationRepository;
@@ -8,16 +11,30 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class TournamentRegistrationService {
+  private static final Comparator<TournamentRegistration> REGISTRATION_ORDER =
+    Comparator.comparing(TournamentRegistration::getRegistrationDate).thenComparing(TournamentRegistration::getId);
 
   private final TournamentRegistrationRepository registrationRepository;
+  private final GameService gameService;
 
-  public TournamentRegistrationService(TournamentRegistrationRepository registrationRepository) {
+  public TournamentRegistrationService(TournamentRegistrationRepository registrationRepository,
+                                       GameService gameService) {
     this.registrationRepository = registrationRepository;
+    this.gameService = gameService;
   }
 
   public List<TournamentRegistration> findAll() {
@@ -74,6 +91,89 @@ public class TournamentRegistrationService {
     return registrationRepository.save(registration);
   }
 
+  /**
+   * Seed every approved team of a tournament 1..n in one transaction. The registrations are loaded
+   * with a single query and updated through dirty checking, so the seed updates are flushed together
+   * at commit instead of one save per row.
+   *
+   * @return the approved registrations ordered by their new seed
+   */
+  @Transactional
+  public List<TournamentRegistration> reseed(Long tournamentId, SeedingStrategy strategy) {
+    List<TournamentRegistration> ordered = new ArrayList<>(
+      findByTournamentIdAndStatus(tournamentId, TournamentRegistration.RegistrationStatus.APPROVED));
+    ordered.sort(REGISTRATION_ORDER);
+
+    switch (strategy) {
+      case SeedingStrategy.RegistrationOrder ignored -> {
+      }
+      case SeedingStrategy.PriorStandings ignored -> ordered.sort(byPriorStandings(ordered));
+      case SeedingStrategy.Random random -> Collections.shuffle(ordered, new Random(random.seed()));
+    }
+
+    int seed = 1;
+    for (TournamentRegistration registration : ordered) {
+      registration.setSeedNumber(seed++);
+    }
+    return ordered;
+  }
+
+  /**
+   * Apply manually edited seeds in one transaction
+   *
+   * @param seedsByRegistrationId new seed for each edited registration; null clears a seed
+   * @return the approved registrations ordered by seed, unseeded last
+   * @throws IllegalArgumentException if a seed is not positive, a registration belongs to another
+   *                                  tournament, or two approved teams would share a seed
+   */
+  @Transactional
+  public List<TournamentRegistration> updateSeeds(Long tournamentId, Map<Long, Integer> seedsByRegistrationId) {
+    List<TournamentRegistration> approved =
+      findByTournamentIdAndStatus(tournamentId, TournamentRegistration.RegistrationStatus.APPROVED);
+    Map<Long, TournamentRegistration> byId = approved.stream()
+      .collect(Collectors.toMap(TournamentRegistration::getId, Function.identity()));
+
+    seedsByRegistrationId.forEach((id, seed) -> {
+      TournamentRegistration registration = byId.get(id);
+      if (registration == null) {
+        throw new IllegalArgumentException("Registration " + id + " is not an approved team of this tournament");
+      }
+      if (seed != null && seed < 1) {
+        throw new IllegalArgumentException("Seed must be 1 or greater");
+      }
+      registration.setSeedNumber(seed);
+    });
+
+    Set<Integer> used = new HashSet<>();
+    for (TournamentRegistration registration : approved) {
+      Integer seed = registration.getSeedNumber();
+      if (seed != null && !used.add(seed)) {
+        throw new IllegalArgumentException("Seed " + seed + " is assigned to more than one team");
+      }
+    }
+    return approved.stream()
+      .sorted(Comparator.comparing(TournamentRegistration::getSeedNumber, Comparator.nullsLast(Comparator.naturalOrder())))
+      .toList();
+  }
+
+  /**
+   * Order by points, then score difference, over games completed before the tournament start.
+   * Teams without games rank below teams with a record; ties keep registration order.
+   */
+  private Comparator<TournamentRegistration> byPriorStandings(List<TournamentRegistration> registrations) {
+    if (registrations.isEmpty()) return REGISTRATION_ORDER;
+    LocalDateTime start = registrations.get(0).getTournament().getStartDate().atStartOfDay();
+    List<Long> teamIds = registrations.stream().map(r -> r.getTeam().getId()).toList();
+    Map<Long, TeamRecord> records = gameService.findTeamRecords(teamIds, start).stream()
+      .collect(Collectors.toMap(TeamRecord::teamId, Function.identity()));
+    Comparator<TournamentRegistration> byRecord = Comparator.comparing(
+      (TournamentRegistration r) -> records.get(r.getTeam().getId()),
+      Comparator.nullsLast(Comparator.comparingLong(TeamRecord::points)
+        .thenComparingLong(TeamRecord::scoreDifference)
+        .reversed()));
+    return byRecord.thenComparing(REGISTRATION_ORDER);
+  }
+
   public TournamentRegistration save(TournamentRegistration registration) {
     return registrationRepository.save(registration);
   }
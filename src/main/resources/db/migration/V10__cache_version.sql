@@ -0,0 +1,11 @@
+-- A counter bumped by every read-write transaction. Each process attached to the database file through
+-- AUTO_SERVER compares it with the count its own commits account for, and clears its second-level,
+-- query and report caches when another process has written in between.
+create table cache_version (
+  id int not null,
+  version bigint not null,
+  primary key (id),
+  constraint ck_cache_version_single_row check (id = 1)
+);
+
+insert into cache_version (id, version) values (1, 0);
@@ -0,0 +1,148 @@
+-- Baseline schema, matching what ddl-auto=update produced before migrations were introduced.
+-- Databases created by earlier builds are baselined at this version and start at V2.
+
+create table leagues (
+  id bigint generated by default as identity,
+  name varchar(255) not null,
+  description varchar(1000),
+  icon_name varchar(255),
+  icon_bg_color varchar(255),
+  icon_glyph_color varchar(255),
+  primary key (id)
+);
+
+create table seasons (
+  id bigint generated by default as identity,
+  name varchar(255) not null,
+  start_date date not null,
+  end_date date not null,
+  league_id bigint,
+  icon_name varchar(255),
+  icon_bg_color varchar(255),
+  icon_glyph_color varchar(255),
+  primary key (id),
+  constraint uk_season_name unique (name),
+  constraint fk_seasons_league foreign key (league_id) references leagues
+);
+
+create table teams (
+  id bigint generated by default as identity,
+  name varchar(255) not null,
+  coach varchar(255),
+  contact_email varchar(255),
+  contact_phone varchar(255),
+  league_id bigint,
+  icon_name varchar(255),
+  icon_bg_color varchar(255),
+  icon_glyph_color varchar(255),
+  primary key (id),
+  constraint fk_teams_league foreign key (league_id) references leagues
+);
+
+create table fields (
+  id bigint generated by default as identity,
+  name varchar(255) not null,
+  location varchar(255),
+  address varchar(255),
+  facilities varchar(1000),
+  icon_name varchar(255),
+  icon_bg_color varchar(255),
+  icon_glyph_color varchar(255),
+  primary key (id)
+);
+
+create table field_availability (
+  id bigint generated by default as identity,
+  field_id bigint not null,
+  day_of_week enum ('FRIDAY','MONDAY','SATURDAY','SUNDAY','THURSDAY','TUESDAY','WEDNESDAY') not null,
+  open_time time(6) not null,
+  close_time time(6) not null,
+  primary key (id),
+  constraint fk_field_availability_field foreign key (field_id) references fields
+);
+
+create table field_usage_block (
+  id bigint generated by default as identity,
+  field_id bigint not null,
+  day_of_week enum ('FRIDAY','MONDAY','SATURDAY','SUNDAY','THURSDAY','TUESDAY','WEDNESDAY') not null,
+  start_time time(6) not null,
+  end_time time(6) not null,
+  usage_type enum ('CLOSED','LEAGUE','PRACTICE','TOURNAMENT') not null,
+  notes varchar(255),
+  primary key (id),
+  constraint fk_field_usage_block_field foreign key (field_id) references fields
+);
+
+create table games (
+  id bigint generated by default as identity,
+  home_team_id bigint not null,
+  away_team_id bigint not null,
+  field_id bigint,
+  season_id bigint,
+  game_date timestamp(6) not null,
+  home_score integer,
+  away_score integer,
+  status enum ('CANCELLED','COMPLETED','IN_PROGRESS','POSTPONED','SCHEDULED'),
+  notes varchar(255),
+  primary key (id),
+  constraint fk_games_home_team foreign key (home_team_id) references teams,
+  constraint fk_games_away_team foreign key (away_team_id) references teams,
+  constraint fk_games_field foreign key (field_id) references fields,
+  constraint fk_games_season foreign key (season_id) references seasons
+);
+
+create table players (
+  id bigint generated by default as identity,
+  first_name varchar(255) not null,
+  last_name varchar(255) not null,
+  jersey_number integer,
+  position varchar(255),
+  team_id bigint not null,
+  primary key (id),
+  constraint fk_players_team foreign key (team_id) references teams
+);
+
+create table tournaments (
+  id bigint generated by default as identity,
+  name varchar(255) not null,
+  description varchar(1000),
+  type enum ('INVITATIONAL','LEAGUE','OPEN') not null,
+  status enum ('CANCELLED','COMPLETED','DRAFT','FULL','IN_PROGRESS','REGISTRATION') not null,
+  start_date date not null,
+  end_date date not null,
+  registration_deadline date,
+  max_teams integer,
+  entry_fee float(53),
+  location varchar(500),
+  league_id bigint,
+  icon_name varchar(255),
+  icon_bg_color varchar(255),
+  icon_glyph_color varchar(255),
+  primary key (id),
+  constraint fk_tournaments_league foreign key (league_id) references leagues
+);
+
+create table tournament_registrations (
+  id bigint generated by default as identity,
+  tournament_id bigint not null,
+  team_id bigint not null,
+  status enum ('APPROVED','PENDING','REJECTED','WITHDRAWN') not null,
+  registration_date timestamp(6) not null,
+  seed_number integer,
+  notes varchar(500),
+  primary key (id),
+  constraint fk_tournament_registrations_tournament foreign key (tournament_id) references tournaments,
+  constraint fk_tournament_registrations_team foreign key (team_id) references teams
+);
+
+create table transactions (
+  id bigint generated by default as identity,
+  party_type enum ('PLAYER','TEAM') not null,
+  party_id bigint not null,
+  category enum ('AGREEMENT','INVOICE','PAYMENT') not null,
+  status enum ('OVERDUE','PAID','PENDING','VOID') not null,
+  amount float(53) not null,
+  date date not null,
+  notes varchar(1024),
+  primary key (id)
+);
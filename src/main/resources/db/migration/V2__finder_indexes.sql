@@ -0,0 +1,34 @@
+-- Indexes backing the repository finders. H2 already indexes every foreign key column on its own
+-- (games.home_team_id, players.team_id, teams.league_id, ...), so only composite and non-FK
+-- indexes are declared here. Composites lead with the equality column so they also serve the
+-- shorter finders on the same prefix.
+
+-- GameRepository.findBySeasonId / deleteBySeasonId, ordered by date within a season
+create index if not exists idx_games_season_date on games (season_id, game_date);
+-- Per-field day schedules and date-range scans
+create index if not exists idx_games_field_date on games (field_id, game_date);
+create index if not exists idx_games_date on games (game_date);
+
+-- TransactionRepository.findByPartyTypeAndPartyId[AndStatus|AndDateBetween]
+create index if not exists idx_transactions_party_date on transactions (party_type, party_id, date);
+create index if not exists idx_transactions_party_status on transactions (party_type, party_id, status);
+create index if not exists idx_transactions_date on transactions (date);
+create index if not exists idx_transactions_status_date on transactions (status, date);
+
+-- Field*Repository.findByFieldAndDayOfWeek / findByFieldInAndDayOfWeek / findByDayOfWeek
+create index if not exists idx_field_availability_field_day on field_availability (field_id, day_of_week);
+create index if not exists idx_field_availability_day on field_availability (day_of_week);
+create index if not exists idx_field_usage_block_field_day on field_usage_block (field_id, day_of_week);
+create index if not exists idx_field_usage_block_day on field_usage_block (day_of_week);
+
+-- TournamentRegistrationRepository.findByTournamentIdAndStatus / countByTournamentIdAndStatus
+create index if not exists idx_tournament_registrations_tournament_status on tournament_registrations (tournament_id, status);
+-- TournamentRegistrationRepository.findByTournamentIdAndTeamId
+create index if not exists idx_tournament_registrations_tournament_team on tournament_registrations (tournament_id, team_id);
+
+-- TournamentRepository.findByType / findByStatus
+create index if not exists idx_tournaments_type on tournaments (type);
+create index if not exists idx_tournaments_status on tournaments (status);
+
+-- PlayerRepository.findByFirstNameAndLastName
+create index if not exists idx_players_name on players (last_name, first_name);
@@ -0,0 +1,4 @@
+-- Identifies invoices created by bulk billing so a repeated run skips parties already billed.
+-- Manually entered transactions leave it null; H2 allows any number of nulls in a unique index.
+alter table transactions add column billing_key varchar(255);
+create unique index uk_transactions_billing_key on transactions (billing_key);
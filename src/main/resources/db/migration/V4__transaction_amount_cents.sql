@@ -0,0 +1,6 @@
+-- Store transaction amounts as exact cents instead of a double. Existing values are rounded half-up
+-- to the nearest cent; going through a decimal first keeps binary artefacts like 19.989999... at 1999.
+alter table transactions add column amount_cents bigint;
+update transactions set amount_cents = cast(round(cast(amount as numeric(19, 4)) * 100) as bigint);
+alter table transactions alter column amount_cents set not null;
+alter table transactions drop column amount;
@@ -0,0 +1,3 @@
+-- PlayerRepository.findRowsByTeamId / findNameKeysByTeamId: a team's roster in name order, and the
+-- per-team duplicate check used by the roster import, both answered from one composite index
+create index if not exists idx_players_team_name on players (team_id, last_name, first_name);
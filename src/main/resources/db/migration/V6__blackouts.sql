@@ -0,0 +1,15 @@
+-- Date-specific blackouts (holidays, school events, field maintenance). Each row covers a range of
+-- whole days for one league, season, team or field; BlackoutService compiles them into per-day
+-- bitmaps, so the table is only read in full and looked up by owner when the owner is deleted
+create table blackouts (
+  id bigint generated by default as identity,
+  scope enum ('FIELD','LEAGUE','SEASON','TEAM') not null,
+  scope_id bigint not null,
+  start_date date not null,
+  end_date date not null,
+  reason varchar(255),
+  primary key (id),
+  constraint ck_blackouts_range check (end_date >= start_date)
+);
+
+create index if not exists idx_blackouts_scope on blackouts (scope, scope_id);
@@ -0,0 +1,18 @@
+-- Date-specific field exceptions layered over the weekly field_availability / field_usage_block
+-- pattern: an OPEN row adds hours on one date, a CLOSED row takes them away (the whole day when it
+-- has no times). FieldCalendarResolver reads them per field and month.
+create table field_exceptions (
+  id bigint generated by default as identity,
+  field_id bigint not null,
+  exception_date date not null,
+  kind enum ('CLOSED','OPEN') not null,
+  start_time time(6),
+  end_time time(6),
+  notes varchar(255),
+  primary key (id),
+  constraint fk_field_exceptions_field foreign key (field_id) references fields,
+  constraint ck_field_exceptions_times check ((start_time is null and end_time is null)
+    or (start_time is not null and end_time is not null and end_time > start_time))
+);
+
+create index if not exists idx_field_exceptions_field_date on field_exceptions (field_id, exception_date);
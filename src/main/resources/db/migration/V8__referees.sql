@@ -0,0 +1,36 @@
+-- Referees with weekly availability windows and a certification level, and one assigned referee
+-- per game. Assignments go with their game, including games removed by bulk deletes.
+create table referees (
+  id bigint generated by default as identity,
+  name varchar(255) not null,
+  email varchar(255),
+  certification enum ('GRASSROOTS','NATIONAL','REGIONAL') not null,
+  active boolean default true not null,
+  primary key (id)
+);
+
+create table referee_availability (
+  id bigint generated by default as identity,
+  referee_id bigint not null,
+  day_of_week enum ('FRIDAY','MONDAY','SATURDAY','SUNDAY','THURSDAY','TUESDAY','WEDNESDAY') not null,
+  start_time time(6) not null,
+  end_time time(6) not null,
+  primary key (id),
+  constraint fk_referee_availability_referee foreign key (referee_id) references referees
+);
+
+create table referee_assignments (
+  id bigint generated by default as identity,
+  game_id bigint not null,
+  referee_id bigint not null,
+  primary key (id),
+  constraint uk_referee_assignments_game unique (game_id),
+  constraint fk_referee_assignments_game foreign key (game_id) references games on delete cascade,
+  constraint fk_referee_assignments_referee foreign key (referee_id) references referees
+);
+
+-- The lowest certification a league's games need; null accepts any referee
+alter table leagues add column referee_certification enum ('GRASSROOTS','NATIONAL','REGIONAL');
+
+-- Referees can be blacked out for dates they cannot work
+alter table blackouts alter column scope enum ('FIELD','LEAGUE','REFEREE','SEASON','TEAM') not null;
@@ -0,0 +1,9 @@
+-- Where each field is, in decimal degrees, entered by hand or copied from a map; FieldDistanceService
+-- turns them into the field-to-field distances used to keep a team's games on one day close together.
+-- Fields without coordinates are never treated as far from anywhere.
+alter table fields add column latitude double precision;
+alter table fields add column longitude double precision;
+alter table fields add constraint ck_fields_coordinates check (
+  (latitude is null and longitude is null)
+  or (latitude between -90 and 90 and longitude between -180 and 180)
+);
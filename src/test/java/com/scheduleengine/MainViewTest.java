@@ -62,6 +62,30 @@ class MainViewTest {
   private TournamentRegistrationService tournamentRegistrationService;
   @Mock
   private com.scheduleengine.payment.service.TransactionService transactionService;
+  @Mock
+  private com.scheduleengine.payment.service.TransactionReportService transactionReportService;
+  @Mock
+  private com.scheduleengine.payment.service.BillingService billingService;
+  @Mock
+  private com.scheduleengine.diagnostics.service.DiagnosticsService diagnosticsService;
+  @Mock
+  private com.scheduleengine.search.service.SearchService searchService;
+  @Mock
+  private com.scheduleengine.common.service.CascadeDeleteService cascadeDeleteService;
+  @Mock
+  private com.scheduleengine.game.service.FreeSlotService freeSlotService;
+  @Mock
+  private com.scheduleengine.field.service.FieldExceptionService fieldExceptionService;
+  @Mock
+  private com.scheduleengine.game.service.FieldCalendarResolver fieldCalendarResolver;
+  @Mock
+  private com.scheduleengine.publish.service.SchedulePublishingService publishingService;
+  @Mock
+  private com.scheduleengine.blackout.service.BlackoutService blackoutService;
+  @Mock
+  private com.scheduleengine.referee.service.RefereeService refereeService;
+  @Mock
+  private com.scheduleengine.referee.service.RefereeAssignmentService refereeAssignmentService;
 
   private MainView mainView;
 
@@ -89,7 +113,19 @@ class MainViewTest {
       tournamentRegistrationService,
       fieldAvailabilityService,
       fieldUsageBlockService,
-      transactionService
+      transactionService,
+      transactionReportService,
+      billingService,
+      diagnosticsService,
+      searchService,
+      cascadeDeleteService,
+      freeSlotService,
+      fieldExceptionService,
+      fieldCalendarResolver,
+      publishingService,
+      blackoutService,
+      refereeService,
+      refereeAssignmentService
     );
 
     mainView.start(stage);
@@ -140,6 +176,11 @@ class MainViewTest {
     verifyThat("Games", hasText("Games"));
   }
 
+  @Test
+  void shouldDisplayRefereesNavigationButton() {
+    verifyThat("Referees", hasText("Referees"));
+  }
+
   @Test
   void shouldLoadLeagueViewByDefault() {
     // The default view is leagues, so league service should be called
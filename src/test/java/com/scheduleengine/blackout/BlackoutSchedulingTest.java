@@ -0,0 +1,162 @@
+package com.scheduleengine.blackout;
+
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.service.BlackoutService;
+import com.scheduleengine.common.service.CascadeDeleteService;
+import com.scheduleengine.common.service.ScheduleGeneratorService;
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.domain.FieldAvailability;
+import com.scheduleengine.field.service.FieldAvailabilityService;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.game.domain.FreeSlot;
+import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.service.FreeSlotService;
+import com.scheduleengine.game.service.GameService;
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.league.service.LeagueService;
+import com.scheduleengine.season.domain.Season;
+import com.scheduleengine.season.service.SeasonService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that blackouts of leagues, seasons, teams and fields keep games off those days in
+ * slot suggestions, rescheduling and generated schedules
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class BlackoutSchedulingTest {
+
+  private static final LocalDate SATURDAY = LocalDate.of(2099, 1, 1).with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+
+  @Autowired
+  private BlackoutService blackoutService;
+
+  @Autowired
+  private FreeSlotService freeSlotService;
+
+  @Autowired
+  private ScheduleGeneratorService scheduleGeneratorService;
+
+  @Autowired
+  private GameService gameService;
+
+  @Autowired
+  private LeagueService leagueService;
+
+  @Autowired
+  private SeasonService seasonService;
+
+  @Autowired
+  private TeamService teamService;
+
+  @Autowired
+  private FieldService fieldService;
+
+  @Autowired
+  private FieldAvailabilityService availabilityService;
+
+  @Autowired
+  private CascadeDeleteService cascadeDeleteService;
+
+  private League league;
+  private Season season;
+  private Team home;
+  private Team away;
+  private Field field;
+
+  @BeforeEach
+  void setUp() {
+    league = leagueService.save(new League("Blackout League"));
+    Season newSeason = new Season("Blackout Season", SATURDAY.minusDays(14), SATURDAY.plusDays(28));
+    newSeason.setLeague(league);
+    season = seasonService.save(newSeason);
+    home = team("Blackout Home");
+    away = team("Blackout Away");
+    field = fieldService.save(new Field("Blackout Field"));
+    availabilityService.save(new FieldAvailability(field, DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    cascadeDeleteService.deleteLeague(league.getId());
+    cascadeDeleteService.deleteField(field.getId());
+    assertTrue(blackoutService.findAll().stream().noneMatch(b -> switch (b.getScope()) {
+      case LEAGUE -> b.getScopeId().equals(league.getId());
+      case SEASON -> b.getScopeId().equals(season.getId());
+      case TEAM -> b.getScopeId().equals(home.getId()) || b.getScopeId().equals(away.getId());
+      case FIELD -> b.getScopeId().equals(field.getId());
+      case REFEREE -> false;
+    }), "blackouts of deleted owners are removed with them");
+  }
+
+  @Test
+  void testOpenSlotsSkipBlackedOutDays() {
+    assertEquals(List.of(SATURDAY, SATURDAY.plusDays(7)), saturdaysOnTestField());
+
+    blackoutService.save(new Blackout(Blackout.Scope.FIELD, field.getId(), SATURDAY, SATURDAY, "Reseeding"));
+    assertEquals(List.of(SATURDAY.plusDays(7)), saturdaysOnTestField());
+
+    blackoutService.save(new Blackout(Blackout.Scope.LEAGUE, league.getId(), SATURDAY.plusDays(6), SATURDAY.plusDays(8), null));
+    assertEquals(List.of(), saturdaysOnTestField());
+  }
+
+  @Test
+  void testRescheduleIsRefusedOnBlackedOutDays() {
+    Game game = new Game(SATURDAY.atTime(9, 0), home, away);
+    game.setSeason(season);
+    game.setField(field);
+    Game saved = gameService.save(game);
+    blackoutService.save(new Blackout(Blackout.Scope.SEASON, season.getId(), SATURDAY.plusDays(7), SATURDAY.plusDays(7),
+      "School trip"));
+    blackoutService.save(new Blackout(Blackout.Scope.TEAM, away.getId(), SATURDAY.plusDays(14), SATURDAY.plusDays(14), null));
+
+    IllegalArgumentException seasonOut = assertThrows(IllegalArgumentException.class,
+      () -> gameService.reschedule(saved.getId(), SATURDAY.plusDays(7).atTime(9, 0), field));
+    assertTrue(seasonOut.getMessage().startsWith("The season is blacked out on"), seasonOut.getMessage());
+    assertTrue(seasonOut.getMessage().endsWith("(School trip)"), seasonOut.getMessage());
+    IllegalArgumentException teamOut = assertThrows(IllegalArgumentException.class,
+      () -> gameService.reschedule(saved.getId(), SATURDAY.plusDays(14).atTime(9, 0), field));
+    assertTrue(teamOut.getMessage().startsWith("The away team is blacked out on"), teamOut.getMessage());
+    assertDoesNotThrow(() -> gameService.reschedule(saved.getId(), SATURDAY.plusDays(21).atTime(9, 0), field));
+  }
+
+  @Test
+  void testGeneratedRoundsSkipBlackedOutDays() {
+    LocalDate today = LocalDate.now();
+    blackoutService.save(new Blackout(Blackout.Scope.LEAGUE, league.getId(), today, today.plusDays(1), "Tournament"));
+
+    List<Game> games = scheduleGeneratorService.generateAndPersist(league, season, true);
+
+    assertEquals(1, games.size());
+    assertEquals(today.plusDays(2), games.get(0).getGameDate().toLocalDate());
+  }
+
+  private List<LocalDate> saturdaysOnTestField() {
+    return freeSlotService.findOpenSlots(home.getId(), away.getId(), null, SATURDAY.atStartOfDay(), 1_000).stream()
+      .filter(slot -> slot.fieldId().equals(field.getId()) && slot.start().isBefore(SATURDAY.plusDays(14).atStartOfDay()))
+      .map(slot -> slot.start().toLocalDate())
+      .distinct()
+      .toList();
+  }
+
+  private Team team(String name) {
+    Team team = new Team(name);
+    team.setLeague(league);
+    return teamService.save(team);
+  }
+}
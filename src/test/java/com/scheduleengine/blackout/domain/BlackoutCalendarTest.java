@@ -0,0 +1,49 @@
+package com.scheduleengine.blackout.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlackoutCalendarTest {
+
+  private static final LocalDate DAY = LocalDate.of(2026, 12, 24);
+
+  @Test
+  void shouldBlackOutEveryDayOfTheRangeInclusive() {
+    BlackoutCalendar calendar = BlackoutCalendar.compile(List.of(
+      new Blackout(Blackout.Scope.FIELD, 1L, DAY, DAY.plusDays(2), "Holidays")));
+
+    assertFalse(calendar.isBlackedOut(Blackout.Scope.FIELD, 1L, DAY.minusDays(1)));
+    assertTrue(calendar.isBlackedOut(Blackout.Scope.FIELD, 1L, DAY));
+    assertTrue(calendar.isBlackedOut(Blackout.Scope.FIELD, 1L, DAY.plusDays(2)));
+    assertFalse(calendar.isBlackedOut(Blackout.Scope.FIELD, 1L, DAY.plusDays(3)));
+  }
+
+  @Test
+  void shouldKeepScopesAndOwnersApart() {
+    BlackoutCalendar calendar = BlackoutCalendar.compile(List.of(
+      new Blackout(Blackout.Scope.TEAM, 7L, DAY, DAY, null),
+      new Blackout(Blackout.Scope.LEAGUE, 3L, DAY.minusYears(1), DAY.minusYears(1), null)));
+
+    assertTrue(calendar.isBlackedOut(Blackout.Scope.TEAM, 7L, DAY));
+    assertFalse(calendar.isBlackedOut(Blackout.Scope.TEAM, 8L, DAY));
+    assertFalse(calendar.isBlackedOut(Blackout.Scope.FIELD, 7L, DAY));
+    assertFalse(calendar.isBlackedOut(Blackout.Scope.TEAM, null, DAY));
+    assertTrue(calendar.isBlackedOut(Blackout.Scope.LEAGUE, 3L, DAY.minusYears(1)));
+    assertFalse(calendar.isBlackedOut(Blackout.Scope.LEAGUE, 3L, DAY.minusYears(2)));
+  }
+
+  @Test
+  void shouldFindTheBlackoutBehindAHit() {
+    BlackoutCalendar calendar = BlackoutCalendar.compile(List.of(
+      new Blackout(Blackout.Scope.SEASON, 2L, DAY, DAY, "Christmas Eve"),
+      new Blackout(Blackout.Scope.SEASON, 2L, DAY.plusDays(7), DAY.plusDays(8), "New Year")));
+
+    assertEquals("New Year", calendar.find(Blackout.Scope.SEASON, 2L, DAY.plusDays(8)).orElseThrow().getReason());
+    assertTrue(calendar.find(Blackout.Scope.SEASON, 2L, DAY.plusDays(1)).isEmpty());
+    assertTrue(BlackoutCalendar.EMPTY.isEmpty());
+  }
+}
@@ -0,0 +1,65 @@
+package com.scheduleengine.cache;
+
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.league.service.LeagueService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test that writes made outside this process's Hibernate session factory, as another process attached
+ * through AUTO_SERVER would make them, clear the cached entities once they bump the cache version
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class CacheVersionTest {
+
+  @Autowired
+  private LeagueService leagueService;
+
+  @Autowired
+  private CacheVersionTransactionManager transactionManager;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Test
+  void testWriteFromAnotherProcessClearsCachedEntities() throws SQLException {
+    Long id = leagueService.save(new League("Cached League")).getId();
+    assertEquals("Cached League", leagueService.findById(id).orElseThrow().getName());
+
+    // Without a version bump the cached entity is still served
+    execute("update leagues set name = 'Renamed Elsewhere' where id = " + id);
+    assertEquals("Cached League", leagueService.findById(id).orElseThrow().getName());
+
+    execute("update cache_version set version = version + 1 where id = 1");
+    assertEquals("Renamed Elsewhere", leagueService.findById(id).orElseThrow().getName());
+  }
+
+  @Test
+  void testOwnWritesAdvanceTheVersionByOne() {
+    leagueService.findAll();
+    long before = transactionManager.getSeenVersion();
+
+    League league = leagueService.save(new League("Versioned League"));
+    league.setName("Versioned League Renamed");
+    leagueService.save(league);
+    leagueService.findAll();
+
+    assertEquals(before + 2, transactionManager.getSeenVersion());
+  }
+
+  private void execute(String sql) throws SQLException {
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      statement.executeUpdate(sql);
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.scheduleengine.common;
+
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IconIndexTest {
+
+  @Test
+  void blankQueryReturnsEveryIcon() {
+    assertEquals(FontAwesomeIcon.values().length, IconIndex.search(null).size());
+    assertSame(IconIndex.all(), IconIndex.search("  "));
+  }
+
+  @Test
+  void searchMatchesNameWordsAndKeywords() {
+    assertTrue(IconIndex.search("trophy").contains(FontAwesomeIcon.TROPHY));
+    assertTrue(IconIndex.search("USERS").contains(FontAwesomeIcon.USERS));
+    assertTrue(IconIndex.search("soccer").contains(FontAwesomeIcon.FUTBOL_ALT));
+    assertTrue(IconIndex.search("award").contains(FontAwesomeIcon.TROPHY));
+
+    // Every term must match, in any order
+    List<FontAwesomeIcon> calendarPlus = IconIndex.search("plus calendar");
+    assertTrue(calendarPlus.contains(FontAwesomeIcon.CALENDAR_PLUS_ALT));
+    assertFalse(calendarPlus.contains(FontAwesomeIcon.CALENDAR));
+  }
+
+  @Test
+  void repeatedQueriesAreServedFromTheIndex() {
+    assertSame(IconIndex.search("star"), IconIndex.search(" STAR "));
+    assertEquals(List.of(), IconIndex.search("no such glyph"));
+  }
+}
@@ -0,0 +1,260 @@
+package com.scheduleengine.common.service;
+
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.domain.FieldAvailability;
+import com.scheduleengine.field.domain.FieldUsageBlock;
+import com.scheduleengine.field.service.FieldAvailabilityService;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.field.service.FieldUsageBlockService;
+import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.service.GameService;
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.league.service.LeagueService;
+import com.scheduleengine.payment.domain.GroupTotal;
+import com.scheduleengine.payment.domain.Money;
+import com.scheduleengine.payment.domain.Transaction;
+import com.scheduleengine.payment.domain.TransactionReportFilter;
+import com.scheduleengine.payment.service.TransactionReportService;
+import com.scheduleengine.payment.service.TransactionService;
+import com.scheduleengine.player.domain.Player;
+import com.scheduleengine.player.service.PlayerService;
+import com.scheduleengine.season.domain.Season;
+import com.scheduleengine.season.service.SeasonService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import com.scheduleengine.tournament.domain.Tournament;
+import com.scheduleengine.tournament.domain.TournamentRegistration;
+import com.scheduleengine.tournament.service.TournamentRegistrationService;
+import com.scheduleengine.tournament.service.TournamentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that season, team, field and league deletion removes dependent rows with bulk
+ * statements and reports how many rows went from each table
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class CascadeDeleteServiceTest {
+  private static final Logger log = LoggerFactory.getLogger(CascadeDeleteServiceTest.class);
+  private static final int BULK_GAMES = 100_000;
+
+  @Autowired
+  private CascadeDeleteService cascadeDeleteService;
+
+  @Autowired
+  private LeagueService leagueService;
+
+  @Autowired
+  private SeasonService seasonService;
+
+  @Autowired
+  private TeamService teamService;
+
+  @Autowired
+  private FieldService fieldService;
+
+  @Autowired
+  private FieldAvailabilityService availabilityService;
+
+  @Autowired
+  private FieldUsageBlockService usageBlockService;
+
+  @Autowired
+  private GameService gameService;
+
+  @Autowired
+  private PlayerService playerService;
+
+  @Autowired
+  private TournamentService tournamentService;
+
+  @Autowired
+  private TournamentRegistrationService registrationService;
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private TransactionReportService reportService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private League league;
+  private Season season;
+  private Team home;
+  private Team away;
+  private Field field;
+
+  @BeforeEach
+  void setUp() {
+    league = leagueService.save(new League("Cascade League"));
+    Season newSeason = new Season("Cascade Season", LocalDate.of(2026, 3, 1), LocalDate.of(2026, 8, 31));
+    newSeason.setLeague(league);
+    season = seasonService.save(newSeason);
+    home = team("Cascade Home");
+    away = team("Cascade Away");
+    field = fieldService.save(new Field("Cascade Field"));
+  }
+
+  @Test
+  void testDeleteSeasonRemovesAHundredThousandGames() {
+    insertGames(BULK_GAMES, season.getId(), field.getId());
+    Game elsewhere = gameService.save(new Game(LocalDateTime.of(2026, 4, 1, 10, 0), home, away));
+
+    long start = System.nanoTime();
+    CascadeDeleteService.DeletionResult result = cascadeDeleteService.deleteSeason(season.getId());
+    log.info("Deleted season with {} games in {} ms", BULK_GAMES, (System.nanoTime() - start) / 1_000_000);
+
+    assertEquals(BULK_GAMES, result.count("games"));
+    assertEquals(1, result.count("seasons"));
+    assertEquals("100,000 games, 1 season", result.describe());
+    assertTrue(seasonService.findById(season.getId()).isEmpty());
+    assertTrue(gameService.findById(elsewhere.getId()).isPresent());
+  }
+
+  @Test
+  void testDeleteTeamRemovesGamesPlayersAndRegistrations() {
+    insertGames(3, season.getId(), null);
+    Game awayGame = gameService.save(new Game(LocalDateTime.of(2026, 4, 1, 10, 0), away, home));
+    Player player = new Player("Ada", "Cascade");
+    player.setTeam(home);
+    playerService.save(player);
+    Player other = new Player("Bo", "Remains");
+    other.setTeam(away);
+    playerService.save(other);
+
+    Tournament tournament = new Tournament();
+    tournament.setName("Cascade Cup");
+    tournament.setType(Tournament.TournamentType.OPEN);
+    tournament.setStartDate(LocalDate.of(2026, 6, 1));
+    tournament.setEndDate(LocalDate.of(2026, 6, 2));
+    tournament = tournamentService.save(tournament);
+    TournamentRegistration registration = new TournamentRegistration();
+    registration.setTournament(tournament);
+    registration.setTeam(home);
+    registration.setRegistrationDate(LocalDateTime.of(2026, 5, 1, 9, 0));
+    registrationService.save(registration);
+
+    CascadeDeleteService.DeletionResult result = cascadeDeleteService.deleteTeam(home.getId());
+
+    assertEquals(4, result.count("games"));
+    assertEquals(1, result.count("registrations"));
+    assertEquals(1, result.count("players"));
+    assertEquals(1, result.count("teams"));
+    assertTrue(gameService.findById(awayGame.getId()).isEmpty());
+    assertTrue(playerService.findById(other.getId()).isPresent());
+    assertTrue(teamService.findById(away.getId()).isPresent());
+  }
+
+  @Test
+  void testDeleteFieldRemovesGamesAvailabilityAndUsageBlocks() {
+    insertGames(5, season.getId(), field.getId());
+    insertGames(2, season.getId(), null);
+    availabilityService.save(new FieldAvailability(field, DayOfWeek.SATURDAY, LocalTime.of(8, 0), LocalTime.of(18, 0)));
+    usageBlockService.save(new FieldUsageBlock(field, DayOfWeek.SUNDAY, FieldUsageBlock.UsageType.PRACTICE,
+      LocalTime.of(9, 0), LocalTime.of(11, 0), null));
+
+    CascadeDeleteService.DeletionResult result = cascadeDeleteService.deleteField(field.getId());
+
+    assertEquals(5, result.count("games"));
+    assertEquals(1, result.count("availability windows"));
+    assertEquals(1, result.count("usage blocks"));
+    assertEquals(1, result.count("fields"));
+    assertEquals(2, gameService.findBySeasonId(season.getId()).size());
+  }
+
+  @Test
+  void testDeleteLeagueRemovesSeasonsTeamsAndGames() {
+    insertGames(10, season.getId(), field.getId());
+    Player player = new Player("Cy", "Cascade");
+    player.setTeam(away);
+    playerService.save(player);
+
+    CascadeDeleteService.DeletionResult result = cascadeDeleteService.deleteLeague(league.getId());
+
+    assertEquals(10, result.count("games"));
+    assertEquals(1, result.count("players"));
+    assertEquals(2, result.count("teams"));
+    assertEquals(1, result.count("seasons"));
+    assertEquals(1, result.count("leagues"));
+    assertTrue(leagueService.findById(league.getId()).isEmpty());
+    assertTrue(fieldService.findById(field.getId()).isPresent());
+  }
+
+  @Test
+  void testServiceDeletesCascadeAndRefreshReportRollups() {
+    insertGames(3, season.getId(), field.getId());
+    Transaction invoice = new Transaction();
+    invoice.setPartyType(Transaction.PartyType.TEAM);
+    invoice.setPartyId(home.getId());
+    invoice.setCategory(Transaction.Category.INVOICE);
+    invoice.setDate(LocalDate.of(2026, 3, 1));
+    invoice.setAmount(Money.ofCents(1000));
+    invoice.setStatus(Transaction.Status.PENDING);
+    transactionService.save(invoice);
+    TransactionReportFilter filter = new TransactionReportFilter(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 1), null);
+    assertTrue(teamNames(filter).contains("Cascade Home"));
+
+    // Games reference all three; plain row deletes would hit their foreign keys
+    teamService.deleteById(home.getId());
+    fieldService.deleteById(field.getId());
+    seasonService.deleteById(season.getId());
+
+    assertFalse(teamNames(filter).contains("Cascade Home"));
+    assertTrue(teamService.findById(home.getId()).isEmpty());
+    assertTrue(fieldService.findById(field.getId()).isEmpty());
+    assertTrue(seasonService.findById(season.getId()).isEmpty());
+  }
+
+  private List<String> teamNames(TransactionReportFilter filter) {
+    return reportService.totalsByTeam(filter).stream().map(GroupTotal::name).toList();
+  }
+
+  @Test
+  void testDeleteLeagueRefusesWhileTournamentsBelongToIt() {
+    Tournament tournament = new Tournament();
+    tournament.setName("Cascade League Cup");
+    tournament.setType(Tournament.TournamentType.LEAGUE);
+    tournament.setLeague(league);
+    tournament.setStartDate(LocalDate.of(2026, 6, 1));
+    tournament.setEndDate(LocalDate.of(2026, 6, 2));
+    tournamentService.save(tournament);
+
+    IllegalStateException ex = assertThrows(IllegalStateException.class,
+      () -> cascadeDeleteService.deleteLeague(league.getId()));
+    assertTrue(ex.getMessage().contains("1 tournament"));
+    assertTrue(leagueService.findById(league.getId()).isPresent());
+  }
+
+  private Team team(String name) {
+    Team team = new Team(name);
+    team.setLeague(league);
+    return teamService.save(team);
+  }
+
+  private void insertGames(int count, Long seasonId, Long fieldId) {
+    jdbcTemplate.update("""
+        insert into games (home_team_id, away_team_id, field_id, season_id, game_date, status)
+        select ?, ?, ?, ?, dateadd('MINUTE', x, timestamp '2026-03-01 09:00:00'), 'SCHEDULED'
+        from system_range(1, ?)""",
+      home.getId(), away.getId(), fieldId, seasonId, count);
+  }
+}
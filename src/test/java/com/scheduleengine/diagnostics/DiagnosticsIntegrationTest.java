@@ -0,0 +1,96 @@
+package com.scheduleengine.diagnostics;
+
+import com.scheduleengine.diagnostics.domain.ServiceTiming;
+import com.scheduleengine.diagnostics.domain.Stat;
+import com.scheduleengine.diagnostics.service.DiagnosticsService;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.game.service.GameService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that service calls, Hibernate statistics and pool meters reach the diagnostics view
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+// Tests otherwise swap the metrics registries for a simple in-memory one; keep the Prometheus registry
+@AutoConfigureObservability(tracing = false)
+public class DiagnosticsIntegrationTest {
+
+  @Autowired
+  private DiagnosticsService diagnosticsService;
+
+  @Autowired
+  private GameService gameService;
+
+  @Autowired
+  private FieldService fieldService;
+
+  @Test
+  void shouldTimeAnnotatedServiceMethods() {
+    gameService.findAll();
+    gameService.findAll();
+    fieldService.findAll();
+
+    List<ServiceTiming> timings = diagnosticsService.serviceTimings();
+
+    ServiceTiming findGames = timings.stream()
+      .filter(t -> t.service().equals("GameService") && t.method().equals("findAll"))
+      .findFirst().orElseThrow();
+    assertTrue(findGames.calls() >= 2);
+    assertEquals(0, findGames.failures());
+    assertTrue(timings.stream().anyMatch(t -> t.service().equals("FieldService")));
+  }
+
+  @Test
+  void shouldReportHibernateAndPoolStatistics() {
+    gameService.findAll();
+
+    List<Stat> hibernate = diagnosticsService.hibernateStats();
+    List<Stat> pool = diagnosticsService.poolStats();
+
+    assertEquals("Queries executed", hibernate.get(0).name());
+    assertTrue(Long.parseLong(hibernate.get(0).value()) > 0);
+    Stat maxConnections = pool.stream().filter(s -> s.name().equals("Maximum connections")).findFirst().orElseThrow();
+    assertNotEquals("n/a", maxConnections.value());
+  }
+
+  @Test
+  void shouldExportJsonAndPrometheusText() throws Exception {
+    gameService.findAll();
+
+    String json = diagnosticsService.toJson();
+    String prometheus = diagnosticsService.toPrometheus();
+
+    assertTrue(json.contains("\"services\""));
+    assertTrue(json.contains("GameService"));
+    assertTrue(prometheus.contains("scheduleengine_service_seconds_count"));
+    assertTrue(prometheus.contains("hikaricp_connections"));
+  }
+
+  @Test
+  void shouldRecordRepositoryQueriesToFlightRecording(@TempDir Path dir) throws Exception {
+    Path file = dir.resolve("test.jfr");
+
+    diagnosticsService.startRecording();
+    gameService.findAll();
+    diagnosticsService.stopRecording(file);
+
+    List<RecordedEvent> queries = RecordingFile.readAllEvents(file).stream()
+      .filter(e -> e.getEventType().getName().equals("com.scheduleengine.RepositoryQuery"))
+      .toList();
+    assertFalse(diagnosticsService.isRecording());
+    assertTrue(queries.stream().anyMatch(e -> e.getString("method").equals("GameRepository.findAll")));
+  }
+}
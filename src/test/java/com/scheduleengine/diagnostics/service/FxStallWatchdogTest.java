@@ -0,0 +1,73 @@
+package com.scheduleengine.diagnostics.service;
+
+import com.scheduleengine.diagnostics.domain.FxStall;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FxStallWatchdogTest {
+
+  @Test
+  void shouldAttributeStallToViewAndCalledServiceMethod() {
+    StackTraceElement[] stack = {
+      frame("java.net.SocketInputStream", "read"),
+      frame("com.scheduleengine.payment.repository.TransactionRepository", "save"),
+      frame("com.scheduleengine.payment.service.TransactionService", "validate"),
+      frame("com.scheduleengine.payment.service.TransactionService$$SpringCGLIB$$0", "save"),
+      frame("com.scheduleengine.payment.PaymentsView", "lambda$showAddTransactionDialog$12"),
+      frame("javafx.scene.control.Dialog", "showAndWait")
+    };
+
+    FxStall stall = FxStallWatchdog.attribute(Instant.EPOCH, 800, stack);
+
+    assertEquals("PaymentsView.showAddTransactionDialog", stall.view());
+    assertEquals("TransactionService.save", stall.serviceMethod());
+    assertEquals(6, stall.stack().size());
+  }
+
+  @Test
+  void shouldLogStallWhenPingIsHeldUp() throws Exception {
+    ExecutorService fx = Executors.newSingleThreadExecutor(r -> new Thread(r, "fake-fx"));
+    Thread fxThread = fx.submit(Thread::currentThread).get();
+    FxStallWatchdog watchdog = new FxStallWatchdog(fxThread, fx, Duration.ofMillis(100), new SimpleMeterRegistry());
+    watchdog.start();
+    try {
+      Thread.sleep(100);
+      fx.submit(() -> sleep(400));
+      // Give the watchdog time to see the ping answered after the stall
+      long deadline = System.currentTimeMillis() + 3000;
+      while (watchdog.stalls().isEmpty() && System.currentTimeMillis() < deadline) {
+        Thread.sleep(50);
+      }
+    } finally {
+      watchdog.stop();
+      fx.shutdownNow();
+      fx.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    List<FxStall> stalls = watchdog.stalls();
+    assertEquals(1, stalls.size());
+    assertTrue(stalls.get(0).durationMs() >= 100);
+    assertTrue(stalls.get(0).stack().stream().anyMatch(f -> f.contains("FxStallWatchdogTest")));
+  }
+
+  private static StackTraceElement frame(String className, String method) {
+    return new StackTraceElement(className, method, null, -1);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.scheduleengine.field.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldDistanceMatrixTest {
+
+  // Westminster, Trafalgar Square and Oxford
+  private static final FieldDistanceMatrix.Location WESTMINSTER = new FieldDistanceMatrix.Location(10L, 51.5007, -0.1246);
+  private static final FieldDistanceMatrix.Location TRAFALGAR = new FieldDistanceMatrix.Location(20L, 51.5081, -0.1281);
+  private static final FieldDistanceMatrix.Location OXFORD = new FieldDistanceMatrix.Location(30L, 51.7520, -1.2577);
+
+  @Test
+  void shouldComputeSymmetricGreatCircleDistances() {
+    FieldDistanceMatrix matrix = FieldDistanceMatrix.compile(List.of(OXFORD, WESTMINSTER, TRAFALGAR), 40);
+
+    assertEquals(3, matrix.size());
+    assertEquals(0.86, matrix.kilometres(10L, 20L), 0.01);
+    assertEquals(83.1, matrix.kilometres(10L, 30L), 0.1);
+    assertEquals(matrix.kilometres(30L, 10L), matrix.kilometres(10L, 30L));
+    assertEquals(0, matrix.kilometres(30L, 30L));
+    // 83.06 km at 40 km/h, rounded up
+    assertEquals(125, matrix.minutes(10L, 30L));
+    assertEquals(2, matrix.minutes(20L, 10L));
+  }
+
+  @Test
+  void shouldIndexFieldsInIdOrder() {
+    FieldDistanceMatrix matrix = FieldDistanceMatrix.compile(List.of(OXFORD, WESTMINSTER, TRAFALGAR), 40);
+
+    assertEquals(0, matrix.indexOf(10L));
+    assertEquals(2, matrix.indexOf(30L));
+    assertEquals(-1, matrix.indexOf(15L));
+    assertEquals(-1, matrix.indexOf(null));
+    assertEquals(matrix.kilometres(10L, 30L), matrix.kilometres(0, 2));
+  }
+
+  @Test
+  void shouldLeaveDistancesWithoutCoordinatesUnknown() {
+    FieldDistanceMatrix matrix = FieldDistanceMatrix.compile(List.of(WESTMINSTER,
+      new FieldDistanceMatrix.Location(40L, null, null)), 40);
+
+    assertTrue(Float.isNaN(matrix.kilometres(10L, 40L)));
+    assertEquals(-1, matrix.minutes(40L, 10L));
+    assertEquals(0, matrix.minutes(40L, 40L));
+    assertTrue(Float.isNaN(matrix.kilometres(10L, 99L)));
+    // Never further than any limit
+    assertFalse(matrix.kilometres(10L, 40L) > 1);
+  }
+}
@@ -1,10 +1,12 @@
 package com.scheduleengine.field.repository;
 
 import com.scheduleengine.field.domain.Field;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +19,9 @@ class FieldRepositoryTest {
   @Autowired
   private FieldRepository fieldRepository;
 
+  @Autowired
+  private TestEntityManager entityManager;
+
   private Field testField;
 
   @BeforeEach
@@ -131,5 +136,14 @@ class FieldRepositoryTest {
     assertEquals("", found.get().getFacilities());
   }
 
-}
+  @Test
+  void shouldMapFieldIntoSecondLevelCache() {
+    SessionFactoryImplementor sessionFactory = entityManager.getEntityManager()
+      .getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
 
+    assertTrue(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled());
+    assertTrue(sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled());
+    assertTrue(sessionFactory.getMappingMetamodel().getEntityDescriptor(Field.class).canReadFromCache());
+  }
+
+}
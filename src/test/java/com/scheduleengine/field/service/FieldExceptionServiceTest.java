@@ -0,0 +1,81 @@
+package com.scheduleengine.field.service;
+
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.domain.FieldException;
+import com.scheduleengine.field.repository.FieldExceptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FieldExceptionServiceTest {
+
+  private static final LocalDate DATE = LocalDate.of(2099, 7, 4);
+
+  @Mock
+  private FieldExceptionRepository repository;
+
+  private FieldExceptionService service;
+  private Field testField;
+
+  @BeforeEach
+  void setUp() {
+    service = new FieldExceptionService(repository);
+    testField = new Field("Test Field");
+    testField.setId(1L);
+  }
+
+  @Test
+  void shouldFindByFieldBetweenDates() {
+    FieldException closure = new FieldException(testField, DATE, FieldException.Kind.CLOSED, null, null, "Holiday");
+    when(repository.findByFieldIdAndDateBetweenOrderByDateAscStartTimeAsc(1L, DATE, DATE.plusDays(6)))
+      .thenReturn(List.of(closure));
+
+    List<FieldException> result = service.findByFieldBetween(1L, DATE, DATE.plusDays(6));
+
+    assertEquals(List.of(closure), result);
+    assertTrue(result.get(0).isAllDay());
+  }
+
+  @Test
+  void shouldSaveAllDayClosure() {
+    FieldException closure = new FieldException(testField, DATE, FieldException.Kind.CLOSED, null, null, "Holiday");
+    when(repository.save(closure)).thenReturn(closure);
+
+    assertSame(closure, service.save(closure));
+  }
+
+  @Test
+  void shouldRejectExtraHoursWithoutTimes() {
+    FieldException open = new FieldException(testField, DATE, FieldException.Kind.OPEN, null, null, null);
+
+    assertThrows(IllegalArgumentException.class, () -> service.save(open));
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  void shouldRejectWindowEndingBeforeItStarts() {
+    FieldException closure = new FieldException(testField, DATE, FieldException.Kind.CLOSED,
+      LocalTime.of(12, 0), LocalTime.of(10, 0), null);
+
+    assertThrows(IllegalArgumentException.class, () -> service.save(closure));
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  void shouldDeleteById() {
+    service.delete(5L);
+
+    verify(repository).deleteById(5L);
+  }
+}
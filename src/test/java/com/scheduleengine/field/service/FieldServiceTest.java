@@ -1,5 +1,6 @@
 package com.scheduleengine.field.service;
 
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.field.domain.Field;
 import com.scheduleengine.field.repository.FieldRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,12 +23,15 @@ class FieldServiceTest {
   @Mock
   private FieldRepository fieldRepository;
 
+  @Mock
+  private CascadeDeleteService cascadeDeleteService;
+
   private FieldService fieldService;
   private Field testField;
 
   @BeforeEach
   void setUp() {
-    fieldService = new FieldService(fieldRepository);
+    fieldService = new FieldService(fieldRepository, cascadeDeleteService);
     testField = new Field("Memorial Stadium");
     testField.setId(1L);
   }
@@ -96,7 +100,8 @@ class FieldServiceTest {
   void shouldDeleteFieldById() {
     fieldService.deleteById(1L);
 
-    verify(fieldRepository, times(1)).deleteById(1L);
+    verify(cascadeDeleteService, times(1)).deleteField(1L);
+    verify(fieldRepository, never()).deleteById(any());
   }
 
   @Test
@@ -0,0 +1,182 @@
+package com.scheduleengine.game;
+
+import com.scheduleengine.common.service.CascadeDeleteService;
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.game.domain.FeedResult;
+import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.service.CalendarFeedService;
+import com.scheduleengine.game.service.GameService;
+import com.scheduleengine.season.domain.Season;
+import com.scheduleengine.season.service.SeasonService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that calendar feeds are valid iCalendar files and that regenerating them only
+ * rewrites the feeds whose games changed
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class CalendarFeedTest {
+
+  private static final LocalDate DAY = LocalDate.of(2099, 6, 6);
+
+  @Autowired
+  private CalendarFeedService calendarFeedService;
+
+  @Autowired
+  private GameService gameService;
+
+  @Autowired
+  private SeasonService seasonService;
+
+  @Autowired
+  private FieldService fieldService;
+
+  @Autowired
+  private TeamService teamService;
+
+  @Autowired
+  private CascadeDeleteService cascadeDeleteService;
+
+  @TempDir
+  Path directory;
+
+  private Season season;
+  private Field field;
+  private Team hawks;
+  private Team owls;
+  private Team crows;
+  private Team wrens;
+
+  @BeforeEach
+  void setUp() {
+    season = seasonService.save(new Season("Feed Season", DAY, DAY.plusDays(30)));
+    field = new Field("Feed Field");
+    field.setAddress("1 Park Road; North Side");
+    field = fieldService.save(field);
+    hawks = teamService.save(new Team("Feed Hawks"));
+    owls = teamService.save(new Team("Feed Owls"));
+    crows = teamService.save(new Team("Feed Crows"));
+    wrens = teamService.save(new Team("Feed Wrens"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    cascadeDeleteService.deleteSeason(season.getId());
+    cascadeDeleteService.deleteField(field.getId());
+    for (Team team : List.of(hawks, owls, crows, wrens)) {
+      cascadeDeleteService.deleteTeam(team.getId());
+    }
+  }
+
+  @Test
+  void testTeamFeedIsWrittenAsICalendar() throws IOException {
+    Game game = game(hawks, owls, 0);
+    game.setNotes("Bring water, sunscreen and a very long note that has to be folded over more than one line");
+    gameService.save(game);
+    gameService.save(game(crows, hawks, 7));
+
+    FeedResult result = calendarFeedService.writeTeamFeed(hawks.getId(), directory);
+
+    assertTrue(result.written());
+    assertEquals(2, result.events());
+    assertEquals(directory.resolve("team-" + hawks.getId() + ".ics"), result.file());
+    String ics = Files.readString(result.file(), StandardCharsets.UTF_8);
+    assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"), ics);
+    assertTrue(ics.endsWith("END:VCALENDAR\r\n"), ics);
+    assertTrue(ics.contains("X-WR-CALNAME:Feed Hawks\r\n"), ics);
+    assertTrue(ics.contains("SUMMARY:Feed Hawks vs Feed Owls\r\n"), ics);
+    assertTrue(ics.contains("LOCATION:Feed Field\\, 1 Park Road\\; North Side\r\n"), ics);
+    assertTrue(ics.contains("UID:game-" + game.getId() + "@schedule-engine\r\n"), ics);
+    assertTrue(ics.contains("SEQUENCE:0\r\n"), ics);
+    assertEquals(2, ics.split("BEGIN:VEVENT", -1).length - 1);
+    for (String line : ics.split("\r\n")) {
+      assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+      assertFalse(line.contains("\n"), line);
+    }
+  }
+
+  @Test
+  void testGameWithoutStatusIsConfirmed() throws IOException {
+    Game game = game(hawks, owls, 0);
+    game.setStatus(null);
+    gameService.save(game);
+
+    FeedResult result = calendarFeedService.writeTeamFeed(hawks.getId(), directory);
+
+    assertEquals(1, result.events());
+    assertTrue(Files.readString(result.file(), StandardCharsets.UTF_8).contains("STATUS:CONFIRMED\r\n"));
+  }
+
+  @Test
+  void testOnlyFeedsWithChangedGamesAreRewritten() throws IOException {
+    Game hawksOwls = gameService.save(game(hawks, owls, 0));
+    gameService.save(game(crows, wrens, 0));
+    calendarFeedService.writeTeamFeed(hawks.getId(), directory);
+    calendarFeedService.writeTeamFeed(crows.getId(), directory);
+    String before = Files.readString(directory.resolve("team-" + hawks.getId() + ".ics"));
+
+    FeedResult unchanged = calendarFeedService.writeTeamFeed(hawks.getId(), directory);
+    assertFalse(unchanged.written());
+    assertEquals(before, Files.readString(unchanged.file()));
+
+    gameService.reschedule(hawksOwls.getId(), DAY.plusDays(1).atTime(12, 0), null);
+
+    FeedResult rescheduled = calendarFeedService.writeTeamFeed(hawks.getId(), directory);
+    assertTrue(rescheduled.written());
+    assertEquals(1, rescheduled.changed());
+    assertTrue(Files.readString(rescheduled.file()).contains("SEQUENCE:1\r\n"));
+    assertFalse(calendarFeedService.writeTeamFeed(crows.getId(), directory).written());
+
+    gameService.deleteById(hawksOwls.getId());
+    FeedResult removed = calendarFeedService.writeTeamFeed(hawks.getId(), directory);
+    assertTrue(removed.written());
+    assertEquals(0, removed.events());
+    assertEquals(1, removed.removed());
+  }
+
+  @Test
+  void testBatchWritesEveryTeamFeed() {
+    gameService.save(game(hawks, owls, 0));
+    gameService.save(game(crows, wrens, 0));
+
+    Map<Path, FeedResult> results = calendarFeedService.writeAllTeamFeeds(directory).stream()
+      .collect(Collectors.toMap(FeedResult::file, Function.identity()));
+
+    for (Team team : List.of(hawks, owls, crows, wrens)) {
+      FeedResult result = results.get(directory.resolve("team-" + team.getId() + ".ics"));
+      assertNotNull(result, team.getName());
+      assertEquals(1, result.events());
+      assertTrue(Files.exists(result.file()));
+    }
+    assertTrue(calendarFeedService.writeAllTeamFeeds(directory).stream().noneMatch(FeedResult::written));
+  }
+
+  private Game game(Team homeTeam, Team awayTeam, int dayOffset) {
+    Game game = new Game(DAY.plusDays(dayOffset).atTime(10, 0), homeTeam, awayTeam);
+    game.setField(field);
+    game.setSeason(season);
+    return game;
+  }
+}
@@ -0,0 +1,152 @@
+package com.scheduleengine.game;
+
+import com.scheduleengine.common.service.CascadeDeleteService;
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.domain.FieldAvailability;
+import com.scheduleengine.field.domain.FieldException;
+import com.scheduleengine.field.domain.FieldUsageBlock;
+import com.scheduleengine.field.service.FieldAvailabilityService;
+import com.scheduleengine.field.service.FieldExceptionService;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.field.service.FieldUsageBlockService;
+import com.scheduleengine.game.service.FieldCalendarResolver;
+import com.scheduleengine.game.service.FreeSlotService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that dated field exceptions are layered over the weekly hours and usage blocks, and
+ * that the resolved calendar, slot suggestions and conflict checks follow them as they change
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class FieldExceptionIntegrationTest {
+
+  private static final LocalDate SATURDAY = LocalDate.of(2099, 6, 1).with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+  private static final int CELLS_PER_HOUR = 60 / FreeSlotService.CELL_MINUTES;
+
+  @Autowired
+  private FieldCalendarResolver calendarResolver;
+
+  @Autowired
+  private FreeSlotService freeSlotService;
+
+  @Autowired
+  private FieldExceptionService exceptionService;
+
+  @Autowired
+  private FieldService fieldService;
+
+  @Autowired
+  private FieldAvailabilityService availabilityService;
+
+  @Autowired
+  private FieldUsageBlockService usageBlockService;
+
+  @Autowired
+  private TeamService teamService;
+
+  @Autowired
+  private CascadeDeleteService cascadeDeleteService;
+
+  private Field field;
+  private Team home;
+  private Team away;
+
+  @BeforeEach
+  void setUp() {
+    field = fieldService.save(new Field("Exception Test Field"));
+    availabilityService.save(new FieldAvailability(field, DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(13, 0)));
+    usageBlockService.save(new FieldUsageBlock(field, DayOfWeek.SATURDAY, FieldUsageBlock.UsageType.PRACTICE,
+      LocalTime.of(11, 0), LocalTime.of(11, 30), null));
+    home = teamService.save(new Team("Exception Home"));
+    away = teamService.save(new Team("Exception Away"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    cascadeDeleteService.deleteField(field.getId());
+    cascadeDeleteService.deleteTeam(home.getId());
+    cascadeDeleteService.deleteTeam(away.getId());
+  }
+
+  @Test
+  void testExceptionsLayerOverTheWeeklyPattern() {
+    assertEquals(cells(9, 11, 11.5, 13), calendarResolver.openCells(field.getId(), SATURDAY));
+
+    // Extra hours override the usage block and extend the day; the following Saturday is untouched
+    exceptionService.save(new FieldException(field, SATURDAY, FieldException.Kind.OPEN, LocalTime.of(11, 0),
+      LocalTime.of(16, 0), "Extended for playoffs"));
+    assertEquals(cells(9, 16), calendarResolver.openCells(field.getId(), SATURDAY));
+    assertEquals(cells(9, 11, 11.5, 13), calendarResolver.openCells(field.getId(), SATURDAY.plusWeeks(1)));
+
+    // A closure wins over extra hours on the same date
+    FieldException closure = exceptionService.save(new FieldException(field, SATURDAY, FieldException.Kind.CLOSED,
+      LocalTime.of(12, 0), LocalTime.of(14, 0), "Line painting"));
+    assertEquals(cells(9, 12, 14, 16), calendarResolver.openCells(field.getId(), SATURDAY));
+
+    // Moving the closure to a whole day in the next month rebuilds both months
+    closure.setDate(SATURDAY.plusMonths(1).with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY)));
+    closure.setStartTime(null);
+    closure.setEndTime(null);
+    exceptionService.save(closure);
+    assertEquals(cells(9, 16), calendarResolver.openCells(field.getId(), SATURDAY));
+    assertTrue(calendarResolver.openCells(field.getId(), closure.getDate()).isEmpty());
+
+    exceptionService.delete(closure.getId());
+    assertEquals(cells(9, 11, 11.5, 13), calendarResolver.openCells(field.getId(), closure.getDate()));
+  }
+
+  @Test
+  void testSlotsAndConflictsFollowExceptions() {
+    assertEquals(List.of(LocalTime.of(9, 0), LocalTime.of(11, 30)), startsOnTestField());
+
+    exceptionService.save(new FieldException(field, SATURDAY, FieldException.Kind.CLOSED, LocalTime.of(9, 0),
+      LocalTime.of(10, 0), null));
+    assertEquals(List.of(LocalTime.of(11, 30)), startsOnTestField());
+    Optional<String> conflict = freeSlotService.findConflict(null, null, field.getId(), home.getId(), away.getId(),
+      SATURDAY.atTime(9, 0));
+    assertTrue(conflict.orElseThrow().startsWith("Exception Test Field is not available"));
+
+    exceptionService.save(new FieldException(field, SATURDAY, FieldException.Kind.OPEN, LocalTime.of(17, 0),
+      LocalTime.of(20, 0), null));
+    assertEquals(List.of(LocalTime.of(11, 30), LocalTime.of(17, 0), LocalTime.of(18, 30)), startsOnTestField());
+    assertTrue(freeSlotService.findConflict(null, null, field.getId(), home.getId(), away.getId(),
+      SATURDAY.atTime(18, 0)).isEmpty());
+  }
+
+  private List<LocalTime> startsOnTestField() {
+    // Seeded fields are open too, so ask for enough slots to cover the whole day
+    return freeSlotService.findOpenSlots(home.getId(), away.getId(), null, SATURDAY.atStartOfDay(), 1_000).stream()
+      .filter(slot -> slot.fieldId().equals(field.getId()) && slot.start().toLocalDate().equals(SATURDAY))
+      .map(slot -> slot.start().toLocalTime())
+      .toList();
+  }
+
+  /**
+   * Cells for the given from/to hour pairs
+   */
+  private static BitSet cells(double... hours) {
+    BitSet cells = new BitSet(FreeSlotService.CELLS_PER_DAY);
+    for (int i = 0; i < hours.length; i += 2) {
+      cells.set((int) (hours[i] * CELLS_PER_HOUR), (int) (hours[i + 1] * CELLS_PER_HOUR));
+    }
+    return cells;
+  }
+}
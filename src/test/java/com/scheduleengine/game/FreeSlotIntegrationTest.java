@@ -0,0 +1,118 @@
+package com.scheduleengine.game;
+
+import com.scheduleengine.common.service.CascadeDeleteService;
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.domain.FieldAvailability;
+import com.scheduleengine.field.domain.FieldUsageBlock;
+import com.scheduleengine.field.service.FieldAvailabilityService;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.field.service.FieldUsageBlockService;
+import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.service.FreeSlotService;
+import com.scheduleengine.game.service.GameService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that open slot suggestions follow field availability, usage blocks and committed
+ * games without reloading the catalog
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class FreeSlotIntegrationTest {
+
+  private static final LocalDate SATURDAY = LocalDate.of(2099, 1, 1).with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+
+  @Autowired
+  private FreeSlotService freeSlotService;
+
+  @Autowired
+  private FieldService fieldService;
+
+  @Autowired
+  private FieldAvailabilityService availabilityService;
+
+  @Autowired
+  private FieldUsageBlockService usageBlockService;
+
+  @Autowired
+  private TeamService teamService;
+
+  @Autowired
+  private GameService gameService;
+
+  @Autowired
+  private CascadeDeleteService cascadeDeleteService;
+
+  private Field field;
+  private Team home;
+  private Team away;
+  private Team other;
+
+  @BeforeEach
+  void setUp() {
+    freeSlotService.preload();
+    field = fieldService.save(new Field("Slot Test Field"));
+    availabilityService.save(new FieldAvailability(field, DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(13, 0)));
+    usageBlockService.save(new FieldUsageBlock(field, DayOfWeek.SATURDAY, FieldUsageBlock.UsageType.PRACTICE,
+      LocalTime.of(11, 0), LocalTime.of(11, 30), null));
+    home = teamService.save(new Team("Slot Home"));
+    away = teamService.save(new Team("Slot Away"));
+    other = teamService.save(new Team("Slot Other"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    cascadeDeleteService.deleteField(field.getId());
+    for (Team team : List.of(home, away, other)) {
+      cascadeDeleteService.deleteTeam(team.getId());
+    }
+  }
+
+  @Test
+  void testSlotsAvoidUsageBlocksAndBookedGames() {
+    assertEquals(List.of(LocalTime.of(9, 0), LocalTime.of(11, 30)), startsOnTestField(null));
+
+    // The field is taken 09:00-10:30, leaving too little time before the usage block
+    Game fieldTaken = gameService.save(game(other, away, field, LocalTime.of(9, 0)));
+    assertEquals(List.of(LocalTime.of(11, 30)), startsOnTestField(null));
+
+    // The home team plays elsewhere at noon, overlapping the 11:30 slot
+    Game teamBusy = gameService.save(game(home, other, null, LocalTime.of(12, 0)));
+    assertEquals(List.of(), startsOnTestField(null));
+    assertEquals(List.of(LocalTime.of(11, 30)), startsOnTestField(teamBusy.getId()));
+
+    teamBusy.setStatus(Game.GameStatus.CANCELLED);
+    gameService.save(teamBusy);
+    gameService.deleteById(fieldTaken.getId());
+    assertEquals(List.of(LocalTime.of(9, 0), LocalTime.of(11, 30)), startsOnTestField(null));
+  }
+
+  private List<LocalTime> startsOnTestField(Long excludeGameId) {
+    // Seeded fields are open too, so ask for enough slots to cover the whole day
+    return freeSlotService.findOpenSlots(home.getId(), away.getId(), excludeGameId, SATURDAY.atStartOfDay(), 1_000).stream()
+      .filter(slot -> slot.fieldId().equals(field.getId()) && slot.start().toLocalDate().equals(SATURDAY))
+      .map(slot -> slot.start().toLocalTime())
+      .toList();
+  }
+
+  private static Game game(Team homeTeam, Team awayTeam, Field field, LocalTime time) {
+    Game game = new Game(SATURDAY.atTime(time), homeTeam, awayTeam);
+    game.setField(field);
+    return game;
+  }
+}
@@ -0,0 +1,131 @@
+package com.scheduleengine.game;
+
+import com.scheduleengine.common.service.CascadeDeleteService;
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.domain.FieldAvailability;
+import com.scheduleengine.field.service.FieldAvailabilityService;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.game.domain.CalendarGame;
+import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.service.GameService;
+import com.scheduleengine.season.domain.Season;
+import com.scheduleengine.season.service.SeasonService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that the schedule calendar loads games by date window and that rescheduling is
+ * checked against field availability and other bookings
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class GameRescheduleTest {
+
+  private static final LocalDate SATURDAY = LocalDate.of(2099, 1, 1).with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+
+  @Autowired
+  private GameService gameService;
+
+  @Autowired
+  private SeasonService seasonService;
+
+  @Autowired
+  private FieldService fieldService;
+
+  @Autowired
+  private FieldAvailabilityService availabilityService;
+
+  @Autowired
+  private TeamService teamService;
+
+  @Autowired
+  private CascadeDeleteService cascadeDeleteService;
+
+  private Season season;
+  private Field field;
+  private Team home;
+  private Team away;
+  private Team other;
+
+  @BeforeEach
+  void setUp() {
+    season = seasonService.save(new Season("Calendar Season", SATURDAY.minusDays(14), SATURDAY.plusDays(14)));
+    field = fieldService.save(new Field("Calendar Field"));
+    availabilityService.save(new FieldAvailability(field, DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(17, 0)));
+    home = teamService.save(new Team("Calendar Home"));
+    away = teamService.save(new Team("Calendar Away"));
+    other = teamService.save(new Team("Calendar Other"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    cascadeDeleteService.deleteSeason(season.getId());
+    cascadeDeleteService.deleteField(field.getId());
+    for (Team team : List.of(home, away, other)) {
+      cascadeDeleteService.deleteTeam(team.getId());
+    }
+  }
+
+  @Test
+  void testCalendarGamesAreLoadedForTheRequestedDays() {
+    Game early = gameService.save(game(home, away, SATURDAY.minusDays(7), LocalTime.of(9, 0)));
+    Game onDay = gameService.save(game(home, other, SATURDAY, LocalTime.of(10, 0)));
+    gameService.save(game(away, other, SATURDAY.plusDays(1), LocalTime.of(10, 0)));
+
+    List<CalendarGame> games = gameService.findCalendarGames(season.getId(), SATURDAY.minusDays(7), SATURDAY.plusDays(1));
+
+    assertEquals(List.of(early.getId(), onDay.getId()), games.stream().map(CalendarGame::id).toList());
+    CalendarGame calendarGame = games.get(1);
+    assertEquals("Calendar Home vs Calendar Other", calendarGame.label());
+    assertEquals(field.getId(), calendarGame.fieldId());
+    assertEquals(SATURDAY.atTime(10, 0), calendarGame.gameDate());
+  }
+
+  @Test
+  void testRescheduleIsCheckedAgainstAvailabilityAndBookings() {
+    Game game = gameService.save(game(home, away, SATURDAY, LocalTime.of(9, 0)));
+    gameService.save(game(other, away, SATURDAY.minusDays(7), LocalTime.of(14, 0)));
+
+    // Past closing time
+    IllegalArgumentException closed = assertThrows(IllegalArgumentException.class,
+      () -> gameService.reschedule(game.getId(), SATURDAY.atTime(16, 0), field));
+    assertTrue(closed.getMessage().contains("not available"), closed.getMessage());
+
+    // The away team already plays then, on the field or elsewhere
+    IllegalArgumentException busy = assertThrows(IllegalArgumentException.class,
+      () -> gameService.reschedule(game.getId(), SATURDAY.minusDays(7).atTime(14, 30), field));
+    assertTrue(busy.getMessage().contains("already has a game"), busy.getMessage());
+    busy = assertThrows(IllegalArgumentException.class,
+      () -> gameService.reschedule(game.getId(), SATURDAY.minusDays(7).atTime(15, 0), null));
+    assertTrue(busy.getMessage().startsWith("The away team already plays on"), busy.getMessage());
+
+    Game moved = gameService.reschedule(game.getId(), SATURDAY.minusDays(7).atTime(9, 0), field);
+    assertEquals(SATURDAY.minusDays(7).atTime(9, 0), moved.getGameDate());
+    assertEquals(SATURDAY.minusDays(7).atTime(9, 0), gameService.findById(game.getId()).orElseThrow().getGameDate());
+
+    // The old time is free again for other games once the move has committed
+    Game second = gameService.save(game(other, home, SATURDAY.minusDays(7), LocalTime.of(11, 0)));
+    assertDoesNotThrow(() -> gameService.reschedule(second.getId(), SATURDAY.atTime(9, 0), field));
+  }
+
+  private Game game(Team homeTeam, Team awayTeam, LocalDate date, LocalTime time) {
+    Game game = new Game(date.atTime(time), homeTeam, awayTeam);
+    game.setField(field);
+    game.setSeason(season);
+    return game;
+  }
+}
@@ -1,6 +1,7 @@
 package com.scheduleengine.game;
 
 import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.game.service.FreeSlotService;
 import com.scheduleengine.game.service.GameService;
 import com.scheduleengine.league.service.LeagueService;
 import com.scheduleengine.season.service.SeasonService;
@@ -42,6 +43,9 @@ class GameViewTest {
   @Mock
   private LeagueService leagueService;
 
+  @Mock
+  private FreeSlotService freeSlotService;
+
   private GameView gameView;
 
   @Start
@@ -52,7 +56,7 @@ class GameViewTest {
     when(seasonService.findAll()).thenReturn(Collections.emptyList());
     when(leagueService.findAll()).thenReturn(Collections.emptyList());
 
-    gameView = new GameView(gameService, teamService, fieldService, seasonService, leagueService);
+    gameView = new GameView(gameService, teamService, fieldService, seasonService, leagueService, freeSlotService);
 
     VBox view = gameView.getView();
     Scene scene = new Scene(view, 1200, 600);
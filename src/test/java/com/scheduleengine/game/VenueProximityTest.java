@@ -0,0 +1,126 @@
+package com.scheduleengine.game;
+
+import com.scheduleengine.common.service.CascadeDeleteService;
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.domain.FieldAvailability;
+import com.scheduleengine.field.service.FieldAvailabilityService;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.game.domain.FreeSlot;
+import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.service.FreeSlotService;
+import com.scheduleengine.game.service.GameService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that slot suggestions and conflict checks keep a team's games on one day at fields
+ * near each other, using the fields' coordinates, and follow coordinate changes
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class VenueProximityTest {
+
+  private static final LocalDate SATURDAY = LocalDate.of(2099, 8, 1).with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+
+  @Autowired
+  private FreeSlotService freeSlotService;
+
+  @Autowired
+  private FieldService fieldService;
+
+  @Autowired
+  private FieldAvailabilityService availabilityService;
+
+  @Autowired
+  private GameService gameService;
+
+  @Autowired
+  private TeamService teamService;
+
+  @Autowired
+  private CascadeDeleteService cascadeDeleteService;
+
+  private Field westminster;
+  private Field trafalgar;
+  private Field oxford;
+  private Team home;
+  private Team away;
+  private Team other;
+
+  @BeforeEach
+  void setUp() {
+    westminster = field("Venue Westminster", 51.5007, -0.1246);
+    trafalgar = field("Venue Trafalgar", 51.5081, -0.1281);
+    oxford = field("Venue Oxford", 51.7520, -1.2577);
+    home = teamService.save(new Team("Venue Home"));
+    away = teamService.save(new Team("Venue Away"));
+    other = teamService.save(new Team("Venue Other"));
+    Game morning = new Game(SATURDAY.atTime(9, 0), home, other);
+    morning.setField(westminster);
+    gameService.save(morning);
+  }
+
+  @AfterEach
+  void tearDown() {
+    for (Field field : new Field[]{westminster, trafalgar, oxford}) cascadeDeleteService.deleteField(field.getId());
+    for (Team team : new Team[]{home, away, other}) cascadeDeleteService.deleteTeam(team.getId());
+  }
+
+  @Test
+  void testSlotsStayNearTheTeamsOtherGamesThatDay() {
+    // The home team plays at Westminster in the morning: Oxford is 83 km away
+    assertEquals(Set.of(westminster.getId(), trafalgar.getId()), fieldsOffered(home, away));
+    assertEquals(Set.of(westminster.getId(), trafalgar.getId(), oxford.getId()), fieldsOffered(away, null));
+
+    String conflict = freeSlotService.findConflict(null, null, oxford.getId(), away.getId(), home.getId(),
+      SATURDAY.atTime(14, 0)).orElseThrow();
+    assertEquals("The away team also plays at Venue Westminster that day, 83 km away", conflict);
+    assertTrue(freeSlotService.findConflict(null, null, trafalgar.getId(), away.getId(), home.getId(),
+      SATURDAY.atTime(14, 0)).isEmpty());
+
+    // Without coordinates a field is never too far
+    oxford.setLatitude(null);
+    oxford.setLongitude(null);
+    oxford = fieldService.save(oxford);
+    assertTrue(fieldsOffered(home, away).contains(oxford.getId()));
+    assertTrue(freeSlotService.findConflict(null, null, oxford.getId(), away.getId(), home.getId(),
+      SATURDAY.atTime(14, 0)).isEmpty());
+  }
+
+  private Field field(String name, double latitude, double longitude) {
+    Field field = new Field(name);
+    field.setLatitude(latitude);
+    field.setLongitude(longitude);
+    field = fieldService.save(field);
+    availabilityService.save(new FieldAvailability(field, DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(18, 0)));
+    return field;
+  }
+
+  /**
+   * The test fields offered for the pair on Saturday
+   */
+  private Set<Long> fieldsOffered(Team first, Team second) {
+    Set<Long> ours = Set.of(westminster.getId(), trafalgar.getId(), oxford.getId());
+    // Seeded fields are open too, so ask for enough slots to cover the whole day
+    return freeSlotService.findOpenSlots(first.getId(), second == null ? null : second.getId(), null,
+        SATURDAY.atStartOfDay(), 1_000).stream()
+      .filter(slot -> slot.start().toLocalDate().equals(SATURDAY) && ours.contains(slot.fieldId()))
+      .map(FreeSlot::fieldId)
+      .collect(Collectors.toSet());
+  }
+}
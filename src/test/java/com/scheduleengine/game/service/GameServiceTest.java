@@ -27,6 +27,9 @@ class GameServiceTest {
   @Mock
   private GameRepository gameRepository;
 
+  @Mock
+  private FreeSlotService freeSlotService;
+
   private GameService gameService;
   private Game testGame;
   private Team homeTeam;
@@ -36,7 +39,7 @@ class GameServiceTest {
 
   @BeforeEach
   void setUp() {
-    gameService = new GameService(gameRepository);
+    gameService = new GameService(gameRepository, freeSlotService);
 
     homeTeam = new Team("Home Team");
     homeTeam.setId(1L);
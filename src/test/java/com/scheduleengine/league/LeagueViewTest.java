@@ -1,5 +1,6 @@
 package com.scheduleengine.league;
 
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.league.service.LeagueService;
 import javafx.scene.Scene;
 import javafx.scene.control.TableView;
@@ -25,6 +26,9 @@ class LeagueViewTest {
   @Mock
   private LeagueService leagueService;
 
+  @Mock
+  private CascadeDeleteService cascadeDeleteService;
+
   private LeagueView leagueView;
 
   @Start
@@ -33,7 +37,7 @@ class LeagueViewTest {
 
     when(leagueService.findAll()).thenReturn(Collections.emptyList());
 
-    leagueView = new LeagueView(leagueService);
+    leagueView = new LeagueView(leagueService, cascadeDeleteService);
 
     VBox view = leagueView.getView();
     Scene scene = new Scene(view, 900, 600);
@@ -1,5 +1,6 @@
 package com.scheduleengine.league.service;
 
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.league.domain.League;
 import com.scheduleengine.league.repository.LeagueRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,12 +23,15 @@ class LeagueServiceTest {
   @Mock
   private LeagueRepository leagueRepository;
 
+  @Mock
+  private CascadeDeleteService cascadeDeleteService;
+
   private LeagueService leagueService;
   private League testLeague;
 
   @BeforeEach
   void setUp() {
-    leagueService = new LeagueService(leagueRepository);
+    leagueService = new LeagueService(leagueRepository, cascadeDeleteService);
     testLeague = new League("Community League");
     testLeague.setId(1L);
     testLeague.setDescription("A league for community participation");
@@ -97,7 +101,8 @@ class LeagueServiceTest {
   void shouldDeleteLeagueById() {
     leagueService.deleteById(1L);
 
-    verify(leagueRepository, times(1)).deleteById(1L);
+    verify(cascadeDeleteService, times(1)).deleteLeague(1L);
+    verify(leagueRepository, never()).deleteById(any());
   }
 
   @Test
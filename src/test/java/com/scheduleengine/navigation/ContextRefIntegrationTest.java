@@ -0,0 +1,57 @@
+package com.scheduleengine.navigation;
+
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.league.service.LeagueService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that navigation contexts keep entities by id and can load them again from it
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ContextRefIntegrationTest {
+
+  @Autowired
+  private LeagueService leagueService;
+
+  @Test
+  void testEntitiesAreReferencedByIdAndReloaded() {
+    League league = leagueService.save(new League("Context Ref League"));
+    try {
+      NavigationContext context = new NavigationContext().navigateTo("league-detail", league.getName(), league);
+      ContextRef ref = context.getCurrentNode().context();
+      assertEquals(League.class, ref.type());
+      assertEquals(league.getId(), ref.id());
+      assertSame(league, context.getContextData("league-detail", League.class));
+
+      // A reference restored from its id loads the entity again
+      League reloaded = ContextRef.of(League.class, league.getId()).get(League.class);
+      assertEquals("Context Ref League", reloaded.getName());
+      assertNull(ContextRef.of(League.class, -1L).get(League.class));
+
+      // Objects that are not entities are held as they are
+      assertNull(new NavigationContext().navigateTo("payments", "Payments", "filter").getCurrentNode().context().id());
+    } finally {
+      leagueService.deleteById(league.getId());
+    }
+  }
+
+  @Test
+  void testExistenceIsCheckedAgainAfterADelete() {
+    League league = leagueService.save(new League("Deleted Context League"));
+    ContextRef ref = ContextRef.of(League.class, league.getId());
+    NavigationContext context = new NavigationContext().navigateTo("league-detail", league.getName(), league);
+    assertTrue(ref.exists());
+    assertTrue(context.isAvailable());
+
+    leagueService.deleteById(league.getId());
+
+    assertFalse(ref.exists());
+    assertFalse(context.isAvailable());
+  }
+}
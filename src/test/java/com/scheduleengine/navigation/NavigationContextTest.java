@@ -0,0 +1,53 @@
+package com.scheduleengine.navigation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NavigationContextTest {
+
+  @Test
+  void navigationExtendsTheTrailWithoutChangingTheParent() {
+    NavigationContext leagues = new NavigationContext().navigateTo("leagues", "Leagues");
+    NavigationContext detail = leagues.navigateTo("league-detail", "Premier", "league");
+    NavigationContext teams = detail.navigateTo("teams", "Teams");
+
+    assertEquals(1, leagues.getDepth());
+    assertEquals(3, teams.getDepth());
+    assertEquals("Leagues > Premier > Teams", teams.toString());
+    assertEquals(List.of("leagues", "league-detail", "teams"),
+      teams.getBreadcrumb().stream().map(NavigationNode::viewId).toList());
+    assertEquals("teams", teams.getCurrentViewId());
+    assertNull(leagues.getContextData("league-detail", String.class));
+    assertEquals("league", teams.getContextData("league-detail", String.class));
+    assertNull(teams.getContextData("league-detail", Integer.class));
+  }
+
+  @Test
+  void goingBackDropsDeeperContextData() {
+    NavigationContext deep = new NavigationContext()
+      .navigateTo("seasons", "Seasons")
+      .navigateTo("season-detail", "Spring", "spring")
+      .navigateTo("season-detail", "Autumn", "autumn");
+
+    assertEquals("autumn", deep.getContextData("season-detail", String.class));
+    assertEquals("spring", deep.navigateBack().getContextData("season-detail", String.class));
+    assertEquals(java.util.Map.of("season-detail", "spring"), deep.navigateToLevel(1).getAllContextData());
+    assertEquals("Seasons", deep.navigateToLevel(0).toString());
+    assertSame(deep, deep.navigateToLevel(5));
+    assertTrue(deep.navigateToRoot().isAtRoot());
+  }
+
+  @Test
+  void referencesRebuiltFromIdsKeepTheirTypeAndId() {
+    NavigationContext restored = new NavigationContext()
+      .navigateTo("team-detail", "Team", ContextRef.of(Long.class, 42L));
+
+    ContextRef ref = restored.getCurrentNode().context();
+    assertEquals(Long.class, ref.type());
+    assertEquals(42L, ref.id());
+    assertNull(restored.getContextData("team-detail", String.class));
+  }
+}
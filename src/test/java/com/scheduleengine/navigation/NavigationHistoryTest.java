@@ -0,0 +1,57 @@
+package com.scheduleengine.navigation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NavigationHistoryTest {
+
+  private final NavigationContext root = new NavigationContext();
+  private final NavigationContext leagues = root.navigateTo("leagues", "Leagues");
+  private final NavigationContext premier = leagues.navigateTo("league-detail", "Premier", "premier");
+  private final NavigationContext teams = root.navigateTo("teams", "Teams");
+
+  @Test
+  void backAndForwardRetraceVisits() {
+    NavigationHistory history = new NavigationHistory();
+    history.visit(leagues);
+    history.visit(premier);
+    history.visit(teams);
+    assertTrue(history.canGoBackProperty().get());
+    assertFalse(history.canGoForwardProperty().get());
+
+    assertSame(premier, history.back().orElseThrow());
+    // Showing the context it returned does not add an entry
+    history.visit(premier);
+    assertSame(leagues, history.back().orElseThrow());
+    assertTrue(history.back().isEmpty());
+    assertSame(premier, history.forward().orElseThrow());
+    assertSame(teams, history.forward().orElseThrow());
+    assertFalse(history.canGoForwardProperty().get());
+  }
+
+  @Test
+  void aNewVisitClearsForwardHistoryAndRepeatsAreIgnored() {
+    NavigationHistory history = new NavigationHistory();
+    history.visit(leagues);
+    history.visit(premier);
+    history.back();
+    history.visit(teams);
+    assertFalse(history.canGoForwardProperty().get());
+
+    history.visit(root.navigateTo("teams", "Teams"));
+    assertSame(leagues, history.back().orElseThrow());
+    assertFalse(history.canGoBackProperty().get());
+  }
+
+  @Test
+  void historyIsBounded() {
+    NavigationHistory history = new NavigationHistory();
+    for (int i = 0; i <= NavigationHistory.MAX_ENTRIES + 10; i++) {
+      history.visit(root.navigateTo("view-" + i, "View " + i));
+    }
+    int steps = 0;
+    while (history.back().isPresent()) steps++;
+    assertEquals(NavigationHistory.MAX_ENTRIES, steps);
+  }
+}
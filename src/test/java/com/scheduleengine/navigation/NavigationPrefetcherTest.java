@@ -0,0 +1,61 @@
+package com.scheduleengine.navigation;
+
+import com.scheduleengine.game.service.GameService;
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.player.service.PlayerService;
+import com.scheduleengine.season.service.SeasonService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NavigationPrefetcherTest {
+
+  @Mock
+  private TeamService teamService;
+
+  @Mock
+  private SeasonService seasonService;
+
+  @Mock
+  private PlayerService playerService;
+
+  @Mock
+  private GameService gameService;
+
+  private NavigationPrefetcher prefetcher;
+
+  @BeforeEach
+  void setUp() {
+    prefetcher = new NavigationPrefetcher(teamService, seasonService, playerService);
+  }
+
+  @Test
+  void teamDetailPrefetchesRosterButNotGames() {
+    Team team = new Team("Prefetch");
+    team.setId(7L);
+
+    prefetcher.prefetch(new NavigationContext().navigateTo("team-detail", "Prefetch", team));
+
+    verify(playerService, timeout(1000)).findRowsByTeamId(7L);
+    verifyNoInteractions(gameService);
+  }
+
+  @Test
+  void leagueDetailWarmsTeamsAndSeasons() {
+    League league = new League("Prefetch League");
+    league.setId(3L);
+
+    prefetcher.prefetch(new NavigationContext().navigateTo("league-detail", "Prefetch League", league));
+
+    verify(teamService, timeout(1000)).findByLeagueId(3L);
+    verify(seasonService, timeout(1000)).findByLeagueId(3L);
+    verifyNoInteractions(gameService);
+  }
+}
@@ -0,0 +1,115 @@
+package com.scheduleengine.payment;
+
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.league.service.LeagueService;
+import com.scheduleengine.payment.domain.BillingResult;
+import com.scheduleengine.payment.domain.InvoiceTerms;
+import com.scheduleengine.payment.domain.Money;
+import com.scheduleengine.payment.domain.Transaction;
+import com.scheduleengine.payment.service.BillingService;
+import com.scheduleengine.payment.service.TransactionService;
+import com.scheduleengine.player.domain.Player;
+import com.scheduleengine.player.service.PlayerService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that bulk billing does not invoice the same party twice
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class BillingIdempotencyTest {
+
+  private static final LocalDate INVOICE_DATE = LocalDate.of(2026, 3, 1);
+
+  @Autowired
+  private BillingService billingService;
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private LeagueService leagueService;
+
+  @Autowired
+  private TeamService teamService;
+
+  @Autowired
+  private PlayerService playerService;
+
+  private League league;
+  private Team firstTeam;
+
+  @BeforeEach
+  void setUp() {
+    league = leagueService.save(new League("Billing League"));
+    for (int i = 0; i < 3; i++) {
+      Team team = new Team("Billing Team " + i);
+      team.setLeague(league);
+      team = teamService.save(team);
+      if (firstTeam == null) firstTeam = team;
+      for (int j = 0; j < 2; j++) {
+        Player player = new Player("Player" + j, "Team" + i);
+        player.setTeam(team);
+        playerService.save(player);
+      }
+    }
+  }
+
+  @Test
+  void testRerunningLeagueBillingSkipsTeamsAlreadyInvoiced() {
+    InvoiceTerms terms = new InvoiceTerms(Money.ofCents(15000), INVOICE_DATE, "Spring dues");
+
+    // Bill one team first, then the whole league twice
+    BillingResult single = billingService.invoiceLeague(league.getId(), firstTeam.getId(), Transaction.PartyType.TEAM, terms, null);
+    List<Long> progress = new ArrayList<>();
+    BillingResult first = billingService.invoiceLeague(league.getId(), null, Transaction.PartyType.TEAM, terms,
+      (processed, total) -> progress.add(processed));
+    BillingResult second = billingService.invoiceLeague(league.getId(), null, Transaction.PartyType.TEAM, terms, null);
+
+    assertEquals(new BillingResult(1, 0), single);
+    assertEquals(new BillingResult(2, 1), first);
+    assertEquals(new BillingResult(0, 3), second);
+    assertEquals(List.of(1L, 2L, 3L), progress);
+
+    List<Transaction> invoices = transactionService.findByParty(Transaction.PartyType.TEAM, firstTeam.getId());
+    assertEquals(1, invoices.size());
+    assertEquals("League registration: Billing League - Spring dues", invoices.get(0).getNotes());
+    assertEquals(Transaction.Status.PENDING, invoices.get(0).getStatus());
+  }
+
+  @Test
+  void testPlayerBillingIsKeyedSeparatelyFromTeamBilling() {
+    InvoiceTerms terms = new InvoiceTerms(Money.ofCents(4000), INVOICE_DATE, "");
+
+    BillingResult teams = billingService.invoiceLeague(league.getId(), null, Transaction.PartyType.TEAM, terms, null);
+    BillingResult players = billingService.invoiceLeague(league.getId(), null, Transaction.PartyType.PLAYER, terms, null);
+    BillingResult nextMonth = billingService.invoiceLeague(league.getId(), null, Transaction.PartyType.TEAM,
+      new InvoiceTerms(Money.ofCents(4000), INVOICE_DATE.plusMonths(1), ""), null);
+
+    assertEquals(3, teams.created());
+    assertEquals(6, players.created());
+    assertEquals(3, nextMonth.created());
+  }
+
+  @Test
+  void testRejectsNonPositiveAmount() {
+    InvoiceTerms terms = new InvoiceTerms(Money.ZERO, INVOICE_DATE, null);
+
+    assertThrows(IllegalArgumentException.class, () ->
+      billingService.invoiceLeague(league.getId(), null, Transaction.PartyType.TEAM, terms, null));
+  }
+}
@@ -5,7 +5,11 @@ import com.scheduleengine.player.service.PlayerService;
 import com.scheduleengine.team.service.TeamService;
 import com.scheduleengine.tournament.service.TournamentRegistrationService;
 import com.scheduleengine.tournament.service.TournamentService;
+import com.scheduleengine.payment.domain.Money;
 import com.scheduleengine.payment.domain.Transaction;
+import com.scheduleengine.payment.domain.TransactionFilter;
+import com.scheduleengine.payment.service.BillingService;
+import com.scheduleengine.payment.service.TransactionReportService;
 import com.scheduleengine.payment.service.TransactionService;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
@@ -17,15 +21,19 @@ import javafx.stage.Stage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.Start;
 import org.testfx.util.WaitForAsyncUtils;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -34,6 +42,8 @@ import static org.mockito.Mockito.*;
 class PaymentsViewTest {
 
   @Mock private TransactionService transactionService;
+  @Mock private TransactionReportService reportService;
+  @Mock private BillingService billingService;
   @Mock private TeamService teamService;
   @Mock private PlayerService playerService;
   @Mock private LeagueService leagueService;
@@ -45,7 +55,8 @@ class PaymentsViewTest {
   @Start
   public void start(Stage stage) {
     MockitoAnnotations.openMocks(this);
-    paymentsView = new PaymentsView(transactionService, teamService, playerService, leagueService, tournamentService, registrationService);
+    when(transactionService.findPage(any(), any(), any(), anyInt())).thenReturn(Window.from(List.of(), ScrollPosition::offset));
+    paymentsView = new PaymentsView(transactionService, reportService, billingService, teamService, playerService, leagueService, tournamentService, registrationService);
     VBox view = paymentsView.getView();
     Scene scene = new Scene(view, 1200, 700);
     stage.setScene(scene);
@@ -58,16 +69,10 @@ class PaymentsViewTest {
   }
 
   @Test
-  void amountColumnNumericSort() {
-    VBox root = paymentsView.getView();
-    TableView<Transaction> table = (TableView<Transaction>) root.getChildren().stream().filter(n -> n instanceof TableView).findFirst().orElseThrow();
-
-    Transaction t1 = new Transaction(); t1.setAmount(100.0);
-    Transaction t2 = new Transaction(); t2.setAmount(9.0);
-    Transaction t3 = new Transaction(); t3.setAmount(80.0);
+  void amountColumnSortIsQueriedByCents() {
+    TableView<Transaction> table = lookupTable();
 
     Platform.runLater(() -> {
-      table.setItems(FXCollections.observableArrayList(t1, t2, t3));
       TableColumn<Transaction, ?> amount = table.getColumns().stream().filter(c -> "amount".equals(c.getId())).findFirst().orElse(null);
       assertNotNull(amount);
       amount.setSortType(TableColumn.SortType.ASCENDING);
@@ -76,31 +81,36 @@ class PaymentsViewTest {
     });
     WaitForAsyncUtils.waitForFxEvents();
 
-    List<Transaction> sorted = new ArrayList<>(table.getItems());
-    assertEquals(9.0, sorted.get(0).getAmount());
-    assertEquals(80.0, sorted.get(1).getAmount());
-    assertEquals(100.0, sorted.get(2).getAmount());
+    // Pages are fetched in the background
+    ArgumentCaptor<Sort> sort = ArgumentCaptor.forClass(Sort.class);
+    verify(transactionService, timeout(5_000).atLeastOnce()).findPage(any(), sort.capture(), any(), anyInt());
+    assertTrue(sort.getAllValues().contains(Sort.by(Sort.Order.asc("amountCents"))));
   }
 
   @Test
-  void defaultFilterExcludesPaid() {
-    when(transactionService.findAll()).thenReturn(List.of(
-      tx(1L, 10.0, Transaction.Category.PAYMENT, LocalDate.now(), Transaction.Status.PAID),
-      tx(2L, 10.0, Transaction.Category.PAYMENT, LocalDate.now(), Transaction.Status.PENDING)
-    ));
+  void defaultFilterExcludesPaid() throws Exception {
+    when(transactionService.findPage(any(), any(), any(), anyInt())).thenReturn(Window.from(List.of(
+      tx(2L, 1000, Transaction.Category.PAYMENT, LocalDate.now(), Transaction.Status.PENDING)
+    ), ScrollPosition::offset));
 
-    // Reload view data via refresh to trigger service and filters
+    // Reload view data via refresh to trigger the query with the current filters
     paymentsView.refresh();
     TableView<Transaction> table = lookupTable();
-
-    // Expect only non-PAID shown by default
-    assertTrue(table.getItems().stream().allMatch(t -> t.getStatus() != Transaction.Status.PAID));
+    // The page is fetched in the background and applied on the FX thread
+    WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> table.getItems().size() == 1);
+
+    // Expect the query to exclude PAID by default
+    ArgumentCaptor<TransactionFilter> filter = ArgumentCaptor.forClass(TransactionFilter.class);
+    verify(transactionService, atLeastOnce()).findPage(filter.capture(), any(), any(), anyInt());
+    assertFalse(filter.getValue().statuses().isEmpty());
+    assertFalse(filter.getValue().statuses().contains(Transaction.Status.PAID));
+    assertEquals(1, table.getItems().size());
   }
 
   @Test
   void overdueRowsStyledOnLoad() {
     TableView<Transaction> table = lookupTable();
-    Transaction overdue = tx(1L, 10.0, Transaction.Category.PAYMENT, LocalDate.now().minusDays(10), Transaction.Status.OVERDUE);
+    Transaction overdue = tx(1L, 1000, Transaction.Category.PAYMENT, LocalDate.now().minusDays(10), Transaction.Status.OVERDUE);
     table.setItems(FXCollections.observableArrayList(overdue));
     table.layout();
     // We can’t assert Node style without skin; assert semantic state present
@@ -111,10 +121,10 @@ class PaymentsViewTest {
     return (TableView<Transaction>) paymentsView.getView().getChildren().filtered(n -> n instanceof TableView).get(0);
   }
 
-  private Transaction tx(Long id, Double amount, Transaction.Category cat, LocalDate date, Transaction.Status status) {
+  private Transaction tx(Long id, long cents, Transaction.Category cat, LocalDate date, Transaction.Status status) {
     Transaction t = new Transaction();
     t.setId(id);
-    t.setAmount(amount);
+    t.setAmount(Money.ofCents(cents));
     t.setCategory(cat);
     t.setDate(date);
     t.setStatus(status);
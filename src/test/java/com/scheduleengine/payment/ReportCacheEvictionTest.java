@@ -0,0 +1,82 @@
+package com.scheduleengine.payment;
+
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.league.service.LeagueService;
+import com.scheduleengine.payment.domain.GroupTotal;
+import com.scheduleengine.payment.domain.Money;
+import com.scheduleengine.payment.domain.Transaction;
+import com.scheduleengine.payment.domain.TransactionReportFilter;
+import com.scheduleengine.payment.service.TransactionReportService;
+import com.scheduleengine.payment.service.TransactionService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that cached team and league rollups follow team renames and moves between leagues
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ReportCacheEvictionTest {
+
+  private static final LocalDate DAY = LocalDate.of(2097, 1, 15);
+  private static final TransactionReportFilter FILTER = new TransactionReportFilter(DAY, DAY, null);
+
+  @Autowired
+  private TransactionReportService reportService;
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private LeagueService leagueService;
+
+  @Autowired
+  private TeamService teamService;
+
+  @Test
+  void testRollupsFollowTeamChanges() {
+    League first = leagueService.save(new League("Rollup League A"));
+    League second = leagueService.save(new League("Rollup League B"));
+    Team team = new Team("Rollup Team");
+    team.setLeague(first);
+    team = teamService.save(team);
+    Transaction tx = new Transaction();
+    tx.setPartyType(Transaction.PartyType.TEAM);
+    tx.setPartyId(team.getId());
+    tx.setCategory(Transaction.Category.INVOICE);
+    tx.setDate(DAY);
+    tx.setAmount(Money.ofCents(2500));
+    tx.setStatus(Transaction.Status.PENDING);
+    transactionService.save(tx);
+
+    assertEquals(List.of("Rollup Team"), names(reportService.totalsByTeam(FILTER)));
+    assertEquals(List.of("Rollup League A"), names(reportService.totalsByLeague(FILTER)));
+
+    team.setName("Renamed Rollup Team");
+    team.setLeague(second);
+    teamService.save(team);
+
+    assertEquals(List.of("Renamed Rollup Team"), names(reportService.totalsByTeam(FILTER)));
+    assertEquals(List.of("Rollup League B"), names(reportService.totalsByLeague(FILTER)));
+
+    second.setName("Renamed Rollup League");
+    leagueService.save(second);
+
+    assertEquals(List.of("Renamed Rollup League"), names(reportService.totalsByLeague(FILTER)));
+  }
+
+  private static List<String> names(List<GroupTotal> totals) {
+    return totals.stream().map(GroupTotal::name).toList();
+  }
+}
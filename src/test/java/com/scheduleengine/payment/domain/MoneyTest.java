@@ -0,0 +1,74 @@
+package com.scheduleengine.payment.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+  private static final int ROWS = 1_000_000;
+
+  @Test
+  void shouldParseAndFormatAmounts() {
+    assertEquals(Money.ofCents(1250), Money.parse("12.5"));
+    assertEquals(Money.ofCents(125000), Money.parse("$1,250.00"));
+    assertEquals(Money.ofCents(-325), Money.parse("-3.25"));
+    assertEquals(Money.ofCents(1200), Money.parse(" 12 "));
+    assertEquals("1250.00", Money.ofCents(125000).toString());
+    assertEquals("0.05", Money.ofCents(5).toString());
+    assertEquals(Money.ofCents(1999), Money.parse(Money.ofCents(1999).toString()));
+  }
+
+  @Test
+  void shouldRejectInvalidAmounts() {
+    assertThrows(IllegalArgumentException.class, () -> Money.parse("12.345"));
+    assertThrows(IllegalArgumentException.class, () -> Money.parse("abc"));
+    assertThrows(IllegalArgumentException.class, () -> Money.parse(""));
+  }
+
+  @Test
+  void shouldSumMillionRowsExactly() {
+    // 0.10 one million times: doubles drift, cents stay exact
+    List<Money> amounts = Collections.nCopies(ROWS, Money.ofCents(10));
+    double doubleTotal = 0;
+    for (int i = 0; i < ROWS; i++) {
+      doubleTotal += 0.10;
+    }
+
+    assertEquals(Money.ofCents(10_000_000), Money.sum(amounts, Money::cents));
+    assertNotEquals(100_000.00, doubleTotal);
+  }
+
+  @Test
+  void shouldSumItemsWithoutLosingCents() {
+    List<Money> amounts = List.of(Money.ofCents(10), Money.ofCents(20), Money.ofCents(-5));
+
+    assertEquals(Money.ofCents(25), Money.sum(amounts, Money::cents));
+  }
+
+  @Test
+  void shouldFailOnOverflowInsteadOfWrapping() {
+    assertThrows(ArithmeticException.class, () -> Money.sum(List.of(Money.ofCents(Long.MAX_VALUE), Money.ofCents(1)), Money::cents));
+  }
+
+  @Test
+  void shouldParseAmountRanges() {
+    assertTrue(MoneyRange.parse("").contains(Long.MIN_VALUE));
+    assertEquals(new MoneyRange(2500, 2500), MoneyRange.parse("25"));
+    assertEquals(new MoneyRange(1000, 5000), MoneyRange.parse("10-50"));
+    assertEquals(new MoneyRange(1000, 5000), MoneyRange.parse("50..10"));
+    assertEquals(new MoneyRange(10000, Long.MAX_VALUE), MoneyRange.parse(">=100"));
+    assertEquals(new MoneyRange(10001, Long.MAX_VALUE), MoneyRange.parse("> 100"));
+    assertEquals(new MoneyRange(Long.MIN_VALUE, 1999), MoneyRange.parse("<20"));
+    assertEquals(new MoneyRange(-500, -500), MoneyRange.parse("-5"));
+
+    MoneyRange range = MoneyRange.parse("9.99-10");
+    assertTrue(range.contains(999));
+    assertTrue(range.contains(1000));
+    assertFalse(range.contains(1001));
+    assertThrows(IllegalArgumentException.class, () -> MoneyRange.parse("ten"));
+  }
+}
@@ -0,0 +1,168 @@
+package com.scheduleengine.payment.repository;
+
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.payment.domain.AgingTotal;
+import com.scheduleengine.payment.domain.GroupTotal;
+import com.scheduleengine.payment.domain.Money;
+import com.scheduleengine.payment.domain.MoneyRange;
+import com.scheduleengine.payment.domain.MonthTotal;
+import com.scheduleengine.payment.domain.PartyTotal;
+import com.scheduleengine.payment.domain.StatusTotal;
+import com.scheduleengine.payment.domain.Transaction;
+import com.scheduleengine.payment.domain.TransactionFilter;
+import com.scheduleengine.player.domain.Player;
+import com.scheduleengine.team.domain.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class TransactionRepositoryTest {
+
+  private static final Set<Transaction.Status> ALL = EnumSet.allOf(Transaction.Status.class);
+  private static final LocalDate AS_OF = LocalDate.of(2025, 6, 30);
+
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private Team eagles;
+  private Team hawks;
+  private Player player;
+
+  @BeforeEach
+  void setUp() {
+    League league = entityManager.persist(new League("Spring League"));
+    eagles = new Team("Eagles");
+    eagles.setLeague(league);
+    eagles = entityManager.persist(eagles);
+    hawks = entityManager.persist(new Team("Hawks"));
+    player = new Player("Sam", "Lee");
+    player.setTeam(eagles);
+    player = entityManager.persist(player);
+
+    save(Transaction.PartyType.TEAM, eagles.getId(), LocalDate.of(2025, 6, 20), 10000, Transaction.Status.PENDING);
+    save(Transaction.PartyType.TEAM, eagles.getId(), LocalDate.of(2025, 5, 15), 5000, Transaction.Status.OVERDUE);
+    save(Transaction.PartyType.PLAYER, player.getId(), LocalDate.of(2025, 3, 1), 2500, Transaction.Status.OVERDUE);
+    save(Transaction.PartyType.TEAM, hawks.getId(), LocalDate.of(2025, 5, 1), 4000, Transaction.Status.PAID);
+    entityManager.flush();
+  }
+
+  @Test
+  void shouldSumByStatus() {
+    List<StatusTotal> totals = transactionRepository.sumByStatus(ALL, null, null);
+
+    assertEquals(Set.of(
+      new StatusTotal(Transaction.Status.PENDING, 1, 10000L),
+      new StatusTotal(Transaction.Status.PAID, 1, 4000L),
+      new StatusTotal(Transaction.Status.OVERDUE, 2, 7500L)
+    ), Set.copyOf(totals));
+  }
+
+  @Test
+  void shouldSumByMonthWithinDateRange() {
+    List<MonthTotal> totals = transactionRepository.sumByMonth(ALL, LocalDate.of(2025, 4, 1), null);
+
+    assertEquals(List.of(
+      new MonthTotal(2025, 5, 2, 9000L),
+      new MonthTotal(2025, 6, 1, 10000L)
+    ), totals);
+  }
+
+  @Test
+  void shouldSumByPartyLargestFirst() {
+    List<PartyTotal> totals = transactionRepository.sumByParty(ALL, null, null, PageRequest.of(0, 2));
+
+    assertEquals(2, totals.size());
+    assertEquals(new PartyTotal(Transaction.PartyType.TEAM, eagles.getId(), 2, 15000L), totals.get(0));
+    assertEquals(new PartyTotal(Transaction.PartyType.TEAM, hawks.getId(), 1, 4000L), totals.get(1));
+  }
+
+  @Test
+  void shouldRollPlayerTransactionsUpToTeamAndLeague() {
+    Set<Transaction.Status> outstanding = EnumSet.of(Transaction.Status.PENDING, Transaction.Status.OVERDUE);
+
+    List<GroupTotal> byTeam = transactionRepository.sumByTeam(outstanding, null, null,
+      Transaction.PartyType.TEAM, Transaction.PartyType.PLAYER);
+    List<GroupTotal> byLeague = transactionRepository.sumByLeague(ALL, null, null,
+      Transaction.PartyType.TEAM, Transaction.PartyType.PLAYER);
+
+    assertEquals(List.of(new GroupTotal(eagles.getId(), "Eagles", 3, 17500L)), byTeam);
+    // Hawks have no league, so their payment is left out of the league rollup
+    assertEquals(1, byLeague.size());
+    assertEquals("Spring League", byLeague.get(0).name());
+    assertEquals(Money.ofCents(17500), byLeague.get(0).total());
+  }
+
+  @Test
+  void shouldBucketOutstandingByAge() {
+    Set<Transaction.Status> outstanding = EnumSet.of(Transaction.Status.PENDING, Transaction.Status.OVERDUE);
+
+    List<AgingTotal> totals = transactionRepository.sumByAgingBucket(outstanding, null, null,
+      AS_OF.minusDays(30), AS_OF.minusDays(60), AS_OF.minusDays(90));
+
+    assertEquals(Set.of(
+      new AgingTotal(AgingTotal.AgingBucket.CURRENT, 1, Money.ofCents(10000)),
+      new AgingTotal(AgingTotal.AgingBucket.DAYS_31_60, 1, Money.ofCents(5000)),
+      new AgingTotal(AgingTotal.AgingBucket.OVER_90, 1, Money.ofCents(2500))
+    ), Set.copyOf(totals));
+  }
+
+  @Test
+  void shouldScrollByKeysetWithoutGapsOrRepeats() {
+    Sort newestFirst = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"));
+
+    Window<Transaction> first = transactionRepository.findBy(TransactionSpecifications.matching(TransactionFilter.none()),
+      q -> q.sortBy(newestFirst).limit(3).scroll(ScrollPosition.keyset()));
+    Window<Transaction> second = transactionRepository.findBy(TransactionSpecifications.matching(TransactionFilter.none()),
+      q -> q.sortBy(newestFirst).limit(3).scroll(first.positionAt(first.size() - 1)));
+
+    assertTrue(first.hasNext());
+    assertFalse(second.hasNext());
+    assertEquals(List.of(LocalDate.of(2025, 6, 20), LocalDate.of(2025, 5, 15), LocalDate.of(2025, 5, 1)),
+      first.getContent().stream().map(Transaction::getDate).toList());
+    assertEquals(List.of(LocalDate.of(2025, 3, 1)), second.getContent().stream().map(Transaction::getDate).toList());
+  }
+
+  @Test
+  void shouldFilterThroughTeamAndPlayerParties() {
+    TransactionFilter springLeague = new TransactionFilter(null, null, "spring", null, null, null, null,
+      MoneyRange.ANY, Set.of(), null);
+    TransactionFilter samOutstanding = new TransactionFilter(null, "sam l", null, null, null, null, "2025-03",
+      MoneyRange.parse("10-30"), EnumSet.of(Transaction.Status.OVERDUE), null);
+
+    List<Transaction> league = transactionRepository.findAll(TransactionSpecifications.matching(springLeague));
+    List<Transaction> sam = transactionRepository.findAll(TransactionSpecifications.matching(samOutstanding));
+
+    // The player's transaction reaches the league through the player's team
+    assertEquals(3, league.size());
+    assertEquals(1, sam.size());
+    assertEquals(player.getId(), sam.get(0).getPartyId());
+  }
+
+  private void save(Transaction.PartyType type, Long partyId, LocalDate date, long cents, Transaction.Status status) {
+    Transaction tx = new Transaction();
+    tx.setPartyType(type);
+    tx.setPartyId(partyId);
+    tx.setCategory(Transaction.Category.INVOICE);
+    tx.setDate(date);
+    tx.setAmount(Money.ofCents(cents));
+    tx.setStatus(status);
+    transactionRepository.save(tx);
+  }
+}
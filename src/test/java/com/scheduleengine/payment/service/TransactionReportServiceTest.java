@@ -0,0 +1,84 @@
+package com.scheduleengine.payment.service;
+
+import com.scheduleengine.payment.domain.AgingTotal;
+import com.scheduleengine.payment.domain.Money;
+import com.scheduleengine.payment.domain.StatusTotal;
+import com.scheduleengine.payment.domain.Transaction;
+import com.scheduleengine.payment.domain.TransactionReportFilter;
+import com.scheduleengine.payment.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionReportServiceTest {
+
+  @Mock
+  private TransactionRepository transactionRepository;
+
+  private TransactionReportService reportService;
+
+  @BeforeEach
+  void setUp() {
+    reportService = new TransactionReportService(transactionRepository);
+  }
+
+  @Test
+  void shouldTreatEmptyStatusFilterAsAllStatuses() {
+    TransactionReportFilter filter = new TransactionReportFilter(null, null, Set.of());
+
+    assertEquals(EnumSet.allOf(Transaction.Status.class), filter.statuses());
+    assertEquals(TransactionReportFilter.all(), filter);
+  }
+
+  @Test
+  void shouldOrderStatusTotalsByStatus() {
+    when(transactionRepository.sumByStatus(any(), isNull(), isNull())).thenReturn(List.of(
+      new StatusTotal(Transaction.Status.PAID, 1, 1000L),
+      new StatusTotal(Transaction.Status.PENDING, 2, 2000L)
+    ));
+
+    List<StatusTotal> totals = reportService.totalsByStatus(TransactionReportFilter.all());
+
+    assertEquals(Transaction.Status.PENDING, totals.get(0).status());
+    assertEquals(Transaction.Status.PAID, totals.get(1).status());
+  }
+
+  @Test
+  void shouldAgeOnlyOutstandingStatusesSelectedByFilter() {
+    LocalDate asOf = LocalDate.of(2025, 6, 30);
+    TransactionReportFilter filter = new TransactionReportFilter(null, null,
+      Set.of(Transaction.Status.OVERDUE, Transaction.Status.PAID));
+    when(transactionRepository.sumByAgingBucket(eq(Set.of(Transaction.Status.OVERDUE)), isNull(), isNull(),
+      eq(asOf.minusDays(30)), eq(asOf.minusDays(60)), eq(asOf.minusDays(90))))
+      .thenReturn(List.of(
+        new AgingTotal(AgingTotal.AgingBucket.OVER_90, 1, Money.ofCents(500)),
+        new AgingTotal(AgingTotal.AgingBucket.CURRENT, 1, Money.ofCents(700))
+      ));
+
+    List<AgingTotal> totals = reportService.agingBuckets(filter, asOf);
+
+    assertEquals(AgingTotal.AgingBucket.CURRENT, totals.get(0).bucket());
+    assertEquals(AgingTotal.AgingBucket.OVER_90, totals.get(1).bucket());
+  }
+
+  @Test
+  void shouldSkipAgingQueryWhenNoOutstandingStatusSelected() {
+    TransactionReportFilter filter = new TransactionReportFilter(null, null, Set.of(Transaction.Status.PAID));
+
+    assertTrue(reportService.agingBuckets(filter, LocalDate.now()).isEmpty());
+    verifyNoInteractions(transactionRepository);
+  }
+}
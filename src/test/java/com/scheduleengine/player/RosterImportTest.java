@@ -0,0 +1,82 @@
+package com.scheduleengine.player;
+
+import com.scheduleengine.player.domain.Player;
+import com.scheduleengine.player.domain.PlayerRow;
+import com.scheduleengine.player.domain.RosterImportResult;
+import com.scheduleengine.player.service.PlayerService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that the roster CSV import resolves teams by name and skips duplicate players
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class RosterImportTest {
+
+  @Autowired
+  private PlayerService playerService;
+
+  @Autowired
+  private TeamService teamService;
+
+  private Team hawks;
+  private Team owls;
+
+  @BeforeEach
+  void setUp() {
+    hawks = teamService.save(new Team("Import Hawks"));
+    owls = teamService.save(new Team("Import Owls"));
+    Player existing = new Player("Ada", "Lovelace");
+    existing.setTeam(hawks);
+    playerService.save(existing);
+  }
+
+  @Test
+  void testImportResolvesTeamsAndSkipsDuplicates() throws Exception {
+    String csv = """
+      firstName,lastName,team,jerseyNumber,position
+      Grace,Hopper,import hawks,7,Forward
+      ada,LOVELACE,Import Hawks,9,
+      Ada,Lovelace,Import Owls,,Defender
+      Alan,Turing,Import Owls,x,
+      Edsger,Dijkstra,Nobody FC,3,
+      Grace,Hopper,Import Hawks,8,
+      """;
+
+    List<Integer> progress = new ArrayList<>();
+    RosterImportResult result = playerService.importRoster(new StringReader(csv), progress::add);
+
+    assertEquals(2, result.imported());
+    assertEquals(2, result.duplicates());
+    assertEquals(2, result.errors().size());
+    assertTrue(result.errors().get(0).startsWith("Line 5"));
+    assertTrue(result.errors().get(1).contains("Nobody FC"));
+    assertEquals(List.of(6), progress);
+
+    List<PlayerRow> hawksRoster = playerService.findRowsByTeamId(hawks.getId());
+    assertEquals(List.of("Grace Hopper", "Ada Lovelace"), hawksRoster.stream().map(PlayerRow::fullName).toList());
+    assertEquals(7, hawksRoster.get(0).jerseyNumber());
+    assertEquals("Import Hawks", hawksRoster.get(0).teamName());
+    assertEquals("Defender", playerService.findRowsByTeamId(owls.getId()).get(0).position());
+  }
+
+  @Test
+  void testImportRejectsHeaderWithoutRequiredColumns() {
+    assertThrows(IllegalArgumentException.class,
+      () -> playerService.importRoster(new StringReader("name,team\nAda,Import Hawks\n"), null));
+  }
+}
@@ -39,7 +39,7 @@ class RosterViewTest {
   public void start(Stage stage) {
     MockitoAnnotations.openMocks(this);
 
-    when(teamService.findAll()).thenReturn(Collections.emptyList());
+    when(teamService.findSummaries()).thenReturn(Collections.emptyList());
 
     rosterView = new RosterView(playerService, teamService, navigationHandler);
 
@@ -69,7 +69,7 @@ class RosterViewTest {
 
   @Test
   void shouldLoadTeamsForFilter() {
-    verify(teamService, atLeastOnce()).findAll();
+    verify(teamService, atLeastOnce()).findSummaries();
   }
 
   @Test
@@ -0,0 +1,179 @@
+package com.scheduleengine.publish;
+
+import com.scheduleengine.common.service.CascadeDeleteService;
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.service.GameService;
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.league.service.LeagueService;
+import com.scheduleengine.publish.domain.PublishFormat;
+import com.scheduleengine.publish.domain.PublishedDocument;
+import com.scheduleengine.publish.service.SchedulePublishingService;
+import com.scheduleengine.season.domain.Season;
+import com.scheduleengine.season.service.SeasonService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that team, field and league schedules are published as paged HTML and well-formed
+ * PDF documents
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SchedulePublishingTest {
+
+  private static final LocalDate FROM = LocalDate.of(2099, 3, 1);
+
+  @Autowired
+  private SchedulePublishingService publishingService;
+
+  @Autowired
+  private GameService gameService;
+
+  @Autowired
+  private LeagueService leagueService;
+
+  @Autowired
+  private SeasonService seasonService;
+
+  @Autowired
+  private FieldService fieldService;
+
+  @Autowired
+  private TeamService teamService;
+
+  @Autowired
+  private CascadeDeleteService cascadeDeleteService;
+
+  @TempDir
+  Path directory;
+
+  private League league;
+  private Field field;
+  private Team home;
+  private Team away;
+
+  @BeforeEach
+  void setUp() {
+    league = leagueService.save(new League("Publish League"));
+    Season season = new Season("Publish Season", FROM, FROM.plusDays(60));
+    season.setLeague(league);
+    season = seasonService.save(season);
+    field = fieldService.save(new Field("Publish Field"));
+    home = teamService.save(new Team("Publish <Home> & Co"));
+    away = teamService.save(new Team("Publish Away"));
+    // 45 games on consecutive days: two pages at 40 rows a page
+    for (int day = 0; day < 45; day++) {
+      Game game = new Game(FROM.plusDays(day).atTime(10, 0), home, away);
+      game.setField(field);
+      game.setSeason(season);
+      if (day == 0) game.setStatus(Game.GameStatus.CANCELLED);
+      gameService.save(game);
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    cascadeDeleteService.deleteLeague(league.getId());
+    cascadeDeleteService.deleteField(field.getId());
+    cascadeDeleteService.deleteTeam(home.getId());
+    cascadeDeleteService.deleteTeam(away.getId());
+  }
+
+  @Test
+  void testTeamScheduleIsPublishedAsPagedHtml() throws IOException {
+    PublishedDocument document = publishingService.publishTeam(home.getId(), FROM, FROM.plusDays(60),
+      PublishFormat.HTML, directory);
+
+    assertEquals(45, document.games());
+    assertEquals(2, document.pages());
+    String html = Files.readString(document.file(), StandardCharsets.UTF_8);
+    assertTrue(html.contains("<title>Publish &lt;Home&gt; &amp; Co</title>"), html);
+    assertEquals(2, html.split("<section class=\"page\">", -1).length - 1);
+    assertEquals(45, html.split("<tr class=", -1).length - 1);
+    assertTrue(html.contains("<tr class=\"cancelled\">"));
+    assertTrue(html.contains("Page 2"));
+    assertTrue(html.trim().endsWith("</html>"));
+  }
+
+  @Test
+  void testDateRangeLimitsTheFieldSchedule() {
+    PublishedDocument document = publishingService.publishField(field.getId(), FROM.plusDays(10), FROM.plusDays(20),
+      PublishFormat.HTML, directory);
+
+    assertEquals(10, document.games());
+    assertEquals(1, document.pages());
+    assertEquals(directory.resolve("field-" + field.getId() + ".html"), document.file());
+  }
+
+  @Test
+  void testGameWithoutStatusIsPublishedAsScheduled() throws IOException {
+    Game game = new Game(FROM.plusDays(50).atTime(10, 0), home, away);
+    game.setField(field);
+    game.setStatus(null);
+    gameService.save(game);
+
+    PublishedDocument document = publishingService.publishField(field.getId(), FROM.plusDays(50), FROM.plusDays(51),
+      PublishFormat.HTML, directory);
+
+    assertEquals(1, document.games());
+    assertTrue(Files.readString(document.file(), StandardCharsets.UTF_8).contains("Scheduled"));
+  }
+
+  @Test
+  void testLeagueScheduleIsAWellFormedPdf() throws IOException {
+    PublishedDocument document = publishingService.publishLeague(league.getId(), FROM, FROM.plusDays(60),
+      PublishFormat.PDF, directory);
+
+    assertEquals(2, document.pages());
+    byte[] bytes = Files.readAllBytes(document.file());
+    String pdf = new String(bytes, StandardCharsets.ISO_8859_1);
+    assertTrue(pdf.startsWith("%PDF-1.4\n"));
+    assertTrue(pdf.endsWith("%%EOF\n"));
+    assertTrue(pdf.contains("/Type /Pages /Kids [") && pdf.contains("/Count 2"));
+    assertTrue(pdf.contains("(Publish League) Tj"));
+
+    // Every cross-reference entry points at the start of its object
+    Matcher startxref = Pattern.compile("startxref\n(\\d+)\n").matcher(pdf);
+    assertTrue(startxref.find());
+    int xref = Integer.parseInt(startxref.group(1));
+    assertTrue(pdf.startsWith("xref\n0 ", xref));
+    String[] lines = pdf.substring(xref).split("\n");
+    int count = Integer.parseInt(lines[1].split(" ")[1]);
+    for (int id = 1; id < count; id++) {
+      int offset = Integer.parseInt(lines[2 + id].substring(0, 10));
+      assertTrue(pdf.startsWith(id + " 0 obj\n", offset), "object " + id);
+    }
+  }
+
+  @Test
+  void testPublishAllWritesEveryDocument() {
+    List<PublishedDocument> documents = publishingService.publishAll(FROM, FROM.plusDays(60), PublishFormat.PDF, directory);
+
+    for (String name : List.of("league-" + league.getId(), "team-" + home.getId(), "team-" + away.getId(),
+      "field-" + field.getId())) {
+      Path file = directory.resolve(name + ".pdf");
+      assertTrue(documents.stream().anyMatch(document -> document.file().equals(file)), name);
+      assertTrue(Files.exists(file), name);
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package com.scheduleengine.referee;
+
+import com.scheduleengine.common.service.CascadeDeleteService;
+import com.scheduleengine.field.domain.Field;
+import com.scheduleengine.field.service.FieldService;
+import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.service.GameService;
+import com.scheduleengine.league.domain.League;
+import com.scheduleengine.league.service.LeagueService;
+import com.scheduleengine.referee.domain.AssignmentResult;
+import com.scheduleengine.referee.domain.Referee;
+import com.scheduleengine.referee.domain.RefereeAvailability;
+import com.scheduleengine.referee.service.RefereeAssignmentService;
+import com.scheduleengine.referee.service.RefereeService;
+import com.scheduleengine.season.domain.Season;
+import com.scheduleengine.season.service.SeasonService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that referees are assigned to qualified, available referees in a balanced way and
+ * that a referee dropping out re-staffs only their own games
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class RefereeAssignmentTest {
+
+  private static final LocalDate SATURDAY = LocalDate.of(2099, 9, 1).with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+
+  @Autowired
+  private RefereeAssignmentService assignmentService;
+
+  @Autowired
+  private RefereeService refereeService;
+
+  @Autowired
+  private GameService gameService;
+
+  @Autowired
+  private LeagueService leagueService;
+
+  @Autowired
+  private SeasonService seasonService;
+
+  @Autowired
+  private TeamService teamService;
+
+  @Autowired
+  private FieldService fieldService;
+
+  @Autowired
+  private CascadeDeleteService cascadeDeleteService;
+
+  private League league;
+  private Field north;
+  private Field south;
+  private Referee national;
+  private Referee regional;
+  private Referee grassroots;
+  private List<Game> games;
+
+  @BeforeEach
+  void setUp() {
+    League newLeague = new League("Referee League");
+    newLeague.setRefereeCertification(Referee.Certification.REGIONAL);
+    league = leagueService.save(newLeague);
+    Season season = new Season("Referee Season", SATURDAY, SATURDAY.plusDays(30));
+    season.setLeague(league);
+    season = seasonService.save(season);
+    Team home = team("Referee Home");
+    Team away = team("Referee Away");
+    north = fieldService.save(new Field("Referee North"));
+    south = fieldService.save(new Field("Referee South"));
+    games = List.of(
+      game(season, home, away, north, LocalTime.of(9, 0)),
+      game(season, home, away, south, LocalTime.of(9, 0)),
+      game(season, home, away, south, LocalTime.of(11, 0)),
+      game(season, home, away, north, LocalTime.of(13, 0)));
+
+    national = referee("Referee National", Referee.Certification.NATIONAL);
+    regional = referee("Referee Regional", Referee.Certification.REGIONAL);
+    grassroots = referee("Referee Grassroots", Referee.Certification.GRASSROOTS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    cascadeDeleteService.deleteLeague(league.getId());
+    cascadeDeleteService.deleteField(north.getId());
+    cascadeDeleteService.deleteField(south.getId());
+    for (Referee referee : List.of(national, regional, grassroots)) {
+      refereeService.delete(referee.getId());
+    }
+  }
+
+  @Test
+  void testGamesAreStaffedByQualifiedRefereesInBalance() {
+    AssignmentResult result = assignmentService.assign(SATURDAY, SATURDAY.plusDays(1), false);
+
+    assertEquals(4, result.games());
+    assertEquals(4, result.assigned());
+    assertEquals(List.of(), result.unstaffedGameIds());
+    Map<Long, Long> referees = refereesOfGames();
+    assertFalse(referees.containsValue(grassroots.getId()), "the league needs regional referees");
+    assertEquals(2, referees.values().stream().filter(national.getId()::equals).count());
+    assertEquals(2, referees.values().stream().filter(regional.getId()::equals).count());
+    // The two 9:00 games go to different referees
+    assertNotEquals(referees.get(games.get(0).getId()), referees.get(games.get(1).getId()));
+
+    // A second run keeps what is there
+    AssignmentResult again = assignmentService.assign(SATURDAY, SATURDAY.plusDays(1), false);
+    assertEquals(0, again.assigned());
+    assertEquals(4, again.kept());
+    assertEquals(referees, refereesOfGames());
+  }
+
+  @Test
+  void testDropOutReassignsOnlyTheirGames() {
+    assignmentService.assign(SATURDAY, SATURDAY.plusDays(1), false);
+    Map<Long, Long> before = refereesOfGames();
+
+    AssignmentResult result = assignmentService.dropOut(national.getId(), SATURDAY, SATURDAY.plusDays(1), "Injured");
+
+    assertEquals(2, result.kept());
+    assertEquals(2, result.assigned() + result.unstaffedGameIds().size());
+    Map<Long, Long> after = refereesOfGames();
+    assertFalse(after.containsValue(national.getId()));
+    before.forEach((gameId, refereeId) -> {
+      if (refereeId.equals(regional.getId())) assertEquals(refereeId, after.get(gameId), "game " + gameId);
+    });
+    // The regional referee cannot be in two places at 9:00, so one game stays open
+    assertEquals(1, result.unstaffedGameIds().size());
+
+    // The blackout keeps the referee out of later runs too
+    AssignmentResult rerun = assignmentService.assign(SATURDAY, SATURDAY.plusDays(1), true);
+    assertFalse(refereesOfGames().containsValue(national.getId()));
+    assertEquals(1, rerun.unstaffedGameIds().size());
+  }
+
+  private Map<Long, Long> refereesOfGames() {
+    return assignmentService.refereesFor(games.stream().map(Game::getId).toList());
+  }
+
+  private Referee referee(String name, Referee.Certification certification) {
+    Referee referee = refereeService.save(new Referee(name, certification));
+    refereeService.saveAvailability(new RefereeAvailability(referee, DayOfWeek.SATURDAY, LocalTime.of(8, 0),
+      LocalTime.of(20, 0)));
+    return referee;
+  }
+
+  private Team team(String name) {
+    Team team = new Team(name);
+    team.setLeague(league);
+    return teamService.save(team);
+  }
+
+  private Game game(Season season, Team home, Team away, Field field, LocalTime time) {
+    Game game = new Game(SATURDAY.atTime(time), home, away);
+    game.setSeason(season);
+    game.setField(field);
+    return gameService.save(game);
+  }
+}
@@ -0,0 +1,78 @@
+package com.scheduleengine.referee.service;
+
+import com.scheduleengine.blackout.domain.BlackoutCalendar;
+import com.scheduleengine.field.domain.FieldDistanceMatrix;
+import com.scheduleengine.referee.domain.Referee;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Time to staff a full weekend of 800 games. Timing depends on the machine, so this only runs with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class RefereeAssignmentEngineBenchmarkTest {
+  private static final Logger log = LoggerFactory.getLogger(RefereeAssignmentEngineBenchmarkTest.class);
+  private static final LocalDate SATURDAY = LocalDate.of(2099, 5, 2);
+  private static final Duration GAME = Duration.ofMinutes(90);
+  private static final Duration TRAVEL = Duration.ofMinutes(30);
+  private static final List<RefereeAssignmentEngine.Window> WEEKEND = List.of(
+    RefereeAssignmentEngine.Window.of(DayOfWeek.SATURDAY, LocalTime.of(8, 0), LocalTime.of(22, 0)),
+    RefereeAssignmentEngine.Window.of(DayOfWeek.SUNDAY, LocalTime.of(8, 0), LocalTime.of(22, 0)));
+  private static final int WARMUP = 5;
+  private static final int RUNS = 11;
+
+  @Test
+  void shouldStaffAFullWeekendWithinASecond() {
+    // 50 fields, 8 slots a day, two days: 800 games for 160 referees
+    List<RefereeAssignmentEngine.Slot> games = new ArrayList<>();
+    long id = 0;
+    for (int day = 0; day < 2; day++) {
+      for (int slot = 0; slot < 8; slot++) {
+        for (long field = 1; field <= 50; field++) {
+          LocalDateTime start = SATURDAY.plusDays(day).atTime(8, 0).plus(GAME.multipliedBy(slot));
+          games.add(new RefereeAssignmentEngine.Slot(++id, field, start, start.plus(GAME),
+            field <= 5 ? Referee.Certification.NATIONAL : null));
+        }
+      }
+    }
+
+    for (int i = 0; i < WARMUP; i++) {
+      assertEquals(800, engine().solve(games).size());
+    }
+    long[] nanos = new long[RUNS];
+    for (int i = 0; i < RUNS; i++) {
+      RefereeAssignmentEngine engine = engine();
+      long start = System.nanoTime();
+      engine.solve(games);
+      nanos[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(nanos);
+    long median = nanos[RUNS / 2] / 1_000_000;
+    log.info("Staffed {} games with 160 referees: median {} ms, max {} ms", games.size(), median,
+      nanos[RUNS - 1] / 1_000_000);
+
+    assertTrue(median < 1_000, "median " + median + " ms");
+  }
+
+  private static RefereeAssignmentEngine engine() {
+    RefereeAssignmentEngine engine = new RefereeAssignmentEngine(BlackoutCalendar.EMPTY, FieldDistanceMatrix.EMPTY, TRAVEL);
+    for (long referee = 1; referee <= 160; referee++) {
+      engine.addReferee(referee, referee <= 20 ? Referee.Certification.NATIONAL : Referee.Certification.GRASSROOTS, WEEKEND);
+    }
+    return engine;
+  }
+}
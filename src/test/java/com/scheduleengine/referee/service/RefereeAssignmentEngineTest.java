@@ -0,0 +1,116 @@
+package com.scheduleengine.referee.service;
+
+import com.scheduleengine.blackout.domain.Blackout;
+import com.scheduleengine.blackout.domain.BlackoutCalendar;
+import com.scheduleengine.field.domain.FieldDistanceMatrix;
+import com.scheduleengine.referee.domain.Referee;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefereeAssignmentEngineTest {
+
+  private static final LocalDate SATURDAY = LocalDate.of(2099, 5, 2);
+  private static final Duration GAME = Duration.ofMinutes(90);
+  private static final Duration TRAVEL = Duration.ofMinutes(30);
+  private static final List<RefereeAssignmentEngine.Window> WEEKEND = List.of(
+    RefereeAssignmentEngine.Window.of(DayOfWeek.SATURDAY, LocalTime.of(8, 0), LocalTime.of(22, 0)),
+    RefereeAssignmentEngine.Window.of(DayOfWeek.SUNDAY, LocalTime.of(8, 0), LocalTime.of(22, 0)));
+
+  @Test
+  void shouldStaffAFullWeekendEvenlyWithoutOverlaps() {
+    // 50 fields, 8 slots a day, two days: 800 games for 160 referees
+    List<RefereeAssignmentEngine.Slot> games = new ArrayList<>();
+    long id = 0;
+    for (int day = 0; day < 2; day++) {
+      for (int slot = 0; slot < 8; slot++) {
+        for (long field = 1; field <= 50; field++) {
+          LocalDateTime start = SATURDAY.plusDays(day).atTime(8, 0).plus(GAME.multipliedBy(slot));
+          games.add(new RefereeAssignmentEngine.Slot(++id, field, start, start.plus(GAME),
+            field <= 5 ? Referee.Certification.NATIONAL : null));
+        }
+      }
+    }
+    RefereeAssignmentEngine engine = new RefereeAssignmentEngine(BlackoutCalendar.EMPTY, FieldDistanceMatrix.EMPTY, TRAVEL);
+    for (long referee = 1; referee <= 160; referee++) {
+      engine.addReferee(referee, referee <= 20 ? Referee.Certification.NATIONAL : Referee.Certification.GRASSROOTS, WEEKEND);
+    }
+
+    Map<Long, Long> assigned = engine.solve(games);
+
+    assertEquals(800, assigned.size());
+    Map<Long, List<RefereeAssignmentEngine.Slot>> byReferee = new HashMap<>();
+    for (RefereeAssignmentEngine.Slot game : games) {
+      Long referee = assigned.get(game.gameId());
+      if (game.required() == Referee.Certification.NATIONAL) assertTrue(referee <= 20, "game " + game.gameId());
+      byReferee.computeIfAbsent(referee, r -> new ArrayList<>()).add(game);
+    }
+    for (List<RefereeAssignmentEngine.Slot> schedule : byReferee.values()) {
+      schedule.sort(Comparator.comparing(RefereeAssignmentEngine.Slot::start));
+      for (int i = 1; i < schedule.size(); i++) {
+        RefereeAssignmentEngine.Slot previous = schedule.get(i - 1);
+        RefereeAssignmentEngine.Slot next = schedule.get(i);
+        Duration gap = previous.fieldId().equals(next.fieldId()) ? Duration.ZERO : TRAVEL;
+        assertFalse(previous.end().plus(gap).isAfter(next.start()), previous + " then " + next);
+      }
+    }
+    IntSummaryStatistics loads = byReferee.values().stream().mapToInt(List::size).summaryStatistics();
+    assertEquals(160, loads.getCount());
+    assertTrue(loads.getMax() - loads.getMin() <= 1, loads.toString());
+  }
+
+  @Test
+  void shouldRespectWindowsBlackoutsAndExistingBookings() {
+    LocalDateTime nine = SATURDAY.atTime(9, 0);
+    RefereeAssignmentEngine.Slot morning = new RefereeAssignmentEngine.Slot(1L, 1L, nine, nine.plus(GAME), null);
+    RefereeAssignmentEngine.Slot sunday = new RefereeAssignmentEngine.Slot(2L, 1L, nine.plusDays(1), nine.plusDays(1).plus(GAME), null);
+    RefereeAssignmentEngine.Slot evening = new RefereeAssignmentEngine.Slot(3L, 1L, SATURDAY.atTime(21, 0),
+      SATURDAY.atTime(22, 30), null);
+    // Starts on another field as the booked game ends, inside the travel gap
+    RefereeAssignmentEngine.Slot tooSoon = new RefereeAssignmentEngine.Slot(4L, 2L, nine.plus(GAME), nine.plus(GAME).plus(GAME), null);
+
+    BlackoutCalendar blackouts = BlackoutCalendar.compile(List.of(
+      new Blackout(Blackout.Scope.REFEREE, 1L, SATURDAY.plusDays(1), SATURDAY.plusDays(1), "Away")));
+    RefereeAssignmentEngine engine = new RefereeAssignmentEngine(blackouts, FieldDistanceMatrix.EMPTY, TRAVEL);
+    engine.addReferee(1L, Referee.Certification.REGIONAL, WEEKEND);
+    engine.book(1L, morning, true);
+
+    Map<Long, Long> assigned = engine.solve(List.of(sunday, evening, tooSoon));
+
+    assertEquals(Map.of(), assigned);
+    assertEquals(1, engine.load(1L));
+  }
+
+  @Test
+  void shouldAllowTheTravelTimeBetweenDistantFields() {
+    // Fields 1 and 2 are under a kilometre apart; field 3 is 83 km from field 1, over two hours at 40 km/h
+    FieldDistanceMatrix distances = FieldDistanceMatrix.compile(List.of(
+      new FieldDistanceMatrix.Location(1L, 51.5007, -0.1246),
+      new FieldDistanceMatrix.Location(2L, 51.5081, -0.1281),
+      new FieldDistanceMatrix.Location(3L, 51.7520, -1.2577)), 40);
+    LocalDateTime nine = SATURDAY.atTime(9, 0);
+    LocalDateTime eleven = nine.plus(GAME).plus(TRAVEL);
+    RefereeAssignmentEngine.Slot morning = new RefereeAssignmentEngine.Slot(1L, 1L, nine, nine.plus(GAME), null);
+    RefereeAssignmentEngine.Slot near = new RefereeAssignmentEngine.Slot(2L, 2L, eleven, eleven.plus(GAME), null);
+    RefereeAssignmentEngine.Slot far = new RefereeAssignmentEngine.Slot(3L, 3L, eleven, eleven.plus(GAME), null);
+
+    RefereeAssignmentEngine engine = new RefereeAssignmentEngine(BlackoutCalendar.EMPTY, distances, TRAVEL);
+    engine.addReferee(1L, Referee.Certification.REGIONAL, WEEKEND);
+    engine.book(1L, morning, true);
+
+    assertEquals(Map.of(), engine.solve(List.of(far)));
+    assertEquals(Map.of(2L, 1L), engine.solve(List.of(near)));
+  }
+}
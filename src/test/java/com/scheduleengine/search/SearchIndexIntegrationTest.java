@@ -0,0 +1,49 @@
+package com.scheduleengine.search;
+
+import com.scheduleengine.search.domain.SearchDocument;
+import com.scheduleengine.search.service.SearchService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that committed saves and deletes reach the global search index
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SearchIndexIntegrationTest {
+
+  @Autowired
+  private SearchService searchService;
+
+  @Autowired
+  private TeamService teamService;
+
+  @Test
+  void shouldIndexCommittedChanges() {
+    Team team = new Team("Quillfeather Comets");
+    team.setCoach("Marguerite Okonkwo");
+    team = teamService.save(team);
+    try {
+      List<SearchDocument> byCoach = searchService.search("okonkwo", 5);
+      assertEquals(1, byCoach.size());
+      assertEquals(SearchDocument.Type.TEAM, byCoach.get(0).type());
+      assertEquals(team.getId(), byCoach.get(0).id());
+
+      team.setName("Quillfeather Meteors");
+      teamService.save(team);
+      assertTrue(searchService.search("comets", 5).isEmpty());
+      assertEquals(1, searchService.search("quill meteors", 5).size());
+    } finally {
+      teamService.deleteById(team.getId());
+    }
+    assertTrue(searchService.search("quillfeather", 5).isEmpty());
+  }
+}
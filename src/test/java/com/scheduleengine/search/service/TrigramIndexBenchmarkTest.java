@@ -0,0 +1,73 @@
+package com.scheduleengine.search.service;
+
+import com.scheduleengine.search.domain.SearchDocument;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Search latency over half a million documents. Timing depends on the machine, so this only runs
+ * with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class TrigramIndexBenchmarkTest {
+  private static final Logger log = LoggerFactory.getLogger(TrigramIndexBenchmarkTest.class);
+  private static final int DOCUMENTS = 500_000;
+  private static final int WARMUP = 200;
+  private static final int RUNS = 50;
+  private static final long BUDGET_NANOS = 10_000_000;
+
+  private static final String[] FIRST = {"James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael",
+    "Linda", "William", "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah",
+    "Charles", "Karen", "Daniel", "Nancy", "Matthew", "Lisa", "Anthony", "Betty", "Mark", "Margaret", "Donald", "Sandra"};
+  private static final String[] LAST = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
+    "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore",
+    "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis"};
+  private static final String[] POSITIONS = {"Goalkeeper", "Defender", "Midfielder", "Forward", "Striker", "Winger"};
+
+  private static TrigramIndex index;
+
+  @BeforeAll
+  static void buildIndex() {
+    index = new TrigramIndex();
+    Random random = new Random(42);
+    for (long id = 0; id < DOCUMENTS; id++) {
+      String name = FIRST[random.nextInt(FIRST.length)] + " " + LAST[random.nextInt(LAST.length)] + " " + id;
+      index.put(SearchDocument.of(SearchDocument.Type.PLAYER, id, name, POSITIONS[random.nextInt(POSITIONS.length)]));
+    }
+    // One exact title match well past the first matching slots
+    index.put(SearchDocument.of(SearchDocument.Type.TEAM, (long) DOCUMENTS, "Smith"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"smith", "m", "jo", "son", "mary lee", "forward 4242", "ma"})
+  void shouldSearchHalfAMillionDocumentsWithinTenMilliseconds(String query) {
+    List<SearchDocument> results = List.of();
+    for (int i = 0; i < WARMUP; i++) {
+      results = index.search(query, 12);
+    }
+    long[] nanos = new long[RUNS];
+    for (int i = 0; i < RUNS; i++) {
+      long start = System.nanoTime();
+      index.search(query, 12);
+      nanos[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(nanos);
+    long median = nanos[RUNS / 2];
+    log.info("Search for '{}' over {} documents: median {} us, max {} us", query, DOCUMENTS + 1,
+      median / 1_000, nanos[RUNS - 1] / 1_000);
+
+    assertFalse(results.isEmpty());
+    if (query.equals("smith")) assertEquals(DOCUMENTS, results.get(0).id());
+    assertTrue(median < BUDGET_NANOS, "median " + median / 1_000 + " us");
+  }
+}
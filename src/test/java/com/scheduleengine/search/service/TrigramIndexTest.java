@@ -0,0 +1,81 @@
+package com.scheduleengine.search.service;
+
+import com.scheduleengine.search.domain.SearchDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+  @Test
+  void shouldMatchWordsAnywhereAndShortWordsAtWordStart() {
+    TrigramIndex index = new TrigramIndex();
+    index.put(SearchDocument.of(SearchDocument.Type.TEAM, 1L, "Riverside Rovers", "Coach Ann Smith"));
+    index.put(SearchDocument.of(SearchDocument.Type.PLAYER, 2L, "Sam Rivers", "Goalkeeper"));
+    index.put(SearchDocument.of(SearchDocument.Type.FIELD, 3L, "Oak Park", "12 Elm Street"));
+
+    assertEquals(List.of(1L, 2L), ids(index.search("river", 10)));
+    assertEquals(List.of(1L), ids(index.search("rovers smith", 10)));
+    assertEquals(List.of(3L), ids(index.search("el", 10)));
+    // "ee" only occurs mid-word
+    assertTrue(index.search("ee", 10).isEmpty());
+    assertEquals(List.of(3L), ids(index.search("reet", 10)));
+  }
+
+  @Test
+  void shouldRankTitleMatchesBeforeDetailMatches() {
+    TrigramIndex index = new TrigramIndex();
+    index.put(SearchDocument.of(SearchDocument.Type.TEAM, 1L, "Lions", "Coach Jordan"));
+    index.put(SearchDocument.of(SearchDocument.Type.PLAYER, 2L, "Jordan Lee", "Forward"));
+
+    assertEquals(List.of(2L, 1L), ids(index.search("jordan", 10)));
+  }
+
+  @Test
+  void shouldReplaceAndRemoveDocuments() {
+    TrigramIndex index = new TrigramIndex();
+    index.put(SearchDocument.of(SearchDocument.Type.LEAGUE, 1L, "Spring League"));
+    index.put(SearchDocument.of(SearchDocument.Type.LEAGUE, 1L, "Autumn League"));
+
+    assertTrue(index.search("spring", 10).isEmpty());
+    assertEquals(1, index.search("autumn", 10).size());
+
+    index.remove(SearchDocument.Type.LEAGUE, 1L);
+    assertTrue(index.search("league", 10).isEmpty());
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  void shouldKeepResultsAfterCompaction() {
+    TrigramIndex index = new TrigramIndex();
+    for (int round = 0; round < 3; round++) {
+      for (long id = 0; id < 2_000; id++) {
+        index.put(SearchDocument.of(SearchDocument.Type.PLAYER, id, "Player " + id + " round " + round));
+      }
+    }
+
+    assertEquals(2_000, index.size());
+    List<SearchDocument> found = index.search("1234 round", 10);
+    assertEquals(1, found.size());
+    assertEquals("Player 1234 round 2", found.get(0).title());
+  }
+
+  @Test
+  void shouldRankEveryCandidateNotJustTheFirstFound() {
+    TrigramIndex index = new TrigramIndex();
+    for (long id = 0; id < 10_000; id++) {
+      index.put(SearchDocument.of(SearchDocument.Type.PLAYER, id, "Player " + id, "Lives on Riverside Road"));
+    }
+    index.put(SearchDocument.of(SearchDocument.Type.TEAM, 10_000L, "River"));
+
+    List<SearchDocument> found = index.search("river", 5);
+    assertEquals(5, found.size());
+    assertEquals(10_000L, found.get(0).id());
+  }
+
+  private static List<Long> ids(List<SearchDocument> documents) {
+    return documents.stream().map(SearchDocument::id).toList();
+  }
+}
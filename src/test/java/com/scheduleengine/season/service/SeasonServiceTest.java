@@ -1,5 +1,6 @@
 package com.scheduleengine.season.service;
 
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.league.domain.League;
 import com.scheduleengine.season.domain.Season;
 import com.scheduleengine.season.repository.SeasonRepository;
@@ -25,13 +26,16 @@ class SeasonServiceTest {
   @Mock
   private SeasonRepository seasonRepository;
 
+  @Mock
+  private CascadeDeleteService cascadeDeleteService;
+
   private SeasonService seasonService;
   private Season testSeason;
   private League testLeague;
 
   @BeforeEach
   void setUp() {
-    seasonService = new SeasonService(seasonRepository);
+    seasonService = new SeasonService(seasonRepository, cascadeDeleteService);
 
     testLeague = new League("Community League");
     testLeague.setId(1L);
@@ -153,7 +157,8 @@ class SeasonServiceTest {
   void shouldDeleteSeasonById() {
     seasonService.deleteById(1L);
 
-    verify(seasonRepository, times(1)).deleteById(1L);
+    verify(cascadeDeleteService, times(1)).deleteSeason(1L);
+    verify(seasonRepository, never()).deleteById(any());
   }
 
   @Test
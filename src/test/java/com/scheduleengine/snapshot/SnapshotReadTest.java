@@ -0,0 +1,79 @@
+package com.scheduleengine.snapshot;
+
+import com.scheduleengine.payment.domain.Money;
+import com.scheduleengine.payment.domain.StatusTotal;
+import com.scheduleengine.payment.domain.Transaction;
+import com.scheduleengine.payment.domain.TransactionFilter;
+import com.scheduleengine.payment.domain.TransactionReportFilter;
+import com.scheduleengine.payment.service.TransactionReportService;
+import com.scheduleengine.payment.service.TransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that in snapshot mode reports and exports read the last snapshot while every
+ * other read and all writes use the live database
+ */
+@SpringBootTest(properties = {"snapshot.enabled=true", "snapshot.refresh-interval=1h"})
+@ActiveProfiles("test")
+public class SnapshotReadTest {
+
+  @Autowired
+  private SnapshotRefresher refresher;
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private TransactionReportService reportService;
+
+  private Transaction saved;
+
+  @AfterEach
+  void tearDown() {
+    if (saved != null) transactionService.deleteById(saved.getId());
+  }
+
+  @Test
+  void testSnapshotReadsSeeTheDatabaseAsOfTheLastRefresh() {
+    refresher.refresh();
+    int exported = exportSize();
+    int live = transactionService.findAll().size();
+
+    saved = transactionService.save(transaction());
+
+    // Live reads see the new row at once; the export still reads the snapshot
+    assertEquals(live + 1, transactionService.findAll().size());
+    assertEquals(exported, exportSize());
+    long snapshotCount = reportService.totalsByStatus(TransactionReportFilter.all()).stream()
+      .mapToLong(StatusTotal::count).sum();
+
+    refresher.refresh();
+    assertEquals(exported + 1, exportSize());
+    assertEquals(snapshotCount + 1, reportService.totalsByStatus(TransactionReportFilter.all()).stream()
+      .mapToLong(StatusTotal::count).sum());
+  }
+
+  private int exportSize() {
+    return transactionService.findAll(TransactionFilter.none(), TransactionService.DEFAULT_SORT).size();
+  }
+
+  private static Transaction transaction() {
+    Transaction tx = new Transaction();
+    tx.setPartyType(Transaction.PartyType.TEAM);
+    tx.setPartyId(-1L);
+    tx.setCategory(Transaction.Category.values()[0]);
+    tx.setDate(LocalDate.of(2026, 1, 15));
+    tx.setAmount(Money.ofCents(2500));
+    tx.setStatus(Transaction.Status.PENDING);
+    tx.setNotes("Snapshot test");
+    return tx;
+  }
+}
@@ -1,5 +1,6 @@
 package com.scheduleengine.team.service;
 
+import com.scheduleengine.common.service.CascadeDeleteService;
 import com.scheduleengine.league.domain.League;
 import com.scheduleengine.team.domain.Team;
 import com.scheduleengine.team.repository.TeamRepository;
@@ -24,13 +25,16 @@ class TeamServiceTest {
   @Mock
   private TeamRepository teamRepository;
 
+  @Mock
+  private CascadeDeleteService cascadeDeleteService;
+
   private TeamService teamService;
   private Team testTeam;
   private League testLeague;
 
   @BeforeEach
   void setUp() {
-    teamService = new TeamService(teamRepository);
+    teamService = new TeamService(teamRepository, cascadeDeleteService);
 
     testLeague = new League("Community League");
     testLeague.setId(1L);
@@ -119,7 +123,8 @@ class TeamServiceTest {
   void shouldDeleteTeamById() {
     teamService.deleteById(1L);
 
-    verify(teamRepository, times(1)).deleteById(1L);
+    verify(cascadeDeleteService, times(1)).deleteTeam(1L);
+    verify(teamRepository, never()).deleteById(any());
   }
 
   @Test
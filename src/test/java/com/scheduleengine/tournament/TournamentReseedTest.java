@@ -0,0 +1,129 @@
+package com.scheduleengine.tournament;
+
+import com.scheduleengine.game.domain.Game;
+import com.scheduleengine.game.service.GameService;
+import com.scheduleengine.team.domain.Team;
+import com.scheduleengine.team.service.TeamService;
+import com.scheduleengine.tournament.domain.SeedingStrategy;
+import com.scheduleengine.tournament.domain.Tournament;
+import com.scheduleengine.tournament.domain.TournamentRegistration;
+import com.scheduleengine.tournament.service.TournamentRegistrationService;
+import com.scheduleengine.tournament.service.TournamentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test to verify that tournament reseeding assigns seeds 1..n in the order of the chosen strategy
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class TournamentReseedTest {
+
+  private static final LocalDate START = LocalDate.of(2026, 6, 1);
+
+  @Autowired
+  private TournamentRegistrationService registrationService;
+
+  @Autowired
+  private TournamentService tournamentService;
+
+  @Autowired
+  private TeamService teamService;
+
+  @Autowired
+  private GameService gameService;
+
+  private Tournament tournament;
+  private final List<Team> teams = new ArrayList<>();
+  private final List<TournamentRegistration> registrations = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    tournament = new Tournament();
+    tournament.setName("Reseed Cup");
+    tournament.setType(Tournament.TournamentType.OPEN);
+    tournament.setStartDate(START);
+    tournament.setEndDate(START.plusDays(2));
+    tournament = tournamentService.save(tournament);
+
+    for (int i = 0; i < 4; i++) {
+      Team team = teamService.save(new Team("Reseed Team " + i));
+      teams.add(team);
+      TournamentRegistration registration = new TournamentRegistration();
+      registration.setTournament(tournament);
+      registration.setTeam(team);
+      registration.setRegistrationDate(LocalDateTime.of(2026, 5, 1, 9, 0).plusHours(i));
+      registration.setStatus(TournamentRegistration.RegistrationStatus.APPROVED);
+      registrations.add(registrationService.save(registration));
+    }
+  }
+
+  @Test
+  void testRegistrationOrderSeedsEarliestFirst() {
+    List<TournamentRegistration> seeded = registrationService.reseed(tournament.getId(), SeedingStrategy.registrationOrder());
+
+    assertEquals(List.of(1, 2, 3, 4), seeded.stream().map(TournamentRegistration::getSeedNumber).toList());
+    assertEquals(teamIds(registrations), teamIds(seeded));
+  }
+
+  @Test
+  void testRandomSeedingIsRepeatableForTheSameSeed() {
+    List<Long> first = teamIds(registrationService.reseed(tournament.getId(), SeedingStrategy.random(42)));
+    List<Long> second = teamIds(registrationService.reseed(tournament.getId(), SeedingStrategy.random(42)));
+
+    assertEquals(first, second);
+  }
+
+  @Test
+  void testPriorStandingsUseGamesCompletedBeforeTheStart() {
+    // Team 3 beats team 2, team 2 ties team 1; team 0 has no games
+    completedGame(START.minusDays(7), teams.get(3), teams.get(2), 3, 1);
+    completedGame(START.minusDays(5), teams.get(2), teams.get(1), 2, 2);
+    // After the start: ignored
+    completedGame(START.plusDays(1), teams.get(1), teams.get(3), 9, 0);
+
+    List<TournamentRegistration> seeded = registrationService.reseed(tournament.getId(), SeedingStrategy.priorStandings());
+
+    // Team 1 and 2 both have one point; team 1 has the better score difference
+    assertEquals(List.of(teams.get(3).getId(), teams.get(1).getId(), teams.get(2).getId(), teams.get(0).getId()),
+      teamIds(seeded));
+  }
+
+  @Test
+  void testManualSeedsMustBeUnique() {
+    registrationService.reseed(tournament.getId(), SeedingStrategy.registrationOrder());
+
+    IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+      () -> registrationService.updateSeeds(tournament.getId(), Map.of(registrations.get(0).getId(), 2)));
+    assertTrue(ex.getMessage().contains("Seed 2"));
+
+    List<TournamentRegistration> swapped = registrationService.updateSeeds(tournament.getId(),
+      Map.of(registrations.get(0).getId(), 2, registrations.get(1).getId(), 1));
+    assertEquals(registrations.get(1).getId(), swapped.get(0).getId());
+  }
+
+  private void completedGame(LocalDate date, Team home, Team away, int homeScore, int awayScore) {
+    Game game = new Game(date.atTime(10, 0), home, away);
+    game.setHomeScore(homeScore);
+    game.setAwayScore(awayScore);
+    game.setStatus(Game.GameStatus.COMPLETED);
+    gameService.save(game);
+  }
+
+  private static List<Long> teamIds(List<TournamentRegistration> registrations) {
+    return registrations.stream().map(r -> r.getTeam().getId()).toList();
+  }
+}